@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.core.GenerationSettings;
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.states.BooleanSelectedState;
+import com.techsenger.statefx.states.DoubleWidthState;
+import com.techsenger.statefx.states.IntegerLengthState;
+import com.techsenger.statefx.states.ObjectSelectedItemState;
+import com.techsenger.statefx.states.StringTitleState;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares value accessors of generated states (default and concrete types modes) with a handwritten state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class AccessorBenchmark {
+
+    public interface AccessorState extends
+            BooleanSelectedState,
+            IntegerLengthState,
+            DoubleWidthState,
+            StringTitleState,
+            ObjectSelectedItemState<String> { }
+
+    /**
+     * Handwritten state, the way it is usually written without StateFX.
+     */
+    public static final class PojoState implements AccessorState {
+
+        private final BooleanProperty selected = new SimpleBooleanProperty();
+
+        private final IntegerProperty length = new SimpleIntegerProperty();
+
+        private final DoubleProperty width = new SimpleDoubleProperty();
+
+        private final StringProperty title = new SimpleStringProperty();
+
+        private final ObjectProperty<String> selectedItem = new SimpleObjectProperty<>();
+
+        @Override
+        public BooleanProperty selectedProperty() {
+            return selected;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return selected.get();
+        }
+
+        @Override
+        public void setSelected(boolean value) {
+            selected.set(value);
+        }
+
+        @Override
+        public IntegerProperty lengthProperty() {
+            return length;
+        }
+
+        @Override
+        public int getLength() {
+            return length.get();
+        }
+
+        @Override
+        public void setLength(int value) {
+            length.set(value);
+        }
+
+        @Override
+        public DoubleProperty widthProperty() {
+            return width;
+        }
+
+        @Override
+        public double getWidth() {
+            return width.get();
+        }
+
+        @Override
+        public void setWidth(double value) {
+            width.set(value);
+        }
+
+        @Override
+        public StringProperty titleProperty() {
+            return title;
+        }
+
+        @Override
+        public String getTitle() {
+            return title.get();
+        }
+
+        @Override
+        public void setTitle(String value) {
+            title.set(value);
+        }
+
+        @Override
+        public ObjectProperty<String> selectedItemProperty() {
+            return selectedItem;
+        }
+
+        @Override
+        public String getSelectedItem() {
+            return selectedItem.get();
+        }
+
+        @Override
+        public void setSelectedItem(String value) {
+            selectedItem.set(value);
+        }
+    }
+
+    @Param({"pojo", "generated", "concrete"})
+    private String implementation;
+
+    private AccessorState state;
+
+    private int counter;
+
+    @Setup
+    public void setup() throws Exception {
+        var settings = new GenerationSettings();
+        switch (implementation) {
+            case "pojo" -> state = new PojoState();
+            case "generated" -> state = ClassGenerator.generate(AccessorState.class, settings)
+                    .getConstructor().newInstance();
+            case "concrete" -> {
+                settings.setConcreteTypes(true);
+                state = ClassGenerator.generate(AccessorState.class, settings).getConstructor().newInstance();
+            }
+            default -> throw new IllegalArgumentException(implementation);
+        }
+        state.setTitle("title");
+        state.setSelectedItem("item");
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(state.isSelected());
+        blackhole.consume(state.getLength());
+        blackhole.consume(state.getWidth());
+        blackhole.consume(state.getTitle());
+        blackhole.consume(state.getSelectedItem());
+    }
+
+    @Benchmark
+    public void set() {
+        int i = counter++;
+        state.setSelected((i & 1) == 0);
+        state.setLength(i);
+        state.setWidth(i);
+        state.setTitle((i & 1) == 0 ? "a" : "b");
+        state.setSelectedItem((i & 1) == 0 ? "c" : "d");
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
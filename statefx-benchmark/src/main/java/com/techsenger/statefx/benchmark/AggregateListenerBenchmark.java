@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.benchmark.AccessorBenchmark.AccessorState;
+import com.techsenger.statefx.core.ObservableState;
+import com.techsenger.statefx.core.StateFactory;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reacting to "anything in the state changed" for 10k states: a listener per property of every state and a
+ * single listener of every {@code ObservableState}. The {@code subscribe} benchmarks add and remove a listener that
+ * captures its state, the way application code usually does it, the {@code change} benchmarks change a property of
+ * every subscribed state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class AggregateListenerBenchmark {
+
+    private static final int STATES = 10_000;
+
+    private final AccessorState[] perPropertyStates = new AccessorState[STATES];
+
+    private final AccessorState[] aggregateStates = new AccessorState[STATES];
+
+    private final AccessorState[] states = new AccessorState[STATES];
+
+    private Blackhole blackhole;
+
+    private int length;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        for (var i = 0; i < STATES; i++) {
+            var perPropertyState = StateFactory.create(AccessorState.class);
+            addPerPropertyListeners(perPropertyState);
+            perPropertyStates[i] = perPropertyState;
+            var aggregateState = StateFactory.create(AccessorState.class);
+            ((ObservableState) aggregateState).addListener(o -> blackhole.consume(aggregateState));
+            aggregateStates[i] = aggregateState;
+            states[i] = StateFactory.create(AccessorState.class);
+        }
+    }
+
+    @Benchmark
+    public void subscribePerProperty() {
+        for (var state : states) {
+            var listeners = addPerPropertyListeners(state);
+            state.selectedProperty().removeListener(listeners[0]);
+            state.lengthProperty().removeListener(listeners[1]);
+            state.widthProperty().removeListener(listeners[2]);
+            state.titleProperty().removeListener(listeners[3]);
+            state.selectedItemProperty().removeListener(listeners[4]);
+        }
+    }
+
+    @Benchmark
+    public void subscribeAggregate() {
+        for (var state : states) {
+            InvalidationListener listener = o -> blackhole.consume(state);
+            ((ObservableState) state).addListener(listener);
+            ((ObservableState) state).removeListener(listener);
+        }
+    }
+
+    @Benchmark
+    public void changePerProperty() {
+        length++;
+        for (var state : perPropertyStates) {
+            state.setLength(length);
+        }
+    }
+
+    @Benchmark
+    public void changeAggregate() {
+        length++;
+        for (var state : aggregateStates) {
+            state.setLength(length);
+        }
+    }
+
+    private InvalidationListener[] addPerPropertyListeners(AccessorState state) {
+        InvalidationListener[] listeners = new InvalidationListener[5];
+        for (var i = 0; i < listeners.length; i++) {
+            // validates the property, so every change is reported as by the state
+            listeners[i] = o -> blackhole.consume(((ObservableValue<?>) o).getValue() != null ? state : null);
+        }
+        state.selectedProperty().addListener(listeners[0]);
+        state.lengthProperty().addListener(listeners[1]);
+        state.widthProperty().addListener(listeners[2]);
+        state.titleProperty().addListener(listeners[3]);
+        state.selectedItemProperty().addListener(listeners[4]);
+        return listeners;
+    }
+}
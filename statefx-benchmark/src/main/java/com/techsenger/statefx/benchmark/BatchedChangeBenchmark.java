@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.core.collections.BatchedObservableList;
+import java.util.concurrent.TimeUnit;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures an incremental loader that adds 1000 elements one by one to an observable list with a listener, the way a
+ * {@code ListView} listens to its items: the standard JavaFX list notifies the listener for every call, the batched
+ * list notifies it once per batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class BatchedChangeBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private final String[] lines = new String[SIZE];
+
+    private final ObservableList<String> arrayList = FXCollections.observableArrayList();
+
+    private final BatchedObservableList<String> batchedList = new BatchedObservableList<>();
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        for (var i = 0; i < SIZE; i++) {
+            lines[i] = "line " + i;
+        }
+        ListChangeListener<String> listListener = c -> {
+            while (c.next()) {
+                blackhole.consume(c.getAddedSubList());
+            }
+        };
+        arrayList.addListener(listListener);
+        batchedList.addListener(listListener);
+    }
+
+    @Benchmark
+    public void addArrayList() {
+        arrayList.clear();
+        for (var line : lines) {
+            arrayList.add(line);
+        }
+    }
+
+    @Benchmark
+    public void addBatchedList() {
+        batchedList.batch(() -> {
+            batchedList.clear();
+            for (var line : lines) {
+                batchedList.add(line);
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.core.StateBinder;
+import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.states.BooleanHoverState;
+import com.techsenger.statefx.states.BooleanVisibleState;
+import com.techsenger.statefx.states.DoubleHeightState;
+import com.techsenger.statefx.states.DoubleOpacityState;
+import com.techsenger.statefx.states.DoubleWidthState;
+import com.techsenger.statefx.states.ObjectFillState;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures binding and unbinding of a state to a node: the generated {@code StateBinder} and a reflection-based helper
+ * that looks up the same-named property methods at bind time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class BinderBenchmark {
+
+    public interface ShapeState extends DoubleWidthState, DoubleHeightState, DoubleOpacityState, BooleanVisibleState,
+            BooleanHoverState, ObjectFillState<Paint> { }
+
+    private ShapeState state;
+
+    private Rectangle rectangle;
+
+    @Setup
+    public void setup() {
+        state = StateFactory.create(ShapeState.class);
+        rectangle = new Rectangle();
+    }
+
+    @Benchmark
+    public void generated() {
+        StateBinder.bind(state, rectangle);
+        StateBinder.unbind(state, rectangle);
+    }
+
+    @Benchmark
+    public void reflection() throws Exception {
+        bindReflectively(state, rectangle, true);
+        bindReflectively(state, rectangle, false);
+    }
+
+    private static void bindReflectively(Object state, Object target, boolean bind) throws Exception {
+        for (var stateMethod : state.getClass().getInterfaces()[0].getMethods()) {
+            var name = stateMethod.getName();
+            if (!name.endsWith("Property") || stateMethod.getParameterCount() != 0
+                    || !Property.class.isAssignableFrom(stateMethod.getReturnType())) {
+                continue;
+            }
+            var stateProperty = (Property<Object>) stateMethod.invoke(state);
+            var targetValue = (ObservableValue<Object>) target.getClass().getMethod(name).invoke(target);
+            if (targetValue instanceof Property<Object> targetProperty) {
+                if (bind) {
+                    targetProperty.bindBidirectional(stateProperty);
+                } else {
+                    targetProperty.unbindBidirectional(stateProperty);
+                }
+            } else if (bind) {
+                stateProperty.bind(targetValue);
+            } else {
+                stateProperty.unbind();
+            }
+        }
+    }
+}
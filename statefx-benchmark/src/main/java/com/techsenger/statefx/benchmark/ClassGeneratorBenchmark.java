@@ -21,6 +21,8 @@
 
 package com.techsenger.statefx.benchmark;
 
+import com.techsenger.statefx.core.GenerationBackend;
+import com.techsenger.statefx.core.GenerationSettings;
 import com.techsenger.statefx.core.Synchronized;
 import com.techsenger.statefx.core.impl.ClassGenerator;
 import com.techsenger.statefx.states.BooleanSelectedState;
@@ -43,7 +45,9 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
@@ -74,17 +78,30 @@ public class ClassGeneratorBenchmark {
         ObservableList<String> getItems();
     }
 
+    /**
+     * The ClassFile backend requires Java 24 or later.
+     */
+    @Param({"BYTE_BUDDY", "CLASS_FILE"})
+    private GenerationBackend backend;
+
+    private final GenerationSettings settings = new GenerationSettings();
+
+    @Setup
+    public void setUp() {
+        settings.setBackend(backend);
+    }
+
     @Benchmark
     @CompilerControl(CompilerControl.Mode.DONT_INLINE)
     public void generate(Blackhole blackhole) throws Exception {
-        var clazz = ClassGenerator.generate(SomeState.class);
+        var clazz = ClassGenerator.generate(SomeState.class, settings);
         blackhole.consume(clazz);
     }
 
     @Benchmark
     @CompilerControl(CompilerControl.Mode.DONT_INLINE)
     public void generateAndUse() throws Exception {
-        var clazz = ClassGenerator.generate(SomeState.class);
+        var clazz = ClassGenerator.generate(SomeState.class, settings);
         var state = clazz.getConstructor().newInstance();
         state.setSelected(true);
         state.setWidth(100.0);
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.benchmark.AccessorBenchmark.AccessorState;
+import com.techsenger.statefx.core.StateCopier;
+import com.techsenger.statefx.core.StateFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures copying the five properties of one state into another, one value differs every time: a generated
+ * {@code StateCopier}, a reflective copy with cached getter/setter pairs, as it is usually done without StateFX, and
+ * handwritten code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class CopierBenchmark {
+
+    private final List<Method[]> accessors = new ArrayList<>();
+
+    private AccessorState source;
+
+    private AccessorState target;
+
+    private int length;
+
+    @Setup
+    public void setup() throws Exception {
+        source = StateFactory.create(AccessorState.class, s -> {
+            s.setSelected(true);
+            s.setWidth(2.5);
+            s.setTitle("title");
+            s.setSelectedItem("item");
+        });
+        target = StateFactory.create(AccessorState.class);
+        for (var getter : AccessorState.class.getMethods()) {
+            var name = getter.getName();
+            if (getter.getParameterCount() == 0 && (name.startsWith("get") || name.startsWith("is"))) {
+                var setter = AccessorState.class.getMethod("set" + name.substring(name.startsWith("is") ? 2 : 3),
+                        getter.getReturnType());
+                accessors.add(new Method[] {getter, setter});
+            }
+        }
+    }
+
+    @Benchmark
+    public void generated() {
+        source.setLength(++length);
+        StateCopier.copy(source, target);
+    }
+
+    @Benchmark
+    public void reflection() throws Exception {
+        source.setLength(++length);
+        for (var accessor : accessors) {
+            accessor[1].invoke(target, accessor[0].invoke(source));
+        }
+    }
+
+    @Benchmark
+    public void handwritten() {
+        source.setLength(++length);
+        target.setSelected(source.isSelected());
+        target.setLength(source.getLength());
+        target.setWidth(source.getWidth());
+        target.setTitle(source.getTitle());
+        target.setSelectedItem(source.getSelectedItem());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.core.StateFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creation of populated states: reflective instantiation with setters, {@code StateFactory.create(...)} with
+ * setters and {@code StateFactory.create(..., initializer)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class CreationBenchmark {
+
+    private Class<? extends AccessorBenchmark.AccessorState> implClass;
+
+    private int counter;
+
+    @Setup
+    public void setup() {
+        implClass = StateFactory.getImplementation(AccessorBenchmark.AccessorState.class);
+    }
+
+    @Benchmark
+    public AccessorBenchmark.AccessorState reflection() throws Exception {
+        var state = implClass.getConstructor().newInstance();
+        populate(state);
+        return state;
+    }
+
+    @Benchmark
+    public AccessorBenchmark.AccessorState create() {
+        var state = StateFactory.create(AccessorBenchmark.AccessorState.class);
+        populate(state);
+        return state;
+    }
+
+    @Benchmark
+    public AccessorBenchmark.AccessorState createWithInitializer() {
+        return StateFactory.create(AccessorBenchmark.AccessorState.class, this::populate);
+    }
+
+    private void populate(AccessorBenchmark.AccessorState state) {
+        state.setSelected(true);
+        state.setLength(counter++);
+        state.setWidth(1.5);
+        state.setTitle("title");
+        state.setSelectedItem("item");
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.benchmark.AccessorBenchmark.AccessorState;
+import com.techsenger.statefx.benchmark.AccessorBenchmark.PojoState;
+import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.core.property.LightBooleanProperty;
+import com.techsenger.statefx.core.property.LightDoubleProperty;
+import com.techsenger.statefx.core.property.LightFloatProperty;
+import com.techsenger.statefx.core.property.LightIntegerProperty;
+import com.techsenger.statefx.core.property.LightLongProperty;
+import com.techsenger.statefx.core.property.LightObjectProperty;
+import com.techsenger.statefx.core.property.LightStringProperty;
+import com.techsenger.statefx.core.table.StateTable;
+import com.techsenger.statefx.core.table.TableStorage;
+import java.util.ArrayList;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleFloatProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the per-instance footprint of the standard JavaFX properties and the light properties, and the per-row
+ * footprint of generated states and of a {@code StateTable}, measured with JOL.
+ */
+public final class FootprintReport {
+
+    public static void main(String[] args) throws Exception {
+        print(SimpleBooleanProperty.class, LightBooleanProperty.class);
+        print(SimpleIntegerProperty.class, LightIntegerProperty.class);
+        print(SimpleLongProperty.class, LightLongProperty.class);
+        print(SimpleFloatProperty.class, LightFloatProperty.class);
+        print(SimpleDoubleProperty.class, LightDoubleProperty.class);
+        print(SimpleStringProperty.class, LightStringProperty.class);
+        print(SimpleObjectProperty.class, LightObjectProperty.class);
+
+        var pojo = new PojoState();
+        var generated = StateFactory.create(AccessorState.class);
+        System.out.printf("%-30s %6d bytes%n", "PojoState (graph)", GraphLayout.parseInstance(pojo).totalSize());
+        System.out.printf("%-30s %6d bytes%n", "Generated state (graph)",
+                GraphLayout.parseInstance(generated).totalSize());
+
+        final int rows = 10_000;
+        var states = new ArrayList<AccessorState>(rows);
+        var table = new StateTable<>(AccessorState.class, rows);
+        var offHeapTable = new StateTable<>(AccessorState.class, rows, TableStorage.OFF_HEAP);
+        for (var i = 0; i < rows; i++) {
+            states.add(StateFactory.create(AccessorState.class));
+            table.add();
+            offHeapTable.add();
+        }
+        System.out.printf("%-30s %6d bytes per row%n", "Generated states (graphs)",
+                GraphLayout.parseInstance(states).totalSize() / rows);
+        System.out.printf("%-30s %6d bytes per row%n", "StateTable (graph)",
+                GraphLayout.parseInstance(table).totalSize() / rows);
+        // the segment is not a part of the heap graph
+        System.out.printf("%-30s %6d bytes per row%n", "Off-heap StateTable (heap)",
+                GraphLayout.parseInstance(offHeapTable).totalSize() / rows);
+    }
+
+    private static void print(Class<?> simpleClass, Class<?> lightClass) {
+        long simpleSize = ClassLayout.parseClass(simpleClass).instanceSize();
+        long lightSize = ClassLayout.parseClass(lightClass).instanceSize();
+        System.out.printf("%-30s %6d bytes, %-30s %6d bytes%n", simpleClass.getSimpleName(), simpleSize,
+                lightClass.getSimpleName(), lightSize);
+    }
+
+    private FootprintReport() {
+        // empty
+    }
+}
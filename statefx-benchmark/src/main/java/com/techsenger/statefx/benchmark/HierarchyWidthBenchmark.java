@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.property.BooleanProperty;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how generation time scales with the width of the hierarchy. Every invocation generates a class for a new
+ * composite interface that extends {@code width} building blocks with one boolean property each, the blocks are shared
+ * by all composites, as in an application where many states are composed of the same blocks.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+public class HierarchyWidthBenchmark {
+
+    private static final String PACKAGE_NAME = HierarchyWidthBenchmark.class.getPackageName() + ".width";
+
+    @Param({"1", "8", "32", "128"})
+    private int width;
+
+    private ClassLoader blockLoader;
+
+    private final List<Class<?>> blocks = new ArrayList<>();
+
+    private Class<?> composite;
+
+    private int counter;
+
+    @Setup
+    public void setup() throws Exception {
+        List<DynamicType.Unloaded<?>> unloadedBlocks = new ArrayList<>();
+        for (var i = 0; i < width; i++) {
+            String name = "Flag" + i;
+            unloadedBlocks.add(new ByteBuddy()
+                    .makeInterface()
+                    .name(PACKAGE_NAME + ".Boolean" + name + "State")
+                    .defineMethod("flag" + i + "Property", BooleanProperty.class, Visibility.PUBLIC)
+                    .withoutCode()
+                    .defineMethod("is" + name, boolean.class, Visibility.PUBLIC)
+                    .withoutCode()
+                    .defineMethod("set" + name, void.class, Visibility.PUBLIC)
+                    .withParameters(boolean.class)
+                    .withoutCode()
+                    .make());
+        }
+        var loaded = unloadedBlocks.get(0)
+                .include(unloadedBlocks.subList(1, unloadedBlocks.size()))
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        blockLoader = loaded.getLoaded().getClassLoader();
+        for (var i = 0; i < width; i++) {
+            blocks.add(blockLoader.loadClass(PACKAGE_NAME + ".BooleanFlag" + i + "State"));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createComposite() {
+        composite = new ByteBuddy()
+                .makeInterface(blocks)
+                .name(PACKAGE_NAME + ".Composite" + counter++)
+                .make()
+                .load(blockLoader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    @Benchmark
+    public Class<?> generate() {
+        return ClassGenerator.generate(composite);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.core.collections.PagedDataProvider;
+import com.techsenger.statefx.core.collections.PagedObservableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading 1M elements of a paged list (1024 elements per page, 16 pages in memory) and of an observable
+ * array list: a sequential scan, as a rule the worst case for the paged list, as every page is loaded once, and
+ * reading a window of 40 elements at random positions, the way a {@code ListView} reads its visible cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class PagedListBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private static final int WINDOW = 40;
+
+    private final String[] lines = new String[SIZE];
+
+    private final PagedObservableList<String> pagedList = new PagedObservableList<>(1024, 16);
+
+    private ObservableList<String> arrayList;
+
+    private int windowStart;
+
+    @Setup
+    public void setup() {
+        for (var i = 0; i < SIZE; i++) {
+            lines[i] = "line " + i;
+        }
+        arrayList = FXCollections.observableArrayList(new ArrayList<>(Arrays.asList(lines)));
+        pagedList.setProvider(new PagedDataProvider<String>() {
+
+            @Override
+            public int size() {
+                return SIZE;
+            }
+
+            @Override
+            public List<String> load(int from, int count) {
+                return Arrays.asList(Arrays.copyOfRange(lines, from, from + count));
+            }
+        });
+    }
+
+    @Benchmark
+    public void scanArrayList(Blackhole blackhole) {
+        scan(arrayList, blackhole);
+    }
+
+    @Benchmark
+    public void scanPagedList(Blackhole blackhole) {
+        scan(pagedList, blackhole);
+    }
+
+    @Benchmark
+    public void windowArrayList(Blackhole blackhole) {
+        window(arrayList, blackhole);
+    }
+
+    @Benchmark
+    public void windowPagedList(Blackhole blackhole) {
+        window(pagedList, blackhole);
+    }
+
+    private void scan(List<String> list, Blackhole blackhole) {
+        for (var i = 0; i < SIZE; i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+
+    private void window(List<String> list, Blackhole blackhole) {
+        // a large prime step visits positions all over the list
+        windowStart = (windowStart + 104_729) % (SIZE - WINDOW);
+        for (var i = windowStart; i < windowStart + WINDOW; i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+}
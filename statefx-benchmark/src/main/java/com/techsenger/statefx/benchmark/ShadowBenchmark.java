@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.benchmark.AccessorBenchmark.AccessorState;
+import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.core.StateShadow;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures one recalculation cycle that writes all five properties of a state, only one of them gets a new value:
+ * writing the live state directly and writing the shadow of a {@code StateShadow} that is published and committed.
+ * Every property of the live state has a listener that reads the value, the way a bound control does it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class ShadowBenchmark {
+
+    private AccessorState liveState;
+
+    private StateShadow<AccessorState> buffer;
+
+    private int length;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        liveState = StateFactory.create(AccessorState.class);
+        var bufferedState = StateFactory.create(AccessorState.class);
+        InvalidationListener listener = o -> blackhole.consume(((ObservableValue<?>) o).getValue());
+        for (var state : new AccessorState[] {liveState, bufferedState}) {
+            state.selectedProperty().addListener(listener);
+            state.lengthProperty().addListener(listener);
+            state.widthProperty().addListener(listener);
+            state.titleProperty().addListener(listener);
+            state.selectedItemProperty().addListener(listener);
+        }
+        buffer = new StateShadow<>(bufferedState);
+    }
+
+    @Benchmark
+    public void direct() {
+        write(liveState);
+    }
+
+    @Benchmark
+    public boolean shadow() {
+        write(buffer.getShadow());
+        buffer.publish();
+        return buffer.commit();
+    }
+
+    private void write(AccessorState state) {
+        length++;
+        state.setSelected(true);
+        state.setLength(length);
+        state.setWidth(2.5);
+        state.setTitle("title");
+        // a recalculated value is usually a new object
+        state.setSelectedItem(new String("item"));
+    }
+}
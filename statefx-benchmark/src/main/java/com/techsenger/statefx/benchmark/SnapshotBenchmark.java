@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.benchmark.AccessorBenchmark.AccessorState;
+import com.techsenger.statefx.core.SnapshottableState;
+import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.states.ListItemsState;
+import java.util.concurrent.TimeUnit;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures taking an immutable copy of a state with five properties and a list of 16 items: a generated snapshot and
+ * a handwritten record with an unmodifiable copy of the list, as it is usually done without StateFX. Run with
+ * {@code -prof gc} to see the allocation per copy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class SnapshotBenchmark {
+
+    public interface SnapshotAccessorState extends AccessorState, ListItemsState<String>,
+            SnapshottableState<SnapshotAccessorState> { }
+
+    private record Copy(boolean selected, int length, double width, String title, String selectedItem,
+            ObservableList<String> items) { }
+
+    private SnapshotAccessorState state;
+
+    @Setup
+    public void setup() {
+        state = StateFactory.create(SnapshotAccessorState.class, s -> {
+            s.setSelected(true);
+            s.setLength(10);
+            s.setWidth(2.5);
+            s.setTitle("title");
+            s.setSelectedItem("item0");
+            for (var i = 0; i < 16; i++) {
+                s.getItems().add("item" + i);
+            }
+        });
+    }
+
+    @Benchmark
+    public Object snapshot() {
+        return state.snapshot();
+    }
+
+    @Benchmark
+    public Object record() {
+        return new Copy(state.isSelected(), state.getLength(), state.getWidth(), state.getTitle(),
+                state.getSelectedItem(), FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(state.getItems())));
+    }
+}
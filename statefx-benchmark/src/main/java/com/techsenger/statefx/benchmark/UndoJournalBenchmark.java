@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.benchmark;
+
+import com.techsenger.statefx.benchmark.AccessorBenchmark.AccessorState;
+import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.core.UndoJournal;
+import com.techsenger.statefx.core.UndoableState;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recording a property change for undo: a setter of a state with an {@code UndoJournal} and a journal built
+ * on a change listener that keeps an edit object per change in a bounded deque, as it is usually done without
+ * StateFX. Run with {@code -prof gc} to see the allocation per change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 2000)
+public class UndoJournalBenchmark {
+
+    public interface UndoableAccessorState extends AccessorState, UndoableState { }
+
+    private static final int CAPACITY = 1024;
+
+    private record Edit(ObservableValue<?> property, Object oldValue, Object newValue) { }
+
+    private final ArrayDeque<Edit> edits = new ArrayDeque<>(CAPACITY);
+
+    private AccessorState plainState;
+
+    private UndoableAccessorState journalState;
+
+    private AccessorState listenerState;
+
+    private int length;
+
+    @Setup
+    public void setup() {
+        plainState = StateFactory.create(AccessorState.class);
+        journalState = StateFactory.create(UndoableAccessorState.class);
+        journalState.setUndoJournal(new UndoJournal(CAPACITY));
+        listenerState = StateFactory.create(AccessorState.class);
+        ChangeListener<Number> listener = (property, oldValue, newValue) -> {
+            if (edits.size() == CAPACITY) {
+                edits.removeFirst();
+            }
+            edits.addLast(new Edit(property, oldValue, newValue));
+        };
+        listenerState.lengthProperty().addListener(listener);
+    }
+
+    @Benchmark
+    public void setWithoutJournal() {
+        plainState.setLength(++length);
+    }
+
+    @Benchmark
+    public void setWithUndoJournal() {
+        journalState.setLength(++length);
+    }
+
+    @Benchmark
+    public void setWithListenerJournal() {
+        listenerState.setLength(++length);
+    }
+}
@@ -25,6 +25,9 @@ open module com.techsenger.statefx.benchmark {
     requires com.techsenger.statefx.states;
 
     requires javafx.base;
+    requires javafx.graphics;
     requires jmh.core;
     requires jmh.generator.annprocess;
+    requires jol.core;
+    requires net.bytebuddy;
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the class of the collection that backs the container returned by a container getter ({@code getFoo()} or
+ * {@code getModifiableFoo()}).
+ *
+ * <p>The generated constructor creates an instance of the class and wraps it with
+ * {@code FXCollections.observableList/observableSet/observableMap}. The class must be public, must implement
+ * {@code List}, {@code Set} or {@code Map} according to the container and must have a public no-arg constructor, or a
+ * public {@code (int)} constructor if {@link InitialCapacity} is also present. For example, {@code LinkedHashMap},
+ * {@code TreeMap}, {@code IdentityHashMap}, {@code LinkedHashSet}, {@code TreeSet} or
+ * {@link com.techsenger.statefx.core.collections.ArrayDequeList} for lists with frequent removal at the head.
+ * Primitive arrays are not supported. If the annotation is present on several declarations of the same container, the
+ * one from the most specific interface wins: a declaration is overridden by the declarations in its subinterfaces and
+ * if declarations of unrelated interfaces remain, their values must be equal.
+ *
+ * @author Pavel Castornii
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface BackingType {
+
+    /**
+     * The class of the backing collection.
+     */
+    Class<?> value();
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a list or a set created for a container getter ({@code getFoo()} or {@code getModifiableFoo()}) a
+ * {@link com.techsenger.statefx.core.collections.BatchedObservableList} or
+ * {@link com.techsenger.statefx.core.collections.BatchedObservableSet}, so that many modifications can be reported as
+ * one notification:
+ *
+ * <pre>{@code
+ * ((BatchedObservable) state.getModifiableItems()).batch(() -> {
+ *     for (var line : loadedLines) {
+ *         state.getModifiableItems().add(line);
+ *     }
+ * });
+ * }</pre>
+ *
+ * <p>The getter that creates the container must return the container itself, so a batched container can't be
+ * synchronized and can't be {@link Paged}. {@link BackingType} and {@link InitialCapacity} configure the backing
+ * collection of the batched container as usual. Maps are not supported: keeping the values that the modified keys had
+ * before the batch costs more than the notifications of {@code FXCollections.observableHashMap()} that it saves.
+ *
+ * @author Pavel Castornii
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface Batched {
+
+}
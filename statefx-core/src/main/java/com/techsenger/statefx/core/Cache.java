@@ -22,7 +22,9 @@
 package com.techsenger.statefx.core;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  *
@@ -32,9 +34,26 @@ public class Cache {
 
     private final Map<Class<?>, Class<?>> map = new ConcurrentHashMap<>();
 
+    /**
+     * Classes that are being generated in the background.
+     */
+    private final Map<Class<?>, CompletableFuture<Class<?>>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented by {@link #clear()}, so a class that was being generated before the clear is not published.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
     private volatile boolean enabled = true;
 
+    /**
+     * Removes all generated classes. The classes that are being generated at this moment are returned to the callers
+     * that requested them, but they are not cached.
+     */
     public void clear() {
+        // the generation is changed before the classes are removed, see publish(...)
+        this.generation.incrementAndGet();
+        this.pending.clear();
         this.map.clear();
     }
 
@@ -49,4 +68,33 @@ public class Cache {
     Map<Class<?>, Class<?>> getMap() {
         return map;
     }
+
+    Map<Class<?>, CompletableFuture<Class<?>>> getPending() {
+        return pending;
+    }
+
+    long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Puts the generated class into the cache if there is no class for the interface yet and the cache wasn't cleared
+     * since the generation was started.
+     *
+     * @param interfaceClass the state interface class
+     * @param implClass the generated class
+     * @param generation the value of {@link #getGeneration()} before the generation was started
+     * @return the cached class or the given class if it can't be cached
+     */
+    Class<?> publish(Class<?> interfaceClass, Class<?> implClass, long generation) {
+        var existing = map.putIfAbsent(interfaceClass, implClass);
+        if (existing != null) {
+            return existing;
+        }
+        // if the cache was cleared after the class had been put, it is removed here or by the clear
+        if (this.generation.get() != generation) {
+            map.remove(interfaceClass, implClass);
+        }
+        return implClass;
+    }
 }
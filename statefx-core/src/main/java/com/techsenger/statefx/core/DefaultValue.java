@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the initial value of a property. The annotation can be placed on any method of a property group
+ * ({@code fooProperty()}, {@code getFoo()}/{@code isFoo()} or {@code setFoo(...)}).
+ *
+ * <p>The value is parsed when the implementation is generated and passed to the value constructor of the property,
+ * so there is no {@code set(...)} call and no notification when the state is created. Supported values are
+ * {@code true}/{@code false} for boolean properties, numbers for numeric properties (parsed by
+ * {@code Integer.parseInt}, {@code Double.parseDouble} etc.), any text for string properties and constant names for
+ * object properties whose value type is a public enum. If the annotation is present on several declarations of the
+ * same property, the one from the most specific interface wins, whatever method of the group it is placed on: a
+ * declaration is overridden by the declarations in its subinterfaces and if declarations of unrelated interfaces
+ * remain, their values must be equal. Within one interface, the property method wins over the getter and the getter
+ * wins over the setter.
+ *
+ * @author Pavel Castornii
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface DefaultValue {
+
+    /**
+     * The initial value as a string.
+     */
+    String value();
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+/**
+ * An object that can release the resources that keep it or other objects reachable. Every generated state implements
+ * this interface, so a state can be disposed via {@code ((Disposable) state).dispose()} or the state interface can
+ * extend this interface to expose the method directly.
+ *
+ * <p>Disposing a generated state unbinds every property, clears every container (for a read/write pair the
+ * modifiable container is cleared, the read-only wrapper reflects the change, views become empty as they reflect their
+ * sources) and drops the listeners of the light properties. The state remains usable after disposal, it is simply
+ * reset to the unbound and empty state. Listeners of {@code Synchronized} properties are kept, as standard JavaFX
+ * properties do not provide a way to remove all of them, such properties are only unbound.
+ *
+ * @author Pavel Castornii
+ */
+public interface Disposable {
+
+    /**
+     * Releases the bindings, the listeners and the contents of the containers.
+     */
+    void dispose();
+}
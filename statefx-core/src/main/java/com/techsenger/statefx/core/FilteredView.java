@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.function.Predicate;
+
+/**
+ * Marks a list getter ({@code ObservableList<T> getFoo()}) as a read-only filtered view of another list of the same
+ * state.
+ *
+ * <p>The view is a {@link javafx.collections.transformation.FilteredList} that is created once per state instance,
+ * after all containers. It listens to the source and tests only the changed elements. The source is either a list
+ * container or another view, referenced by its name (for {@code getItems()}, the name is {@code items}). If the source
+ * has a modifiable getter, the view wraps the modifiable list directly.
+ *
+ * <p>The view must not be modified and, like any JavaFX transformation list, is not thread-safe.
+ *
+ * @author Pavel Castornii
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface FilteredView {
+
+    /**
+     * The name of the source list.
+     */
+    String source();
+
+    /**
+     * The class of the predicate. It must be public and have a public no-arg constructor.
+     */
+    Class<? extends Predicate<?>> predicate();
+}
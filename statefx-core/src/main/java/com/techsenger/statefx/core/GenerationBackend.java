@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+/**
+ * The library that emits the bytecode of generated classes.
+ *
+ * @author Pavel Castornii
+ */
+public enum GenerationBackend {
+
+    /**
+     * Byte Buddy, available on all supported Java versions.
+     */
+    BYTE_BUDDY,
+
+    /**
+     * The ClassFile API of the JDK ({@code java.lang.classfile}), available on Java 24 and later. It has less bootstrap
+     * overhead than Byte Buddy and doesn't load any Byte Buddy class. On an older Java version, or if the jar was built
+     * without the versioned part, the classes are generated by Byte Buddy and a warning is logged once.
+     */
+    CLASS_FILE
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Settings used by the factory when it generates state implementations. Changing the settings affects only the
+ * classes that are generated after the change, so the {@link Cache} should be cleared if the classes were already
+ * generated.
+ *
+ * @author Pavel Castornii
+ */
+public class GenerationSettings {
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("StateFX-Generator-", 0)
+            .factory();
+
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = r -> VIRTUAL_THREAD_FACTORY.newThread(r).start();
+
+    private volatile boolean concreteTypes = false;
+
+    private volatile GenerationBackend backend = GenerationBackend.BYTE_BUDDY;
+
+    private volatile boolean tiered = false;
+
+    private volatile Executor executor = VIRTUAL_THREAD_EXECUTOR;
+
+    /**
+     * Returns whether the generator emits JIT-friendly classes.
+     *
+     * @return true if concrete types are used, false otherwise
+     */
+    public boolean isConcreteTypes() {
+        return concreteTypes;
+    }
+
+    /**
+     * Sets whether the generator emits JIT-friendly classes. In this mode the generated class is final, property
+     * fields are typed as the concrete property classes (for example, {@code LightStringProperty} instead of
+     * {@code StringProperty}) and value getters and setters call {@code get()}/{@code set(...)} directly with
+     * {@code INVOKEVIRTUAL} and typed descriptors instead of {@code getValue()}/{@code setValue(...)} with a cast.
+     * This lets the JIT compiler inline the whole accessor chain at the call site. The mode is disabled by default.
+     *
+     * @param concreteTypes true to use concrete types, false otherwise
+     */
+    public void setConcreteTypes(boolean concreteTypes) {
+        this.concreteTypes = concreteTypes;
+    }
+
+    /**
+     * Returns the library that emits the bytecode of generated classes.
+     *
+     * @return the backend
+     */
+    public GenerationBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets the library that emits the bytecode of generated classes. Both backends generate equivalent classes, the
+     * default one is {@link GenerationBackend#BYTE_BUDDY}.
+     *
+     * @param backend the backend
+     */
+    public void setBackend(GenerationBackend backend) {
+        if (backend == null) {
+            throw new IllegalArgumentException("Backend can't be null");
+        }
+        this.backend = backend;
+    }
+
+    /**
+     * Returns whether the factory generates classes in the background.
+     *
+     * @return true if the tiered mode is enabled, false otherwise
+     */
+    public boolean isTiered() {
+        return tiered;
+    }
+
+    /**
+     * Sets whether the factory generates classes in the background. In this mode, when there is no generated class for
+     * the interface yet, {@link StateFactory#create(Class)} doesn't wait for the generation but returns at once an
+     * instance of a precompiled dynamic proxy implementation, while the class is generated on the executor of the
+     * settings. When the class is ready, it is put into the cache and the following calls create instances of it. Proxy
+     * instances behave like generated ones, but are slower, so the mode takes the generation latency off the calling
+     * thread (for example, the FX thread when a screen is shown for the first time). The mode works only when the cache
+     * is enabled and is disabled by default.
+     *
+     * @param tiered true to enable the tiered mode, false otherwise
+     */
+    public void setTiered(boolean tiered) {
+        this.tiered = tiered;
+    }
+
+    /**
+     * Returns the executor that generates classes in the background.
+     *
+     * @return the executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that generates classes in the background, in the tiered mode and for
+     * {@link StateFactory#getImplementationAsync(Class)} and {@link StateFactory#createAsync(Class)}. By default, every
+     * generation runs on a new virtual thread.
+     *
+     * @param executor the executor
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor can't be null");
+        }
+        this.executor = executor;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the initial capacity of the container returned by a container getter ({@code getFoo()} or
+ * {@code getModifiableFoo()}).
+ *
+ * <p>The value is the number of elements the container must hold without being resized. Unless {@link BackingType}
+ * is set, lists are backed by an {@code ArrayList}, sets and maps by a {@code HashSet}/{@code HashMap} whose table is
+ * sized for this number of elements. Primitive arrays get the capacity via {@code ensureCapacity(...)}. If the
+ * annotation is present on several declarations of the same container, the one from the most specific interface wins:
+ * a declaration is overridden by the declarations in its subinterfaces and if declarations of unrelated interfaces
+ * remain, their values must be equal.
+ *
+ * @author Pavel Castornii
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface InitialCapacity {
+
+    /**
+     * The number of elements, must not be negative.
+     */
+    int value();
+}
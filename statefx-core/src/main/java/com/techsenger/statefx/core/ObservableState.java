@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import javafx.beans.Observable;
+
+/**
+ * A state that notifies its invalidation listeners when any of its properties or containers changes. Every generated
+ * state implements this interface, so a listener can be added via {@code ((ObservableState) state).addListener(...)}
+ * or the state interface can extend this interface to expose the methods directly.
+ *
+ * <p>A single listener of the state replaces a listener per property and per container. The state has one internal
+ * listener object that is shared by all its members: it is created and registered when the first listener is added
+ * and unregistered and dropped when the last one is removed, so states without listeners have no listener overhead at
+ * all. Views are not observed separately as they change only when their sources change.
+ *
+ * <p>The listeners are notified on every change: a property that was invalidated is validated again by the state
+ * right away (i.e. a bound property is evaluated) so that its next change is reported too. As in JavaFX, the
+ * listeners are notified on the thread that made the change and exceptions thrown by them are passed to the uncaught
+ * exception handler of the current thread.
+ *
+ * @author Pavel Castornii
+ */
+public interface ObservableState extends Observable {
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.util.Arrays;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * The internal listener of the members of a generated {@link ObservableState} and the storage of the listeners of the
+ * state. The state creates an instance when the first listener is added and registers it in its members, when the
+ * last listener is removed, the instance is unregistered and dropped. The listeners are kept in a single
+ * {@code Object} slot that is either the only listener itself or an array of listeners that is copied on write, so
+ * listeners can be added and removed while the listeners are notified.
+ *
+ * <p>This class is used by the generated code and is not intended to be used directly.
+ *
+ * @author Pavel Castornii
+ */
+public final class ObservableStateSupport implements InvalidationListener {
+
+    private final ObservableState state;
+
+    /**
+     * The only listener or an array of listeners.
+     */
+    private Object listeners;
+
+    public ObservableStateSupport(ObservableState state) {
+        this.state = state;
+    }
+
+    public void addListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        if (listeners == null) {
+            listeners = listener;
+        } else if (listeners instanceof InvalidationListener single) {
+            listeners = new InvalidationListener[] {single, listener};
+        } else {
+            var array = (InvalidationListener[]) listeners;
+            var newArray = Arrays.copyOf(array, array.length + 1);
+            newArray[array.length] = listener;
+            listeners = newArray;
+        }
+    }
+
+    /**
+     * Removes the listener.
+     *
+     * @return {@code true} if there are no listeners left
+     */
+    public boolean removeListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        if (listener.equals(listeners)) {
+            listeners = null;
+        } else if (listeners != null && !(listeners instanceof InvalidationListener)) {
+            var array = (InvalidationListener[]) listeners;
+            for (var i = 0; i < array.length; i++) {
+                if (listener.equals(array[i])) {
+                    if (array.length == 2) {
+                        listeners = array[1 - i];
+                    } else {
+                        var newArray = new InvalidationListener[array.length - 1];
+                        System.arraycopy(array, 0, newArray, 0, i);
+                        System.arraycopy(array, i + 1, newArray, i, newArray.length - i);
+                        listeners = newArray;
+                    }
+                    break;
+                }
+            }
+        }
+        return listeners == null;
+    }
+
+    /**
+     * Notifies the listeners of the state that the member was invalidated. A property is validated, so its next change
+     * is reported too.
+     */
+    @Override
+    public void invalidated(Observable member) {
+        if (member instanceof ObservableValue<?> value) {
+            value.getValue();
+        }
+        // the single listener is checked first: a failed check against an interface type is slow on some JVMs
+        if (listeners instanceof InvalidationListener listener) {
+            fireInvalidated(listener);
+        } else if (listeners != null) {
+            for (var listener : (InvalidationListener[]) listeners) {
+                fireInvalidated(listener);
+            }
+        }
+    }
+
+    private void fireInvalidated(InvalidationListener listener) {
+        try {
+            listener.invalidated(state);
+        } catch (Exception e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+    }
+}
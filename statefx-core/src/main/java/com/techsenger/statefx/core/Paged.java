@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes the list returned by a list getter ({@code getFoo()}) a
+ * {@link com.techsenger.statefx.core.collections.PagedObservableList}: a read-only list that reports the size of its
+ * data provider and loads the elements page by page when they are accessed, keeping at most {@link #maxPages()} pages
+ * in memory. It allows showing lists of millions of elements, for example, the lines of a log, in a {@code ListView}
+ * without holding them on the heap.
+ *
+ * <p>The generated constructor creates the list without a provider, the application sets it with
+ * {@code ((PagedObservableList<T>) state.getFoo()).setProvider(provider)}. A paged list can't have a modifiable getter,
+ * can't be synchronized and can't have {@link BackingType} or {@link InitialCapacity}. Its elements are not copied by
+ * snapshots, shadows and copiers, are not replicated and are not recorded by undo journals, as they belong to the
+ * provider: the getter of a {@link StateSnapshot} returns an empty immutable list. If the annotation is present on
+ * several declarations of the same list, the one from the most specific interface wins: a declaration is overridden
+ * by the declarations in its subinterfaces and if declarations of unrelated interfaces remain, their values must be
+ * equal.
+ *
+ * @author Pavel Castornii
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface Paged {
+
+    /**
+     * The number of elements loaded at once, must be positive.
+     */
+    int pageSize() default 1024;
+
+    /**
+     * The maximum number of loaded pages, the least recently used page is evicted when a page over the budget is
+     * loaded. Must be positive.
+     */
+    int maxPages() default 16;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+/**
+ * A state that can take immutable snapshots of itself. Snapshot support is opt-in: only states of interfaces that
+ * extend this interface have the {@link #snapshot()} method, other states can be copied with
+ * {@link StateSnapshot#of(State)}.
+ *
+ * @param <T> the type of the state interface
+ * @author Pavel Castornii
+ */
+public interface SnapshottableState<T extends State> {
+
+    /**
+     * Returns an immutable snapshot of this state. The snapshot must be taken on the thread that changes the state,
+     * as a rule the FX thread, after that it can be read from any thread. See {@link StateSnapshot} for details.
+     */
+    T snapshot();
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import com.techsenger.statefx.core.impl.BinderGenerator;
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.core.impl.InterfaceScanner;
+
+/**
+ * Binds all properties of a state to the same-named properties of a target object, for example, a node, a tab or a
+ * menu item. A state property is bound bidirectionally if the target property is writable, the target takes the value
+ * of the state. If the target property is read-only, the state property is bound to it one-way. Properties that the
+ * target doesn't have or that have other value types are skipped.
+ *
+ * <p>The binding code is generated once per pair of the state interface and the target class, so binding doesn't use
+ * reflection. This class is public only because generated binders extend it.
+ *
+ * @author Pavel Castornii
+ */
+public abstract class StateBinder {
+
+    /**
+     * Binders by state classes and then by target classes.
+     */
+    private static final ClassValue<ClassValue<StateBinder>> binders = new ClassValue<>() {
+
+        @Override
+        protected ClassValue<StateBinder> computeValue(Class<?> stateClass) {
+            var interfaceClass = InterfaceScanner.resolveStateInterface(stateClass);
+            return new ClassValue<>() {
+
+                @Override
+                protected StateBinder computeValue(Class<?> targetClass) {
+                    ClassGenerator.checkByteBuddy("StateBinder");
+                    var binderClass = BinderGenerator.generate(interfaceClass, targetClass);
+                    try {
+                        return binderClass.getConstructor().newInstance();
+                    } catch (ReflectiveOperationException e) {
+                        throw new InstantiationException("Failed to instantiate binder: " + binderClass.getName(), e);
+                    }
+                }
+            };
+        }
+    };
+
+    /**
+     * Binds the properties of the state to the same-named properties of the target.
+     *
+     * @param state the state created by the factory
+     * @param target the object with properties, for example, a node
+     */
+    public static void bind(State state, Object target) {
+        getBinder(state, target).bindProperties(state, target);
+    }
+
+    /**
+     * Removes the bindings that were created by {@link #bind(State, Object)}.
+     *
+     * @param state the state created by the factory
+     * @param target the object with properties, for example, a node
+     */
+    public static void unbind(State state, Object target) {
+        getBinder(state, target).unbindProperties(state, target);
+    }
+
+    private static StateBinder getBinder(State state, Object target) {
+        if (state == null) {
+            throw new IllegalArgumentException("State can't be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target can't be null");
+        }
+        return binders.get(state.getClass()).get(target.getClass());
+    }
+
+    protected StateBinder() {
+        // empty
+    }
+
+    protected abstract void bindProperties(State state, Object target);
+
+    protected abstract void unbindProperties(State state, Object target);
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.core.impl.CopierGenerator;
+import com.techsenger.statefx.core.impl.InterfaceScanner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+
+/**
+ * Copies the values of the properties and the contents of the lists, sets, maps and arrays of one state into another
+ * state. The states can be of different interfaces, in this case only the members that both interfaces have are
+ * copied: a property is copied if the target has a property with the same name and the same value type, a container
+ * is copied if the target has a container of the same kind with the same name (the element types are erased, so they
+ * are not checked). Views are not copied, as they follow their sources. For a read/write pair of the target the
+ * modifiable container is changed.
+ *
+ * <p>A value is set only if it differs from the current one and a container is changed only if its contents differ,
+ * so copying the same values again doesn't notify the listeners of the target. The copying code is generated once per
+ * pair of the source and the target interfaces, so copying doesn't use reflection. This class is public only because
+ * generated copiers extend it.
+ *
+ * @author Pavel Castornii
+ */
+public abstract class StateCopier {
+
+    /**
+     * Copiers by source state classes and then by target state classes, a copier is shared by all classes of the same
+     * interfaces, for example, by states and their snapshots.
+     */
+    private static final ClassValue<ClassValue<StateCopier>> copiersByClasses = new ClassValue<>() {
+
+        @Override
+        protected ClassValue<StateCopier> computeValue(Class<?> sourceClass) {
+            var sourceInterface = InterfaceScanner.resolveStateInterface(sourceClass);
+            return new ClassValue<>() {
+
+                @Override
+                protected StateCopier computeValue(Class<?> targetClass) {
+                    return getCopier(sourceInterface, InterfaceScanner.resolveStateInterface(targetClass));
+                }
+            };
+        }
+    };
+
+    /**
+     * Copiers by source interfaces and then by target interfaces.
+     */
+    private static final ClassValue<ClassValue<StateCopier>> copiers = new ClassValue<>() {
+
+        @Override
+        protected ClassValue<StateCopier> computeValue(Class<?> sourceInterface) {
+            return new ClassValue<>() {
+
+                @Override
+                protected StateCopier computeValue(Class<?> targetInterface) {
+                    ClassGenerator.checkByteBuddy("StateCopier");
+                    var copierClass = CopierGenerator.generate(sourceInterface, targetInterface);
+                    try {
+                        return copierClass.getConstructor().newInstance();
+                    } catch (ReflectiveOperationException e) {
+                        throw new InstantiationException("Failed to instantiate copier: " + copierClass.getName(),
+                                e);
+                    }
+                }
+            };
+        }
+    };
+
+    /**
+     * Copies the values of the properties and the contents of the containers that the source and the target share.
+     * It must be called on the thread that changes the target, as a rule the FX thread.
+     *
+     * @param source the state which values are copied, for example, a snapshot
+     * @param target the state which values are changed
+     */
+    public static void copy(State source, State target) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source can't be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target can't be null");
+        }
+        copiersByClasses.get(source.getClass()).get(target.getClass()).copyValues(source, target);
+    }
+
+    /**
+     * Returns the copier of the pair of the state interfaces.
+     */
+    static StateCopier getCopier(Class<?> sourceInterface, Class<?> targetInterface) {
+        return copiers.get(sourceInterface).get(targetInterface);
+    }
+
+    /**
+     * Replaces the elements of the target if they differ from the elements of the source.
+     */
+    protected static <E> void copyList(ObservableList<E> target, List<? extends E> source) {
+        if (!target.equals(source)) {
+            target.setAll(source);
+        }
+    }
+
+    /**
+     * Removes the elements that the source doesn't have and adds the missing ones.
+     */
+    protected static <E> void copySet(ObservableSet<E> target, Set<? extends E> source) {
+        if (!target.equals(source)) {
+            target.retainAll(source);
+            target.addAll(source);
+        }
+    }
+
+    /**
+     * Removes the keys that the source doesn't have and puts the entries of the source, an observable map doesn't
+     * report putting an equal value.
+     */
+    protected static <K, V> void copyMap(ObservableMap<K, V> target, Map<? extends K, ? extends V> source) {
+        if (!target.equals(source)) {
+            target.keySet().retainAll(source.keySet());
+            target.putAll(source);
+        }
+    }
+
+    protected static void copyArray(ObservableIntegerArray target, ObservableIntegerArray source) {
+        var size = source.size();
+        if (target.size() == size) {
+            var i = 0;
+            while (i < size && target.get(i) == source.get(i)) {
+                i++;
+            }
+            if (i == size) {
+                return;
+            }
+        }
+        target.setAll(source);
+    }
+
+    protected static void copyArray(ObservableFloatArray target, ObservableFloatArray source) {
+        var size = source.size();
+        if (target.size() == size) {
+            var i = 0;
+            while (i < size && Float.compare(target.get(i), source.get(i)) == 0) {
+                i++;
+            }
+            if (i == size) {
+                return;
+            }
+        }
+        target.setAll(source);
+    }
+
+    protected static void copyArray(ObservableDoubleArray target, ObservableDoubleArray source) {
+        var size = source.size();
+        if (target.size() == size) {
+            var i = 0;
+            while (i < size && Double.compare(target.get(i), source.get(i)) == 0) {
+                i++;
+            }
+            if (i == size) {
+                return;
+            }
+        }
+        target.setAll(source);
+    }
+
+    protected StateCopier() {
+        // empty
+    }
+
+    /**
+     * Copies the values and the contents of the containers of the source into the target.
+     */
+    protected abstract void copyValues(State source, State target);
+}
@@ -22,6 +22,13 @@
 package com.techsenger.statefx.core;
 
 import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.core.impl.ProxyImplementation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  *
@@ -31,6 +38,35 @@ public final class StateFactory {
 
     private static final Cache cache = new Cache();
 
+    private static final GenerationSettings settings = new GenerationSettings();
+
+    /**
+     * No-arg constructors of generated classes, looked up once per class instead of reflective calls per instance.
+     */
+    private static final ClassValue<MethodHandle> constructors = new ClassValue<>() {
+
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (ReflectiveOperationException e) {
+                throw new InstantiationException("Failed to find constructor of state: " + type.getName(), e);
+            }
+        }
+    };
+
+    /**
+     * Proxy implementations that are used in the tiered mode while the classes are being generated.
+     */
+    private static final ClassValue<ProxyImplementation<?>> proxies = new ClassValue<>() {
+
+        @Override
+        protected ProxyImplementation<?> computeValue(Class<?> type) {
+            return ProxyImplementation.create(type);
+        }
+    };
+
     /**
      * Returns the generated implementation <b>class</b> for the given state interface.
      * The class is generated on first call and cached for subsequent calls.
@@ -45,15 +81,40 @@ public final class StateFactory {
         }
         Class<? extends T> implClass = null;
         if (cache.isEnabled()) {
-            implClass = (Class<? extends T>) cache.getMap().computeIfAbsent(interfaceClass, k -> {
-                return ClassGenerator.generate(interfaceClass);
-            });
+            implClass = (Class<? extends T>) generateInCurrentThread(interfaceClass);
         } else {
-            implClass = ClassGenerator.generate(interfaceClass);
+            implClass = ClassGenerator.generate(interfaceClass, settings);
         }
         return implClass;
     }
 
+    /**
+     * Returns a future of the generated implementation <b>class</b> for the given state interface. The class is
+     * generated on the executor of the settings, so the calling thread is never blocked. Concurrent requests for the
+     * same interface share one generation, and the future is completed at once if the class is already cached.
+     *
+     * @param interfaceClass the state interface class
+     * @param <T> the state interface type
+     * @return the future of the generated implementation class
+     */
+    public static <T extends State> CompletableFuture<Class<? extends T>> getImplementationAsync(
+            Class<T> interfaceClass) {
+        if (interfaceClass == null) {
+            throw new IllegalArgumentException("Interface class can't be null");
+        }
+        if (cache.isEnabled()) {
+            var implClass = cache.getMap().get(interfaceClass);
+            if (implClass != null) {
+                return CompletableFuture.completedFuture((Class<? extends T>) implClass);
+            }
+            // a copy, so a caller can't complete or cancel the shared future
+            return (CompletableFuture<Class<? extends T>>) (Object) generateInBackground(interfaceClass).copy();
+        } else {
+            return CompletableFuture.supplyAsync(() -> ClassGenerator.generate(interfaceClass, settings),
+                    settings.getExecutor());
+        }
+    }
+
     /**
      * Creates and returns a new <b>instance</b> of the state implementation. Each call returns a new instance.
      *
@@ -63,13 +124,62 @@ public final class StateFactory {
      * @throws InstantiationException if the state implementation cannot be instantiated.
      */
     public static <T extends State> T create(Class<T> interfaceClass) {
-        var implClass = getImplementation(interfaceClass);
-        try {
-            return implClass.getConstructor().newInstance();
-        } catch (Exception e) {
-            throw new InstantiationException(
-                "Failed to instantiate state: " + interfaceClass.getName(), e);
+        if (settings.isTiered() && cache.isEnabled()) {
+            if (interfaceClass == null) {
+                throw new IllegalArgumentException("Interface class can't be null");
+            }
+            if (!cache.getMap().containsKey(interfaceClass)) {
+                generateInBackground(interfaceClass);
+                try {
+                    return (T) proxies.get(interfaceClass).newInstance();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new InstantiationException(
+                        "Failed to instantiate state: " + interfaceClass.getName(), e);
+                }
+            }
         }
+        return newInstance(interfaceClass, getImplementation(interfaceClass));
+    }
+
+    /**
+     * Creates a new <b>instance</b> of the state implementation and passes it to the initializer before returning it.
+     * The initializer is called before the state is published, so nobody can listen to it yet and setting initial
+     * values doesn't notify anyone.
+     *
+     * <p>This is only a convenience overload, it has the same cost as calling {@link #create(Class)} and then the
+     * setters: the values are written through the regular setters, which still invalidate the properties and check
+     * for listeners, and in tiered mode before the class is generated they go through the proxy. Initial values that
+     * are known when the state interface is written should be declared with {@link DefaultValue}, which passes them
+     * to the property constructors of the generated class.
+     *
+     * @param interfaceClass the state interface class
+     * @param initializer the initializer that sets initial values
+     * @param <T> the state interface type
+     * @return a new initialized instance of the state implementation
+     * @throws InstantiationException if the state implementation cannot be instantiated.
+     */
+    public static <T extends State> T create(Class<T> interfaceClass, Consumer<? super T> initializer) {
+        if (initializer == null) {
+            throw new IllegalArgumentException("Initializer can't be null");
+        }
+        var state = create(interfaceClass);
+        initializer.accept(state);
+        return state;
+    }
+
+    /**
+     * Returns a future of a new <b>instance</b> of the state implementation. The class is generated as in
+     * {@link #getImplementationAsync(Class)}, the instance is created by the thread that completes the generation or
+     * by the calling thread if the class is already cached.
+     *
+     * @param interfaceClass the state interface class
+     * @param <T> the state interface type
+     * @return the future of a new instance of the state implementation
+     */
+    public static <T extends State> CompletableFuture<T> createAsync(Class<T> interfaceClass) {
+        return getImplementationAsync(interfaceClass).thenApply(implClass -> newInstance(interfaceClass, implClass));
     }
 
     /**
@@ -84,6 +194,96 @@ public final class StateFactory {
         return cache;
     }
 
+    /**
+     * Returns the settings used by the factory to generate state implementations.
+     *
+     * @return the factory's generation settings
+     */
+    public static GenerationSettings getSettings() {
+        return settings;
+    }
+
+    private static <T> T newInstance(Class<T> interfaceClass, Class<? extends T> implClass) {
+        try {
+            return (T) (Object) constructors.get(implClass).invokeExact();
+        } catch (InstantiationException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InstantiationException(
+                "Failed to instantiate state: " + interfaceClass.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the cached class, waits for the class that is being generated or generates it in the current thread.
+     */
+    private static Class<?> generateInCurrentThread(Class<?> interfaceClass) {
+        var implClass = cache.getMap().get(interfaceClass);
+        if (implClass != null) {
+            return implClass;
+        }
+        var generation = cache.getGeneration();
+        var future = new CompletableFuture<Class<?>>();
+        var existing = cache.getPending().putIfAbsent(interfaceClass, future);
+        if (existing == null) {
+            generate(interfaceClass, future, generation);
+        } else {
+            future = existing;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the future of the class that is being generated or starts a new generation.
+     */
+    private static CompletableFuture<Class<?>> generateInBackground(Class<?> interfaceClass) {
+        var pending = cache.getPending();
+        var generation = cache.getGeneration();
+        var future = new CompletableFuture<Class<?>>();
+        var existing = pending.putIfAbsent(interfaceClass, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            settings.getExecutor().execute(() -> generate(interfaceClass, future, generation));
+        } catch (RuntimeException e) {
+            pending.remove(interfaceClass, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Generates the class and completes the pending future. The class is generated outside of the cache map, so no
+     * lock is held during the generation and a virtual thread doesn't pin its carrier. The class is not cached if the
+     * cache was cleared after the class was requested, because it could be generated with the old settings.
+     */
+    private static void generate(Class<?> interfaceClass, CompletableFuture<Class<?>> future, long generation) {
+        var pending = cache.getPending();
+        try {
+            // the class could be generated by another call before the future was registered
+            var implClass = cache.getMap().get(interfaceClass);
+            if (implClass == null) {
+                implClass = cache.publish(interfaceClass, ClassGenerator.generate(interfaceClass, settings),
+                        generation);
+            }
+            future.complete(implClass);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            pending.remove(interfaceClass, future);
+        }
+    }
+
     private StateFactory() {
         // empty
     }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.core.impl.InterfaceScanner;
+import com.techsenger.statefx.core.impl.MembersGenerator;
+
+/**
+ * Indexed access to the members of a state interface: the properties sorted by names, followed by the lists, sets,
+ * maps and arrays sorted by names. Views are not members, as they follow their sources. The index of a member depends
+ * only on the interface, so two processes that use the same interface agree on the indices and can refer to the
+ * members by them instead of by names, for example, when replicating states.
+ *
+ * <p>The access code is generated once per state interface, so {@link #get(State, int)} and
+ * {@link #setValue(State, int, Object)} don't use reflection. This class is public only because generated member
+ * accessors extend it.
+ *
+ * @author Pavel Castornii
+ */
+public abstract class StateMembers {
+
+    /**
+     * The kind of a member.
+     */
+    public enum Kind {
+
+        BOOLEAN, INTEGER, LONG, FLOAT, DOUBLE, OBJECT, LIST, SET, MAP, INTEGER_ARRAY, FLOAT_ARRAY, DOUBLE_ARRAY;
+
+        /**
+         * Returns true if the member is a property.
+         */
+        public boolean isProperty() {
+            return ordinal() <= OBJECT.ordinal();
+        }
+    }
+
+    /**
+     * Members by state interfaces and by state classes, a state class shares the members of its interface.
+     */
+    private static final ClassValue<StateMembers> members = new ClassValue<>() {
+
+        @Override
+        protected StateMembers computeValue(Class<?> stateClass) {
+            if (!stateClass.isInterface()) {
+                return get(InterfaceScanner.resolveStateInterface(stateClass));
+            }
+            ClassGenerator.checkByteBuddy("StateMembers");
+            var meta = MembersGenerator.generate(stateClass);
+            try {
+                return meta.getMembersClass().getConstructor(String[].class, Kind[].class)
+                        .newInstance(meta.getNames(), meta.getKinds());
+            } catch (ReflectiveOperationException e) {
+                throw new InstantiationException("Failed to instantiate members: "
+                        + meta.getMembersClass().getName(), e);
+            }
+        }
+    };
+
+    /**
+     * Returns the members of the state interface.
+     *
+     * @param stateClass the state interface or the class of a state created by the factory
+     * @return the members
+     */
+    public static StateMembers of(Class<? extends State> stateClass) {
+        if (stateClass == null) {
+            throw new IllegalArgumentException("State class can't be null");
+        }
+        return members.get(stateClass);
+    }
+
+    private final String[] names;
+
+    private final Kind[] kinds;
+
+    protected StateMembers(String[] names, Kind[] kinds) {
+        this.names = names;
+        this.kinds = kinds;
+    }
+
+    public int getCount() {
+        return names.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public Kind getKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Returns the index of the member with the name or -1 if there is no such member.
+     */
+    public int indexOf(String name) {
+        for (var i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the property object of a property or the container of a list, set, map or array. For a read/write pair
+     * the modifiable container is returned.
+     *
+     * @param state the state of the interface
+     * @param index the index of the member
+     * @return the property or the container
+     * @throws IndexOutOfBoundsException if there is no member with the index
+     */
+    public abstract Object get(State state, int index);
+
+    /**
+     * Sets the value of a property with its setter. A primitive value is passed boxed.
+     *
+     * @param state the state of the interface
+     * @param index the index of the property
+     * @param value the new value
+     * @throws IndexOutOfBoundsException if there is no member with the index
+     * @throws IllegalArgumentException if the member is not a property
+     */
+    public abstract void setValue(State state, int index, Object value);
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import com.techsenger.statefx.core.impl.InterfaceScanner;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Double buffer of a state that is updated by a worker thread. The worker writes into the shadow, a state of the same
+ * interface that has no listeners and is not bound to the UI, and calls {@link #publish()} at the end of every cycle.
+ * Publishing takes an immutable {@link StateSnapshot} of the shadow and swaps it in atomically, so a cycle that is not
+ * committed yet is replaced by the newer one. {@link #commit()} is called on the FX thread, for example, via
+ * {@code Platform.runLater(shadow::commit)}, and copies the last published values into the live state in one pass.
+ * Values that are equal to the current ones are skipped, so only the changed properties and containers notify their
+ * listeners and the UI is updated once per cycle instead of once per field.
+ *
+ * <p>Bindings of the live state are not taken into account: committing a changed value of a bound property fails as
+ * setting it directly would.
+ *
+ * @param <T> the type of the state interface
+ * @author Pavel Castornii
+ */
+public final class StateShadow<T extends State> {
+
+    private final T state;
+
+    private final T shadow;
+
+    private final StateCopier copier;
+
+    /**
+     * The last published snapshot of the shadow that is not committed yet.
+     */
+    private final AtomicReference<T> published = new AtomicReference<>();
+
+    /**
+     * Creates the shadow of the live state and copies the values of the live state into it. It must be called on the
+     * thread that changes the live state, as a rule the FX thread.
+     *
+     * @param state the live state created by the factory
+     */
+    @SuppressWarnings("unchecked")
+    public StateShadow(T state) {
+        if (state == null) {
+            throw new IllegalArgumentException("State can't be null");
+        }
+        var interfaceClass = (Class<T>) InterfaceScanner.resolveStateInterface(state.getClass());
+        this.state = state;
+        this.shadow = StateFactory.create(interfaceClass);
+        this.copier = StateCopier.getCopier(interfaceClass, interfaceClass);
+        this.copier.copyValues(state, shadow);
+    }
+
+    /**
+     * Returns the live state.
+     */
+    public T getState() {
+        return state;
+    }
+
+    /**
+     * Returns the shadow that is written by the worker thread.
+     */
+    public T getShadow() {
+        return shadow;
+    }
+
+    /**
+     * Publishes the current values of the shadow. It must be called on the thread that writes the shadow.
+     */
+    public void publish() {
+        published.set(StateSnapshot.of(shadow));
+    }
+
+    /**
+     * Returns true if there are published values that are not committed yet.
+     */
+    public boolean isPublished() {
+        return published.get() != null;
+    }
+
+    /**
+     * Copies the last published values into the live state, the equal values are skipped. It must be called on the
+     * thread that changes the live state, as a rule the FX thread.
+     *
+     * @return true if published values were committed, false if nothing was published since the last commit
+     */
+    public boolean commit() {
+        var values = published.getAndSet(null);
+        if (values == null) {
+            return false;
+        }
+        copier.copyValues(values, state);
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.core.impl.InterfaceScanner;
+import com.techsenger.statefx.core.impl.SnapshotGenerator;
+
+/**
+ * Base class of immutable snapshots of states. A snapshot implements the state interface and keeps the values of all
+ * properties and copies of all lists, sets, maps, arrays and views of the state in final fields, so once taken it can
+ * be read from any thread without locks and without touching JavaFX properties. The getters of a snapshot return the
+ * captured values, the containers of a snapshot are immutable and never notify their listeners, {@code snapshot()}
+ * returns the snapshot itself, all other methods of the state interface (property methods, setters, modifiable
+ * getters, etc.) throw {@link UnsupportedOperationException}. The elements of a {@link Paged} list belong to its
+ * provider, so they are not copied and the getter of the list returns an empty immutable list.
+ *
+ * <p>The snapshot class is generated once per state interface, so taking a snapshot doesn't use reflection: it is
+ * one object with the values plus the copies of the containers. This class is public only because generated
+ * snapshots extend it.
+ *
+ * @author Pavel Castornii
+ */
+public abstract class StateSnapshot {
+
+    /**
+     * Empty snapshots by state classes, they are used only as factories of real snapshots.
+     */
+    private static final ClassValue<StateSnapshot> factories = new ClassValue<>() {
+
+        @Override
+        protected StateSnapshot computeValue(Class<?> stateClass) {
+            ClassGenerator.checkByteBuddy("StateSnapshot");
+            var snapshotClass = SnapshotGenerator.generate(InterfaceScanner.resolveStateInterface(stateClass));
+            try {
+                return snapshotClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new InstantiationException("Failed to instantiate snapshot: " + snapshotClass.getName(), e);
+            }
+        }
+    };
+
+    /**
+     * Takes an immutable snapshot of the state. The snapshot must be taken on the thread that changes the state, as
+     * a rule the FX thread. If the state is a snapshot, it is returned as is.
+     *
+     * @param <T> the type of the state interface
+     * @param state the state created by the factory
+     * @return the snapshot that implements the state interface
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends State> T of(T state) {
+        if (state == null) {
+            throw new IllegalArgumentException("State can't be null");
+        }
+        if (state instanceof StateSnapshot) {
+            return state;
+        }
+        return (T) factories.get(state.getClass()).copy(state);
+    }
+
+    protected StateSnapshot() {
+        // empty
+    }
+
+    /**
+     * Creates a new snapshot of the specified state.
+     */
+    protected abstract StateSnapshot copy(State state);
+}
@@ -28,6 +28,29 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
+ * Marks a container getter or a property method as thread-safe.
+ *
+ * <p>When placed on a container getter ({@code getFoo()} or {@code getModifiableFoo()}), the container is wrapped
+ * with the corresponding {@code FXCollections.synchronizedObservableXxx} wrapper (for primitive arrays, with
+ * {@code StateCollections.synchronizedObservableXxxArray}).
+ *
+ * <p>When placed on any method of a property group ({@code fooProperty()}, {@code getFoo()}/{@code isFoo()} or
+ * {@code setFoo(...)}), the property is created as a {@code SynchronizedXxxProperty} from the
+ * {@code com.techsenger.statefx.core.property} package. Reading and writing the value, binding, unbinding and
+ * registering listeners are all guarded by the monitor of the property instance, so values written by one thread are
+ * visible to the others without external locking. This applies both to the generated accessors and to calls made
+ * directly on the property object.
+ *
+ * <p>Listener delivery semantics:
+ * <ul>
+ *   <li>Listeners are notified synchronously on the thread that changed the value, not on the JavaFX Application
+ *   Thread. Listeners that touch the scene graph must hand the work over with {@code Platform.runLater(...)}.</li>
+ *   <li>When the value is changed via {@code set(...)}, listeners are notified while the monitor of the property is
+ *   held. Listeners should therefore be short and must not wait for other threads that may access the same
+ *   property.</li>
+ *   <li>When the property is bound, invalidation of the source is delivered on the thread that changed the source,
+ *   and the new value is read under the monitor the next time it is requested.</li>
+ * </ul>
  *
  * @author Pavel Castornii
  */
@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+import com.techsenger.statefx.core.collections.PagedObservableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.FloatProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.Property;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * A bounded undo/redo journal of one or several {@link UndoableState}s. The journal is a ring buffer of a fixed
+ * capacity: when it is full, recording a change drops the oldest one, so the memory used by the journal doesn't grow
+ * with the number of edits. The entries are kept in parallel arrays, primitive values are stored unboxed as bits of a
+ * {@code long}, so recording a property change doesn't allocate.
+ *
+ * <p>Every recorded change is a separate step of undo unless the changes are grouped by a transaction:
+ * <pre>{@code
+ * journal.beginTransaction();
+ * try {
+ *     state.setWidth(10);
+ *     state.setHeight(20);
+ * } finally {
+ *     journal.endTransaction();
+ * }
+ * }</pre>
+ * Transactions can be nested, the outermost one defines the step. All changes of one container change event are
+ * grouped too. When the oldest entries of a transaction are dropped because of the capacity, only the remaining ones
+ * are undone.
+ *
+ * <p>Undoing and redoing changes are not recorded. Recording a new change drops the changes that can be redone. The
+ * journal is not thread-safe, it must be used by the thread that changes the states.
+ *
+ * @author Pavel Castornii
+ */
+public final class UndoJournal {
+
+    private static final byte BOOLEAN = 0;
+
+    private static final byte INTEGER = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte FLOAT = 3;
+
+    private static final byte DOUBLE = 4;
+
+    private static final byte VALUE = 5;
+
+    /**
+     * Old bits - the index of the change, old value - the removed elements, new value - the added elements.
+     */
+    private static final byte LIST = 6;
+
+    /**
+     * Key - the element, old bits - 1 if the element was removed, new bits - 1 if the element was added.
+     */
+    private static final byte SET = 7;
+
+    /**
+     * Key - the key, old bits - 1 if a value was removed, new bits - 1 if a value was added.
+     */
+    private static final byte MAP = 8;
+
+    private final class ContainerListener implements ListChangeListener<Object>, SetChangeListener<Object>,
+            MapChangeListener<Object, Object> {
+
+        @Override
+        public void onChanged(ListChangeListener.Change<? extends Object> change) {
+            if (replaying) {
+                return;
+            }
+            beginTransaction();
+            try {
+                while (change.next()) {
+                    var list = change.getList();
+                    int from = change.getFrom();
+                    if (change.wasPermutated()) {
+                        int to = change.getTo();
+                        var oldElements = new Object[to - from];
+                        for (var i = from; i < to; i++) {
+                            oldElements[i - from] = list.get(change.getPermutation(i));
+                        }
+                        record(LIST, list, from, 0, Arrays.asList(oldElements), new ArrayList<>(list.subList(from, to)),
+                                null);
+                    } else if (change.wasReplaced() || change.wasAdded() || change.wasRemoved()) {
+                        record(LIST, list, from, 0, new ArrayList<>(change.getRemoved()),
+                                new ArrayList<>(change.getAddedSubList()), null);
+                    }
+                }
+            } finally {
+                endTransaction();
+            }
+        }
+
+        @Override
+        public void onChanged(SetChangeListener.Change<? extends Object> change) {
+            if (!replaying) {
+                var removed = change.wasRemoved();
+                record(SET, change.getSet(), removed ? 1 : 0, removed ? 0 : 1, null, null,
+                        removed ? change.getElementRemoved() : change.getElementAdded());
+            }
+        }
+
+        @Override
+        public void onChanged(MapChangeListener.Change<? extends Object, ? extends Object> change) {
+            if (!replaying) {
+                record(MAP, change.getMap(), change.wasRemoved() ? 1 : 0, change.wasAdded() ? 1 : 0,
+                        change.getValueRemoved(), change.getValueAdded(), change.getKey());
+            }
+        }
+    }
+
+    private final ContainerListener containerListener = new ContainerListener();
+
+    private final byte[] kinds;
+
+    /**
+     * The number of the transaction of every entry, the entries of one transaction are undone together.
+     */
+    private final long[] transactions;
+
+    /**
+     * Properties and containers.
+     */
+    private final Object[] targets;
+
+    private final long[] oldBits;
+
+    private final long[] newBits;
+
+    private final Object[] oldValues;
+
+    private final Object[] newValues;
+
+    private final Object[] keys;
+
+    /**
+     * The index of the oldest entry in the arrays.
+     */
+    private int start;
+
+    /**
+     * The number of entries that can be undone or redone.
+     */
+    private int size;
+
+    /**
+     * The number of entries that can be undone, the entries after them can be redone.
+     */
+    private int position;
+
+    /**
+     * The number of the last transaction.
+     */
+    private long lastTransaction;
+
+    private int transactionDepth;
+
+    private boolean replaying;
+
+    /**
+     * Creates a journal that keeps up to {@code capacity} changes.
+     */
+    public UndoJournal(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.kinds = new byte[capacity];
+        this.transactions = new long[capacity];
+        this.targets = new Object[capacity];
+        this.oldBits = new long[capacity];
+        this.newBits = new long[capacity];
+        this.oldValues = new Object[capacity];
+        this.newValues = new Object[capacity];
+        this.keys = new Object[capacity];
+    }
+
+    /**
+     * Sets the value of the property and records the change.
+     */
+    public void set(BooleanProperty property, boolean value) {
+        boolean oldValue = property.get();
+        property.set(value);
+        if (oldValue != value) {
+            record(BOOLEAN, property, oldValue ? 1 : 0, value ? 1 : 0, null, null, null);
+        }
+    }
+
+    /**
+     * Sets the value of the property and records the change.
+     */
+    public void set(IntegerProperty property, int value) {
+        int oldValue = property.get();
+        property.set(value);
+        if (oldValue != value) {
+            record(INTEGER, property, oldValue, value, null, null, null);
+        }
+    }
+
+    /**
+     * Sets the value of the property and records the change.
+     */
+    public void set(LongProperty property, long value) {
+        long oldValue = property.get();
+        property.set(value);
+        if (oldValue != value) {
+            record(LONG, property, oldValue, value, null, null, null);
+        }
+    }
+
+    /**
+     * Sets the value of the property and records the change.
+     */
+    public void set(FloatProperty property, float value) {
+        int oldValue = Float.floatToIntBits(property.get());
+        property.set(value);
+        int newValue = Float.floatToIntBits(value);
+        if (oldValue != newValue) {
+            record(FLOAT, property, oldValue, newValue, null, null, null);
+        }
+    }
+
+    /**
+     * Sets the value of the property and records the change.
+     */
+    public void set(DoubleProperty property, double value) {
+        long oldValue = Double.doubleToLongBits(property.get());
+        property.set(value);
+        long newValue = Double.doubleToLongBits(value);
+        if (oldValue != newValue) {
+            record(DOUBLE, property, oldValue, newValue, null, null, null);
+        }
+    }
+
+    /**
+     * Sets the value of the property and records the change.
+     */
+    public <T> void set(Property<T> property, T value) {
+        T oldValue = property.getValue();
+        property.setValue(value);
+        if (!Objects.equals(oldValue, value)) {
+            record(VALUE, property, 0, 0, oldValue, value, null);
+        }
+    }
+
+    /**
+     * Starts recording the changes of the list, a paged list is not recorded.
+     */
+    public void track(ObservableList<?> list) {
+        // the elements of a paged list belong to its provider
+        if (list instanceof PagedObservableList) {
+            return;
+        }
+        list.addListener(containerListener);
+    }
+
+    /**
+     * Stops recording the changes of the list, the recorded changes are kept.
+     */
+    public void untrack(ObservableList<?> list) {
+        list.removeListener(containerListener);
+    }
+
+    /**
+     * Starts recording the changes of the set.
+     */
+    public void track(ObservableSet<?> set) {
+        set.addListener(containerListener);
+    }
+
+    /**
+     * Stops recording the changes of the set, the recorded changes are kept.
+     */
+    public void untrack(ObservableSet<?> set) {
+        set.removeListener(containerListener);
+    }
+
+    /**
+     * Starts recording the changes of the map.
+     */
+    public void track(ObservableMap<?, ?> map) {
+        map.addListener(containerListener);
+    }
+
+    /**
+     * Stops recording the changes of the map, the recorded changes are kept.
+     */
+    public void untrack(ObservableMap<?, ?> map) {
+        map.removeListener(containerListener);
+    }
+
+    /**
+     * Starts a transaction, all changes until the matching {@link #endTransaction()} are undone and redone together.
+     */
+    public void beginTransaction() {
+        if (transactionDepth == 0) {
+            lastTransaction++;
+        }
+        transactionDepth++;
+    }
+
+    /**
+     * Ends the transaction started by {@link #beginTransaction()}.
+     */
+    public void endTransaction() {
+        if (transactionDepth == 0) {
+            throw new IllegalStateException("No transaction to end");
+        }
+        transactionDepth--;
+    }
+
+    public boolean canUndo() {
+        return position > 0;
+    }
+
+    public boolean canRedo() {
+        return position < size;
+    }
+
+    /**
+     * Undoes the last step: a change or a transaction.
+     *
+     * @return false if there is nothing to undo
+     */
+    public boolean undo() {
+        checkNoTransaction();
+        if (position == 0) {
+            return false;
+        }
+        long transaction = transactions[index(position - 1)];
+        replaying = true;
+        try {
+            do {
+                position--;
+                apply(index(position), true);
+            } while (position > 0 && transactions[index(position - 1)] == transaction);
+        } finally {
+            replaying = false;
+        }
+        return true;
+    }
+
+    /**
+     * Redoes the last undone step.
+     *
+     * @return false if there is nothing to redo
+     */
+    public boolean redo() {
+        checkNoTransaction();
+        if (position == size) {
+            return false;
+        }
+        long transaction = transactions[index(position)];
+        replaying = true;
+        try {
+            do {
+                apply(index(position), false);
+                position++;
+            } while (position < size && transactions[index(position)] == transaction);
+        } finally {
+            replaying = false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops all recorded changes.
+     */
+    public void clear() {
+        release(0, size);
+        start = 0;
+        size = 0;
+        position = 0;
+    }
+
+    private void record(byte kind, Object target, long oldBit, long newBit, Object oldValue, Object newValue,
+            Object key) {
+        if (replaying) {
+            return;
+        }
+        // the changes that could be redone are dropped
+        release(position, size);
+        size = position;
+        if (size == kinds.length) {
+            release(0, 1);
+            start = index(1);
+            size--;
+            position--;
+        }
+        int i = index(size);
+        kinds[i] = kind;
+        transactions[i] = transactionDepth > 0 ? lastTransaction : ++lastTransaction;
+        targets[i] = target;
+        oldBits[i] = oldBit;
+        newBits[i] = newBit;
+        oldValues[i] = oldValue;
+        newValues[i] = newValue;
+        keys[i] = key;
+        size++;
+        position++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(int i, boolean undo) {
+        long bits = undo ? oldBits[i] : newBits[i];
+        Object value = undo ? oldValues[i] : newValues[i];
+        switch (kinds[i]) {
+            case BOOLEAN:
+                ((BooleanProperty) targets[i]).set(bits != 0);
+                break;
+            case INTEGER:
+                ((IntegerProperty) targets[i]).set((int) bits);
+                break;
+            case LONG:
+                ((LongProperty) targets[i]).set(bits);
+                break;
+            case FLOAT:
+                ((FloatProperty) targets[i]).set(Float.intBitsToFloat((int) bits));
+                break;
+            case DOUBLE:
+                ((DoubleProperty) targets[i]).set(Double.longBitsToDouble(bits));
+                break;
+            case VALUE:
+                ((Property<Object>) targets[i]).setValue(value);
+                break;
+            case LIST:
+                var list = (List<Object>) targets[i];
+                int from = (int) oldBits[i];
+                var removed = (List<Object>) (undo ? newValues[i] : oldValues[i]);
+                list.subList(from, from + removed.size()).clear();
+                list.addAll(from, (List<Object>) value);
+                break;
+            case SET:
+                var set = (Set<Object>) targets[i];
+                if (bits != 0) {
+                    set.add(keys[i]);
+                } else {
+                    set.remove(keys[i]);
+                }
+                break;
+            case MAP:
+                var map = (Map<Object, Object>) targets[i];
+                if (bits != 0) {
+                    map.put(keys[i], value);
+                } else {
+                    map.remove(keys[i]);
+                }
+                break;
+            default:
+                throw new AssertionError(kinds[i]);
+        }
+    }
+
+    private void checkNoTransaction() {
+        if (transactionDepth > 0) {
+            throw new IllegalStateException("Transaction is in progress");
+        }
+    }
+
+    /**
+     * Clears the references of the entries from {@code from} (inclusive) to {@code to} (exclusive), counting from the
+     * oldest one.
+     */
+    private void release(int from, int to) {
+        for (var n = from; n < to; n++) {
+            int i = index(n);
+            targets[i] = null;
+            oldValues[i] = null;
+            newValues[i] = null;
+            keys[i] = null;
+        }
+    }
+
+    private int index(int n) {
+        int i = start + n;
+        return i < kinds.length ? i : i - kinds.length;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core;
+
+/**
+ * A state whose changes can be recorded in an {@link UndoJournal}. Undo support is opt-in: only states of interfaces
+ * that extend this interface have the journal field and check it in their setters, other states are not affected.
+ *
+ * <p>While a journal is set, every generated setter of the state records the old and the new value of the property
+ * in the journal, and the lists, sets and maps of the state (for a read/write pair the modifiable container) are
+ * tracked by the journal. Changes made directly through the properties (for example, by a binding) are not recorded,
+ * neither are changes of arrays as array change events do not provide the old values. One journal can be shared by
+ * a group of states, so an edit that spans several states is undone at once.
+ *
+ * @author Pavel Castornii
+ */
+public interface UndoableState {
+
+    /**
+     * Returns the journal that records the changes of this state or null.
+     */
+    UndoJournal getUndoJournal();
+
+    /**
+     * Sets the journal that records the changes of this state, null stops recording. Disposing the state resets the
+     * journal to null.
+     */
+    void setUndoJournal(UndoJournal journal);
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A resizable-array list that stores elements in a circular buffer, like {@link java.util.ArrayDeque}, but also
+ * provides indexed access. Adding and removing elements at both ends takes constant time, and inserting or removing at
+ * other positions moves the shorter part of the list. The list is intended as a backing list for observable lists
+ * that are used as queues, for example, a log with a fixed number of last entries.
+ *
+ * <p>This class is not synchronized and permits null elements.
+ *
+ * @param <E> the type of elements
+ * @author Pavel Castornii
+ */
+public class ArrayDequeList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    private Object[] elements;
+
+    /**
+     * Physical index of the first element.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public ArrayDequeList() {
+        this.elements = EMPTY_ELEMENTS;
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative
+     */
+    public ArrayDequeList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY_ELEMENTS : new Object[initialCapacity];
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection, in the order they are returned by the
+     * collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     */
+    public ArrayDequeList(Collection<? extends E> c) {
+        // the elements are copied directly, without calling the overridable addAll
+        var array = c.toArray();
+        this.elements = array.length == 0 ? EMPTY_ELEMENTS : Arrays.copyOf(array, array.length, Object[].class);
+        this.size = array.length;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int i = physicalIndex(index);
+        @SuppressWarnings("unchecked")
+        E old = (E) elements[i];
+        elements[i] = element;
+        return old;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        modCount++;
+        ensureCapacity(size + 1);
+        if (index < size - index) {
+            // moving the head part one position to the left
+            head = head == 0 ? elements.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + 1)];
+            }
+        } else {
+            // moving the tail part one position to the right
+            for (int i = size; i > index; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+        }
+        elements[physicalIndex(index)] = element;
+        size++;
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        E old = elementAt(index);
+        if (index < size - index - 1) {
+            for (int i = index; i > 0; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+            elements[head] = null;
+            head = physicalIndex(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + 1)];
+            }
+            elements[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        if (size == 0) {
+            head = 0;
+        }
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        for (int i = 0; i < size; i++) {
+            elements[physicalIndex(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to hold at least the specified number of elements.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        int length = elements.length;
+        if (minCapacity <= length) {
+            return;
+        }
+        int newLength = Math.max(Math.max(minCapacity, length + (length >> 1)), DEFAULT_CAPACITY);
+        Object[] newElements = new Object[newLength];
+        int firstPart = Math.min(size, length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        modCount++;
+        if (fromIndex == 0) {
+            for (int i = 0; i < count; i++) {
+                elements[physicalIndex(i)] = null;
+            }
+            head = physicalIndex(count);
+        } else {
+            for (int i = fromIndex; i < size - count; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + count)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[physicalIndex(i)] = null;
+            }
+        }
+        size -= count;
+        if (size == 0) {
+            head = 0;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, result, 0, firstPart);
+        System.arraycopy(elements, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        Object[] values = toArray();
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(values, size, a.getClass());
+        }
+        System.arraycopy(values, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) elements[physicalIndex(index)];
+    }
+
+    private int physicalIndex(int index) {
+        int i = head + index;
+        return i >= elements.length ? i - elements.length : i;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+/**
+ * An observable container that can report a batch of modifications as one notification. Between
+ * {@link #beginBatch()} and {@link #endBatch()} the container is modified as usual, but its listeners are not notified;
+ * when the outermost batch ends, the modifications are compacted and reported: a list reports one
+ * {@code ListChangeListener.Change} with the merged sub-changes, a set reports one change per element whose state
+ * differs from the one before the batch (an element that was added and then removed is not reported), invalidation
+ * listeners are notified once. Batches can be nested.
+ *
+ * <p>Batches are not synchronized, they must be used on the thread that modifies the container, as a rule the FX
+ * thread.
+ *
+ * @author Pavel Castornii
+ */
+public interface BatchedObservable {
+
+    /**
+     * Starts a batch, the listeners are not notified until the outermost batch ends.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch, if it is the outermost one, reports the compacted modifications of the batch.
+     *
+     * @throws IllegalStateException if there is no batch
+     */
+    void endBatch();
+
+    /**
+     * Returns true if a batch has been started and has not been ended yet.
+     */
+    boolean isBatching();
+
+    /**
+     * Runs the modifications as one batch, the batch is ended even if the runnable throws an exception.
+     *
+     * @param modifications the code that modifies the container
+     */
+    default void batch(Runnable modifications) {
+        beginBatch();
+        try {
+            modifications.run();
+        } finally {
+            endBatch();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list that can report a batch of modifications as one {@code ListChangeListener.Change}, see
+ * {@link BatchedObservable}. The sub-changes of a batch are merged by the standard JavaFX change builder, so, for
+ * example, thousands of elements appended one by one are reported as one added range. Sorting the list is always
+ * reported as one change. The elements are kept in the backing list.
+ *
+ * @param <E> the type of elements
+ * @author Pavel Castornii
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> implements BatchedObservable {
+
+    private final List<E> elements;
+
+    private int batchDepth;
+
+    /**
+     * Constructs an empty list backed by an {@code ArrayList}.
+     */
+    public BatchedObservableList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructs a list backed by the given list, the backing list must not be modified directly.
+     *
+     * @param elements the backing list
+     */
+    public BatchedObservableList(List<E> elements) {
+        this.elements = Objects.requireNonNull(elements);
+    }
+
+    @Override
+    public void beginBatch() {
+        batchDepth++;
+        beginChange();
+    }
+
+    @Override
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        endChange();
+    }
+
+    @Override
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Removes all elements at once, not one by one.
+     */
+    @Override
+    public void clear() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            nextRemove(0, new ArrayList<>(elements));
+            elements.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        beginChange();
+        try {
+            super.sort(comparator);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
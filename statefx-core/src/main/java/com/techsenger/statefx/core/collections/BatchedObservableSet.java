@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Set;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * An observable set that can report a batch of modifications at once, see {@link BatchedObservable}. Within a batch
+ * the set remembers which elements were present before the batch, when the batch ends, only the elements that were
+ * actually added or removed are reported, in the order of their first modification. The elements are kept in the
+ * backing set.
+ *
+ * @param <E> the type of elements
+ * @author Pavel Castornii
+ */
+public class BatchedObservableSet<E> extends AbstractSet<E> implements ObservableSet<E>, BatchedObservable {
+
+    private static final InvalidationListener[] NO_INVALIDATION_LISTENERS = {};
+
+    @SuppressWarnings("rawtypes")
+    private static final SetChangeListener[] NO_CHANGE_LISTENERS = {};
+
+    private final Set<E> elements;
+
+    private InvalidationListener[] invalidationListeners = NO_INVALIDATION_LISTENERS;
+
+    @SuppressWarnings("unchecked")
+    private SetChangeListener<? super E>[] changeListeners = NO_CHANGE_LISTENERS;
+
+    private int batchDepth;
+
+    /**
+     * The elements modified within the batch and whether they were present before the batch. The map is reused by
+     * the next batches, so it doesn't grow again.
+     */
+    private final LinkedHashMap<E, Boolean> batchElements = new LinkedHashMap<>();
+
+    /**
+     * Constructs an empty set backed by a {@code HashSet}.
+     */
+    public BatchedObservableSet() {
+        this(new HashSet<>());
+    }
+
+    /**
+     * Constructs a set backed by the given set, the backing set must not be modified directly.
+     *
+     * @param elements the backing set
+     */
+    public BatchedObservableSet(Set<E> elements) {
+        this.elements = Objects.requireNonNull(elements);
+    }
+
+    @Override
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+        var changes = new ArrayList<ElementChange>();
+        for (var entry : batchElements.entrySet()) {
+            var element = entry.getKey();
+            if (elements.contains(element) != entry.getValue()) {
+                changes.add(new ElementChange(element, !entry.getValue()));
+            }
+        }
+        // the listeners may start a new batch
+        batchElements.clear();
+        if (!changes.isEmpty()) {
+            ListenerArrays.fire(invalidationListeners, l -> l.invalidated(this));
+            for (var change : changes) {
+                ListenerArrays.fire(changeListeners, l -> l.onChanged(change));
+            }
+        }
+    }
+
+    @Override
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            private final Iterator<E> iterator = elements.iterator();
+
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                elementChanged(last, false);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements.contains(o);
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (elements.add(element)) {
+            elementChanged(element, true);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        if (elements.remove(o)) {
+            elementChanged((E) o, false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements as one batch.
+     */
+    @Override
+    public void clear() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        beginBatch();
+        try {
+            for (var element : elements) {
+                batchElements.putIfAbsent(element, Boolean.TRUE);
+            }
+            elements.clear();
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        invalidationListeners = ListenerArrays.add(invalidationListeners, listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        invalidationListeners = ListenerArrays.remove(invalidationListeners, listener);
+    }
+
+    @Override
+    public void addListener(SetChangeListener<? super E> listener) {
+        changeListeners = ListenerArrays.add(changeListeners, listener);
+    }
+
+    @Override
+    public void removeListener(SetChangeListener<? super E> listener) {
+        changeListeners = ListenerArrays.remove(changeListeners, listener);
+    }
+
+    private void elementChanged(E element, boolean added) {
+        if (batchDepth > 0) {
+            batchElements.putIfAbsent(element, !added);
+        } else {
+            var change = new ElementChange(element, added);
+            ListenerArrays.fire(invalidationListeners, l -> l.invalidated(this));
+            ListenerArrays.fire(changeListeners, l -> l.onChanged(change));
+        }
+    }
+
+    private final class ElementChange extends SetChangeListener.Change<E> {
+
+        private final E element;
+
+        private final boolean added;
+
+        ElementChange(E element, boolean added) {
+            super(BatchedObservableSet.this);
+            this.element = element;
+            this.added = added;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return added;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return !added;
+        }
+
+        @Override
+        public E getElementAdded() {
+            return added ? element : null;
+        }
+
+        @Override
+        public E getElementRemoved() {
+            return added ? null : element;
+        }
+
+        @Override
+        public String toString() {
+            return (added ? "added " : "removed ") + element;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Immutable observable list that keeps its elements in one array. All mutating methods throw
+ * {@link UnsupportedOperationException}; as the list never changes, its listeners are not kept.
+ *
+ * @author Pavel Castornii
+ */
+final class ImmutableObservableList<E> extends AbstractList<E> implements ObservableList<E>, RandomAccess {
+
+    private final Object[] elements;
+
+    ImmutableObservableList(Collection<? extends E> elements) {
+        this.elements = elements.toArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public void addListener(ListChangeListener<? super E> listener) {
+        // the list never changes
+    }
+
+    @Override
+    public void removeListener(ListChangeListener<? super E> listener) {
+        // the list never changes
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the list never changes
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the list never changes
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean addAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean setAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean removeAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean retainAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+/**
+ * Immutable observable map that keeps the iteration order of the source map. All mutating methods throw
+ * {@link UnsupportedOperationException}; as the map never changes, its listeners are not kept.
+ *
+ * @author Pavel Castornii
+ */
+final class ImmutableObservableMap<K, V> extends AbstractMap<K, V> implements ObservableMap<K, V> {
+
+    private final Map<K, V> entries;
+
+    ImmutableObservableMap(Map<? extends K, ? extends V> entries) {
+        this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entries.entrySet();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public void addListener(MapChangeListener<? super K, ? super V> listener) {
+        // the map never changes
+    }
+
+    @Override
+    public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+        // the map never changes
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the map never changes
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the map never changes
+    }
+}
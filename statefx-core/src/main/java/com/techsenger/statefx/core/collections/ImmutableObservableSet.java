@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * Immutable observable set that keeps the iteration order of the source collection. All mutating methods throw
+ * {@link UnsupportedOperationException}; as the set never changes, its listeners are not kept.
+ *
+ * @author Pavel Castornii
+ */
+final class ImmutableObservableSet<E> extends AbstractSet<E> implements ObservableSet<E> {
+
+    private final Set<E> elements;
+
+    ImmutableObservableSet(Collection<? extends E> elements) {
+        this.elements = Collections.unmodifiableSet(new LinkedHashSet<>(elements));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements.contains(o);
+    }
+
+    @Override
+    public void addListener(SetChangeListener<? super E> listener) {
+        // the set never changes
+    }
+
+    @Override
+    public void removeListener(SetChangeListener<? super E> listener) {
+        // the set never changes
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the set never changes
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the set never changes
+    }
+}
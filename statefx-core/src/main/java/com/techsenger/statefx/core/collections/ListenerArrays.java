@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Copy-on-write listener arrays of the batched containers: listeners can be added and removed while the listeners are
+ * notified. Exceptions thrown by listeners are passed to the uncaught exception handler of the current thread, as in
+ * the standard JavaFX collections.
+ *
+ * @author Pavel Castornii
+ */
+final class ListenerArrays {
+
+    static <T> T[] add(T[] listeners, T listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        var newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        return newListeners;
+    }
+
+    static <T> T[] remove(T[] listeners, Object listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        for (var i = 0; i < listeners.length; i++) {
+            if (listener.equals(listeners[i])) {
+                var newListeners = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, newListeners, i, newListeners.length - i);
+                return newListeners;
+            }
+        }
+        return listeners;
+    }
+
+    static <T> void fire(T[] listeners, Consumer<T> notification) {
+        for (var listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    private ListenerArrays() {
+        // empty
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import javafx.collections.ObservableArray;
+
+/**
+ * An observable resizable array of {@code double} values, the counterpart of
+ * {@link javafx.collections.ObservableFloatArray} that JavaFX doesn't provide. Each modification is reported to the
+ * {@link javafx.collections.ArrayChangeListener}s as one changed range.
+ *
+ * @see StateCollections#observableDoubleArray()
+ * @author Pavel Castornii
+ */
+public interface ObservableDoubleArray extends ObservableArray<ObservableDoubleArray> {
+
+    /**
+     * Copies values of this array to a plain array.
+     *
+     * @param srcIndex the index of the first copied value in this array
+     * @param dest the array to copy to
+     * @param destIndex the index in {@code dest} of the first copied value
+     * @param length the number of copied values
+     */
+    void copyTo(int srcIndex, double[] dest, int destIndex, int length);
+
+    /**
+     * Copies values of this array to another observable array, the copied range of {@code dest} is reported as
+     * changed.
+     *
+     * @param srcIndex the index of the first copied value in this array
+     * @param dest the observable array to copy to
+     * @param destIndex the index in {@code dest} of the first copied value
+     * @param length the number of copied values
+     */
+    void copyTo(int srcIndex, ObservableDoubleArray dest, int destIndex, int length);
+
+    /**
+     * Returns the value at the index.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    double get(int index);
+
+    /**
+     * Appends the values.
+     *
+     * @param elements the values to append
+     */
+    void addAll(double... elements);
+
+    /**
+     * Appends all values of an observable array.
+     *
+     * @param src the observable array whose values are appended
+     */
+    void addAll(ObservableDoubleArray src);
+
+    /**
+     * Appends a range of a plain array.
+     *
+     * @param src the array whose values are appended
+     * @param srcIndex the index of the first appended value in {@code src}
+     * @param length the number of appended values
+     */
+    void addAll(double[] src, int srcIndex, int length);
+
+    /**
+     * Appends a range of an observable array.
+     *
+     * @param src the observable array whose values are appended
+     * @param srcIndex the index of the first appended value in {@code src}
+     * @param length the number of appended values
+     */
+    void addAll(ObservableDoubleArray src, int srcIndex, int length);
+
+    /**
+     * Makes this array contain exactly the given values.
+     *
+     * @param elements the new values
+     */
+    void setAll(double... elements);
+
+    /**
+     * Makes this array contain exactly a range of a plain array.
+     *
+     * @param src the array with the new values
+     * @param srcIndex the index of the first new value in {@code src}
+     * @param length the number of new values
+     */
+    void setAll(double[] src, int srcIndex, int length);
+
+    /**
+     * Makes this array contain exactly the values of an observable array.
+     *
+     * @param src the observable array with the new values
+     */
+    void setAll(ObservableDoubleArray src);
+
+    /**
+     * Makes this array contain exactly a range of an observable array.
+     *
+     * @param src the observable array with the new values
+     * @param srcIndex the index of the first new value in {@code src}
+     * @param length the number of new values
+     */
+    void setAll(ObservableDoubleArray src, int srcIndex, int length);
+
+    /**
+     * Overwrites values of this array with a range of a plain array, the size doesn't change.
+     *
+     * @param destIndex the index of the first overwritten value in this array
+     * @param src the array with the new values
+     * @param srcIndex the index of the first new value in {@code src}
+     * @param length the number of overwritten values
+     */
+    void set(int destIndex, double[] src, int srcIndex, int length);
+
+    /**
+     * Overwrites values of this array with a range of an observable array, the size doesn't change.
+     *
+     * @param destIndex the index of the first overwritten value in this array
+     * @param src the observable array with the new values
+     * @param srcIndex the index of the first new value in {@code src}
+     * @param length the number of overwritten values
+     */
+    void set(int destIndex, ObservableDoubleArray src, int srcIndex, int length);
+
+    /**
+     * Replaces the value at the index.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     */
+    void set(int index, double value);
+
+    /**
+     * Copies all values to a plain array.
+     *
+     * @param dest the array to copy to if it has enough length, otherwise or if it is null, a new array of the size
+     *      of this array is created
+     * @return the array with the values
+     */
+    double[] toArray(double[] dest);
+
+    /**
+     * Copies a range of values to the beginning of a plain array.
+     *
+     * @param srcIndex the index of the first copied value in this array
+     * @param dest the array to copy to if it has enough length, otherwise or if it is null, a new array of
+     *      {@code length} is created
+     * @param length the number of copied values
+     * @return the array with the values
+     */
+    double[] toArray(int srcIndex, double[] dest, int length);
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.Arrays;
+import javafx.collections.ObservableArrayBase;
+
+/**
+ * Default implementation of {@link ObservableDoubleArray}. The values are kept in a {@code double[]} buffer that grows
+ * by half of its length, the values after {@link #size()} are not used. Every public modification is reported as one
+ * change, the bulk operations are reduced to appending, overwriting and replacing a range of values.
+ *
+ * @author Pavel Castornii
+ */
+final class ObservableDoubleArrayImpl extends ObservableArrayBase<ObservableDoubleArray>
+        implements ObservableDoubleArray {
+
+    private static final double[] EMPTY = {};
+
+    /**
+     * Some VMs reserve header words in arrays, so the buffer doesn't grow over this length unless it is required.
+     */
+    private static final int SOFT_MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private double[] values = EMPTY;
+
+    private int size;
+
+    ObservableDoubleArrayImpl() {
+        // empty
+    }
+
+    ObservableDoubleArrayImpl(double... values) {
+        replaceWith(values, 0, values.length);
+    }
+
+    ObservableDoubleArrayImpl(ObservableDoubleArray array) {
+        replaceWith(array, 0, array.size());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public void set(int index, double value) {
+        checkIndex(index);
+        values[index] = value;
+        fireChange(false, index, index + 1);
+    }
+
+    @Override
+    public void set(int destIndex, double[] src, int srcIndex, int length) {
+        checkRange(destIndex, length, size);
+        System.arraycopy(src, srcIndex, values, destIndex, length);
+        fireChange(false, destIndex, destIndex + length);
+    }
+
+    @Override
+    public void set(int destIndex, ObservableDoubleArray src, int srcIndex, int length) {
+        checkRange(destIndex, length, size);
+        src.copyTo(srcIndex, values, destIndex, length);
+        fireChange(false, destIndex, destIndex + length);
+    }
+
+    @Override
+    public void addAll(double... elements) {
+        append(elements, 0, elements.length);
+    }
+
+    @Override
+    public void addAll(double[] src, int srcIndex, int length) {
+        checkRange(srcIndex, length, src.length);
+        append(src, srcIndex, length);
+    }
+
+    @Override
+    public void addAll(ObservableDoubleArray src) {
+        append(src, 0, src.size());
+    }
+
+    @Override
+    public void addAll(ObservableDoubleArray src, int srcIndex, int length) {
+        checkRange(srcIndex, length, src.size());
+        append(src, srcIndex, length);
+    }
+
+    @Override
+    public void setAll(double... elements) {
+        replaceWith(elements, 0, elements.length);
+    }
+
+    @Override
+    public void setAll(double[] src, int srcIndex, int length) {
+        checkRange(srcIndex, length, src.length);
+        replaceWith(src, srcIndex, length);
+    }
+
+    @Override
+    public void setAll(ObservableDoubleArray src) {
+        replaceWith(src, 0, src.size());
+    }
+
+    @Override
+    public void setAll(ObservableDoubleArray src, int srcIndex, int length) {
+        checkRange(srcIndex, length, src.size());
+        replaceWith(src, srcIndex, length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        checkRange(srcIndex, length, size);
+        System.arraycopy(values, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableDoubleArray dest, int destIndex, int length) {
+        checkRange(srcIndex, length, size);
+        dest.set(destIndex, values, srcIndex, length);
+    }
+
+    @Override
+    public double[] toArray(double[] dest) {
+        return toArray(0, dest, size);
+    }
+
+    @Override
+    public double[] toArray(int srcIndex, double[] dest, int length) {
+        checkRange(srcIndex, length, size);
+        var result = dest != null && dest.length >= length ? dest : new double[length];
+        System.arraycopy(values, srcIndex, result, 0, length);
+        return result;
+    }
+
+    @Override
+    public void resize(int newSize) {
+        if (newSize < 0) {
+            throw new NegativeArraySizeException("Negative size: " + newSize);
+        }
+        var oldSize = size;
+        ensureCapacity(newSize);
+        if (newSize > oldSize) {
+            // the buffer may keep the values of a previous larger size
+            Arrays.fill(values, oldSize, newSize, 0);
+        }
+        size = newSize;
+        fireChange(oldSize != newSize, Math.min(oldSize, newSize), newSize);
+    }
+
+    @Override
+    public void clear() {
+        resize(0);
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            var grown = values.length + (values.length >> 1);
+            if (grown < 0 || grown > SOFT_MAX_LENGTH) {
+                grown = SOFT_MAX_LENGTH;
+            }
+            values = Arrays.copyOf(values, Math.max(capacity, grown));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (values.length > size) {
+            values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("[");
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(values[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void append(double[] src, int srcIndex, int length) {
+        var from = size;
+        ensureCapacity(addExact(from, length));
+        System.arraycopy(src, srcIndex, values, from, length);
+        size = from + length;
+        fireChange(length > 0, from, size);
+    }
+
+    private void append(ObservableDoubleArray src, int srcIndex, int length) {
+        var from = size;
+        ensureCapacity(addExact(from, length));
+        src.copyTo(srcIndex, values, from, length);
+        size = from + length;
+        fireChange(length > 0, from, size);
+    }
+
+    private void replaceWith(double[] src, int srcIndex, int length) {
+        var oldSize = size;
+        ensureCapacity(length);
+        System.arraycopy(src, srcIndex, values, 0, length);
+        size = length;
+        fireChange(oldSize != length, 0, length);
+    }
+
+    private void replaceWith(ObservableDoubleArray src, int srcIndex, int length) {
+        var oldSize = size;
+        ensureCapacity(length);
+        if (src == this) {
+            // the ranges may overlap, arraycopy copies them as if through a temporary array
+            System.arraycopy(values, srcIndex, values, 0, length);
+        } else {
+            src.copyTo(srcIndex, values, 0, length);
+        }
+        size = length;
+        fireChange(oldSize != length, 0, length);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * Checks that the range of the given length that starts at the offset is within the given size.
+     */
+    private static void checkRange(int offset, int length, int size) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for size " + size);
+        }
+    }
+
+    private static int addExact(int size, int length) {
+        var result = size + length;
+        if (result < 0) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        return result;
+    }
+}
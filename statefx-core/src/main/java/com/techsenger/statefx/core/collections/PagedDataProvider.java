@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.List;
+
+/**
+ * The source of the elements of a {@link PagedObservableList}. The provider is called on the thread that reads the
+ * list, as a rule the FX thread, so loading a page must be fast, for example, reading lines of a file by the offsets
+ * indexed in advance.
+ *
+ * @param <E> the type of elements
+ * @author Pavel Castornii
+ */
+public interface PagedDataProvider<E> {
+
+    /**
+     * Returns the number of elements. It is read when the provider is set and on every refresh of the list.
+     */
+    int size();
+
+    /**
+     * Loads the elements of a page.
+     *
+     * @param from the index of the first element
+     * @param count the number of elements, the page never exceeds the size
+     * @return the list of exactly {@code count} elements
+     */
+    List<? extends E> load(int from, int count);
+}
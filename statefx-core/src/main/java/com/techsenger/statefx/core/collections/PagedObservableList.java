@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only observable list whose elements are loaded from a {@link PagedDataProvider} page by page when they are
+ * accessed. The list reports the size of the provider, but keeps only the loaded pages, at most {@code maxPages} of
+ * them: when one more page is loaded, the least recently used page is evicted. So the memory taken by the elements is
+ * bounded by {@code pageSize * maxPages} whatever the size of the provider is, and a {@code ListView} that shows a
+ * window of the list loads only the pages of this window.
+ *
+ * <p>The list can't be modified, the changes are made by the provider and reported by {@link #refresh()} or
+ * {@link #refreshSize()}. The removed elements of the reported changes are not available, as they may have been never
+ * loaded, so they are reported as nulls. Clearing the list removes the provider. Like other JavaFX lists this class is
+ * not synchronized, it must be used on the FX thread.
+ *
+ * @param <E> the type of elements
+ * @author Pavel Castornii
+ */
+public class PagedObservableList<E> extends ObservableListBase<E> {
+
+    private static final Object[] NO_PAGE = {};
+
+    private final int pageSize;
+
+    private final int maxPages;
+
+    /**
+     * Loaded pages by page indices in the order of access, the first one is the least recently used.
+     */
+    private final LinkedHashMap<Integer, Object[]> pages = new LinkedHashMap<>(16, 0.75f, true);
+
+    private PagedDataProvider<? extends E> provider;
+
+    private int size;
+
+    /**
+     * The last accessed page and the index of its first element, sequential reads of one page don't touch the map
+     * and don't divide.
+     */
+    private Object[] lastPage = NO_PAGE;
+
+    private int lastPageStart;
+
+    /**
+     * Constructs an empty list without a provider.
+     *
+     * @param pageSize the number of elements loaded at once
+     * @param maxPages the maximum number of loaded pages
+     */
+    public PagedObservableList(int pageSize, int maxPages) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (maxPages <= 0) {
+            throw new IllegalArgumentException("Max pages must be positive");
+        }
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Returns the number of the pages that are in memory.
+     */
+    public int getLoadedPageCount() {
+        return pages.size();
+    }
+
+    public PagedDataProvider<? extends E> getProvider() {
+        return provider;
+    }
+
+    /**
+     * Sets the provider and reports that all elements were replaced.
+     *
+     * @param provider the provider or null to make the list empty
+     */
+    public void setProvider(PagedDataProvider<? extends E> provider) {
+        this.provider = provider;
+        refresh();
+    }
+
+    /**
+     * Evicts all pages, reads the size of the provider again and reports that all elements were replaced. It is
+     * called when the elements of the provider have changed.
+     */
+    public void refresh() {
+        var oldSize = size;
+        evictPages(0);
+        size = provider == null ? 0 : provider.size();
+        if (oldSize == 0 && size == 0) {
+            return;
+        }
+        beginChange();
+        if (oldSize > 0) {
+            nextRemove(0, Collections.<E>nCopies(oldSize, null));
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Reads the size of the provider again and reports the elements added to or removed from the end. It is called
+     * when the provider has only appended or truncated elements, for example, when lines were appended to a log, so
+     * the loaded pages before the end stay in memory.
+     */
+    public void refreshSize() {
+        var oldSize = size;
+        var newSize = provider == null ? 0 : provider.size();
+        // the last page of the shorter list may be partial
+        evictPages(Math.min(oldSize, newSize) / pageSize);
+        size = newSize;
+        if (newSize > oldSize) {
+            beginChange();
+            nextAdd(oldSize, newSize);
+            endChange();
+        } else if (newSize < oldSize) {
+            beginChange();
+            nextRemove(newSize, Collections.<E>nCopies(oldSize - newSize, null));
+            endChange();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        var offset = index - lastPageStart;
+        if (offset < 0 || offset >= lastPage.length) {
+            loadPage(index / pageSize);
+            offset = index - lastPageStart;
+        }
+        return (E) lastPage[offset];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes the provider.
+     */
+    @Override
+    public void clear() {
+        setProvider(null);
+    }
+
+    private void loadPage(int pageIndex) {
+        var from = pageIndex * pageSize;
+        var page = pages.get(pageIndex);
+        if (page == null) {
+            var count = Math.min(pageSize, size - from);
+            var elements = provider.load(from, count);
+            if (elements.size() != count) {
+                throw new IllegalStateException("Provider returned " + elements.size() + " elements instead of "
+                        + count);
+            }
+            page = elements.toArray();
+            pages.put(pageIndex, page);
+            var iterator = pages.values().iterator();
+            while (pages.size() > maxPages) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        lastPage = page;
+        lastPageStart = from;
+    }
+
+    /**
+     * Evicts the pages starting from the page index.
+     */
+    private void evictPages(int fromPageIndex) {
+        pages.keySet().removeIf(pageIndex -> pageIndex >= fromPageIndex);
+        lastPage = NO_PAGE;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+
+/**
+ * Utility methods that complement {@link javafx.collections.FXCollections} with the observable containers provided
+ * by StateFX. Generated state implementations use these methods in the same way as they use {@code FXCollections}.
+ *
+ * @author Pavel Castornii
+ */
+public final class StateCollections {
+
+    /**
+     * Creates a new empty observable double array.
+     *
+     * @return a newly created ObservableDoubleArray
+     */
+    public static ObservableDoubleArray observableDoubleArray() {
+        return new ObservableDoubleArrayImpl();
+    }
+
+    /**
+     * Creates a new observable double array with {@code values} set to it.
+     *
+     * @param values the values that will be in the new observable double array
+     * @return a newly created ObservableDoubleArray
+     */
+    public static ObservableDoubleArray observableDoubleArray(double... values) {
+        return new ObservableDoubleArrayImpl(values);
+    }
+
+    /**
+     * Creates a new observable double array with copy of elements in given {@code array}.
+     *
+     * @param array observable double array to copy
+     * @return a newly created ObservableDoubleArray
+     */
+    public static ObservableDoubleArray observableDoubleArray(ObservableDoubleArray array) {
+        return new ObservableDoubleArrayImpl(array);
+    }
+
+    /**
+     * Creates an unmodifiable view of the specified observable integer array. Changes of the backing array are
+     * reported to the listeners of the view.
+     *
+     * @param array an observable integer array that is wrapped
+     * @return an unmodifiable view of the array
+     */
+    public static ObservableIntegerArray unmodifiableObservableIntegerArray(ObservableIntegerArray array) {
+        return new UnmodifiableObservableIntegerArray(array);
+    }
+
+    /**
+     * Creates an unmodifiable view of the specified observable float array. Changes of the backing array are
+     * reported to the listeners of the view.
+     *
+     * @param array an observable float array that is wrapped
+     * @return an unmodifiable view of the array
+     */
+    public static ObservableFloatArray unmodifiableObservableFloatArray(ObservableFloatArray array) {
+        return new UnmodifiableObservableFloatArray(array);
+    }
+
+    /**
+     * Creates an unmodifiable view of the specified observable double array. Changes of the backing array are
+     * reported to the listeners of the view.
+     *
+     * @param array an observable double array that is wrapped
+     * @return an unmodifiable view of the array
+     */
+    public static ObservableDoubleArray unmodifiableObservableDoubleArray(ObservableDoubleArray array) {
+        return new UnmodifiableObservableDoubleArray(array);
+    }
+
+    /**
+     * Creates a synchronized view of the specified observable integer array.
+     *
+     * @param array an observable integer array that is wrapped
+     * @return a synchronized view of the array
+     */
+    public static ObservableIntegerArray synchronizedObservableIntegerArray(ObservableIntegerArray array) {
+        return new SynchronizedObservableIntegerArray(array);
+    }
+
+    /**
+     * Creates a synchronized view of the specified observable float array.
+     *
+     * @param array an observable float array that is wrapped
+     * @return a synchronized view of the array
+     */
+    public static ObservableFloatArray synchronizedObservableFloatArray(ObservableFloatArray array) {
+        return new SynchronizedObservableFloatArray(array);
+    }
+
+    /**
+     * Creates a synchronized view of the specified observable double array.
+     *
+     * @param array an observable double array that is wrapped
+     * @return a synchronized view of the array
+     */
+    public static ObservableDoubleArray synchronizedObservableDoubleArray(ObservableDoubleArray array) {
+        return new SynchronizedObservableDoubleArray(array);
+    }
+
+    /**
+     * Creates an immutable observable list with the elements of the specified collection. The list never changes, so
+     * its listeners are never notified.
+     *
+     * @param <E> the type of the elements
+     * @param elements the elements of the list
+     * @return a newly created immutable ObservableList
+     */
+    public static <E> ObservableList<E> immutableObservableList(Collection<? extends E> elements) {
+        return new ImmutableObservableList<>(elements);
+    }
+
+    /**
+     * Creates an immutable observable set with the elements of the specified collection in their iteration order.
+     * The set never changes, so its listeners are never notified.
+     *
+     * @param <E> the type of the elements
+     * @param elements the elements of the set
+     * @return a newly created immutable ObservableSet
+     */
+    public static <E> ObservableSet<E> immutableObservableSet(Collection<? extends E> elements) {
+        return new ImmutableObservableSet<>(elements);
+    }
+
+    /**
+     * Creates an immutable observable map with the entries of the specified map in their iteration order. The map
+     * never changes, so its listeners are never notified.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param entries the entries of the map
+     * @return a newly created immutable ObservableMap
+     */
+    public static <K, V> ObservableMap<K, V> immutableObservableMap(Map<? extends K, ? extends V> entries) {
+        return new ImmutableObservableMap<>(entries);
+    }
+
+    /**
+     * Creates an unmodifiable copy of the specified observable integer array.
+     *
+     * @param array an observable integer array to copy
+     * @return an unmodifiable view of a newly created copy
+     */
+    public static ObservableIntegerArray immutableObservableIntegerArray(ObservableIntegerArray array) {
+        return new UnmodifiableObservableIntegerArray(FXCollections.observableIntegerArray(array));
+    }
+
+    /**
+     * Creates an unmodifiable copy of the specified observable float array.
+     *
+     * @param array an observable float array to copy
+     * @return an unmodifiable view of a newly created copy
+     */
+    public static ObservableFloatArray immutableObservableFloatArray(ObservableFloatArray array) {
+        return new UnmodifiableObservableFloatArray(FXCollections.observableFloatArray(array));
+    }
+
+    /**
+     * Creates an unmodifiable copy of the specified observable double array.
+     *
+     * @param array an observable double array to copy
+     * @return an unmodifiable view of a newly created copy
+     */
+    public static ObservableDoubleArray immutableObservableDoubleArray(ObservableDoubleArray array) {
+        return new UnmodifiableObservableDoubleArray(new ObservableDoubleArrayImpl(array));
+    }
+
+    /**
+     * Creates an empty paged observable list without a provider.
+     *
+     * @param <E> the type of the elements
+     * @param pageSize the number of elements loaded at once
+     * @param maxPages the maximum number of loaded pages
+     * @return a newly created PagedObservableList
+     */
+    public static <E> PagedObservableList<E> pagedObservableList(int pageSize, int maxPages) {
+        return new PagedObservableList<>(pageSize, maxPages);
+    }
+
+    /**
+     * Creates a batched observable list backed by the given list.
+     *
+     * @param <E> the type of the elements
+     * @param list the backing list
+     * @return a newly created BatchedObservableList
+     */
+    public static <E> BatchedObservableList<E> batchedObservableList(List<E> list) {
+        return new BatchedObservableList<>(list);
+    }
+
+    /**
+     * Creates a batched observable set backed by the given set.
+     *
+     * @param <E> the type of the elements
+     * @param set the backing set
+     * @return a newly created BatchedObservableSet
+     */
+    public static <E> BatchedObservableSet<E> batchedObservableSet(Set<E> set) {
+        return new BatchedObservableSet<>(set);
+    }
+
+    private StateCollections() {
+        // empty
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.lang.ref.WeakReference;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+import javafx.collections.ObservableIntegerArray;
+
+/**
+ * Synchronized view of an {@link ObservableIntegerArray}. Every method is executed while holding the monitor of this
+ * view. Changes of the backing array are reported to the listeners of this view with the view as the source.
+ *
+ * @author Pavel Castornii
+ */
+final class SynchronizedObservableIntegerArray extends ObservableArrayBase<ObservableIntegerArray>
+        implements ObservableIntegerArray {
+
+    /**
+     * Forwards changes of the backing array to the view. The view is referenced weakly, so a discarded view doesn't
+     * stay reachable from the backing array.
+     */
+    private static final class Forwarder implements ArrayChangeListener<ObservableIntegerArray> {
+
+        private final WeakReference<SynchronizedObservableIntegerArray> ref;
+
+        Forwarder(SynchronizedObservableIntegerArray view) {
+            this.ref = new WeakReference<>(view);
+        }
+
+        @Override
+        public void onChanged(ObservableIntegerArray array, boolean sizeChanged, int from, int to) {
+            var view = ref.get();
+            if (view == null) {
+                array.removeListener(this);
+            } else {
+                view.fireChange(sizeChanged, from, to);
+            }
+        }
+    }
+
+    private final ObservableIntegerArray backingArray;
+
+    SynchronizedObservableIntegerArray(ObservableIntegerArray backingArray) {
+        this.backingArray = backingArray;
+        this.backingArray.addListener(new Forwarder(this));
+    }
+
+    @Override
+    public synchronized void copyTo(int srcIndex, int[] dest, int destIndex, int length) {
+        backingArray.copyTo(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public synchronized void copyTo(int srcIndex, ObservableIntegerArray dest, int destIndex, int length) {
+        backingArray.copyTo(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public synchronized int get(int index) {
+        return backingArray.get(index);
+    }
+
+    @Override
+    public synchronized void addAll(int... elements) {
+        backingArray.addAll(elements);
+    }
+
+    @Override
+    public synchronized void addAll(ObservableIntegerArray src) {
+        backingArray.addAll(src);
+    }
+
+    @Override
+    public synchronized void addAll(int[] src, int srcIndex, int length) {
+        backingArray.addAll(src, srcIndex, length);
+    }
+
+    @Override
+    public synchronized void addAll(ObservableIntegerArray src, int srcIndex, int length) {
+        backingArray.addAll(src, srcIndex, length);
+    }
+
+    @Override
+    public synchronized void setAll(int... elements) {
+        backingArray.setAll(elements);
+    }
+
+    @Override
+    public synchronized void setAll(int[] src, int srcIndex, int length) {
+        backingArray.setAll(src, srcIndex, length);
+    }
+
+    @Override
+    public synchronized void setAll(ObservableIntegerArray src) {
+        backingArray.setAll(src);
+    }
+
+    @Override
+    public synchronized void setAll(ObservableIntegerArray src, int srcIndex, int length) {
+        backingArray.setAll(src, srcIndex, length);
+    }
+
+    @Override
+    public synchronized void set(int destIndex, int[] src, int srcIndex, int length) {
+        backingArray.set(destIndex, src, srcIndex, length);
+    }
+
+    @Override
+    public synchronized void set(int destIndex, ObservableIntegerArray src, int srcIndex, int length) {
+        backingArray.set(destIndex, src, srcIndex, length);
+    }
+
+    @Override
+    public synchronized void set(int index, int value) {
+        backingArray.set(index, value);
+    }
+
+    @Override
+    public synchronized int[] toArray(int[] dest) {
+        return backingArray.toArray(dest);
+    }
+
+    @Override
+    public synchronized int[] toArray(int srcIndex, int[] dest, int length) {
+        return backingArray.toArray(srcIndex, dest, length);
+    }
+
+    @Override
+    public synchronized void resize(int size) {
+        backingArray.resize(size);
+    }
+
+    @Override
+    public synchronized void ensureCapacity(int capacity) {
+        backingArray.ensureCapacity(capacity);
+    }
+
+    @Override
+    public synchronized void trimToSize() {
+        backingArray.trimToSize();
+    }
+
+    @Override
+    public synchronized void clear() {
+        backingArray.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return backingArray.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return backingArray.toString();
+    }
+}
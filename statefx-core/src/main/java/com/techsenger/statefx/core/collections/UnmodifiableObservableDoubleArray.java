@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.lang.ref.WeakReference;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+
+/**
+ * Read-only view of an {@link ObservableDoubleArray}. All mutating methods throw
+ * {@link UnsupportedOperationException}; changes of the backing array are reported to the listeners of this view with
+ * the view as the source.
+ *
+ * @author Pavel Castornii
+ */
+final class UnmodifiableObservableDoubleArray extends ObservableArrayBase<ObservableDoubleArray>
+        implements ObservableDoubleArray {
+
+    /**
+     * Forwards changes of the backing array to the view. The view is referenced weakly, so a discarded view doesn't
+     * stay reachable from the backing array.
+     */
+    private static final class Forwarder implements ArrayChangeListener<ObservableDoubleArray> {
+
+        private final WeakReference<UnmodifiableObservableDoubleArray> ref;
+
+        Forwarder(UnmodifiableObservableDoubleArray view) {
+            this.ref = new WeakReference<>(view);
+        }
+
+        @Override
+        public void onChanged(ObservableDoubleArray array, boolean sizeChanged, int from, int to) {
+            var view = ref.get();
+            if (view == null) {
+                array.removeListener(this);
+            } else {
+                view.fireChange(sizeChanged, from, to);
+            }
+        }
+    }
+
+    private final ObservableDoubleArray backingArray;
+
+    UnmodifiableObservableDoubleArray(ObservableDoubleArray backingArray) {
+        this.backingArray = backingArray;
+        this.backingArray.addListener(new Forwarder(this));
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        backingArray.copyTo(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableDoubleArray dest, int destIndex, int length) {
+        backingArray.copyTo(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public double get(int index) {
+        return backingArray.get(index);
+    }
+
+    @Override
+    public void addAll(double... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(ObservableDoubleArray src) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(double[] src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(ObservableDoubleArray src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(double... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(double[] src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(ObservableDoubleArray src) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(ObservableDoubleArray src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int destIndex, double[] src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int destIndex, ObservableDoubleArray src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int index, double value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public double[] toArray(double[] dest) {
+        return backingArray.toArray(dest);
+    }
+
+    @Override
+    public double[] toArray(int srcIndex, double[] dest, int length) {
+        return backingArray.toArray(srcIndex, dest, length);
+    }
+
+    @Override
+    public void resize(int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void trimToSize() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        return backingArray.size();
+    }
+
+    @Override
+    public String toString() {
+        return backingArray.toString();
+    }
+}
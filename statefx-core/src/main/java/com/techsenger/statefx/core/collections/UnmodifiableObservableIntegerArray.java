@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.collections;
+
+import java.lang.ref.WeakReference;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+import javafx.collections.ObservableIntegerArray;
+
+/**
+ * Read-only view of an {@link ObservableIntegerArray}. All mutating methods throw
+ * {@link UnsupportedOperationException}; changes of the backing array are reported to the listeners of this view with
+ * the view as the source.
+ *
+ * @author Pavel Castornii
+ */
+final class UnmodifiableObservableIntegerArray extends ObservableArrayBase<ObservableIntegerArray>
+        implements ObservableIntegerArray {
+
+    /**
+     * Forwards changes of the backing array to the view. The view is referenced weakly, so a discarded view doesn't
+     * stay reachable from the backing array.
+     */
+    private static final class Forwarder implements ArrayChangeListener<ObservableIntegerArray> {
+
+        private final WeakReference<UnmodifiableObservableIntegerArray> ref;
+
+        Forwarder(UnmodifiableObservableIntegerArray view) {
+            this.ref = new WeakReference<>(view);
+        }
+
+        @Override
+        public void onChanged(ObservableIntegerArray array, boolean sizeChanged, int from, int to) {
+            var view = ref.get();
+            if (view == null) {
+                array.removeListener(this);
+            } else {
+                view.fireChange(sizeChanged, from, to);
+            }
+        }
+    }
+
+    private final ObservableIntegerArray backingArray;
+
+    UnmodifiableObservableIntegerArray(ObservableIntegerArray backingArray) {
+        this.backingArray = backingArray;
+        this.backingArray.addListener(new Forwarder(this));
+    }
+
+    @Override
+    public void copyTo(int srcIndex, int[] dest, int destIndex, int length) {
+        backingArray.copyTo(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableIntegerArray dest, int destIndex, int length) {
+        backingArray.copyTo(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public int get(int index) {
+        return backingArray.get(index);
+    }
+
+    @Override
+    public void addAll(int... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(ObservableIntegerArray src) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(int[] src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(ObservableIntegerArray src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(int... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(int[] src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(ObservableIntegerArray src) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setAll(ObservableIntegerArray src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int destIndex, int[] src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int destIndex, ObservableIntegerArray src, int srcIndex, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int index, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int[] toArray(int[] dest) {
+        return backingArray.toArray(dest);
+    }
+
+    @Override
+    public int[] toArray(int srcIndex, int[] dest, int length) {
+        return backingArray.toArray(srcIndex, dest, length);
+    }
+
+    @Override
+    public void resize(int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void trimToSize() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        return backingArray.size();
+    }
+
+    @Override
+    public String toString() {
+        return backingArray.toString();
+    }
+}
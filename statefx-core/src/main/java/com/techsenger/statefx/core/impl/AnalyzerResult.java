@@ -22,6 +22,7 @@
 package com.techsenger.statefx.core.impl;
 
 import java.util.List;
+import javafx.collections.ObservableArray;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
@@ -40,12 +41,22 @@ class AnalyzerResult {
 
     private final List<ContainerMeta<ObservableMap<?, ?>>> maps;
 
+    private final List<ContainerMeta<ObservableArray<?>>> arrays;
+
+    /**
+     * Views ordered so that a view is after its source.
+     */
+    private final List<ViewMeta> views;
+
     AnalyzerResult(List<PropertyMeta> properties, List<ContainerMeta<ObservableList<?>>> lists,
-            List<ContainerMeta<ObservableSet<?>>> sets, List<ContainerMeta<ObservableMap<?, ?>>> maps) {
+            List<ContainerMeta<ObservableSet<?>>> sets, List<ContainerMeta<ObservableMap<?, ?>>> maps,
+            List<ContainerMeta<ObservableArray<?>>> arrays, List<ViewMeta> views) {
         this.properties = properties;
         this.lists = lists;
         this.sets = sets;
         this.maps = maps;
+        this.arrays = arrays;
+        this.views = views;
     }
 
     public List<PropertyMeta> getProperties() {
@@ -63,4 +74,12 @@ class AnalyzerResult {
     public List<ContainerMeta<ObservableMap<?, ?>>> getMaps() {
         return maps;
     }
+
+    public List<ContainerMeta<ObservableArray<?>>> getArrays() {
+        return arrays;
+    }
+
+    public List<ViewMeta> getViews() {
+        return views;
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateBinder;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableStringValue;
+import javafx.beans.value.ObservableValue;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.MultipleParentClassLoader;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender.Size;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Generates {@link StateBinder} classes for pairs of a state interface and a target class. A binder calls the property
+ * methods of the state and of the target directly and binds the properties with {@code bindBidirectional} or
+ * {@code bind}.
+ *
+ * @author Pavel Castornii
+ */
+public final class BinderGenerator {
+
+    private static final String PROPERTY = Type.getInternalName(Property.class);
+
+    /**
+     * A state property and the same-named property of the target.
+     */
+    private static final class BindingMeta {
+
+        private final Method stateMethod;
+
+        private final Method targetMethod;
+
+        /**
+         * True if the target property is writable.
+         */
+        private final boolean bidirectional;
+
+        BindingMeta(Method stateMethod, Method targetMethod, boolean bidirectional) {
+            this.stateMethod = stateMethod;
+            this.targetMethod = targetMethod;
+            this.bidirectional = bidirectional;
+        }
+    }
+
+    public static Class<? extends StateBinder> generate(Class<?> interfaceClass, Class<?> targetClass) {
+        var ownerClass = findPublicClass(targetClass);
+        var analyzerResult = MethodAnalyzer.analyze(interfaceClass, false);
+        List<BindingMeta> bindings = new ArrayList<>();
+        for (var meta : analyzerResult.getProperties()) {
+            var targetMethod = findPropertyMethod(ownerClass, meta.getMethod().getName());
+            if (targetMethod == null || getValueType(targetMethod.getReturnType()) != getValueType(meta.getType())) {
+                continue;
+            }
+            bindings.add(new BindingMeta(meta.getMethod(), targetMethod,
+                    Property.class.isAssignableFrom(targetMethod.getReturnType())));
+        }
+        bindings.sort(Comparator.comparing(b -> b.stateMethod.getName()));
+
+        var loader = new MultipleParentClassLoader.Builder()
+                .appendMostSpecific(interfaceClass, ownerClass, StateBinder.class)
+                .build();
+        return new ByteBuddy()
+                .subclass(StateBinder.class, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
+                .name(generateClassName(interfaceClass, ownerClass))
+                .defineMethod("bindProperties", void.class, Visibility.PROTECTED)
+                .withParameters(State.class, Object.class)
+                .intercept(new BindImpl(interfaceClass, ownerClass, bindings, true))
+                .defineMethod("unbindProperties", void.class, Visibility.PROTECTED)
+                .withParameters(State.class, Object.class)
+                .intercept(new BindImpl(interfaceClass, ownerClass, bindings, false))
+                .make()
+                .load(loader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    private static String generateClassName(Class<?> interfaceClass, Class<?> ownerClass) {
+        String packageName = interfaceClass.getPackage() != null ? interfaceClass.getPackage().getName() + "." : "";
+        String simpleName = interfaceClass.getSimpleName();
+        return packageName + simpleName + "Binder$$ByteBuddy$$" + ownerClass.getSimpleName() + "_"
+                + System.currentTimeMillis() + "_" + Integer.toHexString(interfaceClass.hashCode());
+    }
+
+    /**
+     * Returns the class or its nearest public superclass, for example, for an anonymous subclass of a node.
+     */
+    private static Class<?> findPublicClass(Class<?> targetClass) {
+        var type = targetClass;
+        while (!Modifier.isPublic(type.getModifiers())) {
+            type = type.getSuperclass();
+        }
+        return type;
+    }
+
+    private static Method findPropertyMethod(Class<?> ownerClass, String name) {
+        try {
+            var method = ownerClass.getMethod(name);
+            if (Modifier.isStatic(method.getModifiers())
+                    || !ObservableValue.class.isAssignableFrom(method.getReturnType())) {
+                return null;
+            }
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the type of the values of the property: a primitive type, {@code String} or {@code Object}.
+     */
+    private static Class<?> getValueType(Class<?> propertyType) {
+        if (ObservableBooleanValue.class.isAssignableFrom(propertyType)) {
+            return boolean.class;
+        } else if (ObservableIntegerValue.class.isAssignableFrom(propertyType)) {
+            return int.class;
+        } else if (ObservableLongValue.class.isAssignableFrom(propertyType)) {
+            return long.class;
+        } else if (ObservableFloatValue.class.isAssignableFrom(propertyType)) {
+            return float.class;
+        } else if (ObservableDoubleValue.class.isAssignableFrom(propertyType)) {
+            return double.class;
+        } else if (ObservableStringValue.class.isAssignableFrom(propertyType)) {
+            return String.class;
+        } else {
+            return Object.class;
+        }
+    }
+
+    /**
+     * Bidirectional: {@code target.fooProperty().bindBidirectional(state.fooProperty());}, one-way:
+     * {@code state.fooProperty().bind(target.fooProperty());} and the reverse calls for unbinding.
+     */
+    private static class BindImpl implements Implementation {
+
+        private static final int STATE = 3;
+
+        private static final int TARGET = 4;
+
+        private final Class<?> interfaceClass;
+
+        private final Class<?> ownerClass;
+
+        private final List<BindingMeta> bindings;
+
+        private final boolean bind;
+
+        BindImpl(Class<?> interfaceClass, Class<?> ownerClass, List<BindingMeta> bindings, boolean bind) {
+            this.interfaceClass = interfaceClass;
+            this.ownerClass = ownerClass;
+            this.bindings = bindings;
+            this.bind = bind;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(interfaceClass));
+                mv.visitVarInsn(Opcodes.ASTORE, STATE);
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(ownerClass));
+                mv.visitVarInsn(Opcodes.ASTORE, TARGET);
+                for (var binding : bindings) {
+                    if (binding.bidirectional) {
+                        loadTargetProperty(mv, binding);
+                        loadStateProperty(mv, binding);
+                        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, PROPERTY,
+                                bind ? "bindBidirectional" : "unbindBidirectional",
+                                "(" + Type.getDescriptor(Property.class) + ")V", true);
+                    } else if (bind) {
+                        loadStateProperty(mv, binding);
+                        loadTargetProperty(mv, binding);
+                        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, PROPERTY, "bind",
+                                "(" + Type.getDescriptor(ObservableValue.class) + ")V", true);
+                    } else {
+                        loadStateProperty(mv, binding);
+                        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, PROPERTY, "unbind", "()V", true);
+                    }
+                }
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(2, 5);
+            };
+        }
+
+        private void loadStateProperty(MethodVisitor mv, BindingMeta binding) {
+            mv.visitVarInsn(Opcodes.ALOAD, STATE);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(interfaceClass),
+                    binding.stateMethod.getName(), Type.getMethodDescriptor(binding.stateMethod), true);
+        }
+
+        private void loadTargetProperty(MethodVisitor mv, BindingMeta binding) {
+            mv.visitVarInsn(Opcodes.ALOAD, TARGET);
+            mv.visitMethodInsn(ownerClass.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+                    Type.getInternalName(ownerClass), binding.targetMethod.getName(),
+                    Type.getMethodDescriptor(binding.targetMethod), ownerClass.isInterface());
+        }
+    }
+
+    private BinderGenerator() {
+        // empty
+    }
+}
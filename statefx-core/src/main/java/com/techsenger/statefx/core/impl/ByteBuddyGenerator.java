@@ -0,0 +1,1091 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.Disposable;
+import com.techsenger.statefx.core.ObservableState;
+import com.techsenger.statefx.core.ObservableStateSupport;
+import com.techsenger.statefx.core.SnapshottableState;
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateSnapshot;
+import com.techsenger.statefx.core.UndoJournal;
+import com.techsenger.statefx.core.UndoableState;
+import static com.techsenger.statefx.core.impl.Constants.OBSERVABLE_SUPPORT_FIELD;
+import static com.techsenger.statefx.core.impl.Constants.UNDO_JOURNAL_FIELD;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableSet;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender.Size;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.matcher.ElementMatchers;
+
+/**
+ * Generates runtime implementations for StateFX interfaces using Byte Buddy.
+ *
+ * <p>The generator creates both fields and methods for JavaFX properties and observable containers (lists, sets, maps
+ * and primitive arrays) without relying on reflection at runtime.
+ *
+ * <p>Interceptor-based methods. Methods that simply expose an underlying field are implemented using standard
+ * Byte Buddy interceptors:
+ * <ul>
+ *   <li>Container getters (lists, sets, maps, arrays) and getters of sorted/filtered list views that directly
+ *   return a field</li>
+ *   <li>{@code fooProperty()} methods that return the property field itself</li>
+ * </ul>
+ * These methods are implemented via {@link net.bytebuddy.implementation.FieldAccessor}, as they do not require
+ * any additional logic beyond loading and returning a field.
+ *
+ * <p>Bytecode-generated methods. The following elements are implemented using explicit {@link Implementation}
+ * instances and custom bytecode:
+ * <ul>
+ *   <li>Initialization of property, container and view fields inside the generated constructor (views are created
+ *   last, after their sources)</li>
+ *   <li>Property value getters (e.g. {@code getFoo()}, {@code isFoo()})</li>
+ *   <li>Property value setters (e.g. {@code setFoo(...)})</li>
+ * </ul>
+ * This is required because JavaFX properties expose their values indirectly through the property instance itself.
+ * Value access therefore involves invoking methods such as {@code get()}, {@code set(...)} or
+ * {@code getValue()} on the property, rather than directly accessing a backing field.
+ *
+ * @author Pavel Castornii
+ */
+final class ByteBuddyGenerator {
+
+    private static final String SUPPORT_OWNER = Type.getInternalName(ObservableStateSupport.class);
+
+    private static final String SUPPORT_DESCRIPTOR = Type.getDescriptor(ObservableStateSupport.class);
+
+    private static final String LISTENER_DESCRIPTOR = "(" + Type.getDescriptor(InvalidationListener.class) + ")V";
+
+    private static final String JOURNAL_OWNER = Type.getInternalName(UndoJournal.class);
+
+    private static final String JOURNAL_DESCRIPTOR = Type.getDescriptor(UndoJournal.class);
+
+    private static class ContainerFieldInitializerBase {
+
+        /**
+         * Generates bytecode to call the factory method and create a collection.
+         *
+         * @return the maximum number of stack slots used by the generated code
+         */
+        protected static int generateFactoryCall(MethodVisitor mv, ContainerMeta<?> meta) {
+            int stackSize = Math.max(1, meta.getFactoryArguments().length);
+            for (var argument : meta.getFactoryArguments()) {
+                pushInt(mv, argument);
+            }
+            if (meta.getBackingType() != null) {
+                // new BackingType() or new BackingType(capacity)
+                String backingOwner = Type.getInternalName(meta.getBackingType());
+                mv.visitTypeInsn(Opcodes.NEW, backingOwner);
+                mv.visitInsn(Opcodes.DUP);
+                if (meta.getBackingCapacity() >= 0) {
+                    pushInt(mv, meta.getBackingCapacity());
+                    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, backingOwner, "<init>", "(I)V", false);
+                    stackSize = 3;
+                } else {
+                    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, backingOwner, "<init>", "()V", false);
+                    stackSize = 2;
+                }
+            } else if (meta.getType() == ObservableSet.class) {
+                // Create empty Object array for varargs
+                mv.visitInsn(Opcodes.ICONST_0);  // array length = 0
+                mv.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/Object");
+            }
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+                    meta.getFactoryOwner(),
+                    meta.getFactoryName(),
+                    meta.getFactoryDescriptor(),
+                    false);
+            if (meta.getInitialCapacity() >= 0 && ObservableArray.class.isAssignableFrom(meta.getType())) {
+                // array.ensureCapacity(capacity)
+                mv.visitInsn(Opcodes.DUP);
+                pushInt(mv, meta.getInitialCapacity());
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(ObservableArray.class),
+                        "ensureCapacity", "(I)V", true);
+                stackSize = 3;
+            }
+            return stackSize;
+        }
+
+        /**
+         * Generates bytecode to wrap a collection with synchronized wrapper.
+         */
+        protected static void generateSyncWrapperCall(MethodVisitor mv, ContainerMeta<?> meta) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+                    meta.getSyncFactoryOwner(),
+                    meta.getSyncFactoryName(),
+                    meta.getSyncFactoryDescriptor(),
+                    false);
+        }
+    }
+
+    /**
+     * Creates bytecode implementation for initializing a single container field in constructor.
+     */
+    private static class ContainerFieldInitializer extends ContainerFieldInitializerBase implements Implementation {
+
+        private final String fieldName;
+
+        private final ContainerMeta<?> meta;
+
+        ContainerFieldInitializer(String fieldName, ContainerMeta<?> meta) {
+            this.fieldName = fieldName;
+            this.meta = meta;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                String fieldDescriptor = Type.getDescriptor(meta.getType());
+
+                // aload 0 (this)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                // Create the collection based on synchronization setting
+                int stackSize = 1;
+                if (meta.isSynchronized()) {
+                    // Call factory to create base collection
+                    stackSize += generateFactoryCall(mv, meta);
+                    // Wrap with synchronized wrapper
+                    generateSyncWrapperCall(mv, meta);
+                } else {
+                    // Call factory directly
+                    stackSize += generateFactoryCall(mv, meta);
+                }
+                // Store in field: this.field = collection
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, fieldName, fieldDescriptor);
+
+                return new Size(stackSize, 1);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+    }
+
+    /**
+     * Creates bytecode implementation for initializing dual container fields in constructor.
+     */
+    private static final class WRContainerFieldInitializer extends ContainerFieldInitializerBase
+            implements Implementation {
+
+        /**
+         * Generates bytecode to wrap a collection with read-only wrapper.
+         */
+        private static void generateReadOnlyWrapperCall(MethodVisitor mv, ContainerMeta<?> meta) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+                    meta.getRoFactoryOwner(),
+                    meta.getRoFactoryName(),
+                    meta.getRoFactoryDescriptor(),
+                    false);
+        }
+
+        private final String modifiableFieldName;
+
+        private final String roFieldName;
+
+        private final ContainerMeta<?> meta;
+
+        private WRContainerFieldInitializer(String modifiableFieldName, String roFieldName, ContainerMeta<?> meta) {
+            this.modifiableFieldName = modifiableFieldName;
+            this.roFieldName = roFieldName;
+            this.meta = meta;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                String fieldDesc = Type.getDescriptor(meta.getType());
+
+                // Initialize modifiable collection field
+                // aload 0 (this)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                // Create modifiable collection
+                int stackSize = 1;
+                if (meta.isSynchronized()) {
+                    // Call factory to create base collection
+                    stackSize += generateFactoryCall(mv, meta);
+                    // Wrap with synchronized wrapper
+                    generateSyncWrapperCall(mv, meta);
+                } else {
+                    // Call factory directly
+                    stackSize += generateFactoryCall(mv, meta);
+                }
+                // Store in modifiable field: this.modifiableField = collection
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, modifiableFieldName, fieldDesc);
+                // Initialize read-only collection field
+                // aload 0 (this)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                // Load modifiable field
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, modifiableFieldName, fieldDesc);
+                // Wrap with read-only wrapper
+                generateReadOnlyWrapperCall(mv, meta);
+                // Store in read-only field: this.roField = readOnlyCollection
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, roFieldName, fieldDesc);
+
+                return new Size(Math.max(stackSize, 2), 1);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Creates bytecode implementation for initializing a view field in constructor.
+     */
+    private static final class ViewFieldInitializer implements Implementation {
+
+        private final ViewMeta meta;
+
+        private ViewFieldInitializer(ViewMeta meta) {
+            this.meta = meta;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                String fieldDescriptor = Type.getDescriptor(meta.getType());
+                String viewOwner = Type.getInternalName(meta.getViewType());
+                String argumentOwner = Type.getInternalName(meta.getArgumentImplType());
+
+                // aload 0 (this)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                // new SortedList(this.source, new Comparator()) or new FilteredList(this.source, new Predicate())
+                mv.visitTypeInsn(Opcodes.NEW, viewOwner);
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, meta.getSourceFieldName(), fieldDescriptor);
+                mv.visitTypeInsn(Opcodes.NEW, argumentOwner);
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, argumentOwner, "<init>", "()V", false);
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, viewOwner, "<init>",
+                        "(" + fieldDescriptor + Type.getDescriptor(meta.getArgumentType()) + ")V", false);
+                // Store in field: this.field = view
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, meta.getName(), fieldDescriptor);
+
+                return new Size(6, 1);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Bytecode implementation of {@code dispose()}: unbinds the properties (light properties are disposed, so their
+     * listeners are dropped too) and clears the containers. For a RW pair the modifiable container is cleared, the
+     * read-only wrapper and the views reflect the change.
+     */
+    private static final class DisposeImpl implements Implementation {
+
+        private final AnalyzerResult analyzerResult;
+
+        private final boolean undoable;
+
+        private DisposeImpl(AnalyzerResult analyzerResult, boolean undoable) {
+            this.analyzerResult = analyzerResult;
+            this.undoable = undoable;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                if (undoable) {
+                    // the journal is detached first, so clearing the containers is not recorded
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitInsn(Opcodes.ACONST_NULL);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, "setUndoJournal", "(" + JOURNAL_DESCRIPTOR + ")V",
+                            false);
+                }
+                // if (this.support != null) { unregister the support from the members; this.support = null }
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+                Label end = new Label();
+                mv.visitJumpInsn(Opcodes.IFNULL, end);
+                visitDropSupport(mv, owner, analyzerResult);
+                mv.visitLabel(end);
+                mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                for (var meta : analyzerResult.getProperties()) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, meta.getName(), Type.getDescriptor(meta.getFieldType()));
+                    if (Disposable.class.isAssignableFrom(meta.getImplType())) {
+                        String implOwner = Type.getInternalName(meta.getImplType());
+                        if (meta.getFieldType() != meta.getImplType()) {
+                            mv.visitTypeInsn(Opcodes.CHECKCAST, implOwner);
+                        }
+                        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, implOwner, "dispose", "()V", false);
+                    } else {
+                        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Property.class), "unbind",
+                                "()V", true);
+                    }
+                }
+                for (var meta : collectContainers(analyzerResult)) {
+                    String fieldName = meta.getModifiableGetter() == null
+                            ? meta.getName() : "modifiable" + meta.getCapitalizedName();
+                    String typeOwner = Type.getInternalName(meta.getType());
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, fieldName, Type.getDescriptor(meta.getType()));
+                    mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, typeOwner, "clear", "()V", true);
+                }
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(2, 1);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Bytecode implementation of {@code addListener(InvalidationListener)} of {@code ObservableState}. When the first
+     * listener is added, the state creates the {@code ObservableStateSupport} and registers it in its members.
+     */
+    private static final class AddListenerImpl implements Implementation {
+
+        private final AnalyzerResult analyzerResult;
+
+        private AddListenerImpl(AnalyzerResult analyzerResult) {
+            this.analyzerResult = analyzerResult;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                // if (this.support == null) { this.support = new ObservableStateSupport(this); register it }
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+                Label registered = new Label();
+                mv.visitJumpInsn(Opcodes.IFNONNULL, registered);
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitTypeInsn(Opcodes.NEW, SUPPORT_OWNER);
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, SUPPORT_OWNER, "<init>",
+                        "(" + Type.getDescriptor(ObservableState.class) + ")V", false);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+                visitMemberListenerCalls(mv, owner, analyzerResult, "addListener");
+                mv.visitLabel(registered);
+                mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                // this.support.addListener(listener)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, SUPPORT_OWNER, "addListener", LISTENER_DESCRIPTOR, false);
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(4, 2);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Bytecode implementation of {@code removeListener(InvalidationListener)} of {@code ObservableState}. When the last
+     * listener is removed, the state unregisters the {@code ObservableStateSupport} from its members and drops it.
+     */
+    private static final class RemoveListenerImpl implements Implementation {
+
+        private final AnalyzerResult analyzerResult;
+
+        private RemoveListenerImpl(AnalyzerResult analyzerResult) {
+            this.analyzerResult = analyzerResult;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                // if (this.support != null && this.support.removeListener(listener)) drop the support
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+                Label end = new Label();
+                mv.visitJumpInsn(Opcodes.IFNULL, end);
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, SUPPORT_OWNER, "removeListener",
+                        "(" + Type.getDescriptor(InvalidationListener.class) + ")Z", false);
+                mv.visitJumpInsn(Opcodes.IFEQ, end);
+                visitDropSupport(mv, owner, analyzerResult);
+                mv.visitLabel(end);
+                mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(2, 2);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Bytecode implementation of {@code setUndoJournal(UndoJournal)} of {@code UndoableState}: the containers are
+     * untracked by the previous journal and tracked by the new one. Arrays are not tracked.
+     */
+    private static final class SetUndoJournalImpl implements Implementation {
+
+        private final AnalyzerResult analyzerResult;
+
+        private SetUndoJournalImpl(AnalyzerResult analyzerResult) {
+            this.analyzerResult = analyzerResult;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                // if (this.undoJournal != null) untrack the containers
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, UNDO_JOURNAL_FIELD, JOURNAL_DESCRIPTOR);
+                Label untracked = new Label();
+                mv.visitJumpInsn(Opcodes.IFNULL, untracked);
+                visitJournalCalls(mv, owner, analyzerResult, "untrack", () -> {
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, UNDO_JOURNAL_FIELD, JOURNAL_DESCRIPTOR);
+                });
+                mv.visitLabel(untracked);
+                mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                // this.undoJournal = journal
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, UNDO_JOURNAL_FIELD, JOURNAL_DESCRIPTOR);
+                // if (journal != null) track the containers
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                Label end = new Label();
+                mv.visitJumpInsn(Opcodes.IFNULL, end);
+                visitJournalCalls(mv, owner, analyzerResult, "track", () -> mv.visitVarInsn(Opcodes.ALOAD, 1));
+                mv.visitLabel(end);
+                mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(2, 2);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Bytecode implementation for initializing a property field in constructor.
+     */
+    private static class PropertyFieldInitializer implements Implementation {
+
+        private final String fieldName;
+        private final Class<?> propertyType;
+        private final Class<?> propertyImplClass;
+        private final Object defaultValue;
+        private final String initDescriptor;
+
+        PropertyFieldInitializer(String fieldName, Class<?> propertyType, Class<?> propertyImplClass,
+                Object defaultValue, String initDescriptor) {
+            this.fieldName = fieldName;
+            this.propertyType = propertyType;
+            this.propertyImplClass = propertyImplClass;
+            this.defaultValue = defaultValue;
+            this.initDescriptor = initDescriptor;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                String fieldDescriptor = Type.getDescriptor(propertyType);
+
+                // aload 0 (this)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                // Create new property instance: new propertyImplClass()
+                mv.visitTypeInsn(Opcodes.NEW, Type.getInternalName(propertyImplClass));
+                mv.visitInsn(Opcodes.DUP);
+                if (defaultValue == null) {
+                    mv.visitMethodInsn(Opcodes.INVOKESPECIAL,
+                        Type.getInternalName(propertyImplClass),
+                        "<init>", "()V", false);
+                } else {
+                    // the value constructor, so no set(...) and no notifications
+                    if (defaultValue instanceof Boolean value) {
+                        mv.visitInsn(value ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+                    } else if (defaultValue instanceof Enum<?> value) {
+                        mv.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(value.getDeclaringClass()),
+                                value.name(), Type.getDescriptor(value.getDeclaringClass()));
+                    } else {
+                        mv.visitLdcInsn(defaultValue);
+                    }
+                    mv.visitMethodInsn(Opcodes.INVOKESPECIAL,
+                        Type.getInternalName(propertyImplClass),
+                        "<init>", initDescriptor, false);
+                }
+                // Store in field: this.field = property
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, fieldName, fieldDescriptor);
+
+                // this, property, property and a long/double value
+                return new Size(5, 1);
+            };
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+    }
+
+    /**
+     * Bytecode implementation of property value getter WITHOUT reflection.
+     */
+    private static class PropertyGetterImpl implements Implementation {
+        private final PropertyMeta meta;
+        private final Class<?> returnType;
+        private final String fieldName;
+
+        PropertyGetterImpl(PropertyMeta meta, String fieldName) {
+            this.meta = meta;
+            this.returnType = meta.getGetter().getReturnType();
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+
+                // Load the property field directly
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, fieldName,
+                    Type.getDescriptor(meta.getFieldType()));
+                if (meta.isConcreteType()) {
+                    // Direct monomorphic call: field.get()
+                    String getDesc = meta.getGetDescriptor();
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                            Type.getInternalName(meta.getFieldType()),
+                            "get",
+                            getDesc,
+                            false);
+                    if (meta.isReferenceType() && !Type.getReturnType(getDesc).equals(Type.getType(returnType))) {
+                        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(returnType));
+                    }
+                    mv.visitInsn(Type.getReturnType(getDesc).getOpcode(Opcodes.IRETURN));
+
+                    return new Size(4, 1);
+                } else if (meta.isReferenceType()) {
+                    String observableOwner = Type.getInternalName(ObservableValue.class);
+                    mv.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+                            observableOwner,
+                            "getValue",
+                            "()Ljava/lang/Object;",
+                            true);
+
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(returnType));
+                    mv.visitInsn(Opcodes.ARETURN);
+
+                    return new Size(4, 1);
+                } else {
+                    String propertyInternalName = Type.getInternalName(meta.getType());
+                    boolean isInterface = meta.getType().isInterface();
+                    String getDesc = meta.getGetDescriptor();
+                    mv.visitMethodInsn(isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+                            propertyInternalName,
+                            "get",
+                            getDesc,
+                            isInterface);
+
+                    mv.visitInsn(Type.getReturnType(getDesc).getOpcode(Opcodes.IRETURN));
+
+                    return new Size(4, 1);
+                }
+            };
+        }
+    }
+
+    private static class PropertySetterImpl implements Implementation {
+        private final PropertyMeta meta;
+        private final Method setterMethod;
+        private final String fieldName;
+        private final boolean undoable;
+
+        PropertySetterImpl(PropertyMeta meta, String fieldName, boolean undoable) {
+            this.meta = meta;
+            this.setterMethod = meta.getSetter();
+            this.fieldName = fieldName;
+            this.undoable = undoable;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                int loadOpcode = Type.getArgumentTypes(meta.getSetDescriptor())[0].getOpcode(Opcodes.ILOAD);
+
+                if (undoable) {
+                    // if (this.undoJournal != null) { this.undoJournal.set(field, value); return; }
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, UNDO_JOURNAL_FIELD, JOURNAL_DESCRIPTOR);
+                    Label noJournal = new Label();
+                    mv.visitJumpInsn(Opcodes.IFNULL, noJournal);
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, UNDO_JOURNAL_FIELD, JOURNAL_DESCRIPTOR);
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, fieldName, Type.getDescriptor(meta.getFieldType()));
+                    mv.visitVarInsn(loadOpcode, 1);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, JOURNAL_OWNER, "set", meta.getJournalSetDescriptor(),
+                            false);
+                    mv.visitInsn(Opcodes.RETURN);
+                    mv.visitLabel(noJournal);
+                    mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                }
+
+                // Load the property field directly
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, fieldName,
+                    Type.getDescriptor(meta.getFieldType()));
+
+                Class<?> paramType = setterMethod.getParameterTypes()[0];
+                mv.visitVarInsn(loadOpcode, 1);
+
+                if (meta.isConcreteType()) {
+                    // Direct monomorphic call: field.set(value)
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                            Type.getInternalName(meta.getFieldType()),
+                            "set",
+                            meta.getSetDescriptor(),
+                            false);
+                } else if (meta.isReferenceType()) {
+                    String propertyOwner = Type.getInternalName(Property.class);
+                    mv.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+                            propertyOwner,
+                            "setValue",
+                            "(Ljava/lang/Object;)V",
+                            true);
+                } else {
+                    String propertyInternalName = Type.getInternalName(meta.getType());
+                    boolean isInterface = meta.getType().isInterface();
+                    String setDesc = meta.getSetDescriptor();
+
+                    mv.visitMethodInsn(isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+                            propertyInternalName,
+                            "set",
+                            setDesc,
+                            isInterface);
+                }
+
+                mv.visitInsn(Opcodes.RETURN);
+
+                int maxLocals = 2;
+                if (paramType == long.class || paramType == double.class) {
+                    maxLocals = 3;
+                }
+                return new Size(6, maxLocals);
+            };
+        }
+    }
+
+    /**
+     * Final bytecode fragment used to explicitly terminate the generated constructor with a {@code RETURN} instruction.
+     * <p>
+     * When multiple {@link Implementation} instances are combined using {@link Implementation.Compound}, their
+     * bytecode is concatenated sequentially without any control-flow analysis. In this scenario, each initializer
+     * contributes only a bytecode fragment and must <strong>not</strong> emit a {@code RETURN} instruction on its own.
+     * <p>
+     * However, the JVM verifier requires every constructor ({@code <init>}) to end with an explicit {@code RETURN}
+     * instruction. Falling off the end of the method without a return results in a {@link VerifyError}.
+     * <p>
+     * This implementation is therefore appended as the <em>final</em> element in the {@link Implementation.Compound}
+     * chain to ensure that the generated constructor is properly terminated, while still allowing all initializer
+     * fragments to be executed sequentially.
+     */
+    private static final Implementation returnImpl = new Implementation() {
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(3, 1);
+            };
+        }
+    };
+
+    /**
+     * Bytecode implementation of {@code snapshot()} of {@code SnapshottableState}:
+     * {@code return StateSnapshot.of(this);}.
+     */
+    static final Implementation snapshotImpl = new Implementation() {
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String stateDescriptor = Type.getDescriptor(State.class);
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(StateSnapshot.class), "of",
+                        "(" + stateDescriptor + ")" + stateDescriptor, false);
+                mv.visitInsn(Opcodes.ARETURN);
+                return new Size(1, 1);
+            };
+        }
+    };
+
+    public static <T> Class<? extends T> generate(Class<T> interfaceClass, AnalyzerResult analyzerResult,
+            boolean concreteTypes) {
+        DynamicType.Builder<?> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .implement(interfaceClass)
+                .implement(Disposable.class, ObservableState.class)
+                .name(generateClassName(interfaceClass));
+        if (concreteTypes) {
+            builder = builder.modifiers(Visibility.PUBLIC, TypeManifestation.FINAL);
+        }
+        boolean undoable = UndoableState.class.isAssignableFrom(interfaceClass);
+
+        // Collect all initializers
+        List<Implementation> initializers = new ArrayList<>();
+
+        // Handle properties - only define fields and methods
+        for (var meta : analyzerResult.getProperties()) {
+            builder = implementProperty(builder, meta, undoable);
+            // Add property initializer to list
+            initializers.add(new PropertyFieldInitializer(
+                meta.getName(),
+                meta.getFieldType(),
+                meta.getImplType(),
+                meta.getDefaultValue(),
+                meta.getInitDescriptor()
+            ));
+        }
+
+        // Handle containers - only define fields and methods
+        for (var meta: analyzerResult.getLists()) {
+            builder = implementContainer(builder, meta);
+            String fieldName = meta.getName();
+            if (meta.getModifiableGetter() != null) {
+                // For RW containers, use WRContainerImpl
+                String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+                initializers.add(new WRContainerFieldInitializer(modifiableFieldName, fieldName, meta));
+            } else {
+                initializers.add(new ContainerFieldInitializer(fieldName, meta));
+            }
+        }
+
+        for (var meta: analyzerResult.getSets()) {
+            builder = implementContainer(builder, meta);
+            String fieldName = meta.getName();
+            if (meta.getModifiableGetter() != null) {
+                String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+                initializers.add(new WRContainerFieldInitializer(modifiableFieldName, fieldName, meta));
+            } else {
+                initializers.add(new ContainerFieldInitializer(fieldName, meta));
+            }
+        }
+
+        for (var meta: analyzerResult.getMaps()) {
+            builder = implementContainer(builder, meta);
+            String fieldName = meta.getName();
+            if (meta.getModifiableGetter() != null) {
+                String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+                initializers.add(new WRContainerFieldInitializer(modifiableFieldName, fieldName, meta));
+            } else {
+                initializers.add(new ContainerFieldInitializer(fieldName, meta));
+            }
+        }
+
+        for (var meta: analyzerResult.getArrays()) {
+            builder = implementContainer(builder, meta);
+            String fieldName = meta.getName();
+            if (meta.getModifiableGetter() != null) {
+                String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+                initializers.add(new WRContainerFieldInitializer(modifiableFieldName, fieldName, meta));
+            } else {
+                initializers.add(new ContainerFieldInitializer(fieldName, meta));
+            }
+        }
+
+        // Views are initialized after containers, a view is always after its source
+        for (var meta : analyzerResult.getViews()) {
+            builder = builder.defineField(meta.getName(), meta.getType(), Visibility.PRIVATE, FieldManifestation.FINAL);
+            Method getter = meta.getGetter();
+            builder = builder.defineMethod(getter.getName(), getter.getReturnType(), Visibility.PUBLIC)
+                .intercept(FieldAccessor.ofField(meta.getName()));
+            initializers.add(new ViewFieldInitializer(meta));
+        }
+
+        initializers.add(returnImpl);
+
+        builder = builder.defineMethod("dispose", void.class, Visibility.PUBLIC)
+                .intercept(new DisposeImpl(analyzerResult, undoable));
+        builder = builder.defineField(OBSERVABLE_SUPPORT_FIELD, ObservableStateSupport.class, Visibility.PRIVATE)
+                .defineMethod("addListener", void.class, Visibility.PUBLIC)
+                .withParameter(InvalidationListener.class, "listener")
+                .intercept(new AddListenerImpl(analyzerResult))
+                .defineMethod("removeListener", void.class, Visibility.PUBLIC)
+                .withParameter(InvalidationListener.class, "listener")
+                .intercept(new RemoveListenerImpl(analyzerResult));
+        if (undoable) {
+            builder = builder.defineField(UNDO_JOURNAL_FIELD, UndoJournal.class, Visibility.PRIVATE)
+                    .defineMethod("getUndoJournal", UndoJournal.class, Visibility.PUBLIC)
+                    .intercept(FieldAccessor.ofField(UNDO_JOURNAL_FIELD))
+                    .defineMethod("setUndoJournal", void.class, Visibility.PUBLIC)
+                    .withParameter(UndoJournal.class, "journal")
+                    .intercept(new SetUndoJournalImpl(analyzerResult));
+        }
+
+        if (SnapshottableState.class.isAssignableFrom(interfaceClass)) {
+            builder = builder.defineMethod("snapshot", State.class, Visibility.PUBLIC)
+                    .intercept(snapshotImpl);
+        }
+
+        // Add constructor ONCE with all initializers
+        if (!initializers.isEmpty()) {
+            builder = builder
+                .constructor(ElementMatchers.isDefaultConstructor())
+                .intercept(
+                    SuperMethodCall.INSTANCE
+                    .andThen(new Implementation.Compound(initializers))
+                );
+        }
+
+        DynamicType.Unloaded<?> unloaded = builder.make();
+        var clazz = unloaded.load(interfaceClass.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        return (Class<? extends T>) clazz;
+    }
+
+    /**
+     * Unregisters the {@code ObservableStateSupport} from the members and sets the field to null.
+     */
+    private static void visitDropSupport(MethodVisitor mv, String owner, AnalyzerResult analyzerResult) {
+        visitMemberListenerCalls(mv, owner, analyzerResult, "removeListener");
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitInsn(Opcodes.ACONST_NULL);
+        mv.visitFieldInsn(Opcodes.PUTFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+    }
+
+    /**
+     * Calls {@code addListener(support)} or {@code removeListener(support)} of every member that is observed by the
+     * state: the properties and the containers, for a RW pair the modifiable container.
+     */
+    private static void visitMemberListenerCalls(MethodVisitor mv, String owner, AnalyzerResult analyzerResult,
+            String methodName) {
+        String observableOwner = Type.getInternalName(Observable.class);
+        for (var meta : analyzerResult.getProperties()) {
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, owner, meta.getName(), Type.getDescriptor(meta.getFieldType()));
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, observableOwner, methodName, LISTENER_DESCRIPTOR, true);
+        }
+        for (var meta : collectContainers(analyzerResult)) {
+            String fieldName = meta.getModifiableGetter() == null
+                    ? meta.getName() : "modifiable" + meta.getCapitalizedName();
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, owner, fieldName, Type.getDescriptor(meta.getType()));
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, owner, OBSERVABLE_SUPPORT_FIELD, SUPPORT_DESCRIPTOR);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, observableOwner, methodName, LISTENER_DESCRIPTOR, true);
+        }
+    }
+
+    /**
+     * Calls {@code track(container)} or {@code untrack(container)} of the journal for every list, set and map, for a
+     * RW pair the modifiable container.
+     */
+    private static void visitJournalCalls(MethodVisitor mv, String owner, AnalyzerResult analyzerResult,
+            String methodName, Runnable journalLoader) {
+        for (var meta : collectContainers(analyzerResult)) {
+            if (ObservableArray.class.isAssignableFrom(meta.getType())) {
+                continue;
+            }
+            String fieldName = meta.getModifiableGetter() == null
+                    ? meta.getName() : "modifiable" + meta.getCapitalizedName();
+            String fieldDescriptor = Type.getDescriptor(meta.getType());
+            journalLoader.run();
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, owner, fieldName, fieldDescriptor);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, JOURNAL_OWNER, methodName, "(" + fieldDescriptor + ")V", false);
+        }
+    }
+
+    /**
+     * Returns lists, sets, maps and arrays in the order of their initialization.
+     */
+    private static List<ContainerMeta<?>> collectContainers(AnalyzerResult analyzerResult) {
+        List<ContainerMeta<?>> containers = new ArrayList<>();
+        containers.addAll(analyzerResult.getLists());
+        containers.addAll(analyzerResult.getSets());
+        containers.addAll(analyzerResult.getMaps());
+        containers.addAll(analyzerResult.getArrays());
+        return containers;
+    }
+
+    /**
+     * Pushes a non-negative int constant using the shortest instruction.
+     */
+    static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    private static String generateClassName(Class<?> interfaceClass) {
+        String packageName = interfaceClass.getPackage() != null ? interfaceClass.getPackage().getName() + "." : "";
+        String simpleName = interfaceClass.getSimpleName();
+        return packageName + simpleName + "Impl$$ByteBuddy$$" + System.currentTimeMillis()
+                + "_" + Integer.toHexString(interfaceClass.hashCode());
+    }
+
+    private static DynamicType.Builder<?> implementProperty(DynamicType.Builder<?> builder, PropertyMeta meta,
+            boolean undoable) {
+        String fieldName = meta.getName();
+
+        // Define field as FINAL (will be initialized in constructor)
+        builder = builder.defineField(fieldName, meta.getFieldType(),
+            Visibility.PRIVATE, FieldManifestation.FINAL);
+
+        // Property method (getProperty())
+        if (meta.getMethod() != null) {
+            Method pm = meta.getMethod();
+            builder = builder.defineMethod(pm.getName(), pm.getReturnType(), Visibility.PUBLIC)
+                .intercept(FieldAccessor.ofField(fieldName));
+        }
+
+        // Value getter method (is/get method)
+        if (meta.getGetter() != null) {
+            Method gm = meta.getGetter();
+            builder = builder.defineMethod(gm.getName(), gm.getReturnType(), Visibility.PUBLIC)
+                .intercept(new PropertyGetterImpl(meta, fieldName));
+        }
+
+        // Setter method
+        if (meta.getSetter() != null) {
+            Method sm = meta.getSetter();
+            builder = builder.defineMethod(sm.getName(), sm.getReturnType(), Visibility.PUBLIC)
+                .withParameter(sm.getParameterTypes()[0], "value")
+                .intercept(new PropertySetterImpl(meta, fieldName, undoable));
+        }
+
+        return builder;
+    }
+
+    private static DynamicType.Builder<?> implementContainer(DynamicType.Builder<?> builder, ContainerMeta<?> meta) {
+        boolean hasModifiableMethod = meta.getModifiableGetter() != null;
+
+        if (!hasModifiableMethod) {
+            // Case 1: Without RW interface - only one getter and one FINAL field
+            builder = builder.defineField(meta.getName(), meta.getType(),
+                Visibility.PRIVATE, FieldManifestation.FINAL);
+
+            // Generate getter
+            Method getter = meta.getGetter();
+            builder = builder.defineMethod(getter.getName(), getter.getReturnType(), Visibility.PUBLIC)
+                .intercept(FieldAccessor.ofField(meta.getName()));
+
+        } else {
+            // Case 2: With RW interface - two getters and two FINAL fields
+            String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+
+            builder = builder
+                .defineField(modifiableFieldName, meta.getType(),
+                    Visibility.PRIVATE, FieldManifestation.FINAL)
+                .defineField(meta.getName(), meta.getType(),
+                    Visibility.PRIVATE, FieldManifestation.FINAL);
+
+            // Generate standard getter (returns read-only collection)
+            Method getter = meta.getGetter();
+            builder = builder.defineMethod(getter.getName(), getter.getReturnType(), Visibility.PUBLIC)
+                .intercept(FieldAccessor.ofField(meta.getName()));
+
+            // Generate modifiable getter
+            Method modifiableGetter = meta.getModifiableGetter();
+            builder = builder.defineMethod(modifiableGetter.getName(),
+                    modifiableGetter.getReturnType(), Visibility.PUBLIC)
+                .intercept(FieldAccessor.ofField(modifiableFieldName));
+        }
+
+        return builder;
+    }
+
+    private ByteBuddyGenerator() {
+        // empty
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+/**
+ * The ClassFile API backend. This version is used on Java versions before 24, where {@code java.lang.classfile} is not
+ * available, the implementation is in the versioned part of the multi-release jar. This version is also used on newer
+ * Java versions if the jar was built without that part.
+ *
+ * @author Pavel Castornii
+ */
+final class ClassFileGenerator {
+
+    /**
+     * Returns whether this backend can generate classes on the current runtime.
+     *
+     * @return false
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    public static <T> Class<? extends T> generate(Class<T> interfaceClass, AnalyzerResult analyzerResult,
+            boolean concreteTypes) {
+        throw new UnsupportedOperationException("The ClassFile backend requires Java 24 or later");
+    }
+
+    private ClassFileGenerator() {
+        // empty
+    }
+}
@@ -39,6 +39,17 @@ final class Constants {
 
     static final String SETTER_PREFIX = "set";
 
+    /**
+     * The field of a generated class that keeps the {@code ObservableStateSupport}, it is prefixed with {@code $}, so
+     * it doesn't clash with the fields of properties and containers.
+     */
+    static final String OBSERVABLE_SUPPORT_FIELD = "$observableSupport";
+
+    /**
+     * The field of a generated {@code UndoableState} that keeps its {@code UndoJournal}.
+     */
+    static final String UNDO_JOURNAL_FIELD = "$undoJournal";
+
     private Constants() {
         // empty
     }
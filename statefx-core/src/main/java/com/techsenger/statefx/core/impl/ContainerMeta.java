@@ -35,20 +35,57 @@ class ContainerMeta<T> extends AbstractMeta {
 
     private Method modifiableGetter;
 
+    private String factoryOwner;
+
     private String factoryName;
 
     private String factoryDescriptor;
 
+    private String roFactoryOwner;
+
     private String roFactoryName;
 
     private String roFactoryDescriptor;
 
+    private String syncFactoryOwner;
+
     private String syncFactoryName;
 
     private String syncFactoryDescriptor;
 
     private boolean isSynchronized;
 
+    /**
+     * The value of {@code InitialCapacity} or -1.
+     */
+    private int initialCapacity = -1;
+
+    /**
+     * The class that is instantiated and passed to the factory method or null if the factory creates the container
+     * itself.
+     */
+    private Class<?> backingType;
+
+    /**
+     * The argument of the {@code (int)} constructor of the backing type or -1 if the no-arg constructor is used.
+     */
+    private int backingCapacity = -1;
+
+    /**
+     * The int arguments of the factory method, they are pushed before the backing collection, if any.
+     */
+    private int[] factoryArguments = new int[0];
+
+    /**
+     * True if the list is a {@code PagedObservableList}.
+     */
+    private boolean paged;
+
+    /**
+     * True if the container is a {@code BatchedObservable}.
+     */
+    private boolean batched;
+
     ContainerMeta(String name, String capitalizedName, Class<?> type) {
         super(name, type);
         this.capitalizedName = capitalizedName;
@@ -137,4 +174,76 @@ class ContainerMeta<T> extends AbstractMeta {
     public void setSyncFactoryDescriptor(String syncFactoryDescriptor) {
         this.syncFactoryDescriptor = syncFactoryDescriptor;
     }
+
+    public String getFactoryOwner() {
+        return factoryOwner;
+    }
+
+    public void setFactoryOwner(String factoryOwner) {
+        this.factoryOwner = factoryOwner;
+    }
+
+    public String getRoFactoryOwner() {
+        return roFactoryOwner;
+    }
+
+    public void setRoFactoryOwner(String roFactoryOwner) {
+        this.roFactoryOwner = roFactoryOwner;
+    }
+
+    public String getSyncFactoryOwner() {
+        return syncFactoryOwner;
+    }
+
+    public void setSyncFactoryOwner(String syncFactoryOwner) {
+        this.syncFactoryOwner = syncFactoryOwner;
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    public Class<?> getBackingType() {
+        return backingType;
+    }
+
+    public void setBackingType(Class<?> backingType) {
+        this.backingType = backingType;
+    }
+
+    public int getBackingCapacity() {
+        return backingCapacity;
+    }
+
+    public void setBackingCapacity(int backingCapacity) {
+        this.backingCapacity = backingCapacity;
+    }
+
+    public int[] getFactoryArguments() {
+        return factoryArguments;
+    }
+
+    public void setFactoryArguments(int[] factoryArguments) {
+        this.factoryArguments = factoryArguments;
+    }
+
+    public boolean isPaged() {
+        return paged;
+    }
+
+    public void setPaged(boolean paged) {
+        this.paged = paged;
+    }
+
+    public boolean isBatched() {
+        return batched;
+    }
+
+    public void setBatched(boolean batched) {
+        this.batched = batched;
+    }
 }
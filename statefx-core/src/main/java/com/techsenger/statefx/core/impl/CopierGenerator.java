@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateCopier;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.MultipleParentClassLoader;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender.Size;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Generates {@link StateCopier} classes for pairs of a source and a target state interfaces. The members are matched
+ * with the metadata of {@link MethodAnalyzer}, so the copying code is straight-line: a copier compares every property
+ * value of the target with the value of the source and calls the setter only if they differ, the containers are
+ * copied by the {@code copy*} methods of {@code StateCopier}.
+ *
+ * @author Pavel Castornii
+ */
+public final class CopierGenerator {
+
+    private static final String COPIER = Type.getInternalName(StateCopier.class);
+
+    /**
+     * Copy methods of {@code StateCopier} by container types.
+     */
+    private static final Map<Class<?>, Method> copyMethods = Map.of(
+            ObservableList.class, findCopyMethod("copyList", ObservableList.class, List.class),
+            ObservableSet.class, findCopyMethod("copySet", ObservableSet.class, Set.class),
+            ObservableMap.class, findCopyMethod("copyMap", ObservableMap.class, Map.class),
+            ObservableIntegerArray.class,
+                    findCopyMethod("copyArray", ObservableIntegerArray.class, ObservableIntegerArray.class),
+            ObservableFloatArray.class,
+                    findCopyMethod("copyArray", ObservableFloatArray.class, ObservableFloatArray.class),
+            ObservableDoubleArray.class,
+                    findCopyMethod("copyArray", ObservableDoubleArray.class, ObservableDoubleArray.class));
+
+    /**
+     * A property that the source and the target share.
+     */
+    private static final class PropertyCopy {
+
+        private final Method sourceGetter;
+
+        private final Method targetGetter;
+
+        private final Method targetSetter;
+
+        PropertyCopy(Method sourceGetter, Method targetGetter, Method targetSetter) {
+            this.sourceGetter = sourceGetter;
+            this.targetGetter = targetGetter;
+            this.targetSetter = targetSetter;
+        }
+    }
+
+    /**
+     * A container that the source and the target share: the getter of the source, the getter of the modifiable
+     * container of the target and the copy method.
+     */
+    private static final class ContainerCopy {
+
+        private final Method sourceGetter;
+
+        private final Method targetGetter;
+
+        private final Method copyMethod;
+
+        ContainerCopy(Method sourceGetter, Method targetGetter, Method copyMethod) {
+            this.sourceGetter = sourceGetter;
+            this.targetGetter = targetGetter;
+            this.copyMethod = copyMethod;
+        }
+    }
+
+    public static Class<? extends StateCopier> generate(Class<?> sourceInterface, Class<?> targetInterface) {
+        var sourceResult = MethodAnalyzer.analyze(sourceInterface, false);
+        var targetResult = sourceInterface == targetInterface
+                ? sourceResult : MethodAnalyzer.analyze(targetInterface, false);
+
+        Map<String, PropertyMeta> sourceProperties = new HashMap<>();
+        for (var meta : sourceResult.getProperties()) {
+            sourceProperties.put(meta.getName(), meta);
+        }
+        List<PropertyCopy> properties = new ArrayList<>();
+        for (var meta : targetResult.getProperties()) {
+            var sourceMeta = sourceProperties.get(meta.getName());
+            if (sourceMeta == null) {
+                continue;
+            }
+            var sourceType = sourceMeta.getGetter().getReturnType();
+            var targetType = meta.getSetter().getParameterTypes()[0];
+            if (sourceType.isPrimitive() || targetType.isPrimitive()
+                    ? sourceType != targetType || meta.getGetter().getReturnType() != targetType
+                    : !targetType.isAssignableFrom(sourceType)) {
+                continue;
+            }
+            properties.add(new PropertyCopy(sourceMeta.getGetter(), meta.getGetter(), meta.getSetter()));
+        }
+
+        Map<String, ContainerMeta<?>> sourceContainers = new HashMap<>();
+        for (var meta : collectContainers(sourceResult)) {
+            sourceContainers.put(meta.getName(), meta);
+        }
+        List<ContainerCopy> containers = new ArrayList<>();
+        for (var meta : collectContainers(targetResult)) {
+            var sourceMeta = sourceContainers.get(meta.getName());
+            if (sourceMeta == null || sourceMeta.getType() != meta.getType()) {
+                continue;
+            }
+            var targetGetter = meta.getModifiableGetter() != null ? meta.getModifiableGetter() : meta.getGetter();
+            containers.add(new ContainerCopy(sourceMeta.getGetter(), targetGetter, copyMethods.get(meta.getType())));
+        }
+
+        var loader = new MultipleParentClassLoader.Builder()
+                .appendMostSpecific(sourceInterface, targetInterface, StateCopier.class)
+                .build();
+        return new ByteBuddy()
+                .subclass(StateCopier.class, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
+                .name(generateClassName(sourceInterface, targetInterface))
+                .defineMethod("copyValues", void.class, Visibility.PROTECTED)
+                .withParameters(State.class, State.class)
+                .intercept(new CopyImpl(sourceInterface, targetInterface, properties, containers))
+                .make()
+                .load(loader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    private static String generateClassName(Class<?> sourceInterface, Class<?> targetInterface) {
+        String packageName = targetInterface.getPackage() != null ? targetInterface.getPackage().getName() + "." : "";
+        String simpleName = targetInterface.getSimpleName();
+        return packageName + simpleName + "Copier$$ByteBuddy$$" + sourceInterface.getSimpleName() + "_"
+                + System.currentTimeMillis() + "_" + Integer.toHexString(targetInterface.hashCode());
+    }
+
+    /**
+     * Returns lists, sets, maps and arrays, paged lists are skipped, as their elements belong to the provider.
+     */
+    private static List<ContainerMeta<?>> collectContainers(AnalyzerResult analyzerResult) {
+        List<ContainerMeta<?>> containers = new ArrayList<>();
+        containers.addAll(analyzerResult.getLists());
+        containers.addAll(analyzerResult.getSets());
+        containers.addAll(analyzerResult.getMaps());
+        containers.addAll(analyzerResult.getArrays());
+        containers.removeIf(ContainerMeta::isPaged);
+        return containers;
+    }
+
+    private static Method findCopyMethod(String name, Class<?>... parameterTypes) {
+        try {
+            return StateCopier.class.getDeclaredMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * For a property: {@code if (target.getFoo() != source.getFoo()) target.setFoo(source.getFoo());}, floats and
+     * doubles are compared with {@code compare}, references with {@code Objects.equals}. For a container:
+     * {@code copyList(target.getModifiableFoo(), source.getFoo());}. The arguments are cast on every use, so the
+     * locals don't change and every label has the same frame.
+     */
+    private static class CopyImpl implements Implementation {
+
+        private static final int SOURCE = 1;
+
+        private static final int TARGET = 2;
+
+        private final String sourceOwner;
+
+        private final String targetOwner;
+
+        private final List<PropertyCopy> properties;
+
+        private final List<ContainerCopy> containers;
+
+        CopyImpl(Class<?> sourceInterface, Class<?> targetInterface, List<PropertyCopy> properties,
+                List<ContainerCopy> containers) {
+            this.sourceOwner = Type.getInternalName(sourceInterface);
+            this.targetOwner = Type.getInternalName(targetInterface);
+            this.properties = properties;
+            this.containers = containers;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                for (var property : properties) {
+                    var type = property.targetGetter.getReturnType();
+                    var skip = new Label();
+                    invoke(mv, TARGET, targetOwner, property.targetGetter);
+                    invoke(mv, SOURCE, sourceOwner, property.sourceGetter);
+                    if (type == long.class) {
+                        mv.visitInsn(Opcodes.LCMP);
+                        mv.visitJumpInsn(Opcodes.IFEQ, skip);
+                    } else if (type == float.class) {
+                        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "compare", "(FF)I", false);
+                        mv.visitJumpInsn(Opcodes.IFEQ, skip);
+                    } else if (type == double.class) {
+                        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "compare", "(DD)I", false);
+                        mv.visitJumpInsn(Opcodes.IFEQ, skip);
+                    } else if (type.isPrimitive()) {
+                        mv.visitJumpInsn(Opcodes.IF_ICMPEQ, skip);
+                    } else {
+                        mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Objects.class), "equals",
+                                "(Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+                        mv.visitJumpInsn(Opcodes.IFNE, skip);
+                    }
+                    loadArgument(mv, TARGET, targetOwner);
+                    invoke(mv, SOURCE, sourceOwner, property.sourceGetter);
+                    mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, targetOwner, property.targetSetter.getName(),
+                            Type.getMethodDescriptor(property.targetSetter), true);
+                    mv.visitLabel(skip);
+                    mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                }
+                for (var container : containers) {
+                    invoke(mv, TARGET, targetOwner, container.targetGetter);
+                    invoke(mv, SOURCE, sourceOwner, container.sourceGetter);
+                    mv.visitMethodInsn(Opcodes.INVOKESTATIC, COPIER, container.copyMethod.getName(),
+                            Type.getMethodDescriptor(container.copyMethod), false);
+                }
+                mv.visitInsn(Opcodes.RETURN);
+                // two longs or doubles
+                return new Size(4, 3);
+            };
+        }
+
+        private void loadArgument(MethodVisitor mv, int index, String owner) {
+            mv.visitVarInsn(Opcodes.ALOAD, index);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        }
+
+        private void invoke(MethodVisitor mv, int index, String owner, Method method) {
+            loadArgument(mv, index, owner);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, owner, method.getName(), Type.getMethodDescriptor(method),
+                    true);
+        }
+    }
+
+    private CopierGenerator() {
+        // empty
+    }
+}
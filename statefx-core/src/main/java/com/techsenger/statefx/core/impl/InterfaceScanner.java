@@ -21,19 +21,33 @@
 
 package com.techsenger.statefx.core.impl;
 
+import com.techsenger.statefx.core.BackingType;
+import com.techsenger.statefx.core.Batched;
+import com.techsenger.statefx.core.DefaultValue;
+import com.techsenger.statefx.core.FilteredView;
+import com.techsenger.statefx.core.InitialCapacity;
+import com.techsenger.statefx.core.Paged;
+import com.techsenger.statefx.core.SortedView;
+import com.techsenger.statefx.core.State;
 import com.techsenger.statefx.core.Synchronized;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
 import static com.techsenger.statefx.core.impl.Constants.BOOLEAN_GETTER_PREFIX;
 import static com.techsenger.statefx.core.impl.Constants.GETTER_PREFIX;
 import static com.techsenger.statefx.core.impl.Constants.MODIFIABLE_GETTER_PREFIX;
 import static com.techsenger.statefx.core.impl.Constants.PROPERTY_POSTFIX;
 import static com.techsenger.statefx.core.impl.Constants.SETTER_PREFIX;
 import static com.techsenger.statefx.core.impl.NameUtils.isUppercaseAt;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javafx.beans.property.Property;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
@@ -43,9 +57,33 @@ import javafx.collections.ObservableSet;
  *
  * @author Pavel Castornii
  */
-final class InterfaceScanner {
+public final class InterfaceScanner {
 
-    public static ScannerResult scan(Class<?> interfaceClass) {
+    /**
+     * Returns the state interface that is implemented by the class of a created state.
+     *
+     * @param stateClass the class of a state
+     * @return the state interface
+     * @throws IllegalArgumentException if the class implements no state interface or several ones
+     */
+    public static Class<?> resolveStateInterface(Class<?> stateClass) {
+        Class<?> interfaceClass = null;
+        for (var iface : stateClass.getInterfaces()) {
+            if (State.class.isAssignableFrom(iface)) {
+                if (interfaceClass != null) {
+                    throw new IllegalArgumentException("Several state interfaces are implemented by "
+                            + stateClass.getName());
+                }
+                interfaceClass = iface;
+            }
+        }
+        if (interfaceClass == null) {
+            throw new IllegalArgumentException("No state interface is implemented by " + stateClass.getName());
+        }
+        return interfaceClass;
+    }
+
+    static ScannerResult scan(Class<?> interfaceClass) {
         Set<Class<?>> allInterfaces = collectAllInterfaces(interfaceClass);
         var result = new ScannerResult(interfaceClass);
 
@@ -58,10 +96,13 @@ final class InterfaceScanner {
                 var returnType = method.getReturnType();
                 if (methodName.endsWith(PROPERTY_POSTFIX)) {
                     if (methodName.length() > PROPERTY_POSTFIX.length()
-                            && method.getParameterCount() == 0
-                            // filter ReadOnlyBooleanProperty fooProperty methods
-                            && Property.class.isAssignableFrom(returnType)) {
-                        result.getProperties().put(methodName, method);
+                            && method.getParameterCount() == 0) {
+                        // read-only declarations can also carry annotations
+                        addPropertyAnnotations(result, method);
+                        // filter ReadOnlyBooleanProperty fooProperty methods
+                        if (Property.class.isAssignableFrom(returnType)) {
+                            result.getProperties().put(methodName, method);
+                        }
                     }
                 } else if (methodName.startsWith(MODIFIABLE_GETTER_PREFIX)) {
                     if (methodName.length() > MODIFIABLE_GETTER_PREFIX.length()
@@ -74,6 +115,7 @@ final class InterfaceScanner {
                             && method.getParameterCount() == 1
                             && isUppercaseAt(methodName, SETTER_PREFIX.length())) {
                         result.getSetters().put(methodName, method);
+                        addPropertyAnnotations(result, method);
                     }
                 } else if (methodName.startsWith(GETTER_PREFIX)) {
                     if (methodName.length() > GETTER_PREFIX.length()
@@ -81,6 +123,7 @@ final class InterfaceScanner {
                             && isUppercaseAt(methodName, GETTER_PREFIX.length())) {
                         if (!addContainerGetter(result, method, false)) {
                             result.getGetters().put(methodName, method);
+                            addPropertyAnnotations(result, method);
                         }
                     }
                 } else if (methodName.startsWith(BOOLEAN_GETTER_PREFIX)) {
@@ -88,13 +131,87 @@ final class InterfaceScanner {
                             && method.getParameterCount() == 0
                             && isUppercaseAt(methodName, BOOLEAN_GETTER_PREFIX.length())) {
                         result.getGetters().put(methodName, method);
+                        addPropertyAnnotations(result, method);
                     }
                 }
             }
         }
+        resolveContainerAnnotations(result.getListGetters());
+        resolveContainerAnnotations(result.getModifiableListGetters());
+        resolveContainerAnnotations(result.getSetGetters());
+        resolveContainerAnnotations(result.getModifiableSetGetters());
+        resolveContainerAnnotations(result.getMapGetters());
+        resolveContainerAnnotations(result.getModifiableMapGetters());
+        resolveContainerAnnotations(result.getArrayGetters());
+        resolveContainerAnnotations(result.getModifiableArrayGetters());
         return result;
     }
 
+    /**
+     * Returns the declaration whose annotation applies. A declaration is overridden by the declarations of its
+     * subinterfaces, so it doesn't matter in what order the interfaces are visited. Within one interface the
+     * declaration that comes first in the list wins.
+     *
+     * @param declarations the declarations of the same member in the interfaces of a state
+     * @param annotationType the type of the annotation
+     * @return the declaration or null if no declaration is annotated
+     * @throws RuntimeException if the annotation values of unrelated interfaces differ
+     */
+    static Method resolveMostSpecific(List<Method> declarations, Class<? extends Annotation> annotationType) {
+        Method resolved = null;
+        for (var declaration : declarations) {
+            var annotation = declaration.getAnnotation(annotationType);
+            if (annotation == null || isOverridden(declaration, declarations, annotationType)) {
+                continue;
+            }
+            if (resolved == null) {
+                resolved = declaration;
+            } else if (resolved.getDeclaringClass() != declaration.getDeclaringClass()
+                    && !annotation.equals(resolved.getAnnotation(annotationType))) {
+                throw new RuntimeException("Ambiguous @" + annotationType.getSimpleName() + " for "
+                        + declaration.getName() + " in " + resolved.getDeclaringClass().getName() + " and "
+                        + declaration.getDeclaringClass().getName());
+            }
+        }
+        return resolved;
+    }
+
+    private static boolean isOverridden(Method declaration, List<Method> declarations,
+            Class<? extends Annotation> annotationType) {
+        var iface = declaration.getDeclaringClass();
+        for (var other : declarations) {
+            var otherIface = other.getDeclaringClass();
+            if (otherIface != iface && iface.isAssignableFrom(otherIface)
+                    && other.getAnnotation(annotationType) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void resolveContainerAnnotations(Map<String, ScannerResult.MethodDescriptor> map) {
+        for (var descriptor : map.values()) {
+            var declarations = descriptor.getDeclarations();
+            var capacityMethod = resolveMostSpecific(declarations, InitialCapacity.class);
+            if (capacityMethod != null) {
+                var capacity = capacityMethod.getAnnotation(InitialCapacity.class);
+                if (capacity.value() < 0) {
+                    throw new RuntimeException("Negative initial capacity for "
+                            + capacityMethod.getDeclaringClass().getName() + "#" + capacityMethod.getName());
+                }
+                descriptor.setInitialCapacity(capacity.value());
+            }
+            var backingTypeMethod = resolveMostSpecific(declarations, BackingType.class);
+            if (backingTypeMethod != null) {
+                descriptor.setBackingType(backingTypeMethod.getAnnotation(BackingType.class).value());
+            }
+            var pagedMethod = resolveMostSpecific(declarations, Paged.class);
+            if (pagedMethod != null) {
+                descriptor.setPaged(pagedMethod.getAnnotation(Paged.class));
+            }
+        }
+    }
+
     private static boolean addContainerGetter(ScannerResult result, Method method, boolean modifiable) {
         var methodName = method.getName();
         var returnType = method.getReturnType();
@@ -105,7 +222,14 @@ final class InterfaceScanner {
             name = methodName.substring(GETTER_PREFIX.length());
         }
         if (returnType == ObservableList.class) {
-            if (modifiable) {
+            if (!modifiable && (method.getAnnotation(SortedView.class) != null
+                    || method.getAnnotation(FilteredView.class) != null)) {
+                // the most specific declaration wins, a view is never a container
+                result.getViewGetters().putIfAbsent(name, method);
+                result.getListGetters().remove(name);
+            } else if (!modifiable && result.getViewGetters().containsKey(name)) {
+                // declaration of the view in a parent interface
+            } else if (modifiable) {
                 addContainerGetter(result.getModifiableListGetters(), name, method);
             } else {
                 addContainerGetter(result.getListGetters(), name, method);
@@ -122,6 +246,13 @@ final class InterfaceScanner {
             } else {
                 addContainerGetter(result.getSetGetters(), name, method);
             }
+        } else if (returnType == ObservableIntegerArray.class || returnType == ObservableFloatArray.class
+                || returnType == ObservableDoubleArray.class) {
+            if (modifiable) {
+                addContainerGetter(result.getModifiableArrayGetters(), name, method);
+            } else {
+                addContainerGetter(result.getArrayGetters(), name, method);
+            }
         } else {
             return false;
         }
@@ -130,14 +261,23 @@ final class InterfaceScanner {
 
     private static void addContainerGetter(Map<String, ScannerResult.MethodDescriptor> map, String name,
             Method method) {
-        var newDescriptor = new ScannerResult.MethodDescriptor(method);
-        var oldDescriptor = map.put(name, newDescriptor);
-        if (oldDescriptor == null || !oldDescriptor.isSynchronized()) {
-            if (method.getAnnotation(Synchronized.class) != null) {
-                newDescriptor.setSynchronized(true);
-            }
-        } else {
-            newDescriptor.setSynchronized(true);
+        var descriptor = map.computeIfAbsent(name, n -> new ScannerResult.MethodDescriptor(method));
+        // the annotations that take a value are resolved when all the declarations are found
+        descriptor.getDeclarations().add(method);
+        if (method.getAnnotation(Synchronized.class) != null) {
+            descriptor.setSynchronized(true);
+        }
+        if (method.getAnnotation(Batched.class) != null) {
+            descriptor.setBatched(true);
+        }
+    }
+
+    private static void addPropertyAnnotations(ScannerResult result, Method method) {
+        if (method.getAnnotation(Synchronized.class) != null) {
+            result.getSynchronizedMethods().add(method.getName());
+        }
+        if (method.getAnnotation(DefaultValue.class) != null) {
+            result.getDefaultValueMethods().computeIfAbsent(method.getName(), n -> new ArrayList<>()).add(method);
         }
     }
 
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateMembers;
+import com.techsenger.statefx.core.StateMembers.Kind;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.MultipleParentClassLoader;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender.Size;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Generates {@link StateMembers} classes for state interfaces. Both methods of a generated class are one
+ * {@code tableswitch} over the member index, every case calls the method of the interface directly.
+ *
+ * @author Pavel Castornii
+ */
+public final class MembersGenerator {
+
+    private static final Map<Class<?>, Kind> propertyKinds = Map.of(
+            boolean.class, Kind.BOOLEAN,
+            int.class, Kind.INTEGER,
+            long.class, Kind.LONG,
+            float.class, Kind.FLOAT,
+            double.class, Kind.DOUBLE);
+
+    private static final Map<Class<?>, Kind> containerKinds = Map.of(
+            ObservableList.class, Kind.LIST,
+            ObservableSet.class, Kind.SET,
+            ObservableMap.class, Kind.MAP,
+            ObservableIntegerArray.class, Kind.INTEGER_ARRAY,
+            ObservableFloatArray.class, Kind.FLOAT_ARRAY,
+            ObservableDoubleArray.class, Kind.DOUBLE_ARRAY);
+
+    /**
+     * Box types and their unboxing methods by primitive types.
+     */
+    private static final Map<Class<?>, String[]> unboxing = Map.of(
+            boolean.class, new String[] {"java/lang/Boolean", "booleanValue"},
+            int.class, new String[] {"java/lang/Integer", "intValue"},
+            long.class, new String[] {"java/lang/Long", "longValue"},
+            float.class, new String[] {"java/lang/Float", "floatValue"},
+            double.class, new String[] {"java/lang/Double", "doubleValue"});
+
+    public static MembersMeta generate(Class<?> interfaceClass) {
+        var analyzerResult = MethodAnalyzer.analyze(interfaceClass, false);
+
+        List<PropertyMeta> properties = new ArrayList<>(analyzerResult.getProperties());
+        properties.sort(Comparator.comparing(PropertyMeta::getName));
+        List<ContainerMeta<?>> containers = new ArrayList<>();
+        containers.addAll(analyzerResult.getLists());
+        containers.addAll(analyzerResult.getSets());
+        containers.addAll(analyzerResult.getMaps());
+        containers.addAll(analyzerResult.getArrays());
+        // the elements of a paged list belong to the provider
+        containers.removeIf(ContainerMeta::isPaged);
+        containers.sort(Comparator.comparing(ContainerMeta::getName));
+
+        var count = properties.size() + containers.size();
+        var names = new String[count];
+        var kinds = new Kind[count];
+        // the method returning the member and the setter or null
+        var getters = new Method[count];
+        var setters = new Method[count];
+        var index = 0;
+        for (var meta : properties) {
+            names[index] = meta.getName();
+            kinds[index] = propertyKinds.getOrDefault(meta.getSetter().getParameterTypes()[0], Kind.OBJECT);
+            getters[index] = meta.getMethod();
+            setters[index] = meta.getSetter();
+            index++;
+        }
+        for (var meta : containers) {
+            names[index] = meta.getName();
+            kinds[index] = containerKinds.get(meta.getType());
+            getters[index] = meta.getModifiableGetter() != null ? meta.getModifiableGetter() : meta.getGetter();
+            index++;
+        }
+
+        var loader = new MultipleParentClassLoader.Builder()
+                .appendMostSpecific(interfaceClass, StateMembers.class)
+                .build();
+        var membersClass = new ByteBuddy()
+                .subclass(StateMembers.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                .name(generateClassName(interfaceClass))
+                .defineMethod("get", Object.class, Visibility.PUBLIC)
+                .withParameters(State.class, int.class)
+                .intercept(new GetImpl(interfaceClass, getters))
+                .defineMethod("setValue", void.class, Visibility.PUBLIC)
+                .withParameters(State.class, int.class, Object.class)
+                .intercept(new SetValueImpl(interfaceClass, setters))
+                .make()
+                .load(loader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        return new MembersMeta(membersClass, names, kinds);
+    }
+
+    private static String generateClassName(Class<?> interfaceClass) {
+        String packageName = interfaceClass.getPackage() != null ? interfaceClass.getPackage().getName() + "." : "";
+        String simpleName = interfaceClass.getSimpleName();
+        return packageName + simpleName + "Members$$ByteBuddy$$" + System.currentTimeMillis()
+                + "_" + Integer.toHexString(interfaceClass.hashCode());
+    }
+
+    /**
+     * Emits {@code throw new IndexOutOfBoundsException(index)}.
+     */
+    private static void throwOutOfBounds(MethodVisitor mv) {
+        mv.visitTypeInsn(Opcodes.NEW, "java/lang/IndexOutOfBoundsException");
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitVarInsn(Opcodes.ILOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "(I)V", false);
+        mv.visitInsn(Opcodes.ATHROW);
+    }
+
+    /**
+     * Emits a {@code tableswitch} over the index with a label per member, the default case throws
+     * {@code IndexOutOfBoundsException}. The locals are the arguments only, so every label has the same frame.
+     */
+    private static void visitSwitch(MethodVisitor mv, Label[] labels) {
+        if (labels.length > 0) {
+            var outOfBounds = new Label();
+            mv.visitVarInsn(Opcodes.ILOAD, 2);
+            mv.visitTableSwitchInsn(0, labels.length - 1, outOfBounds, labels);
+            mv.visitLabel(outOfBounds);
+            mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+        }
+        throwOutOfBounds(mv);
+    }
+
+    /**
+     * For every member: {@code return ((Iface) state).fooProperty();} or {@code return ((Iface) state).getFoo();}.
+     */
+    private static class GetImpl implements Implementation {
+
+        private final String owner;
+
+        private final Method[] getters;
+
+        GetImpl(Class<?> interfaceClass, Method[] getters) {
+            this.owner = Type.getInternalName(interfaceClass);
+            this.getters = getters;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                var labels = new Label[getters.length];
+                for (var i = 0; i < labels.length; i++) {
+                    labels[i] = new Label();
+                }
+                visitSwitch(mv, labels);
+                for (var i = 0; i < getters.length; i++) {
+                    mv.visitLabel(labels[i]);
+                    mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+                    mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, owner, getters[i].getName(),
+                            Type.getMethodDescriptor(getters[i]), true);
+                    mv.visitInsn(Opcodes.ARETURN);
+                }
+                return new Size(3, 3);
+            };
+        }
+    }
+
+    /**
+     * For every property: {@code ((Iface) state).setFoo(((Integer) value).intValue()); return;}, for every container:
+     * {@code throw new IllegalArgumentException(...)}.
+     */
+    private static class SetValueImpl implements Implementation {
+
+        private final String owner;
+
+        private final Method[] setters;
+
+        SetValueImpl(Class<?> interfaceClass, Method[] setters) {
+            this.owner = Type.getInternalName(interfaceClass);
+            this.setters = setters;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                var labels = new Label[setters.length];
+                var notProperty = new Label();
+                var hasContainers = false;
+                for (var i = 0; i < labels.length; i++) {
+                    hasContainers |= setters[i] == null;
+                    labels[i] = setters[i] != null ? new Label() : notProperty;
+                }
+                visitSwitch(mv, labels);
+                for (var i = 0; i < setters.length; i++) {
+                    var setter = setters[i];
+                    if (setter == null) {
+                        continue;
+                    }
+                    mv.visitLabel(labels[i]);
+                    mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+                    mv.visitVarInsn(Opcodes.ALOAD, 3);
+                    var type = setter.getParameterTypes()[0];
+                    var box = unboxing.get(type);
+                    if (box != null) {
+                        mv.visitTypeInsn(Opcodes.CHECKCAST, box[0]);
+                        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, box[0], box[1],
+                                "()" + Type.getDescriptor(type), false);
+                    } else {
+                        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+                    }
+                    mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, owner, setter.getName(),
+                            Type.getMethodDescriptor(setter), true);
+                    mv.visitInsn(Opcodes.RETURN);
+                }
+                if (hasContainers) {
+                    mv.visitLabel(notProperty);
+                    mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                    mv.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalArgumentException");
+                    mv.visitInsn(Opcodes.DUP);
+                    mv.visitLdcInsn("Member is not a property");
+                    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>",
+                            "(Ljava/lang/String;)V", false);
+                    mv.visitInsn(Opcodes.ATHROW);
+                }
+                // the state and a long or a double
+                return new Size(3, 4);
+            };
+        }
+    }
+
+    private MembersGenerator() {
+        // empty
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.StateMembers;
+
+/**
+ * The generated class of {@code StateMembers} and the names and the kinds of the members by indices.
+ *
+ * @author Pavel Castornii
+ */
+public final class MembersMeta {
+
+    private final Class<? extends StateMembers> membersClass;
+
+    private final String[] names;
+
+    private final StateMembers.Kind[] kinds;
+
+    MembersMeta(Class<? extends StateMembers> membersClass, String[] names, StateMembers.Kind[] kinds) {
+        this.membersClass = membersClass;
+        this.names = names;
+        this.kinds = kinds;
+    }
+
+    public Class<? extends StateMembers> getMembersClass() {
+        return membersClass;
+    }
+
+    public String[] getNames() {
+        return names;
+    }
+
+    public StateMembers.Kind[] getKinds() {
+        return kinds;
+    }
+}
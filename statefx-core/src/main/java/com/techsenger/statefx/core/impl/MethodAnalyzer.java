@@ -21,12 +21,46 @@
 
 package com.techsenger.statefx.core.impl;
 
+import com.techsenger.statefx.core.DefaultValue;
+import com.techsenger.statefx.core.FilteredView;
+import com.techsenger.statefx.core.Paged;
+import com.techsenger.statefx.core.SortedView;
+import com.techsenger.statefx.core.collections.BatchedObservableList;
+import com.techsenger.statefx.core.collections.BatchedObservableSet;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import com.techsenger.statefx.core.collections.PagedObservableList;
+import com.techsenger.statefx.core.collections.StateCollections;
 import com.techsenger.statefx.core.impl.ScannerResult.MethodDescriptor;
+import com.techsenger.statefx.core.property.LightBooleanProperty;
+import com.techsenger.statefx.core.property.LightDoubleProperty;
+import com.techsenger.statefx.core.property.LightFloatProperty;
+import com.techsenger.statefx.core.property.LightIntegerProperty;
+import com.techsenger.statefx.core.property.LightLongProperty;
+import com.techsenger.statefx.core.property.LightObjectProperty;
+import com.techsenger.statefx.core.property.LightStringProperty;
+import com.techsenger.statefx.core.property.SynchronizedBooleanProperty;
+import com.techsenger.statefx.core.property.SynchronizedDoubleProperty;
+import com.techsenger.statefx.core.property.SynchronizedFloatProperty;
+import com.techsenger.statefx.core.property.SynchronizedIntegerProperty;
+import com.techsenger.statefx.core.property.SynchronizedLongProperty;
+import com.techsenger.statefx.core.property.SynchronizedObjectProperty;
+import com.techsenger.statefx.core.property.SynchronizedStringProperty;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.FloatProperty;
@@ -40,18 +74,14 @@ import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyStringProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleFloatProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleLongProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableArray;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
-import net.bytebuddy.jar.asm.Opcodes;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  *
@@ -59,6 +89,10 @@ import net.bytebuddy.jar.asm.Opcodes;
  */
 final class MethodAnalyzer {
 
+    private static final String FX_COLLECTIONS = NameUtils.getInternalName(FXCollections.class);
+
+    private static final String STATE_COLLECTIONS = NameUtils.getInternalName(StateCollections.class);
+
     private static final Map<Class<?>, BiFunction<ScannerResult, Method, PropertyMeta>> analyzersByType =
             Map.ofEntries(
                     Map.entry(BooleanProperty.class, MethodAnalyzer::analyzeBooleanProperty),
@@ -83,18 +117,50 @@ final class MethodAnalyzer {
                     Map.entry(ReadOnlyFloatProperty.class, MethodAnalyzer::analyzeFloatProperty)
             );
 
-    public static AnalyzerResult analyze(ScannerResult scannerResult) {
+    private static final Map<Class<?>, Class<?>> synchronizedImplTypes = Map.of(
+            BooleanProperty.class, SynchronizedBooleanProperty.class,
+            StringProperty.class, SynchronizedStringProperty.class,
+            IntegerProperty.class, SynchronizedIntegerProperty.class,
+            DoubleProperty.class, SynchronizedDoubleProperty.class,
+            ObjectProperty.class, SynchronizedObjectProperty.class,
+            LongProperty.class, SynchronizedLongProperty.class,
+            FloatProperty.class, SynchronizedFloatProperty.class);
+
+    public static AnalyzerResult analyze(Class<?> interfaceClass, boolean concreteTypes) {
+        return analyze(InterfaceScanner.scan(interfaceClass), concreteTypes);
+    }
+
+    public static AnalyzerResult analyze(ScannerResult scannerResult, boolean concreteTypes) {
         List<ContainerMeta<ObservableList<?>>> lists = new ArrayList<>();
         List<ContainerMeta<ObservableSet<?>>> sets = new ArrayList<>();
         List<ContainerMeta<ObservableMap<?, ?>>> maps = new ArrayList<>();
+        List<ContainerMeta<ObservableArray<?>>> arrays = new ArrayList<>();
 
         for (var entry : scannerResult.getListGetters().entrySet()) {
             var meta = MethodAnalyzer.<ObservableList<?>>createContainer(entry,
                     scannerResult.getModifiableListGetters(), ObservableList.class);
-            meta.setFactoryName("observableArrayList");
-            meta.setFactoryDescriptor("()Ljavafx/collections/ObservableList;");
+            meta.setFactoryOwner(FX_COLLECTIONS);
+            if (meta.isPaged()) {
+                meta.setFactoryOwner(STATE_COLLECTIONS);
+                meta.setFactoryName("pagedObservableList");
+                meta.setFactoryDescriptor("(II)" + NameUtils.getDescriptor(PagedObservableList.class));
+            } else if (meta.isBatched()) {
+                resolveBacking(scannerResult, meta, List.class, ArrayList.class);
+                meta.setFactoryOwner(STATE_COLLECTIONS);
+                meta.setFactoryName("batchedObservableList");
+                meta.setFactoryDescriptor("(Ljava/util/List;)" + NameUtils.getDescriptor(BatchedObservableList.class));
+            } else if (meta.getBackingType() != null || meta.getInitialCapacity() >= 0) {
+                resolveBacking(scannerResult, meta, List.class, ArrayList.class);
+                meta.setFactoryName("observableList");
+                meta.setFactoryDescriptor("(Ljava/util/List;)Ljavafx/collections/ObservableList;");
+            } else {
+                meta.setFactoryName("observableArrayList");
+                meta.setFactoryDescriptor("()Ljavafx/collections/ObservableList;");
+            }
+            meta.setRoFactoryOwner(FX_COLLECTIONS);
             meta.setRoFactoryName("unmodifiableObservableList");
             meta.setRoFactoryDescriptor("(Ljavafx/collections/ObservableList;)Ljavafx/collections/ObservableList;");
+            meta.setSyncFactoryOwner(FX_COLLECTIONS);
             meta.setSyncFactoryName("synchronizedObservableList");
             meta.setSyncFactoryDescriptor("(Ljavafx/collections/ObservableList;)Ljavafx/collections/ObservableList;");
             lists.add(meta);
@@ -103,10 +169,23 @@ final class MethodAnalyzer {
         for (var entry : scannerResult.getSetGetters().entrySet()) {
             var meta = MethodAnalyzer.<ObservableSet<?>>createContainer(entry,
                     scannerResult.getModifiableSetGetters(), ObservableSet.class);
+            meta.setFactoryOwner(FX_COLLECTIONS);
             meta.setFactoryName("observableSet");
-            meta.setFactoryDescriptor("([Ljava/lang/Object;)Ljavafx/collections/ObservableSet;");
+            if (meta.isBatched()) {
+                resolveBacking(scannerResult, meta, Set.class, HashSet.class);
+                meta.setFactoryOwner(STATE_COLLECTIONS);
+                meta.setFactoryName("batchedObservableSet");
+                meta.setFactoryDescriptor("(Ljava/util/Set;)" + NameUtils.getDescriptor(BatchedObservableSet.class));
+            } else if (meta.getBackingType() != null || meta.getInitialCapacity() >= 0) {
+                resolveBacking(scannerResult, meta, Set.class, HashSet.class);
+                meta.setFactoryDescriptor("(Ljava/util/Set;)Ljavafx/collections/ObservableSet;");
+            } else {
+                meta.setFactoryDescriptor("([Ljava/lang/Object;)Ljavafx/collections/ObservableSet;");
+            }
+            meta.setRoFactoryOwner(FX_COLLECTIONS);
             meta.setRoFactoryName("unmodifiableObservableSet");
             meta.setRoFactoryDescriptor("(Ljavafx/collections/ObservableSet;)Ljavafx/collections/ObservableSet;");
+            meta.setSyncFactoryOwner(FX_COLLECTIONS);
             meta.setSyncFactoryName("synchronizedObservableSet");
             meta.setSyncFactoryDescriptor("(Ljavafx/collections/ObservableSet;)Ljavafx/collections/ObservableSet;");
             sets.add(meta);
@@ -115,28 +194,161 @@ final class MethodAnalyzer {
         for (var entry : scannerResult.getMapGetters().entrySet()) {
             var meta = MethodAnalyzer.<ObservableMap<?, ?>>createContainer(entry,
                     scannerResult.getModifiableMapGetters(), ObservableMap.class);
-            meta.setFactoryName("observableHashMap");
-            meta.setFactoryDescriptor("()Ljavafx/collections/ObservableMap;");
+            meta.setFactoryOwner(FX_COLLECTIONS);
+            if (meta.getBackingType() != null || meta.getInitialCapacity() >= 0) {
+                resolveBacking(scannerResult, meta, Map.class, HashMap.class);
+                meta.setFactoryName("observableMap");
+                meta.setFactoryDescriptor("(Ljava/util/Map;)Ljavafx/collections/ObservableMap;");
+            } else {
+                meta.setFactoryName("observableHashMap");
+                meta.setFactoryDescriptor("()Ljavafx/collections/ObservableMap;");
+            }
+            meta.setRoFactoryOwner(FX_COLLECTIONS);
             meta.setRoFactoryName("unmodifiableObservableMap");
             meta.setRoFactoryDescriptor("(Ljavafx/collections/ObservableMap;)Ljavafx/collections/ObservableMap;");
+            meta.setSyncFactoryOwner(FX_COLLECTIONS);
             meta.setSyncFactoryName("synchronizedObservableMap");
             meta.setSyncFactoryDescriptor("(Ljavafx/collections/ObservableMap;)Ljavafx/collections/ObservableMap;");
             maps.add(meta);
         }
 
-        var result = new AnalyzerResult(analyzeProperties(scannerResult), lists, sets, maps);
+        for (var entry : scannerResult.getArrayGetters().entrySet()) {
+            var type = entry.getValue().getMethod().getReturnType();
+            var meta = MethodAnalyzer.<ObservableArray<?>>createContainer(entry,
+                    scannerResult.getModifiableArrayGetters(), type);
+            var modifiableGetter = meta.getModifiableGetter();
+            if (modifiableGetter != null && modifiableGetter.getReturnType() != type) {
+                throw new RuntimeException("Array type mismatch for "
+                        + scannerResult.getType().getName() + "#" + modifiableGetter.getName());
+            }
+            if (meta.getBackingType() != null) {
+                throw new RuntimeException("Backing type is not supported for arrays: "
+                        + scannerResult.getType().getName() + "#" + meta.getGetter().getName());
+            }
+            String descriptor = NameUtils.getDescriptor(type);
+            String wrapperDescriptor = "(" + descriptor + ")" + descriptor;
+            String typeName = type.getSimpleName().substring("Observable".length());
+            if (type == ObservableDoubleArray.class) {
+                meta.setFactoryOwner(STATE_COLLECTIONS);
+            } else {
+                meta.setFactoryOwner(FX_COLLECTIONS);
+            }
+            meta.setFactoryName("observable" + typeName);
+            meta.setFactoryDescriptor("()" + descriptor);
+            meta.setRoFactoryOwner(STATE_COLLECTIONS);
+            meta.setRoFactoryName("unmodifiableObservable" + typeName);
+            meta.setRoFactoryDescriptor(wrapperDescriptor);
+            meta.setSyncFactoryOwner(STATE_COLLECTIONS);
+            meta.setSyncFactoryName("synchronizedObservable" + typeName);
+            meta.setSyncFactoryDescriptor(wrapperDescriptor);
+            arrays.add(meta);
+        }
+
+        var result = new AnalyzerResult(analyzeProperties(scannerResult, concreteTypes), lists, sets, maps, arrays,
+                analyzeViews(scannerResult, lists));
         return result;
     }
 
-    private static List<PropertyMeta> analyzeProperties(ScannerResult scannerResult) {
+    private static List<PropertyMeta> analyzeProperties(ScannerResult scannerResult, boolean concreteTypes) {
         List<PropertyMeta> result = new ArrayList<>();
         for (var method : scannerResult.getProperties().values()) {
             var meta = analyzeProperty(scannerResult, method);
+            if (concreteTypes) {
+                meta.setFieldType(meta.getImplType());
+                if (meta.getType() == StringProperty.class) {
+                    // typed access, no cast is required
+                    meta.setGetDescriptor("()Ljava/lang/String;");
+                    meta.setSetDescriptor("(Ljava/lang/String;)V");
+                }
+            }
             result.add(meta);
         }
         return result;
     }
 
+    private static List<ViewMeta> analyzeViews(ScannerResult scannerResult,
+            List<ContainerMeta<ObservableList<?>>> lists) {
+        Map<String, ViewMeta> viewsByName = new HashMap<>();
+        for (var entry : scannerResult.getViewGetters().entrySet()) {
+            var meta = createView(scannerResult, entry.getKey(), entry.getValue());
+            viewsByName.put(meta.getName(), meta);
+        }
+        Map<String, String> listFieldNames = new HashMap<>();
+        for (var list : lists) {
+            if (list.getModifiableGetter() != null) {
+                listFieldNames.put(list.getName(), "modifiable" + list.getCapitalizedName());
+            } else {
+                listFieldNames.put(list.getName(), list.getName());
+            }
+        }
+        List<ViewMeta> result = new ArrayList<>();
+        for (var view : viewsByName.values()) {
+            addView(scannerResult, view, viewsByName, listFieldNames, result, new HashSet<>());
+        }
+        return result;
+    }
+
+    /**
+     * Adds the view to the result after its source.
+     */
+    private static void addView(ScannerResult scannerResult, ViewMeta view, Map<String, ViewMeta> viewsByName,
+            Map<String, String> listFieldNames, List<ViewMeta> result, Set<String> visiting) {
+        if (view.getSourceFieldName() != null) {
+            return;
+        }
+        var location = scannerResult.getType().getName() + "#" + view.getGetter().getName();
+        if (!visiting.add(view.getName())) {
+            throw new RuntimeException("Cyclic view source for " + location);
+        }
+        var source = view.getSourceName();
+        if (listFieldNames.containsKey(source)) {
+            view.setSourceFieldName(listFieldNames.get(source));
+        } else if (viewsByName.containsKey(source)) {
+            addView(scannerResult, viewsByName.get(source), viewsByName, listFieldNames, result, visiting);
+            view.setSourceFieldName(source);
+        } else {
+            throw new RuntimeException("Unknown view source '" + source + "' for " + location);
+        }
+        result.add(view);
+    }
+
+    private static ViewMeta createView(ScannerResult scannerResult, String capitalizedName, Method getter) {
+        var location = scannerResult.getType().getName() + "#" + getter.getName();
+        var sorted = getter.getAnnotation(SortedView.class);
+        var filtered = getter.getAnnotation(FilteredView.class);
+        if (sorted != null && filtered != null) {
+            throw new RuntimeException("Both sorted and filtered view for " + location);
+        }
+        Class<?> viewType;
+        Class<?> argumentType;
+        Class<?> argumentImplType;
+        String source;
+        if (sorted != null) {
+            viewType = SortedList.class;
+            argumentType = Comparator.class;
+            argumentImplType = sorted.comparator();
+            source = sorted.source();
+        } else {
+            viewType = FilteredList.class;
+            argumentType = Predicate.class;
+            argumentImplType = filtered.predicate();
+            source = filtered.source();
+        }
+        if (argumentImplType.isInterface() || Modifier.isAbstract(argumentImplType.getModifiers())
+                || !Modifier.isPublic(argumentImplType.getModifiers())) {
+            throw new RuntimeException(argumentImplType.getName() + " must be a public concrete class for "
+                    + location);
+        }
+        try {
+            argumentImplType.getConstructor();
+        } catch (NoSuchMethodException ex) {
+            throw new RuntimeException("No public no-arg constructor in " + argumentImplType.getName() + " for "
+                    + location, ex);
+        }
+        return new ViewMeta(NameUtils.firstToLowerCase(capitalizedName), ObservableList.class, getter, source,
+                viewType, argumentType, argumentImplType);
+    }
+
     private static <T> ContainerMeta<T> createContainer(Map.Entry<String, MethodDescriptor> entry,
         Map<String, MethodDescriptor> modifiableGetter, Class<?> type) {
         var descriptor = entry.getValue();
@@ -144,14 +356,117 @@ final class MethodAnalyzer {
         var meta = new ContainerMeta<>(NameUtils.firstToLowerCase(entry.getKey()), entry.getKey(), type);
         meta.setGetter(descriptor.getMethod());
         meta.setSynchronized(descriptor.isSynchronized());
+        meta.setInitialCapacity(descriptor.getInitialCapacity());
+        meta.setBackingType(descriptor.getBackingType());
         if (modifDescriptor != null) {
             meta.setModifiableGetter(modifDescriptor.getMethod());
             meta.setSynchronized(modifDescriptor.isSynchronized());
+            // the modifiable getter creates the container
+            if (modifDescriptor.getInitialCapacity() >= 0) {
+                meta.setInitialCapacity(modifDescriptor.getInitialCapacity());
+            }
+            if (modifDescriptor.getBackingType() != null) {
+                meta.setBackingType(modifDescriptor.getBackingType());
+            }
+        }
+
+        var paged = modifDescriptor != null && modifDescriptor.getPaged() != null
+                ? modifDescriptor.getPaged() : descriptor.getPaged();
+        if (paged != null) {
+            resolvePaged(meta, modifDescriptor != null, paged);
+        }
+        if (descriptor.isBatched() || modifDescriptor != null && modifDescriptor.isBatched()) {
+            resolveBatched(meta);
         }
 
         return (ContainerMeta<T>) meta;
     }
 
+    /**
+     * Checks that the paged container is a list without other settings and sets the arguments of its factory.
+     */
+    private static void resolvePaged(ContainerMeta<?> meta, boolean modifiable, Paged paged) {
+        var location = meta.getGetter().getDeclaringClass().getName() + "#" + meta.getGetter().getName();
+        if (meta.getType() != ObservableList.class) {
+            throw new RuntimeException("Paged is supported only for lists: " + location);
+        }
+        if (modifiable) {
+            throw new RuntimeException("Paged list can't have a modifiable getter: " + location);
+        }
+        if (meta.isSynchronized() || meta.getBackingType() != null || meta.getInitialCapacity() >= 0) {
+            throw new RuntimeException("Paged list can't be synchronized and can't have a backing type or "
+                    + "an initial capacity: " + location);
+        }
+        if (paged.pageSize() <= 0 || paged.maxPages() <= 0) {
+            throw new RuntimeException("Page size and max pages must be positive for " + location);
+        }
+        meta.setPaged(true);
+        meta.setFactoryArguments(new int[] {paged.pageSize(), paged.maxPages()});
+    }
+
+    /**
+     * Checks that the batched container is a list or a set that is returned by its getter as is.
+     */
+    private static void resolveBatched(ContainerMeta<?> meta) {
+        var location = meta.getGetter().getDeclaringClass().getName() + "#" + meta.getGetter().getName();
+        var type = meta.getType();
+        if (type != ObservableList.class && type != ObservableSet.class) {
+            throw new RuntimeException("Batched is supported only for lists and sets: " + location);
+        }
+        if (meta.isSynchronized() || meta.isPaged()) {
+            throw new RuntimeException("Batched container can't be synchronized or paged: " + location);
+        }
+        meta.setBatched(true);
+    }
+
+    /**
+     * Checks the backing type of the container (or sets the default one) and resolves the argument of its
+     * constructor.
+     */
+    private static void resolveBacking(ScannerResult scannerResult, ContainerMeta<?> meta,
+            Class<?> collectionType, Class<?> defaultType) {
+        var method = meta.getModifiableGetter() != null ? meta.getModifiableGetter() : meta.getGetter();
+        var location = scannerResult.getType().getName() + "#" + method.getName();
+        var backingType = meta.getBackingType();
+        if (backingType == null) {
+            backingType = defaultType;
+            meta.setBackingType(backingType);
+        } else if (!collectionType.isAssignableFrom(backingType)) {
+            throw new RuntimeException("Backing type " + backingType.getName() + " is not a "
+                    + collectionType.getSimpleName() + " for " + location);
+        } else if (backingType.isInterface() || Modifier.isAbstract(backingType.getModifiers())
+                || !Modifier.isPublic(backingType.getModifiers())) {
+            throw new RuntimeException("Backing type " + backingType.getName()
+                    + " must be a public concrete class for " + location);
+        }
+        var capacity = meta.getInitialCapacity();
+        try {
+            if (capacity >= 0) {
+                backingType.getConstructor(int.class);
+                meta.setBackingCapacity(toBackingCapacity(backingType, capacity));
+            } else {
+                backingType.getConstructor();
+            }
+        } catch (NoSuchMethodException ex) {
+            throw new RuntimeException("No public " + (capacity >= 0 ? "(int)" : "no-arg") + " constructor in "
+                    + backingType.getName() + " for " + location, ex);
+        }
+    }
+
+    /**
+     * Returns the argument of the {@code (int)} constructor that makes the backing collection hold the given number of
+     * elements without resizing.
+     */
+    private static int toBackingCapacity(Class<?> backingType, int size) {
+        if (HashMap.class.isAssignableFrom(backingType) || HashSet.class.isAssignableFrom(backingType)
+                || WeakHashMap.class.isAssignableFrom(backingType) || Hashtable.class.isAssignableFrom(backingType)) {
+            // the argument is the size of the table with load factor 0.75
+            return (int) Math.ceil(size / 0.75);
+        } else {
+            return size;
+        }
+    }
+
     private static PropertyMeta analyzeProperty(ScannerResult scannerResult, Method method) {
         var function = analyzersByType.get(method.getReturnType());
         var meta = function.apply(scannerResult, method);
@@ -177,71 +492,175 @@ final class MethodAnalyzer {
             throw new RuntimeException("No setter for "
                     + scannerResult.getType().getName() + "#" + method.getName());
         }
+
+        var synchronizedMethods = scannerResult.getSynchronizedMethods();
+        if (synchronizedMethods.contains(method.getName()) || synchronizedMethods.contains(getter.getName())
+                || synchronizedMethods.contains(setter.getName())) {
+            meta.setSynchronized(true);
+            meta.setImplType(synchronizedImplTypes.get(meta.getType()));
+        }
+        resolveDefaultValue(scannerResult, meta);
         return meta;
     }
 
+    private static void resolveDefaultValue(ScannerResult scannerResult, PropertyMeta meta) {
+        var defaultValueMethods = scannerResult.getDefaultValueMethods();
+        var declarations = new ArrayList<Method>();
+        // in one interface the property method wins, then the getter
+        for (var m : new Method[] {meta.getMethod(), meta.getGetter(), meta.getSetter()}) {
+            declarations.addAll(defaultValueMethods.getOrDefault(m.getName(), List.of()));
+        }
+        var annotated = InterfaceScanner.resolveMostSpecific(declarations, DefaultValue.class);
+        if (annotated == null) {
+            return;
+        }
+        var value = annotated.getAnnotation(DefaultValue.class).value();
+        var location = scannerResult.getType().getName() + "#" + annotated.getName();
+        var type = meta.getType();
+        try {
+            if (type == BooleanProperty.class) {
+                if (!"true".equals(value) && !"false".equals(value)) {
+                    throw new IllegalArgumentException();
+                }
+                meta.setDefaultValue(Boolean.valueOf(value));
+            } else if (type == IntegerProperty.class) {
+                meta.setDefaultValue(Integer.parseInt(value));
+            } else if (type == LongProperty.class) {
+                meta.setDefaultValue(Long.parseLong(value));
+            } else if (type == FloatProperty.class) {
+                meta.setDefaultValue(Float.parseFloat(value));
+            } else if (type == DoubleProperty.class) {
+                meta.setDefaultValue(Double.parseDouble(value));
+            } else if (type == StringProperty.class) {
+                meta.setDefaultValue(value);
+            } else {
+                var valueType = resolveValueType(scannerResult.getType(), meta.getGetter());
+                if (valueType == String.class) {
+                    meta.setDefaultValue(value);
+                } else if (valueType != null && valueType.isEnum() && Modifier.isPublic(valueType.getModifiers())) {
+                    meta.setDefaultValue(resolveEnumConstant(valueType, value));
+                } else {
+                    throw new RuntimeException("Default value is supported only for string and public enum types for "
+                            + location);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new RuntimeException("Invalid default value '" + value + "' for " + location, ex);
+        }
+        if (type == StringProperty.class) {
+            meta.setInitDescriptor("(Ljava/lang/String;)V");
+        } else if (type == ObjectProperty.class) {
+            meta.setInitDescriptor("(Ljava/lang/Object;)V");
+        } else {
+            meta.setInitDescriptor("(" + meta.getGetDescriptor().substring(2) + ")V");
+        }
+    }
+
+    private static Object resolveEnumConstant(Class<?> enumType, String name) {
+        for (var constant : enumType.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Returns the class of the value returned by the getter, resolving type variables declared by parent interfaces,
+     * or null if the type can't be resolved.
+     */
+    private static Class<?> resolveValueType(Class<?> type, Method getter) {
+        Type valueType = getter.getGenericReturnType();
+        if (valueType instanceof TypeVariable<?> variable) {
+            valueType = resolveTypeVariable(type, type, variable);
+        }
+        if (valueType instanceof Class<?> valueClass) {
+            return valueClass;
+        } else if (valueType instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        } else {
+            return null;
+        }
+    }
+
+    private static Type resolveTypeVariable(Class<?> rootType, Class<?> type, TypeVariable<?> variable) {
+        for (var parent : type.getGenericInterfaces()) {
+            if (parent instanceof ParameterizedType parameterized) {
+                var rawType = (Class<?>) parameterized.getRawType();
+                if (rawType == variable.getGenericDeclaration()) {
+                    var variables = rawType.getTypeParameters();
+                    for (var i = 0; i < variables.length; i++) {
+                        if (variables[i].getName().equals(variable.getName())) {
+                            var argument = parameterized.getActualTypeArguments()[i];
+                            if (argument instanceof TypeVariable<?> argumentVariable) {
+                                return resolveTypeVariable(rootType, rootType, argumentVariable);
+                            }
+                            return argument;
+                        }
+                    }
+                }
+                var resolved = resolveTypeVariable(rootType, rawType, variable);
+                if (resolved != null) {
+                    return resolved;
+                }
+            } else if (parent instanceof Class<?> parentClass) {
+                var resolved = resolveTypeVariable(rootType, parentClass, variable);
+                if (resolved != null) {
+                    return resolved;
+                }
+            }
+        }
+        return null;
+    }
+
     private static PropertyMeta analyzeStringProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), StringProperty.class, SimpleStringProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), StringProperty.class, LightStringProperty.class);
         meta.setSetDescriptor("(Ljava/lang/Object;)V");
         meta.setGetDescriptor("()Ljava/lang/Object;");
         meta.setReferenceType(true);
-        meta.setGetterReturnOpcode(Opcodes.ARETURN);
-        meta.setSetterLoadOpcode(Opcodes.ALOAD);
         return meta;
     }
 
     private static PropertyMeta analyzeObjectProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), ObjectProperty.class, SimpleObjectProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), ObjectProperty.class, LightObjectProperty.class);
         meta.setSetDescriptor("(Ljava/lang/Object;)V");
         meta.setGetDescriptor("()Ljava/lang/Object;");
         meta.setReferenceType(true);
-        meta.setGetterReturnOpcode(Opcodes.ARETURN);
-        meta.setSetterLoadOpcode(Opcodes.ALOAD);
         return meta;
     }
 
     private static PropertyMeta analyzeBooleanProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), BooleanProperty.class, SimpleBooleanProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), BooleanProperty.class, LightBooleanProperty.class);
         meta.setSetDescriptor("(Z)V");
         meta.setGetDescriptor("()Z");
-        meta.setGetterReturnOpcode(Opcodes.IRETURN);
-        meta.setSetterLoadOpcode(Opcodes.ILOAD);
         return meta;
     }
 
     private static PropertyMeta analyzeIntegerProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), IntegerProperty.class, SimpleIntegerProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), IntegerProperty.class, LightIntegerProperty.class);
         meta.setSetDescriptor("(I)V");
         meta.setGetDescriptor("()I");
-        meta.setGetterReturnOpcode(Opcodes.IRETURN);
-        meta.setSetterLoadOpcode(Opcodes.ILOAD);
         return meta;
     }
 
     private static PropertyMeta analyzeDoubleProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), DoubleProperty.class, SimpleDoubleProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), DoubleProperty.class, LightDoubleProperty.class);
         meta.setSetDescriptor("(D)V");
         meta.setGetDescriptor("()D");
-        meta.setGetterReturnOpcode(Opcodes.DRETURN);
-        meta.setSetterLoadOpcode(Opcodes.DLOAD);
         return meta;
     }
 
     private static PropertyMeta analyzeLongProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), LongProperty.class, SimpleLongProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), LongProperty.class, LightLongProperty.class);
         meta.setSetDescriptor("(J)V");
         meta.setGetDescriptor("()J");
-        meta.setGetterReturnOpcode(Opcodes.LRETURN);
-        meta.setSetterLoadOpcode(Opcodes.LLOAD);
         return meta;
     }
 
     private static PropertyMeta analyzeFloatProperty(ScannerResult scannerResult, Method method) {
-        var meta = new PropertyMeta(resolvePropertyName(method), FloatProperty.class, SimpleFloatProperty.class);
+        var meta = new PropertyMeta(resolvePropertyName(method), FloatProperty.class, LightFloatProperty.class);
         meta.setSetDescriptor("(F)V");
         meta.setGetDescriptor("()F");
-        meta.setGetterReturnOpcode(Opcodes.FRETURN);
-        meta.setSetterLoadOpcode(Opcodes.FLOAD);
         return meta;
     }
 
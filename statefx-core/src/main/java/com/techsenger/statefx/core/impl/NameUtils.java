@@ -40,6 +40,20 @@ final class NameUtils {
         return c >= 'A' && c <= 'Z';
     }
 
+    /**
+     * Returns the internal name of a class, for example, {@code java/lang/String}.
+     */
+    public static String getInternalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    /**
+     * Returns the type descriptor of a class, for example, {@code Ljava/lang/String;} or {@code I}.
+     */
+    public static String getDescriptor(Class<?> type) {
+        return type.descriptorString();
+    }
+
     private NameUtils() {
         // empty
     }
@@ -29,7 +29,12 @@ import java.lang.reflect.Method;
  */
 class PropertyMeta extends AbstractMeta {
 
-    private final Class<?> implType;
+    private Class<?> implType;
+
+    /**
+     * The type of the field, either the property type or the implementation type.
+     */
+    private Class<?> fieldType;
 
     private Method method;
 
@@ -43,19 +48,47 @@ class PropertyMeta extends AbstractMeta {
 
     private boolean referenceType;
 
-    private int getterReturnOpcode;
+    private boolean isSynchronized;
+
+    /**
+     * The parsed value of {@code DefaultValue} (a boxed primitive, a string or an enum constant) or null.
+     */
+    private Object defaultValue;
 
-    private int setterLoadOpcode;
+    /**
+     * The descriptor of the value constructor of the implementation type.
+     */
+    private String initDescriptor;
 
     PropertyMeta(String name, Class<?> type, Class<?> implType) {
         super(name, type);
         this.implType = implType;
+        this.fieldType = type;
     }
 
     public Class<?> getImplType() {
         return implType;
     }
 
+    public void setImplType(Class<?> implType) {
+        this.implType = implType;
+    }
+
+    public Class<?> getFieldType() {
+        return fieldType;
+    }
+
+    public void setFieldType(Class<?> fieldType) {
+        this.fieldType = fieldType;
+    }
+
+    /**
+     * Returns true if the field is typed as the implementation class, so accessors call it directly.
+     */
+    public boolean isConcreteType() {
+        return fieldType != getType();
+    }
+
     public Method getMethod() {
         return method;
     }
@@ -88,6 +121,17 @@ class PropertyMeta extends AbstractMeta {
         this.setDescriptor = setDescriptor;
     }
 
+    /**
+     * Returns the descriptor of the {@code UndoJournal.set(...)} overload for this property.
+     */
+    public String getJournalSetDescriptor() {
+        if (referenceType) {
+            return "(Ljavafx/beans/property/Property;Ljava/lang/Object;)V";
+        } else {
+            return "(" + NameUtils.getDescriptor(getType()) + setDescriptor.substring(1);
+        }
+    }
+
     public String getGetDescriptor() {
         return getDescriptor;
     }
@@ -104,19 +148,27 @@ class PropertyMeta extends AbstractMeta {
         this.referenceType = referenceType;
     }
 
-    public int getGetterReturnOpcode() {
-        return getterReturnOpcode;
+    public boolean isSynchronized() {
+        return isSynchronized;
+    }
+
+    public void setSynchronized(boolean isSynchronized) {
+        this.isSynchronized = isSynchronized;
+    }
+
+    public Object getDefaultValue() {
+        return defaultValue;
     }
 
-    public void setGetterReturnOpcode(int getterReturnOpcode) {
-        this.getterReturnOpcode = getterReturnOpcode;
+    public void setDefaultValue(Object defaultValue) {
+        this.defaultValue = defaultValue;
     }
 
-    public int getSetterLoadOpcode() {
-        return setterLoadOpcode;
+    public String getInitDescriptor() {
+        return initDescriptor;
     }
 
-    public void setSetterLoadOpcode(int setterLoadOpcode) {
-        this.setterLoadOpcode = setterLoadOpcode;
+    public void setInitDescriptor(String initDescriptor) {
+        this.initDescriptor = initDescriptor;
     }
 }
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.Disposable;
+import com.techsenger.statefx.core.ObservableState;
+import com.techsenger.statefx.core.ObservableStateSupport;
+import com.techsenger.statefx.core.SnapshottableState;
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateSnapshot;
+import com.techsenger.statefx.core.UndoJournal;
+import com.techsenger.statefx.core.UndoableState;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+
+/**
+ * A precompiled implementation of a state interface that is used while the optimized class is being generated. An
+ * instance is a dynamic proxy that keeps its properties, containers and views in an array. The members are created in
+ * the same way as in the constructor of a generated class, so the instance behaves like a generated one, but every call
+ * goes through the invocation handler.
+ *
+ * @author Pavel Castornii
+ */
+public final class ProxyImplementation<T> {
+
+    /**
+     * Creates a member of a new instance, the array contains the already created members.
+     */
+    @FunctionalInterface
+    private interface Initializer {
+
+        Object create(Object[] values) throws Throwable;
+    }
+
+    private enum Kind {
+
+        /**
+         * Returns the member: fooProperty(), getFoo() of a container or a view.
+         */
+        MEMBER,
+
+        /**
+         * getFoo()/isFoo() of a property.
+         */
+        GETTER,
+
+        /**
+         * setFoo(value) of a property.
+         */
+        SETTER,
+
+        /**
+         * dispose() of the state.
+         */
+        DISPOSE,
+
+        /**
+         * addListener(listener) of the state.
+         */
+        ADD_LISTENER,
+
+        /**
+         * removeListener(listener) of the state.
+         */
+        REMOVE_LISTENER,
+
+        /**
+         * getUndoJournal() of the state.
+         */
+        GET_UNDO_JOURNAL,
+
+        /**
+         * setUndoJournal(journal) of the state.
+         */
+        SET_UNDO_JOURNAL,
+
+        /**
+         * snapshot() of the state.
+         */
+        SNAPSHOT
+    }
+
+    private static final class Action {
+
+        private final Kind kind;
+
+        private final int index;
+
+        Action(Kind kind, int index) {
+            this.kind = kind;
+            this.index = index;
+        }
+    }
+
+    private static final class Handler implements InvocationHandler {
+
+        private final ProxyImplementation<?> implementation;
+
+        private final Object[] values;
+
+        /**
+         * The internal listener of the members, exists while the state has listeners.
+         */
+        private ObservableStateSupport support;
+
+        private UndoJournal undoJournal;
+
+        Handler(ProxyImplementation<?> implementation, Object[] values) {
+            this.implementation = implementation;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var action = implementation.actions.get(method.getName());
+            if (action != null) {
+                switch (action.kind) {
+                    case MEMBER:
+                        return values[action.index];
+                    case GETTER:
+                        return ((ObservableValue<?>) values[action.index]).getValue();
+                    case SETTER:
+                        if (undoJournal != null) {
+                            undoJournal.set((Property<Object>) values[action.index], args[0]);
+                        } else {
+                            ((WritableValue<Object>) values[action.index]).setValue(args[0]);
+                        }
+                        return null;
+                    case DISPOSE:
+                        setUndoJournal(null);
+                        if (support != null) {
+                            implementation.observeMembers(values, support, false);
+                            support = null;
+                        }
+                        implementation.dispose(values);
+                        return null;
+                    case ADD_LISTENER:
+                        if (support == null) {
+                            support = new ObservableStateSupport((ObservableState) proxy);
+                            implementation.observeMembers(values, support, true);
+                        }
+                        support.addListener((InvalidationListener) args[0]);
+                        return null;
+                    case REMOVE_LISTENER:
+                        if (support != null && support.removeListener((InvalidationListener) args[0])) {
+                            implementation.observeMembers(values, support, false);
+                            support = null;
+                        }
+                        return null;
+                    case GET_UNDO_JOURNAL:
+                        return undoJournal;
+                    case SET_UNDO_JOURNAL:
+                        setUndoJournal((UndoJournal) args[0]);
+                        return null;
+                    case SNAPSHOT:
+                        return StateSnapshot.of((State) proxy);
+                    default:
+                        throw new AssertionError(action.kind);
+                }
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                // identity semantics as in generated classes
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return method.getDeclaringClass().getName() + "@"
+                                + Integer.toHexString(System.identityHashCode(proxy));
+                }
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            throw new AbstractMethodError(method.toString());
+        }
+
+        private void setUndoJournal(UndoJournal journal) {
+            if (undoJournal != null) {
+                implementation.trackMembers(values, undoJournal, false);
+            }
+            undoJournal = journal;
+            if (journal != null) {
+                implementation.trackMembers(values, journal, true);
+            }
+        }
+    }
+
+    public static <T> ProxyImplementation<T> create(Class<T> interfaceClass) {
+        var analyzerResult = MethodAnalyzer.analyze(interfaceClass, false);
+        return new ProxyImplementation<>(interfaceClass, analyzerResult);
+    }
+
+    private final Class<T> interfaceClass;
+
+    private final Map<String, Action> actions = new HashMap<>();
+
+    /**
+     * Initializers by indexes of the members, a view is always after its source.
+     */
+    private final List<Initializer> initializers = new ArrayList<>();
+
+    /**
+     * Indexes of the properties.
+     */
+    private final List<Integer> propertyIndexes = new ArrayList<>();
+
+    /**
+     * Indexes of the containers to clear on disposal, for a RW pair the index of the modifiable container.
+     */
+    private final List<Integer> containerIndexes = new ArrayList<>();
+
+    private ProxyImplementation(Class<T> interfaceClass, AnalyzerResult analyzerResult) {
+        this.interfaceClass = interfaceClass;
+        var loader = interfaceClass.getClassLoader();
+        try {
+            Map<String, Integer> indexes = new HashMap<>();
+            for (var meta : analyzerResult.getProperties()) {
+                int index = addMember(meta.getMethod(), createPropertyInitializer(meta, loader));
+                indexes.put(meta.getName(), index);
+                propertyIndexes.add(index);
+                actions.put(meta.getGetter().getName(), new Action(Kind.GETTER, index));
+                actions.put(meta.getSetter().getName(), new Action(Kind.SETTER, index));
+            }
+            List<ContainerMeta<?>> containers = new ArrayList<>();
+            containers.addAll(analyzerResult.getLists());
+            containers.addAll(analyzerResult.getSets());
+            containers.addAll(analyzerResult.getMaps());
+            containers.addAll(analyzerResult.getArrays());
+            for (var meta : containers) {
+                var initializer = createContainerInitializer(meta, loader);
+                if (meta.getModifiableGetter() == null) {
+                    int index = addMember(meta.getGetter(), initializer);
+                    indexes.put(meta.getName(), index);
+                    containerIndexes.add(index);
+                } else {
+                    int modifiableIndex = addMember(meta.getModifiableGetter(), initializer);
+                    indexes.put("modifiable" + meta.getCapitalizedName(), modifiableIndex);
+                    containerIndexes.add(modifiableIndex);
+                    var roFactory = findStatic(meta.getRoFactoryOwner(), meta.getRoFactoryName(),
+                            meta.getRoFactoryDescriptor(), loader);
+                    indexes.put(meta.getName(), addMember(meta.getGetter(),
+                            values -> roFactory.invoke(values[modifiableIndex])));
+                }
+            }
+            for (var meta : analyzerResult.getViews()) {
+                int sourceIndex = indexes.get(meta.getSourceFieldName());
+                var constructor = MethodHandles.publicLookup().findConstructor(meta.getViewType(),
+                        MethodType.methodType(void.class, meta.getType(), meta.getArgumentType()));
+                var argumentConstructor = MethodHandles.publicLookup().findConstructor(meta.getArgumentImplType(),
+                        MethodType.methodType(void.class));
+                indexes.put(meta.getName(), addMember(meta.getGetter(),
+                        values -> constructor.invoke(values[sourceIndex], argumentConstructor.invoke())));
+            }
+            actions.put("dispose", new Action(Kind.DISPOSE, -1));
+            actions.put("addListener", new Action(Kind.ADD_LISTENER, -1));
+            actions.put("removeListener", new Action(Kind.REMOVE_LISTENER, -1));
+            if (UndoableState.class.isAssignableFrom(interfaceClass)) {
+                actions.put("getUndoJournal", new Action(Kind.GET_UNDO_JOURNAL, -1));
+                actions.put("setUndoJournal", new Action(Kind.SET_UNDO_JOURNAL, -1));
+            }
+            if (SnapshottableState.class.isAssignableFrom(interfaceClass)) {
+                actions.put("snapshot", new Action(Kind.SNAPSHOT, -1));
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create proxy implementation for " + interfaceClass.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a new instance. Each call returns a new instance.
+     *
+     * @return a new proxy instance of the state interface
+     */
+    public T newInstance() throws Throwable {
+        var values = new Object[initializers.size()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = initializers.get(i).create(values);
+        }
+        // a generated class always implements Disposable and ObservableState, the proxy does the same
+        List<Class<?>> interfaces = new ArrayList<>(List.of(interfaceClass));
+        if (!Disposable.class.isAssignableFrom(interfaceClass)) {
+            interfaces.add(Disposable.class);
+        }
+        if (!ObservableState.class.isAssignableFrom(interfaceClass)) {
+            interfaces.add(ObservableState.class);
+        }
+        return interfaceClass.cast(Proxy.newProxyInstance(interfaceClass.getClassLoader(),
+                interfaces.toArray(Class<?>[]::new), new Handler(this, values)));
+    }
+
+    /**
+     * Adds or removes the listener of the members that are observed by the state: the properties and the containers,
+     * for a RW pair the modifiable container.
+     */
+    private void observeMembers(Object[] values, InvalidationListener listener, boolean add) {
+        for (int index : propertyIndexes) {
+            observeMember((Observable) values[index], listener, add);
+        }
+        for (int index : containerIndexes) {
+            observeMember((Observable) values[index], listener, add);
+        }
+    }
+
+    /**
+     * Does the same as the generated {@code setUndoJournal(...)}: lists, sets and maps are tracked, arrays are not.
+     */
+    private void trackMembers(Object[] values, UndoJournal journal, boolean track) {
+        for (int index : containerIndexes) {
+            var container = values[index];
+            if (container instanceof ObservableList<?> list) {
+                if (track) {
+                    journal.track(list);
+                } else {
+                    journal.untrack(list);
+                }
+            } else if (container instanceof ObservableSet<?> set) {
+                if (track) {
+                    journal.track(set);
+                } else {
+                    journal.untrack(set);
+                }
+            } else if (container instanceof ObservableMap<?, ?> map) {
+                if (track) {
+                    journal.track(map);
+                } else {
+                    journal.untrack(map);
+                }
+            }
+        }
+    }
+
+    private static void observeMember(Observable member, InvalidationListener listener, boolean add) {
+        if (add) {
+            member.addListener(listener);
+        } else {
+            member.removeListener(listener);
+        }
+    }
+
+    /**
+     * Does the same as the generated {@code dispose()}.
+     */
+    private void dispose(Object[] values) {
+        for (int index : propertyIndexes) {
+            if (values[index] instanceof Disposable disposable) {
+                disposable.dispose();
+            } else {
+                ((Property<?>) values[index]).unbind();
+            }
+        }
+        for (int index : containerIndexes) {
+            var container = values[index];
+            if (container instanceof Collection<?> collection) {
+                collection.clear();
+            } else if (container instanceof Map<?, ?> map) {
+                map.clear();
+            } else {
+                ((ObservableArray<?>) container).clear();
+            }
+        }
+    }
+
+    private int addMember(Method method, Initializer initializer) {
+        int index = initializers.size();
+        initializers.add(initializer);
+        actions.put(method.getName(), new Action(Kind.MEMBER, index));
+        return index;
+    }
+
+    private static Initializer createPropertyInitializer(PropertyMeta meta, ClassLoader loader)
+            throws ReflectiveOperationException {
+        var defaultValue = meta.getDefaultValue();
+        if (defaultValue == null) {
+            var constructor = MethodHandles.publicLookup().findConstructor(meta.getImplType(),
+                    MethodType.methodType(void.class));
+            return values -> constructor.invoke();
+        } else {
+            // the value constructor, so no set(...) and no notifications
+            var constructor = MethodHandles.publicLookup().findConstructor(meta.getImplType(),
+                    MethodType.fromMethodDescriptorString(meta.getInitDescriptor(), loader));
+            return values -> constructor.invoke(defaultValue);
+        }
+    }
+
+    private static Initializer createContainerInitializer(ContainerMeta<?> meta, ClassLoader loader)
+            throws ReflectiveOperationException {
+        var factory = findStatic(meta.getFactoryOwner(), meta.getFactoryName(), meta.getFactoryDescriptor(), loader);
+        for (var argument : meta.getFactoryArguments()) {
+            factory = MethodHandles.insertArguments(factory, 0, argument);
+        }
+        if (meta.getBackingType() != null) {
+            // new BackingType() or new BackingType(capacity)
+            MethodHandle backing;
+            if (meta.getBackingCapacity() >= 0) {
+                backing = MethodHandles.insertArguments(MethodHandles.publicLookup().findConstructor(
+                        meta.getBackingType(), MethodType.methodType(void.class, int.class)), 0,
+                        meta.getBackingCapacity());
+            } else {
+                backing = MethodHandles.publicLookup().findConstructor(meta.getBackingType(),
+                        MethodType.methodType(void.class));
+            }
+            // the factory accepts the collection interface
+            backing = backing.asType(backing.type().changeReturnType(factory.type().parameterType(0)));
+            factory = MethodHandles.filterReturnValue(backing, factory);
+        } else if (meta.getType() == ObservableSet.class) {
+            // empty varargs array
+            factory = MethodHandles.insertArguments(factory, 0, (Object) new Object[0]);
+        }
+        if (meta.isSynchronized()) {
+            factory = MethodHandles.filterReturnValue(factory, findStatic(meta.getSyncFactoryOwner(),
+                    meta.getSyncFactoryName(), meta.getSyncFactoryDescriptor(), loader));
+        }
+        var creator = factory;
+        int capacity = meta.getInitialCapacity();
+        if (capacity >= 0 && ObservableArray.class.isAssignableFrom(meta.getType())) {
+            return values -> {
+                var array = (ObservableArray<?>) creator.invoke();
+                array.ensureCapacity(capacity);
+                return array;
+            };
+        }
+        return values -> creator.invoke();
+    }
+
+    private static MethodHandle findStatic(String owner, String name, String descriptor, ClassLoader loader)
+            throws ReflectiveOperationException {
+        var ownerClass = Class.forName(owner.replace('/', '.'), false, loader);
+        return MethodHandles.publicLookup().findStatic(ownerClass, name,
+                MethodType.fromMethodDescriptorString(descriptor, loader));
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.Disposable;
+import com.techsenger.statefx.core.ObservableState;
+import com.techsenger.statefx.core.SnapshottableState;
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.UndoableState;
+import com.techsenger.statefx.core.table.StateTable;
+import com.techsenger.statefx.core.table.TableRow;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.FloatProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender.Size;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Generates flyweight row classes of {@code StateTable}. A row keeps only the table and the row index, its value
+ * accessors read and write the columns of the table, its property methods return properties of the full state of the
+ * row that is created by {@link StateTable#inflate(int)}.
+ *
+ * @author Pavel Castornii
+ */
+public final class RowGenerator {
+
+    private static final String TABLE = Type.getInternalName(StateTable.class);
+
+    private static final String ROW = Type.getInternalName(TableRow.class);
+
+    private static final String TABLE_DESCRIPTOR = Type.getDescriptor(StateTable.class);
+
+    /**
+     * Column accessor suffixes of the table by property types, for example, {@code getInt}/{@code setInt}.
+     */
+    private static final Map<Class<?>, String> accessorSuffixes = Map.of(
+            BooleanProperty.class, "Boolean",
+            IntegerProperty.class, "Int",
+            LongProperty.class, "Long",
+            FloatProperty.class, "Float",
+            DoubleProperty.class, "Double");
+
+    private static final Map<Class<?>, Class<?>> columnTypes = Map.of(
+            BooleanProperty.class, boolean.class,
+            IntegerProperty.class, int.class,
+            LongProperty.class, long.class,
+            FloatProperty.class, float.class,
+            DoubleProperty.class, double.class);
+
+    /**
+     * The interfaces that rows don't implement, a row is a view of table columns that has no listeners and no journal.
+     */
+    private static final List<Class<?>> unsupportedInterfaces = List.of(UndoableState.class, ObservableState.class,
+            Disposable.class);
+
+    public static TableMeta generate(Class<? extends State> interfaceClass) {
+        var analyzerResult = MethodAnalyzer.analyze(interfaceClass, false);
+        if (!analyzerResult.getLists().isEmpty() || !analyzerResult.getSets().isEmpty()
+                || !analyzerResult.getMaps().isEmpty() || !analyzerResult.getArrays().isEmpty()
+                || !analyzerResult.getViews().isEmpty()) {
+            throw new RuntimeException("Only properties are supported in a table for " + interfaceClass.getName());
+        }
+        for (var unsupported : unsupportedInterfaces) {
+            if (unsupported.isAssignableFrom(interfaceClass)) {
+                throw new IllegalArgumentException(unsupported.getSimpleName() + " is not supported in a table for "
+                        + interfaceClass.getName());
+            }
+        }
+        var properties = new ArrayList<>(analyzerResult.getProperties());
+        // stable column indexes
+        properties.sort(Comparator.comparing(PropertyMeta::getName));
+
+        var count = properties.size();
+        var columnNames = new String[count];
+        var types = new Class<?>[count];
+        var defaultValues = new Object[count];
+        var propertyMethods = new Method[count];
+
+        DynamicType.Builder<?> builder = new ByteBuddy()
+                .subclass(TableRow.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                .implement(interfaceClass)
+                .name(generateClassName(interfaceClass));
+        for (var column = 0; column < count; column++) {
+            var meta = properties.get(column);
+            columnNames[column] = meta.getName();
+            types[column] = columnTypes.getOrDefault(meta.getType(), Object.class);
+            defaultValues[column] = meta.getDefaultValue();
+            propertyMethods[column] = meta.getMethod();
+
+            var suffix = accessorSuffixes.getOrDefault(meta.getType(), "Object");
+            var valueDescriptor = Type.getDescriptor(types[column]);
+            Method pm = meta.getMethod();
+            builder = builder.defineMethod(pm.getName(), pm.getReturnType(), Visibility.PUBLIC)
+                .intercept(new RowPropertyImpl(interfaceClass, pm));
+            Method gm = meta.getGetter();
+            builder = builder.defineMethod(gm.getName(), gm.getReturnType(), Visibility.PUBLIC)
+                .intercept(new RowGetterImpl(column, "get" + suffix, "(II)" + valueDescriptor, gm.getReturnType()));
+            Method sm = meta.getSetter();
+            builder = builder.defineMethod(sm.getName(), sm.getReturnType(), Visibility.PUBLIC)
+                .withParameter(sm.getParameterTypes()[0], "value")
+                .intercept(new RowSetterImpl(column, "set" + suffix, "(II" + valueDescriptor + ")V",
+                        Type.getType(types[column])));
+        }
+        if (SnapshottableState.class.isAssignableFrom(interfaceClass)) {
+            // the snapshot is taken from the getters, so it doesn't inflate the row
+            builder = builder.defineMethod("snapshot", State.class, Visibility.PUBLIC)
+                    .intercept(ByteBuddyGenerator.snapshotImpl);
+        }
+        builder = builder.defineMethod("newRow", TableRow.class, Visibility.PROTECTED)
+                .withParameter(int.class, "row")
+                .intercept(newRowImpl);
+
+        DynamicType.Unloaded<?> unloaded = builder.make();
+        // the generated class is a subclass of TableRow
+        @SuppressWarnings("unchecked")
+        var rowClass = (Class<? extends TableRow>) unloaded
+                .load(interfaceClass.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        return new TableMeta(rowClass, columnNames, types, defaultValues, propertyMethods);
+    }
+
+    private static String generateClassName(Class<?> interfaceClass) {
+        String packageName = interfaceClass.getPackage() != null ? interfaceClass.getPackage().getName() + "." : "";
+        String simpleName = interfaceClass.getSimpleName();
+        return packageName + simpleName + "Row$$ByteBuddy$$" + System.currentTimeMillis()
+                + "_" + Integer.toHexString(interfaceClass.hashCode());
+    }
+
+    /**
+     * Pushes {@code this.table}.
+     */
+    private static void loadTable(MethodVisitor mv) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, ROW, "table", TABLE_DESCRIPTOR);
+    }
+
+    /**
+     * Pushes {@code this.row}.
+     */
+    private static void loadRow(MethodVisitor mv) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, ROW, "row", "I");
+    }
+
+    /**
+     * {@code return (T) table.inflate(row).fooProperty();}.
+     */
+    private static class RowPropertyImpl implements Implementation {
+
+        private final Class<?> interfaceClass;
+
+        private final Method propertyMethod;
+
+        RowPropertyImpl(Class<?> interfaceClass, Method propertyMethod) {
+            this.interfaceClass = interfaceClass;
+            this.propertyMethod = propertyMethod;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                loadTable(mv);
+                loadRow(mv);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, TABLE, "inflate",
+                        "(I)" + Type.getDescriptor(State.class), false);
+                String owner = Type.getInternalName(interfaceClass);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, owner, propertyMethod.getName(),
+                        Type.getMethodDescriptor(propertyMethod), true);
+                mv.visitInsn(Opcodes.ARETURN);
+                return new Size(2, 1);
+            };
+        }
+    }
+
+    /**
+     * {@code return table.getXxx(column, row);}.
+     */
+    private static class RowGetterImpl implements Implementation {
+
+        private final int column;
+
+        private final String accessorName;
+
+        private final String accessorDescriptor;
+
+        private final Class<?> returnType;
+
+        RowGetterImpl(int column, String accessorName, String accessorDescriptor, Class<?> returnType) {
+            this.column = column;
+            this.accessorName = accessorName;
+            this.accessorDescriptor = accessorDescriptor;
+            this.returnType = returnType;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                loadTable(mv);
+                ByteBuddyGenerator.pushInt(mv, column);
+                loadRow(mv);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, TABLE, accessorName, accessorDescriptor, false);
+                var type = Type.getType(returnType);
+                if (!returnType.isPrimitive() && returnType != Object.class) {
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, type.getInternalName());
+                }
+                mv.visitInsn(type.getOpcode(Opcodes.IRETURN));
+                return new Size(3, 1);
+            };
+        }
+    }
+
+    /**
+     * {@code table.setXxx(column, row, value);}.
+     */
+    private static class RowSetterImpl implements Implementation {
+
+        private final int column;
+
+        private final String accessorName;
+
+        private final String accessorDescriptor;
+
+        private final Type valueType;
+
+        RowSetterImpl(int column, String accessorName, String accessorDescriptor, Type valueType) {
+            this.column = column;
+            this.accessorName = accessorName;
+            this.accessorDescriptor = accessorDescriptor;
+            this.valueType = valueType;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                loadTable(mv);
+                ByteBuddyGenerator.pushInt(mv, column);
+                loadRow(mv);
+                mv.visitVarInsn(valueType.getOpcode(Opcodes.ILOAD), 1);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, TABLE, accessorName, accessorDescriptor, false);
+                mv.visitInsn(Opcodes.RETURN);
+                return new Size(3 + valueType.getSize(), 1 + valueType.getSize());
+            };
+        }
+    }
+
+    /**
+     * {@code return new RowImpl(table, row);}.
+     */
+    private static final Implementation newRowImpl = new Implementation() {
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            return (mv, context, method) -> {
+                String owner = target.getInstrumentedType().getInternalName();
+                mv.visitTypeInsn(Opcodes.NEW, owner);
+                mv.visitInsn(Opcodes.DUP);
+                loadTable(mv);
+                mv.visitVarInsn(Opcodes.ILOAD, 1);
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, "<init>", "(" + TABLE_DESCRIPTOR + "I)V", false);
+                mv.visitInsn(Opcodes.ARETURN);
+                return new Size(4, 2);
+            };
+        }
+    };
+
+    private RowGenerator() {
+        // empty
+    }
+}
@@ -21,9 +21,14 @@
 
 package com.techsenger.statefx.core.impl;
 
+import com.techsenger.statefx.core.Paged;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -35,8 +40,30 @@ class ScannerResult {
 
         private final Method method;
 
+        /**
+         * The declarations of the method in all the interfaces of the state.
+         */
+        private final List<Method> declarations = new ArrayList<>();
+
         private boolean isSynchronized;
 
+        /**
+         * The value of {@code InitialCapacity} or -1 if there is no annotation.
+         */
+        private int initialCapacity = -1;
+
+        /**
+         * The value of {@code BackingType} or null if there is no annotation.
+         */
+        private Class<?> backingType;
+
+        /**
+         * {@code Paged} or null if there is no annotation.
+         */
+        private Paged paged;
+
+        private boolean batched;
+
         MethodDescriptor(Method method) {
             this.method = method;
         }
@@ -49,9 +76,45 @@ class ScannerResult {
             this.isSynchronized = isSynchronized;
         }
 
+        public int getInitialCapacity() {
+            return initialCapacity;
+        }
+
+        public void setInitialCapacity(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+
+        public Class<?> getBackingType() {
+            return backingType;
+        }
+
+        public void setBackingType(Class<?> backingType) {
+            this.backingType = backingType;
+        }
+
+        public Paged getPaged() {
+            return paged;
+        }
+
+        public void setPaged(Paged paged) {
+            this.paged = paged;
+        }
+
+        public boolean isBatched() {
+            return batched;
+        }
+
+        public void setBatched(boolean batched) {
+            this.batched = batched;
+        }
+
         public Method getMethod() {
             return method;
         }
+
+        public List<Method> getDeclarations() {
+            return declarations;
+        }
     }
 
     private final Class<?> type;
@@ -88,12 +151,38 @@ class ScannerResult {
      */
     private final Map<String, MethodDescriptor> modifiableMapGetters = new HashMap<>();
 
+    /**
+     * Name without prefix "get".
+     */
+    private final Map<String, MethodDescriptor> arrayGetters = new HashMap<>();
+
+    /**
+     * Name without prefix "getModifiable".
+     */
+    private final Map<String, MethodDescriptor> modifiableArrayGetters = new HashMap<>();
+
+    /**
+     * Getters annotated with {@code SortedView} or {@code FilteredView}, name without prefix "get".
+     */
+    private final Map<String, Method> viewGetters = new HashMap<>();
+
     // all other getters
     private final Map<String, Method> getters = new HashMap<>();
 
     // all other setters
     private final  Map<String, Method> setters = new HashMap<>();
 
+    /**
+     * Names of property, getter and setter methods that are annotated with {@code Synchronized} at least in one
+     * interface.
+     */
+    private final Set<String> synchronizedMethods = new HashSet<>();
+
+    /**
+     * Declarations annotated with {@code DefaultValue} by names of property, getter and setter methods.
+     */
+    private final Map<String, List<Method>> defaultValueMethods = new HashMap<>();
+
     ScannerResult(Class<?> type) {
         this.type = type;
     }
@@ -130,6 +219,18 @@ class ScannerResult {
         return modifiableMapGetters;
     }
 
+    public Map<String, MethodDescriptor> getArrayGetters() {
+        return arrayGetters;
+    }
+
+    public Map<String, MethodDescriptor> getModifiableArrayGetters() {
+        return modifiableArrayGetters;
+    }
+
+    public Map<String, Method> getViewGetters() {
+        return viewGetters;
+    }
+
     public Map<String, Method> getGetters() {
         return getters;
     }
@@ -137,4 +238,12 @@ class ScannerResult {
     public Map<String, Method> getSetters() {
         return setters;
     }
+
+    public Set<String> getSynchronizedMethods() {
+        return synchronizedMethods;
+    }
+
+    public Map<String, List<Method>> getDefaultValueMethods() {
+        return defaultValueMethods;
+    }
 }
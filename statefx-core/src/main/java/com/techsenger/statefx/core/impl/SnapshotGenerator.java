@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateSnapshot;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import com.techsenger.statefx.core.collections.StateCollections;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.MultipleParentClassLoader;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.ExceptionMethod;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.ToStringMethod;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender.Size;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.matcher.ElementMatchers;
+
+/**
+ * Generates {@link StateSnapshot} classes for state interfaces. A snapshot has a final field per property, container
+ * and view of the state, its constructor reads the state through the getters of the interface and copies the
+ * containers with the {@code immutableObservable*} methods of {@link StateCollections}. A paged list is not read, the
+ * snapshot gets an empty immutable list instead.
+ *
+ * @author Pavel Castornii
+ */
+public final class SnapshotGenerator {
+
+    private static final String STATE_COLLECTIONS = Type.getInternalName(StateCollections.class);
+
+    /**
+     * Copy methods of {@code StateCollections} by getter return types.
+     */
+    private static final Map<Class<?>, Method> copyMethods = Map.of(
+            ObservableList.class, findCopyMethod("immutableObservableList", Collection.class),
+            ObservableSet.class, findCopyMethod("immutableObservableSet", Collection.class),
+            ObservableMap.class, findCopyMethod("immutableObservableMap", Map.class),
+            ObservableIntegerArray.class,
+                    findCopyMethod("immutableObservableIntegerArray", ObservableIntegerArray.class),
+            ObservableFloatArray.class, findCopyMethod("immutableObservableFloatArray", ObservableFloatArray.class),
+            ObservableDoubleArray.class,
+                    findCopyMethod("immutableObservableDoubleArray", ObservableDoubleArray.class));
+
+    /**
+     * A captured member of the state: a property, a container or a view.
+     */
+    private static final class SnapshotField {
+
+        private final String name;
+
+        private final Method getter;
+
+        /**
+         * The method of {@code StateCollections} that copies the container or null for a property.
+         */
+        private final Method copyMethod;
+
+        /**
+         * True if the state is not read and the container is empty, as for a paged list.
+         */
+        private final boolean empty;
+
+        SnapshotField(String name, Method getter, Method copyMethod, boolean empty) {
+            this.name = name;
+            this.getter = getter;
+            this.copyMethod = copyMethod;
+            this.empty = empty;
+        }
+    }
+
+    public static Class<? extends StateSnapshot> generate(Class<?> interfaceClass) {
+        var analyzerResult = MethodAnalyzer.analyze(interfaceClass, false);
+        List<SnapshotField> fields = new ArrayList<>();
+        for (var meta : analyzerResult.getProperties()) {
+            fields.add(new SnapshotField(meta.getName(), meta.getGetter(), null, false));
+        }
+        List<ContainerMeta<?>> containers = new ArrayList<>();
+        containers.addAll(analyzerResult.getLists());
+        containers.addAll(analyzerResult.getSets());
+        containers.addAll(analyzerResult.getMaps());
+        containers.addAll(analyzerResult.getArrays());
+        for (var meta : containers) {
+            // the elements of a paged list belong to the provider, so the snapshot has an empty list
+            fields.add(new SnapshotField(meta.getName(), meta.getGetter(),
+                    copyMethods.get(meta.getGetter().getReturnType()), meta.isPaged()));
+        }
+        for (var meta : analyzerResult.getViews()) {
+            fields.add(new SnapshotField(meta.getName(), meta.getGetter(),
+                    copyMethods.get(meta.getGetter().getReturnType()), false));
+        }
+        fields.sort(Comparator.comparing(f -> f.name));
+
+        var loader = new MultipleParentClassLoader.Builder()
+                .appendMostSpecific(interfaceClass, StateSnapshot.class)
+                .build();
+        DynamicType.Builder<?> builder = new ByteBuddy()
+                .subclass(StateSnapshot.class, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
+                .implement(interfaceClass)
+                .name(generateClassName(interfaceClass))
+                // property methods, setters, modifiable getters and so on
+                .method(ElementMatchers.isAbstract())
+                .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class, "Snapshot is immutable"))
+                .method(ElementMatchers.named("snapshot").and(ElementMatchers.takesArguments(0)))
+                .intercept(FixedValue.self())
+                .method(ElementMatchers.isToString())
+                .intercept(ToStringMethod.prefixedBy(interfaceClass.getSimpleName()));
+        for (var field : fields) {
+            var getter = field.getter;
+            builder = builder.defineField(field.name, getter.getReturnType(), Visibility.PRIVATE,
+                            FieldManifestation.FINAL)
+                    .defineMethod(getter.getName(), getter.getReturnType(), Visibility.PUBLIC)
+                    .intercept(FieldAccessor.ofField(field.name));
+        }
+        var unloaded = builder
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(interfaceClass)
+                .intercept(new ConstructorImpl(interfaceClass, fields))
+                .defineMethod("copy", StateSnapshot.class, Visibility.PROTECTED)
+                .withParameters(State.class)
+                .intercept(new CopyImpl(interfaceClass))
+                .make();
+        return (Class<? extends StateSnapshot>) unloaded.load(loader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    private static String generateClassName(Class<?> interfaceClass) {
+        String packageName = interfaceClass.getPackage() != null ? interfaceClass.getPackage().getName() + "." : "";
+        String simpleName = interfaceClass.getSimpleName();
+        return packageName + simpleName + "Snapshot$$ByteBuddy$$" + System.currentTimeMillis()
+                + "_" + Integer.toHexString(interfaceClass.hashCode());
+    }
+
+    private static Method findCopyMethod(String name, Class<?> parameterType) {
+        try {
+            return StateCollections.class.getMethod(name, parameterType);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * {@code super(); this.foo = state.getFoo(); this.items = StateCollections.immutableObservableList(
+     * state.getItems()); ...}.
+     */
+    private static class ConstructorImpl implements Implementation {
+
+        private final Class<?> interfaceClass;
+
+        private final List<SnapshotField> fields;
+
+        ConstructorImpl(Class<?> interfaceClass, List<SnapshotField> fields) {
+            this.interfaceClass = interfaceClass;
+            this.fields = fields;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            String owner = target.getInstrumentedType().getInternalName();
+            String interfaceName = Type.getInternalName(interfaceClass);
+            return (mv, context, method) -> {
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(StateSnapshot.class), "<init>", "()V",
+                        false);
+                for (var field : fields) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 0);
+                    if (field.empty) {
+                        mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(List.class), "of",
+                                "()Ljava/util/List;", true);
+                    } else {
+                        mv.visitVarInsn(Opcodes.ALOAD, 1);
+                        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, interfaceName, field.getter.getName(),
+                                Type.getMethodDescriptor(field.getter), true);
+                    }
+                    if (field.copyMethod != null) {
+                        mv.visitMethodInsn(Opcodes.INVOKESTATIC, STATE_COLLECTIONS, field.copyMethod.getName(),
+                                Type.getMethodDescriptor(field.copyMethod), false);
+                    }
+                    mv.visitFieldInsn(Opcodes.PUTFIELD, owner, field.name,
+                            Type.getDescriptor(field.getter.getReturnType()));
+                }
+                mv.visitInsn(Opcodes.RETURN);
+                // a long or a double takes two slots
+                return new Size(4, 2);
+            };
+        }
+    }
+
+    /**
+     * {@code return new Snapshot((Foo) state);}.
+     */
+    private static class CopyImpl implements Implementation {
+
+        private final Class<?> interfaceClass;
+
+        CopyImpl(Class<?> interfaceClass) {
+            this.interfaceClass = interfaceClass;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Implementation.Target target) {
+            String owner = target.getInstrumentedType().getInternalName();
+            String interfaceDescriptor = Type.getDescriptor(interfaceClass);
+            return (mv, context, method) -> {
+                mv.visitTypeInsn(Opcodes.NEW, owner);
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(interfaceClass));
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, "<init>", "(" + interfaceDescriptor + ")V", false);
+                mv.visitInsn(Opcodes.ARETURN);
+                return new Size(3, 2);
+            };
+        }
+    }
+
+    private SnapshotGenerator() {
+        // empty
+    }
+}
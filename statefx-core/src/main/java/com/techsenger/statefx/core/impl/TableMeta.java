@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.table.TableRow;
+import java.lang.reflect.Method;
+
+/**
+ * The layout of a {@code StateTable}: the generated row class and one column per property.
+ *
+ * @author Pavel Castornii
+ */
+public final class TableMeta {
+
+    private final Class<? extends TableRow> rowClass;
+
+    private final String[] columnNames;
+
+    /**
+     * The type of the column array elements: a primitive type or {@code Object}.
+     */
+    private final Class<?>[] columnTypes;
+
+    /**
+     * Values of {@code DefaultValue} or nulls.
+     */
+    private final Object[] defaultValues;
+
+    private final Method[] propertyMethods;
+
+    TableMeta(Class<? extends TableRow> rowClass, String[] columnNames, Class<?>[] columnTypes,
+            Object[] defaultValues, Method[] propertyMethods) {
+        this.rowClass = rowClass;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.defaultValues = defaultValues;
+        this.propertyMethods = propertyMethods;
+    }
+
+    public Class<? extends TableRow> getRowClass() {
+        return rowClass;
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class<?> getColumnType(int column) {
+        return columnTypes[column];
+    }
+
+    public Object getDefaultValue(int column) {
+        return defaultValues[column];
+    }
+
+    public Method getPropertyMethod(int column) {
+        return propertyMethods[column];
+    }
+}
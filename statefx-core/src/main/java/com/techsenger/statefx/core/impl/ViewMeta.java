@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import java.lang.reflect.Method;
+
+/**
+ * Derived read-only list (sorted or filtered view) over another list of the state.
+ *
+ * @author Pavel Castornii
+ */
+class ViewMeta extends AbstractMeta {
+
+    private final Method getter;
+
+    private final String sourceName;
+
+    /**
+     * SortedList or FilteredList.
+     */
+    private final Class<?> viewType;
+
+    /**
+     * Comparator or Predicate.
+     */
+    private final Class<?> argumentType;
+
+    /**
+     * The class of the comparator or predicate.
+     */
+    private final Class<?> argumentImplType;
+
+    private String sourceFieldName;
+
+    ViewMeta(String name, Class<?> type, Method getter, String sourceName, Class<?> viewType,
+            Class<?> argumentType, Class<?> argumentImplType) {
+        super(name, type);
+        this.getter = getter;
+        this.sourceName = sourceName;
+        this.viewType = viewType;
+        this.argumentType = argumentType;
+        this.argumentImplType = argumentImplType;
+    }
+
+    public Method getGetter() {
+        return getter;
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    public Class<?> getViewType() {
+        return viewType;
+    }
+
+    public Class<?> getArgumentType() {
+        return argumentType;
+    }
+
+    public Class<?> getArgumentImplType() {
+        return argumentImplType;
+    }
+
+    public String getSourceFieldName() {
+        return sourceFieldName;
+    }
+
+    public void setSourceFieldName(String sourceFieldName) {
+        this.sourceFieldName = sourceFieldName;
+    }
+}
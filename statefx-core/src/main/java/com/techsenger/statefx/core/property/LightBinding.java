@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.property;
+
+import java.lang.ref.WeakReference;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakListener;
+import javafx.beans.binding.Binding;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * The binding of a light property. It is created only when the property is bound, so unbound properties don't pay
+ * for the binding fields. Like in the standard JavaFX properties, the listener references the property weakly.
+ *
+ * @param <P> the type of the property
+ * @param <O> the type of the observable the property reads its value from
+ * @author Pavel Castornii
+ */
+abstract class LightBinding<P, O extends ObservableValue<?>> implements InvalidationListener, WeakListener {
+
+    private final WeakReference<P> propertyRef;
+
+    private final ObservableValue<?> source;
+
+    private final O observable;
+
+    /**
+     * Creates a binding and adds it as a listener to the observable.
+     *
+     * @param property the bound property
+     * @param source the observable passed to {@code bind(...)}
+     * @param observable either the source or a wrapper of the source that provides primitive values
+     */
+    LightBinding(P property, ObservableValue<?> source, O observable) {
+        this.propertyRef = new WeakReference<>(property);
+        this.source = source;
+        this.observable = observable;
+        observable.addListener(this);
+    }
+
+    @Override
+    public void invalidated(Observable o) {
+        P property = propertyRef.get();
+        if (property == null) {
+            o.removeListener(this);
+        } else {
+            markInvalid(property);
+        }
+    }
+
+    @Override
+    public boolean wasGarbageCollected() {
+        return propertyRef.get() == null;
+    }
+
+    ObservableValue<?> getSource() {
+        return source;
+    }
+
+    O getObservable() {
+        return observable;
+    }
+
+    void dispose() {
+        observable.removeListener(this);
+        if (observable != source && observable instanceof Binding<?> binding) {
+            binding.dispose();
+        }
+    }
+
+    protected abstract void markInvalid(P property);
+}
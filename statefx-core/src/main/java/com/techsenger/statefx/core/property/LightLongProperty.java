@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.property;
+
+import com.techsenger.statefx.core.Disposable;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.LongExpression;
+import javafx.beans.property.LongProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * A lightweight {@link LongProperty} with the same behavior as {@code SimpleLongProperty}, but with a smaller
+ * footprint. The property has no bean and name (so {@link #getBean()} returns {@code null} and {@link #getName()}
+ * returns an empty string), keeps its binding in a single field that is set only while the property is bound and
+ * stores a single invalidation listener without any wrapper object. Instances of this class are created for
+ * properties of the generated states.
+ *
+ * @author Pavel Castornii
+ */
+public class LightLongProperty extends LongProperty implements Disposable {
+
+    private long value;
+
+    private boolean valid = true;
+
+    private Binding binding;
+
+    /**
+     * {@code null}, an {@code InvalidationListener} or a {@code ListenerSupport}.
+     */
+    private Object listeners;
+
+    public LightLongProperty() {
+        // empty
+    }
+
+    public LightLongProperty(long initialValue) {
+        this.value = initialValue;
+    }
+
+    @Override
+    public Object getBean() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return "";
+    }
+
+    @Override
+    public long get() {
+        valid = true;
+        return binding == null ? value : binding.getObservable().get();
+    }
+
+    @Override
+    public void set(long newValue) {
+        if (binding != null) {
+            throw new RuntimeException("A bound value cannot be set.");
+        }
+        if (value != newValue) {
+            value = newValue;
+            markInvalid();
+        }
+    }
+
+    @Override
+    public boolean isBound() {
+        return binding != null;
+    }
+
+    @Override
+    public void bind(ObservableValue<? extends Number> source) {
+        if (source == null) {
+            throw new NullPointerException("Cannot bind to null");
+        }
+        if (binding == null || !source.equals(binding.getSource())) {
+            unbind();
+            ObservableLongValue observable = source instanceof ObservableLongValue v
+                    ? v : LongExpression.longExpression(source);
+            binding = new Binding(this, source, observable);
+            markInvalid();
+        }
+    }
+
+    @Override
+    public void unbind() {
+        if (binding != null) {
+            value = binding.getObservable().get();
+            binding.dispose();
+            binding = null;
+        }
+    }
+
+    /**
+     * Unbinds the property and removes all its listeners.
+     */
+    @Override
+    public void dispose() {
+        unbind();
+        listeners = null;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners = ListenerSupport.addListener(listeners, this, listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners = ListenerSupport.removeListener(listeners, listener);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super Number> listener) {
+        listeners = ListenerSupport.addListener(listeners, this, listener);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super Number> listener) {
+        listeners = ListenerSupport.removeListener(listeners, listener);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("LongProperty [");
+        if (binding != null) {
+            result.append("bound, ");
+            if (valid) {
+                result.append("value: ").append(get());
+            } else {
+                result.append("invalid");
+            }
+        } else {
+            result.append("value: ").append(get());
+        }
+        result.append("]");
+        return result.toString();
+    }
+
+    private void markInvalid() {
+        if (valid) {
+            valid = false;
+            ListenerSupport.fireValueChangedEvent(listeners, this);
+        }
+    }
+
+    private static final class Binding extends LightBinding<LightLongProperty, ObservableLongValue> {
+
+        Binding(LightLongProperty property, ObservableValue<?> source, ObservableLongValue observable) {
+            super(property, source, observable);
+        }
+
+        @Override
+        protected void markInvalid(LightLongProperty property) {
+            property.markInvalid();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.property;
+
+import java.util.Arrays;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Listener storage of the light properties. A property keeps a single {@code Object} slot that is either
+ * {@code null}, the only {@link InvalidationListener} itself (the fast path without any extra object) or an instance
+ * of this class. The notification semantics are the same as in the standard JavaFX properties: the value is validated
+ * when a listener is added, change listeners are notified only if the value was changed and exceptions thrown by
+ * listeners are passed to the uncaught exception handler of the current thread.
+ *
+ * @author Pavel Castornii
+ */
+abstract class ListenerSupport {
+
+    static Object addListener(Object listeners, ObservableValue<?> observable, InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        observable.getValue(); // validate observable
+        if (listeners == null) {
+            return listener;
+        } else if (listeners instanceof ListenerSupport support) {
+            return support.add(listener);
+        } else {
+            var generic = new Generic(observable);
+            generic.add((InvalidationListener) listeners);
+            return generic.add(listener);
+        }
+    }
+
+    static Object addListener(Object listeners, ObservableValue<?> observable, ChangeListener<?> listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        observable.getValue(); // validate observable
+        if (listeners == null) {
+            return new SingleChange(observable, listener);
+        } else if (listeners instanceof ListenerSupport support) {
+            return support.add(listener);
+        } else {
+            var generic = new Generic(observable);
+            generic.add((InvalidationListener) listeners);
+            return generic.add(listener);
+        }
+    }
+
+    static Object removeListener(Object listeners, InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        if (listeners instanceof ListenerSupport support) {
+            return support.remove(listener);
+        } else if (listener.equals(listeners)) {
+            return null;
+        } else {
+            return listeners;
+        }
+    }
+
+    static Object removeListener(Object listeners, ChangeListener<?> listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        if (listeners instanceof ListenerSupport support) {
+            return support.remove(listener);
+        } else {
+            return listeners;
+        }
+    }
+
+    static void fireValueChangedEvent(Object listeners, ObservableValue<?> observable) {
+        if (listeners == null) {
+            return;
+        } else if (listeners instanceof ListenerSupport support) {
+            support.fireValueChangedEvent();
+        } else {
+            invalidated((InvalidationListener) listeners, observable);
+        }
+    }
+
+    private static void invalidated(InvalidationListener listener, ObservableValue<?> observable) {
+        try {
+            listener.invalidated(observable);
+        } catch (Exception e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void changed(ChangeListener<?> listener, ObservableValue<?> observable, Object oldValue,
+            Object newValue) {
+        try {
+            ((ChangeListener<Object>) listener).changed((ObservableValue<Object>) observable, oldValue, newValue);
+        } catch (Exception e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+    }
+
+    private static boolean isChanged(Object oldValue, Object newValue) {
+        return newValue == null ? oldValue != null : !newValue.equals(oldValue);
+    }
+
+    protected final ObservableValue<?> observable;
+
+    ListenerSupport(ObservableValue<?> observable) {
+        this.observable = observable;
+    }
+
+    protected abstract Object add(InvalidationListener listener);
+
+    protected abstract Object add(ChangeListener<?> listener);
+
+    protected abstract Object remove(InvalidationListener listener);
+
+    protected abstract Object remove(ChangeListener<?> listener);
+
+    protected abstract void fireValueChangedEvent();
+
+    private static final class SingleChange extends ListenerSupport {
+
+        private final ChangeListener<?> listener;
+
+        private Object currentValue;
+
+        private SingleChange(ObservableValue<?> observable, ChangeListener<?> listener) {
+            super(observable);
+            this.listener = listener;
+            this.currentValue = observable.getValue();
+        }
+
+        @Override
+        protected Object add(InvalidationListener listener) {
+            var generic = new Generic(observable);
+            generic.add(this.listener);
+            return generic.add(listener);
+        }
+
+        @Override
+        protected Object add(ChangeListener<?> listener) {
+            var generic = new Generic(observable);
+            generic.add(this.listener);
+            return generic.add(listener);
+        }
+
+        @Override
+        protected Object remove(InvalidationListener listener) {
+            return this;
+        }
+
+        @Override
+        protected Object remove(ChangeListener<?> listener) {
+            return listener.equals(this.listener) ? null : this;
+        }
+
+        @Override
+        protected void fireValueChangedEvent() {
+            var oldValue = currentValue;
+            currentValue = observable.getValue();
+            if (isChanged(oldValue, currentValue)) {
+                changed(listener, observable, oldValue, currentValue);
+            }
+        }
+    }
+
+    private static final class Generic extends ListenerSupport {
+
+        private InvalidationListener[] invalidationListeners = new InvalidationListener[0];
+
+        private ChangeListener<?>[] changeListeners = new ChangeListener<?>[0];
+
+        private Object currentValue;
+
+        private Generic(ObservableValue<?> observable) {
+            super(observable);
+        }
+
+        @Override
+        protected Object add(InvalidationListener listener) {
+            var length = invalidationListeners.length;
+            invalidationListeners = Arrays.copyOf(invalidationListeners, length + 1);
+            invalidationListeners[length] = listener;
+            return this;
+        }
+
+        @Override
+        protected Object add(ChangeListener<?> listener) {
+            var length = changeListeners.length;
+            if (length == 0) {
+                currentValue = observable.getValue();
+            }
+            changeListeners = Arrays.copyOf(changeListeners, length + 1);
+            changeListeners[length] = listener;
+            return this;
+        }
+
+        @Override
+        protected Object remove(InvalidationListener listener) {
+            for (var i = 0; i < invalidationListeners.length; i++) {
+                if (listener.equals(invalidationListeners[i])) {
+                    invalidationListeners = removeAt(invalidationListeners, i);
+                    return simplify();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        protected Object remove(ChangeListener<?> listener) {
+            for (var i = 0; i < changeListeners.length; i++) {
+                if (listener.equals(changeListeners[i])) {
+                    changeListeners = removeAt(changeListeners, i);
+                    return simplify();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        protected void fireValueChangedEvent() {
+            // arrays are never modified in place, so listeners can be added and removed during notification
+            final var curInvalidationListeners = invalidationListeners;
+            final var curChangeListeners = changeListeners;
+            for (var listener : curInvalidationListeners) {
+                invalidated(listener, observable);
+            }
+            if (curChangeListeners.length > 0) {
+                var oldValue = currentValue;
+                currentValue = observable.getValue();
+                if (isChanged(oldValue, currentValue)) {
+                    for (var listener : curChangeListeners) {
+                        changed(listener, observable, oldValue, currentValue);
+                    }
+                }
+            }
+        }
+
+        private Object simplify() {
+            if (invalidationListeners.length == 0 && changeListeners.length == 0) {
+                return null;
+            } else if (invalidationListeners.length == 1 && changeListeners.length == 0) {
+                return invalidationListeners[0];
+            } else if (invalidationListeners.length == 0 && changeListeners.length == 1) {
+                return new SingleChange(observable, changeListeners[0]);
+            } else {
+                return this;
+            }
+        }
+
+        private static <T> T[] removeAt(T[] array, int index) {
+            var result = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.property;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * A {@link SimpleDoubleProperty} whose value access, binding and listener registration are guarded by the
+ * property's own monitor. Instances of this class are created for properties annotated with
+ * {@link com.techsenger.statefx.core.Synchronized}.
+ *
+ * <p>Listeners are notified synchronously on the thread that changed the value, while the monitor is held. See
+ * {@link com.techsenger.statefx.core.Synchronized} for details.
+ *
+ * @author Pavel Castornii
+ */
+public class SynchronizedDoubleProperty extends SimpleDoubleProperty {
+
+    public SynchronizedDoubleProperty() {
+        super();
+    }
+
+    public SynchronizedDoubleProperty(double initialValue) {
+        super(initialValue);
+    }
+
+    @Override
+    public synchronized double get() {
+        return super.get();
+    }
+
+    @Override
+    public synchronized void set(double newValue) {
+        super.set(newValue);
+    }
+
+    @Override
+    public synchronized boolean isBound() {
+        return super.isBound();
+    }
+
+    @Override
+    public synchronized void bind(ObservableValue<? extends Number> newObservable) {
+        super.bind(newObservable);
+    }
+
+    @Override
+    public synchronized void unbind() {
+        super.unbind();
+    }
+
+    @Override
+    public synchronized void addListener(InvalidationListener listener) {
+        super.addListener(listener);
+    }
+
+    @Override
+    public synchronized void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+    }
+
+    @Override
+    public synchronized void addListener(ChangeListener<? super Number> listener) {
+        super.addListener(listener);
+    }
+
+    @Override
+    public synchronized void removeListener(ChangeListener<? super Number> listener) {
+        super.removeListener(listener);
+    }
+}
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.table;
+
+import com.techsenger.statefx.core.InstantiationException;
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.core.impl.ClassGenerator;
+import com.techsenger.statefx.core.impl.RowGenerator;
+import com.techsenger.statefx.core.impl.TableMeta;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.FloatProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.Property;
+
+/**
+ * A table that stores many instances of one state interface in columns, one primitive array per property
+ * ({@code Object[]} for string and object properties), instead of one object graph per instance.
+ *
+ * <p>Rows are accessed through flyweight views returned by {@link #get(int)}. A view implements the state interface,
+ * its getters and setters read and write the columns directly. Property methods of a view (for example,
+ * {@code fooProperty()}) inflate the row: a full state is created by {@link StateFactory}, filled with the values of
+ * the row and kept until {@link #release(int)} is called. While a row is inflated, the property objects are the source
+ * of truth, setters of the view go through them (so listeners and bindings work as usual), and all changes are
+ * written back to the columns. So only rows that are actually bound, for example, visible cells, cost a full state.
+ *
+ * <p>Boolean and numeric columns can be stored off the heap (see {@link TableStorage#OFF_HEAP}), then millions of
+ * values don't add work to the garbage collector, while listeners still work through inflated rows.
+ *
+ * <p>Only interfaces that consist of properties are supported, interfaces that extend {@code UndoableState},
+ * {@code ObservableState} or {@code Disposable} are rejected. If the interface extends {@code SnapshottableState}, a
+ * view takes a snapshot of its row without inflating it. Row indexes are stable, rows can be added, but not removed one
+ * by one. This class is not thread-safe.
+ *
+ * @param <T> the state interface type
+ * @author Pavel Castornii
+ */
+public final class StateTable<T extends State> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final ClassValue<TableMeta> metas = new ClassValue<>() {
+
+        @Override
+        protected TableMeta computeValue(Class<?> type) {
+            ClassGenerator.checkByteBuddy("StateTable");
+            return RowGenerator.generate(type.asSubclass(State.class));
+        }
+    };
+
+    /**
+     * The full state of an inflated row with its properties and the listeners that write changes to the columns.
+     */
+    private static final class InflatedRow {
+
+        private final State state;
+
+        private final Property<?>[] properties;
+
+        private final InvalidationListener[] listeners;
+
+        InflatedRow(State state, int columnCount) {
+            this.state = state;
+            this.properties = new Property<?>[columnCount];
+            this.listeners = new InvalidationListener[columnCount];
+        }
+    }
+
+    private final Class<T> type;
+
+    private final TableMeta meta;
+
+    /**
+     * The view of row -1 that is used to create views of other rows without reflection.
+     */
+    private final TableRow prototype;
+
+    private final TableStorage storage;
+
+    /**
+     * One array per column: boolean[], int[], long[], float[], double[] or Object[]. With the off-heap storage only
+     * string and object columns have arrays.
+     */
+    private final Object[] columns;
+
+    /**
+     * Row records of the off-heap storage or null.
+     */
+    private MemorySegment segment;
+
+    /**
+     * Offsets of the boolean and numeric columns in a row record of the off-heap storage.
+     */
+    private final long[] offsets;
+
+    /**
+     * The size of a row record of the off-heap storage.
+     */
+    private long stride;
+
+    private int capacity;
+
+    private int size;
+
+    private final Map<Integer, InflatedRow> inflatedRows = new HashMap<>();
+
+    /**
+     * Creates an empty table with the default initial capacity.
+     *
+     * @param type the state interface class
+     */
+    public StateTable(Class<T> type) {
+        this(type, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty table.
+     *
+     * @param type the state interface class
+     * @param initialCapacity the number of rows the columns are allocated for
+     */
+    public StateTable(Class<T> type, int initialCapacity) {
+        this(type, initialCapacity, TableStorage.HEAP);
+    }
+
+    /**
+     * Creates an empty table.
+     *
+     * @param type the state interface class
+     * @param initialCapacity the number of rows the columns are allocated for
+     * @param storage the storage of the boolean and numeric columns
+     */
+    public StateTable(Class<T> type, int initialCapacity, TableStorage storage) {
+        if (type == null) {
+            throw new IllegalArgumentException("Interface class can't be null");
+        }
+        if (storage == null) {
+            throw new IllegalArgumentException("Storage can't be null");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative initial capacity: " + initialCapacity);
+        }
+        this.type = type;
+        this.meta = metas.get(type);
+        try {
+            this.prototype = meta.getRowClass().getConstructor(StateTable.class, int.class).newInstance(this, -1);
+        } catch (ReflectiveOperationException e) {
+            throw new InstantiationException("Failed to instantiate row of table: " + type.getName(), e);
+        }
+        this.storage = storage;
+        this.columns = new Object[meta.getColumnCount()];
+        this.offsets = new long[columns.length];
+        this.capacity = initialCapacity;
+        for (var column = 0; column < columns.length; column++) {
+            var columnType = meta.getColumnType(column);
+            if (storage == TableStorage.HEAP || columnType == Object.class) {
+                columns[column] = Array.newInstance(columnType, initialCapacity);
+            }
+        }
+        if (storage == TableStorage.OFF_HEAP) {
+            computeLayout();
+            this.segment = allocate(initialCapacity);
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public TableStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the name of the property that is stored in the column.
+     */
+    public String getColumnName(int column) {
+        return meta.getColumnName(column);
+    }
+
+    /**
+     * Returns the index of the column of the property or -1 if there is no such property.
+     */
+    public int getColumnIndex(String propertyName) {
+        for (var column = 0; column < columns.length; column++) {
+            if (meta.getColumnName(column).equals(propertyName)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a row with default values and returns its index.
+     */
+    public int add() {
+        if (size == capacity) {
+            grow();
+        }
+        var row = size++;
+        for (var column = 0; column < columns.length; column++) {
+            writeDefault(column, row);
+        }
+        return row;
+    }
+
+    /**
+     * Adds a row and passes its view to the initializer.
+     *
+     * @return the index of the row
+     */
+    public int add(Consumer<? super T> initializer) {
+        if (initializer == null) {
+            throw new IllegalArgumentException("Initializer can't be null");
+        }
+        var row = add();
+        initializer.accept(get(row));
+        return row;
+    }
+
+    /**
+     * Returns a flyweight view of the row. Each call returns a new view.
+     */
+    public T get(int row) {
+        Objects.checkIndex(row, size);
+        // the row class is generated for the type of the table
+        @SuppressWarnings("unchecked")
+        var view = (T) prototype.newRow(row);
+        return view;
+    }
+
+    /**
+     * Removes all rows, inflated rows are released.
+     */
+    public void clear() {
+        for (var row : new ArrayList<>(inflatedRows.keySet())) {
+            release(row);
+        }
+        for (var column : columns) {
+            if (column instanceof Object[] objects) {
+                Arrays.fill(objects, 0, size, null);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the full state of the row, creating it on the first call. Property methods of row views call this
+     * method, so a row is inflated as soon as one of its properties is requested.
+     */
+    public T inflate(int row) {
+        Objects.checkIndex(row, size);
+        var inflated = inflatedRows.get(row);
+        if (inflated != null) {
+            // inflated states are created by the factory for the type of the table
+            @SuppressWarnings("unchecked")
+            var state = (T) inflated.state;
+            return state;
+        }
+        var state = StateFactory.create(type);
+        inflated = new InflatedRow(state, columns.length);
+        for (var column = 0; column < columns.length; column++) {
+            Property<?> property;
+            try {
+                property = (Property<?>) meta.getPropertyMethod(column).invoke(state);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new InstantiationException("Failed to inflate row of table: " + type.getName(), e);
+            }
+            readColumn(column, row, property);
+            final int c = column;
+            InvalidationListener listener = o -> writeColumn(c, row, property);
+            property.addListener(listener);
+            // validates the property, so the next change is reported
+            listener.invalidated(property);
+            inflated.properties[column] = property;
+            inflated.listeners[column] = listener;
+        }
+        inflatedRows.put(row, inflated);
+        return state;
+    }
+
+    /**
+     * Returns true if the full state of the row exists.
+     */
+    public boolean isInflated(int row) {
+        return inflatedRows.containsKey(row);
+    }
+
+    /**
+     * Returns the number of inflated rows.
+     */
+    public int getInflatedCount() {
+        return inflatedRows.size();
+    }
+
+    /**
+     * Detaches the full state of the row from the table, the columns keep the last values. The state must not be
+     * used after that, for example, all bindings to its properties should be removed before the release.
+     */
+    public void release(int row) {
+        var inflated = inflatedRows.remove(row);
+        if (inflated != null) {
+            for (var column = 0; column < columns.length; column++) {
+                inflated.properties[column].removeListener(inflated.listeners[column]);
+            }
+        }
+    }
+
+    public boolean getBoolean(int column, int row) {
+        Objects.checkIndex(row, size);
+        return readBoolean(column, row);
+    }
+
+    public void setBoolean(int column, int row, boolean value) {
+        var inflated = findInflated(row);
+        if (inflated != null) {
+            ((BooleanProperty) inflated.properties[column]).set(value);
+        } else {
+            writeBoolean(column, row, value);
+        }
+    }
+
+    public int getInt(int column, int row) {
+        Objects.checkIndex(row, size);
+        return readInt(column, row);
+    }
+
+    public void setInt(int column, int row, int value) {
+        var inflated = findInflated(row);
+        if (inflated != null) {
+            ((IntegerProperty) inflated.properties[column]).set(value);
+        } else {
+            writeInt(column, row, value);
+        }
+    }
+
+    public long getLong(int column, int row) {
+        Objects.checkIndex(row, size);
+        return readLong(column, row);
+    }
+
+    public void setLong(int column, int row, long value) {
+        var inflated = findInflated(row);
+        if (inflated != null) {
+            ((LongProperty) inflated.properties[column]).set(value);
+        } else {
+            writeLong(column, row, value);
+        }
+    }
+
+    public float getFloat(int column, int row) {
+        Objects.checkIndex(row, size);
+        return readFloat(column, row);
+    }
+
+    public void setFloat(int column, int row, float value) {
+        var inflated = findInflated(row);
+        if (inflated != null) {
+            ((FloatProperty) inflated.properties[column]).set(value);
+        } else {
+            writeFloat(column, row, value);
+        }
+    }
+
+    public double getDouble(int column, int row) {
+        Objects.checkIndex(row, size);
+        return readDouble(column, row);
+    }
+
+    public void setDouble(int column, int row, double value) {
+        var inflated = findInflated(row);
+        if (inflated != null) {
+            ((DoubleProperty) inflated.properties[column]).set(value);
+        } else {
+            writeDouble(column, row, value);
+        }
+    }
+
+    public Object getObject(int column, int row) {
+        return ((Object[]) columns[column])[Objects.checkIndex(row, size)];
+    }
+
+    public void setObject(int column, int row, Object value) {
+        var inflated = findInflated(row);
+        if (inflated != null) {
+            // the column stores the values of the property, so its value type accepts them
+            @SuppressWarnings("unchecked")
+            var property = (Property<Object>) inflated.properties[column];
+            property.setValue(value);
+        } else {
+            ((Object[]) columns[column])[row] = value;
+        }
+    }
+
+    private InflatedRow findInflated(int row) {
+        Objects.checkIndex(row, size);
+        // no hashing while nothing is bound
+        return inflatedRows.isEmpty() ? null : inflatedRows.get(row);
+    }
+
+    private void grow() {
+        var newCapacity = Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+        if (segment != null) {
+            var grown = allocate(newCapacity);
+            MemorySegment.copy(segment, 0, grown, 0, size * stride);
+            // the old segment is released by the garbage collector
+            segment = grown;
+        }
+        for (var column = 0; column < columns.length; column++) {
+            var old = columns[column];
+            if (old != null) {
+                var grown = Array.newInstance(meta.getColumnType(column), newCapacity);
+                System.arraycopy(old, 0, grown, 0, size);
+                columns[column] = grown;
+            }
+        }
+        capacity = newCapacity;
+    }
+
+    private MemorySegment allocate(int rows) {
+        return Arena.ofAuto().allocate(Math.max(1, rows * stride), Long.BYTES);
+    }
+
+    /**
+     * Computes offsets of the boolean and numeric columns in a row record: wider values first, so all values are
+     * aligned without padding.
+     */
+    private void computeLayout() {
+        long offset = 0;
+        for (var width : new long[] {Long.BYTES, Integer.BYTES, Byte.BYTES}) {
+            for (var column = 0; column < columns.length; column++) {
+                var columnType = meta.getColumnType(column);
+                if (columnType != Object.class && columnWidth(columnType) == width) {
+                    offsets[column] = offset;
+                    offset += width;
+                }
+            }
+        }
+        // the record size is a multiple of the widest alignment
+        stride = (offset + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    private static long columnWidth(Class<?> columnType) {
+        if (columnType == long.class || columnType == double.class) {
+            return Long.BYTES;
+        } else if (columnType == int.class || columnType == float.class) {
+            return Integer.BYTES;
+        } else {
+            return Byte.BYTES;
+        }
+    }
+
+    private boolean readBoolean(int column, int row) {
+        if (segment != null) {
+            return segment.get(ValueLayout.JAVA_BYTE, row * stride + offsets[column]) != 0;
+        }
+        return ((boolean[]) columns[column])[row];
+    }
+
+    private void writeBoolean(int column, int row, boolean value) {
+        if (segment != null) {
+            segment.set(ValueLayout.JAVA_BYTE, row * stride + offsets[column], value ? (byte) 1 : (byte) 0);
+        } else {
+            ((boolean[]) columns[column])[row] = value;
+        }
+    }
+
+    private int readInt(int column, int row) {
+        if (segment != null) {
+            return segment.get(ValueLayout.JAVA_INT, row * stride + offsets[column]);
+        }
+        return ((int[]) columns[column])[row];
+    }
+
+    private void writeInt(int column, int row, int value) {
+        if (segment != null) {
+            segment.set(ValueLayout.JAVA_INT, row * stride + offsets[column], value);
+        } else {
+            ((int[]) columns[column])[row] = value;
+        }
+    }
+
+    private long readLong(int column, int row) {
+        if (segment != null) {
+            return segment.get(ValueLayout.JAVA_LONG, row * stride + offsets[column]);
+        }
+        return ((long[]) columns[column])[row];
+    }
+
+    private void writeLong(int column, int row, long value) {
+        if (segment != null) {
+            segment.set(ValueLayout.JAVA_LONG, row * stride + offsets[column], value);
+        } else {
+            ((long[]) columns[column])[row] = value;
+        }
+    }
+
+    private float readFloat(int column, int row) {
+        if (segment != null) {
+            return segment.get(ValueLayout.JAVA_FLOAT, row * stride + offsets[column]);
+        }
+        return ((float[]) columns[column])[row];
+    }
+
+    private void writeFloat(int column, int row, float value) {
+        if (segment != null) {
+            segment.set(ValueLayout.JAVA_FLOAT, row * stride + offsets[column], value);
+        } else {
+            ((float[]) columns[column])[row] = value;
+        }
+    }
+
+    private double readDouble(int column, int row) {
+        if (segment != null) {
+            return segment.get(ValueLayout.JAVA_DOUBLE, row * stride + offsets[column]);
+        }
+        return ((double[]) columns[column])[row];
+    }
+
+    private void writeDouble(int column, int row, double value) {
+        if (segment != null) {
+            segment.set(ValueLayout.JAVA_DOUBLE, row * stride + offsets[column], value);
+        } else {
+            ((double[]) columns[column])[row] = value;
+        }
+    }
+
+    private void writeDefault(int column, int row) {
+        var value = meta.getDefaultValue(column);
+        var columnType = meta.getColumnType(column);
+        if (columnType == boolean.class) {
+            writeBoolean(column, row, value != null && (Boolean) value);
+        } else if (columnType == int.class) {
+            writeInt(column, row, value != null ? (Integer) value : 0);
+        } else if (columnType == long.class) {
+            writeLong(column, row, value != null ? (Long) value : 0L);
+        } else if (columnType == float.class) {
+            writeFloat(column, row, value != null ? (Float) value : 0f);
+        } else if (columnType == double.class) {
+            writeDouble(column, row, value != null ? (Double) value : 0d);
+        } else {
+            ((Object[]) columns[column])[row] = value;
+        }
+    }
+
+    private void readColumn(int column, int row, Property<?> property) {
+        var columnType = meta.getColumnType(column);
+        if (columnType == boolean.class) {
+            ((BooleanProperty) property).set(readBoolean(column, row));
+        } else if (columnType == int.class) {
+            ((IntegerProperty) property).set(readInt(column, row));
+        } else if (columnType == long.class) {
+            ((LongProperty) property).set(readLong(column, row));
+        } else if (columnType == float.class) {
+            ((FloatProperty) property).set(readFloat(column, row));
+        } else if (columnType == double.class) {
+            ((DoubleProperty) property).set(readDouble(column, row));
+        } else {
+            // the column stores the values of the property, so its value type accepts them
+            @SuppressWarnings("unchecked")
+            var objectProperty = (Property<Object>) property;
+            objectProperty.setValue(((Object[]) columns[column])[row]);
+        }
+    }
+
+    private void writeColumn(int column, int row, Property<?> property) {
+        var columnType = meta.getColumnType(column);
+        if (columnType == boolean.class) {
+            writeBoolean(column, row, ((BooleanProperty) property).get());
+        } else if (columnType == int.class) {
+            writeInt(column, row, ((IntegerProperty) property).get());
+        } else if (columnType == long.class) {
+            writeLong(column, row, ((LongProperty) property).get());
+        } else if (columnType == float.class) {
+            writeFloat(column, row, ((FloatProperty) property).get());
+        } else if (columnType == double.class) {
+            writeDouble(column, row, ((DoubleProperty) property).get());
+        } else {
+            ((Object[]) columns[column])[row] = property.getValue();
+        }
+    }
+}
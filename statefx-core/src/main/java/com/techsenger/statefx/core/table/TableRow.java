@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.table;
+
+/**
+ * The base class of generated row views of a {@link StateTable}. A row view implements the state interface of the
+ * table, but keeps only the table and the row index, so it is cheap to create and can be discarded at any time.
+ * Two row views are equal if they refer to the same row of the same table.
+ *
+ * <p>This class is public only because generated classes extend it, it is not intended to be used directly.
+ *
+ * @author Pavel Castornii
+ */
+public abstract class TableRow {
+
+    protected final StateTable<?> table;
+
+    protected final int row;
+
+    protected TableRow(StateTable<?> table, int row) {
+        this.table = table;
+        this.row = row;
+    }
+
+    /**
+     * Returns the index of the row in the table.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TableRow other)) {
+            return false;
+        }
+        return table == other.table && row == other.row;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(table) + row;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getInterfaces()[0].getSimpleName() + "Row{" + "row=" + row + '}';
+    }
+
+    /**
+     * Creates a view of another row of the same table.
+     */
+    protected abstract TableRow newRow(int row);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.table;
+
+/**
+ * The storage of the boolean and numeric columns of a {@link StateTable}.
+ *
+ * @author Pavel Castornii
+ */
+public enum TableStorage {
+
+    /**
+     * One primitive array per column.
+     */
+    HEAP,
+
+    /**
+     * One off-heap memory segment for all boolean and numeric columns, a row is a record with fixed offsets of the
+     * columns. Values are invisible to the garbage collector, the memory is released when the table becomes
+     * unreachable. String and object columns are always stored on the heap.
+     */
+    OFF_HEAP
+}
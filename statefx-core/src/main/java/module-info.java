@@ -25,5 +25,8 @@ module com.techsenger.statefx.core {
     requires net.bytebuddy;
 
     exports com.techsenger.statefx.core;
+    exports com.techsenger.statefx.core.collections;
+    exports com.techsenger.statefx.core.property;
+    exports com.techsenger.statefx.core.table;
     exports com.techsenger.statefx.core.impl to com.techsenger.statefx.benchmark;
 }
\ No newline at end of file
@@ -0,0 +1,627 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.core.impl;
+
+import com.techsenger.statefx.core.Disposable;
+import com.techsenger.statefx.core.ObservableState;
+import com.techsenger.statefx.core.ObservableStateSupport;
+import com.techsenger.statefx.core.SnapshottableState;
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateSnapshot;
+import com.techsenger.statefx.core.UndoJournal;
+import com.techsenger.statefx.core.UndoableState;
+import static com.techsenger.statefx.core.impl.Constants.OBSERVABLE_SUPPORT_FIELD;
+import static com.techsenger.statefx.core.impl.Constants.UNDO_JOURNAL_FIELD;
+import static java.lang.constant.ConstantDescs.CD_Object;
+import static java.lang.constant.ConstantDescs.CD_boolean;
+import static java.lang.constant.ConstantDescs.CD_int;
+import static java.lang.constant.ConstantDescs.CD_void;
+import static java.lang.constant.ConstantDescs.INIT_NAME;
+import static java.lang.constant.ConstantDescs.MTD_void;
+import java.lang.classfile.ClassBuilder;
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.CodeBuilder;
+import java.lang.classfile.Opcode;
+import java.lang.classfile.TypeKind;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableSet;
+
+/**
+ * Generates runtime implementations for StateFX interfaces using the ClassFile API of the JDK. The generated classes
+ * are equivalent to the ones generated by {@link ByteBuddyGenerator}: the same fields, the same constructor and the
+ * same accessor bytecode. Byte Buddy adds bridge methods for covariant overrides automatically, here they are added
+ * explicitly. Stack maps and max stack/locals are computed by the API.
+ *
+ * @author Pavel Castornii
+ */
+final class ClassFileGenerator {
+
+    private static final ClassDesc CD_PROPERTY = desc(Property.class);
+
+    private static final ClassDesc CD_OBSERVABLE_VALUE = desc(ObservableValue.class);
+
+    private static final ClassDesc CD_OBSERVABLE_ARRAY = desc(ObservableArray.class);
+
+    private static final ClassDesc CD_DISPOSABLE = desc(Disposable.class);
+
+    private static final ClassDesc CD_OBSERVABLE_STATE = desc(ObservableState.class);
+
+    private static final ClassDesc CD_OBSERVABLE = desc(Observable.class);
+
+    private static final ClassDesc CD_INVALIDATION_LISTENER = desc(InvalidationListener.class);
+
+    private static final ClassDesc CD_OBSERVABLE_SUPPORT = desc(ObservableStateSupport.class);
+
+    private static final MethodTypeDesc MTD_LISTENER = MethodTypeDesc.of(CD_void, CD_INVALIDATION_LISTENER);
+
+    private static final ClassDesc CD_UNDO_JOURNAL = desc(UndoJournal.class);
+
+    private static final ClassDesc CD_STATE = desc(State.class);
+
+    /**
+     * Returns whether this backend can generate classes on the current runtime.
+     *
+     * @return true
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    public static <T> Class<? extends T> generate(Class<T> interfaceClass, AnalyzerResult analyzerResult,
+            boolean concreteTypes) {
+        var className = generateClassName(interfaceClass);
+        var thisClass = ClassDesc.of(className);
+        // name -> descriptors of implemented methods, used to find the methods that need bridges
+        Map<String, List<MethodTypeDesc>> implemented = new HashMap<>();
+        boolean undoable = UndoableState.class.isAssignableFrom(interfaceClass);
+
+        byte[] bytes = ClassFile.of().build(thisClass, cb -> {
+            int flags = ClassFile.ACC_PUBLIC | ClassFile.ACC_SUPER;
+            if (concreteTypes) {
+                flags |= ClassFile.ACC_FINAL;
+            }
+            cb.withFlags(flags)
+                .withSuperclass(CD_Object)
+                .withInterfaceSymbols(desc(interfaceClass), CD_DISPOSABLE, CD_OBSERVABLE_STATE);
+
+            for (var meta : analyzerResult.getProperties()) {
+                implementProperty(cb, thisClass, meta, undoable, implemented);
+            }
+            for (var meta : analyzerResult.getLists()) {
+                implementContainer(cb, thisClass, meta, implemented);
+            }
+            for (var meta : analyzerResult.getSets()) {
+                implementContainer(cb, thisClass, meta, implemented);
+            }
+            for (var meta : analyzerResult.getMaps()) {
+                implementContainer(cb, thisClass, meta, implemented);
+            }
+            for (var meta : analyzerResult.getArrays()) {
+                implementContainer(cb, thisClass, meta, implemented);
+            }
+            for (var meta : analyzerResult.getViews()) {
+                var fieldType = desc(meta.getType());
+                cb.withField(meta.getName(), fieldType, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+                implementFieldGetter(cb, thisClass, meta.getGetter(), meta.getName(), fieldType, implemented);
+            }
+
+            cb.withMethodBody(INIT_NAME, MTD_void, ClassFile.ACC_PUBLIC, code -> {
+                code.aload(0);
+                code.invokespecial(CD_Object, INIT_NAME, MTD_void);
+                for (var meta : analyzerResult.getProperties()) {
+                    initializeProperty(code, thisClass, meta);
+                }
+                for (var meta : collectContainers(analyzerResult)) {
+                    initializeContainer(code, thisClass, meta);
+                }
+                // views are initialized after containers, a view is always after its source
+                for (var meta : analyzerResult.getViews()) {
+                    initializeView(code, thisClass, meta);
+                }
+                code.return_();
+            });
+
+            // dispose() is not tracked as implemented, it never needs a bridge
+            cb.withMethodBody("dispose", MTD_void, ClassFile.ACC_PUBLIC, code -> {
+                if (undoable) {
+                    // the journal is detached first, so clearing the containers is not recorded
+                    code.aload(0);
+                    code.aconst_null();
+                    code.invokevirtual(thisClass, "setUndoJournal", MethodTypeDesc.of(CD_void, CD_UNDO_JOURNAL));
+                }
+                // if (this.support != null) { unregister the support from the members; this.support = null }
+                code.aload(0);
+                code.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+                code.ifThen(Opcode.IFNONNULL, block -> dropObservableSupport(block, thisClass, analyzerResult));
+                for (var meta : analyzerResult.getProperties()) {
+                    disposeProperty(code, thisClass, meta);
+                }
+                for (var meta : collectContainers(analyzerResult)) {
+                    clearContainer(code, thisClass, meta);
+                }
+                code.return_();
+            });
+
+            implementObservableState(cb, thisClass, analyzerResult);
+            if (undoable) {
+                implementUndoableState(cb, thisClass, analyzerResult);
+            }
+            if (SnapshottableState.class.isAssignableFrom(interfaceClass)) {
+                // return StateSnapshot.of(this);
+                cb.withMethodBody("snapshot", MethodTypeDesc.of(CD_STATE), ClassFile.ACC_PUBLIC, code -> {
+                    code.aload(0);
+                    code.invokestatic(desc(StateSnapshot.class), "of", MethodTypeDesc.of(CD_STATE, CD_STATE));
+                    code.areturn();
+                });
+            }
+
+            implementBridges(cb, thisClass, interfaceClass, implemented);
+        });
+
+        var loader = new GeneratedClassLoader(interfaceClass.getClassLoader());
+        return (Class<? extends T>) loader.define(className, bytes);
+    }
+
+    private static String generateClassName(Class<?> interfaceClass) {
+        String packageName = interfaceClass.getPackage() != null ? interfaceClass.getPackage().getName() + "." : "";
+        String simpleName = interfaceClass.getSimpleName();
+        return packageName + simpleName + "Impl$$ClassFile$$" + System.currentTimeMillis()
+                + "_" + Integer.toHexString(interfaceClass.hashCode());
+    }
+
+    private static void implementProperty(ClassBuilder cb, ClassDesc thisClass, PropertyMeta meta, boolean undoable,
+            Map<String, List<MethodTypeDesc>> implemented) {
+        var fieldType = desc(meta.getFieldType());
+        cb.withField(meta.getName(), fieldType, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+
+        // fooProperty()
+        implementFieldGetter(cb, thisClass, meta.getMethod(), meta.getName(), fieldType, implemented);
+
+        // getFoo()/isFoo()
+        Method getter = meta.getGetter();
+        var returnType = desc(getter.getReturnType());
+        addMethod(cb, getter, implemented, code -> {
+            code.aload(0);
+            code.getfield(thisClass, meta.getName(), fieldType);
+            if (meta.isConcreteType()) {
+                // direct monomorphic call: field.get()
+                var getDescriptor = MethodTypeDesc.ofDescriptor(meta.getGetDescriptor());
+                code.invokevirtual(fieldType, "get", getDescriptor);
+                if (meta.isReferenceType() && !getDescriptor.returnType().equals(returnType)) {
+                    code.checkcast(returnType);
+                }
+            } else if (meta.isReferenceType()) {
+                code.invokeinterface(CD_OBSERVABLE_VALUE, "getValue", MethodTypeDesc.of(CD_Object));
+                code.checkcast(returnType);
+            } else {
+                code.invokevirtual(desc(meta.getType()), "get", MethodTypeDesc.ofDescriptor(meta.getGetDescriptor()));
+            }
+            code.return_(TypeKind.from(returnType));
+        });
+
+        // setFoo(value)
+        Method setter = meta.getSetter();
+        var valueKind = TypeKind.from(desc(setter.getParameterTypes()[0]));
+        addMethod(cb, setter, implemented, code -> {
+            if (undoable) {
+                // if (this.undoJournal != null) { this.undoJournal.set(field, value); return; }
+                code.aload(0);
+                code.getfield(thisClass, UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL);
+                code.ifThen(Opcode.IFNONNULL, block -> {
+                    block.aload(0);
+                    block.getfield(thisClass, UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL);
+                    block.aload(0);
+                    block.getfield(thisClass, meta.getName(), fieldType);
+                    block.loadLocal(valueKind, 1);
+                    block.invokevirtual(CD_UNDO_JOURNAL, "set",
+                            MethodTypeDesc.ofDescriptor(meta.getJournalSetDescriptor()));
+                    block.return_();
+                });
+            }
+            code.aload(0);
+            code.getfield(thisClass, meta.getName(), fieldType);
+            code.loadLocal(valueKind, 1);
+            if (meta.isConcreteType()) {
+                // direct monomorphic call: field.set(value)
+                code.invokevirtual(fieldType, "set", MethodTypeDesc.ofDescriptor(meta.getSetDescriptor()));
+            } else if (meta.isReferenceType()) {
+                code.invokeinterface(CD_PROPERTY, "setValue", MethodTypeDesc.of(CD_void, CD_Object));
+            } else {
+                code.invokevirtual(desc(meta.getType()), "set", MethodTypeDesc.ofDescriptor(meta.getSetDescriptor()));
+            }
+            code.return_();
+        });
+    }
+
+    private static void implementContainer(ClassBuilder cb, ClassDesc thisClass, ContainerMeta<?> meta,
+            Map<String, List<MethodTypeDesc>> implemented) {
+        var fieldType = desc(meta.getType());
+        cb.withField(meta.getName(), fieldType, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+        implementFieldGetter(cb, thisClass, meta.getGetter(), meta.getName(), fieldType, implemented);
+        if (meta.getModifiableGetter() != null) {
+            String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+            cb.withField(modifiableFieldName, fieldType, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+            implementFieldGetter(cb, thisClass, meta.getModifiableGetter(), modifiableFieldName, fieldType,
+                    implemented);
+        }
+    }
+
+    /**
+     * Implements a method that returns the field.
+     */
+    private static void implementFieldGetter(ClassBuilder cb, ClassDesc thisClass, Method method, String fieldName,
+            ClassDesc fieldType, Map<String, List<MethodTypeDesc>> implemented) {
+        addMethod(cb, method, implemented, code -> {
+            code.aload(0);
+            code.getfield(thisClass, fieldName, fieldType);
+            code.areturn();
+        });
+    }
+
+    private static void addMethod(ClassBuilder cb, Method method, Map<String, List<MethodTypeDesc>> implemented,
+            Consumer<CodeBuilder> body) {
+        var descriptor = methodDesc(method);
+        implemented.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(descriptor);
+        cb.withMethodBody(method.getName(), descriptor, ClassFile.ACC_PUBLIC, body);
+    }
+
+    private static void initializeProperty(CodeBuilder code, ClassDesc thisClass, PropertyMeta meta) {
+        var implType = desc(meta.getImplType());
+        code.aload(0);
+        code.new_(implType);
+        code.dup();
+        var defaultValue = meta.getDefaultValue();
+        if (defaultValue == null) {
+            code.invokespecial(implType, INIT_NAME, MTD_void);
+        } else {
+            // the value constructor, so no set(...) and no notifications
+            if (defaultValue instanceof Boolean value) {
+                code.loadConstant(value ? 1 : 0);
+            } else if (defaultValue instanceof Enum<?> value) {
+                var enumType = desc(value.getDeclaringClass());
+                code.getstatic(enumType, value.name(), enumType);
+            } else {
+                code.loadConstant((ConstantDesc) defaultValue);
+            }
+            code.invokespecial(implType, INIT_NAME, MethodTypeDesc.ofDescriptor(meta.getInitDescriptor()));
+        }
+        code.putfield(thisClass, meta.getName(), desc(meta.getFieldType()));
+    }
+
+    private static void initializeContainer(CodeBuilder code, ClassDesc thisClass, ContainerMeta<?> meta) {
+        var fieldType = desc(meta.getType());
+        code.aload(0);
+        generateFactoryCall(code, meta);
+        if (meta.isSynchronized()) {
+            code.invokestatic(ClassDesc.ofInternalName(meta.getSyncFactoryOwner()), meta.getSyncFactoryName(),
+                    MethodTypeDesc.ofDescriptor(meta.getSyncFactoryDescriptor()));
+        }
+        if (meta.getModifiableGetter() == null) {
+            code.putfield(thisClass, meta.getName(), fieldType);
+        } else {
+            String modifiableFieldName = "modifiable" + meta.getCapitalizedName();
+            code.putfield(thisClass, modifiableFieldName, fieldType);
+            // this.field = readOnlyWrapper(this.modifiableField)
+            code.aload(0);
+            code.aload(0);
+            code.getfield(thisClass, modifiableFieldName, fieldType);
+            code.invokestatic(ClassDesc.ofInternalName(meta.getRoFactoryOwner()), meta.getRoFactoryName(),
+                    MethodTypeDesc.ofDescriptor(meta.getRoFactoryDescriptor()));
+            code.putfield(thisClass, meta.getName(), fieldType);
+        }
+    }
+
+    /**
+     * Implements {@code ObservableState}. When the first listener is added, the state creates the
+     * {@code ObservableStateSupport} and registers it in its members, when the last one is removed, the support is
+     * unregistered and dropped.
+     */
+    private static void implementObservableState(ClassBuilder cb, ClassDesc thisClass, AnalyzerResult analyzerResult) {
+        cb.withField(OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT, ClassFile.ACC_PRIVATE);
+        cb.withMethodBody("addListener", MTD_LISTENER, ClassFile.ACC_PUBLIC, code -> {
+            code.aload(0);
+            code.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+            code.ifThen(Opcode.IFNULL, block -> {
+                block.aload(0);
+                block.new_(CD_OBSERVABLE_SUPPORT);
+                block.dup();
+                block.aload(0);
+                block.invokespecial(CD_OBSERVABLE_SUPPORT, INIT_NAME, MethodTypeDesc.of(CD_void, CD_OBSERVABLE_STATE));
+                block.putfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+                callMemberListenerMethods(block, thisClass, analyzerResult, "addListener");
+            });
+            // this.support.addListener(listener)
+            code.aload(0);
+            code.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+            code.aload(1);
+            code.invokevirtual(CD_OBSERVABLE_SUPPORT, "addListener", MTD_LISTENER);
+            code.return_();
+        });
+        cb.withMethodBody("removeListener", MTD_LISTENER, ClassFile.ACC_PUBLIC, code -> {
+            code.aload(0);
+            code.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+            code.ifThen(Opcode.IFNONNULL, block -> {
+                // if (this.support.removeListener(listener)) drop the support
+                block.aload(0);
+                block.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+                block.aload(1);
+                block.invokevirtual(CD_OBSERVABLE_SUPPORT, "removeListener",
+                        MethodTypeDesc.of(CD_boolean, CD_INVALIDATION_LISTENER));
+                block.ifThen(Opcode.IFNE, last -> dropObservableSupport(last, thisClass, analyzerResult));
+            });
+            code.return_();
+        });
+    }
+
+    /**
+     * Implements {@code UndoableState}. Setting the journal untracks the containers by the previous journal and tracks
+     * them by the new one, arrays are not tracked.
+     */
+    private static void implementUndoableState(ClassBuilder cb, ClassDesc thisClass, AnalyzerResult analyzerResult) {
+        cb.withField(UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL, ClassFile.ACC_PRIVATE);
+        cb.withMethodBody("getUndoJournal", MethodTypeDesc.of(CD_UNDO_JOURNAL), ClassFile.ACC_PUBLIC, code -> {
+            code.aload(0);
+            code.getfield(thisClass, UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL);
+            code.areturn();
+        });
+        var setterDescriptor = MethodTypeDesc.of(CD_void, CD_UNDO_JOURNAL);
+        cb.withMethodBody("setUndoJournal", setterDescriptor, ClassFile.ACC_PUBLIC, code -> {
+            code.aload(0);
+            code.getfield(thisClass, UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL);
+            code.ifThen(Opcode.IFNONNULL, block -> callJournalMethods(block, thisClass, analyzerResult, "untrack",
+                    journal -> {
+                        journal.aload(0);
+                        journal.getfield(thisClass, UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL);
+                    }));
+            code.aload(0);
+            code.aload(1);
+            code.putfield(thisClass, UNDO_JOURNAL_FIELD, CD_UNDO_JOURNAL);
+            code.aload(1);
+            code.ifThen(Opcode.IFNONNULL, block -> callJournalMethods(block, thisClass, analyzerResult, "track",
+                    journal -> journal.aload(1)));
+            code.return_();
+        });
+    }
+
+    /**
+     * Calls {@code track(container)} or {@code untrack(container)} of the journal for every list, set and map, for a
+     * RW pair the modifiable container.
+     */
+    private static void callJournalMethods(CodeBuilder code, ClassDesc thisClass, AnalyzerResult analyzerResult,
+            String methodName, Consumer<CodeBuilder> journalLoader) {
+        for (var meta : collectContainers(analyzerResult)) {
+            if (ObservableArray.class.isAssignableFrom(meta.getType())) {
+                continue;
+            }
+            var fieldName = meta.getModifiableGetter() == null
+                    ? meta.getName() : "modifiable" + meta.getCapitalizedName();
+            var fieldType = desc(meta.getType());
+            journalLoader.accept(code);
+            code.aload(0);
+            code.getfield(thisClass, fieldName, fieldType);
+            code.invokevirtual(CD_UNDO_JOURNAL, methodName, MethodTypeDesc.of(CD_void, fieldType));
+        }
+    }
+
+    /**
+     * Unregisters the {@code ObservableStateSupport} from the members and sets the field to null.
+     */
+    private static void dropObservableSupport(CodeBuilder code, ClassDesc thisClass, AnalyzerResult analyzerResult) {
+        callMemberListenerMethods(code, thisClass, analyzerResult, "removeListener");
+        code.aload(0);
+        code.aconst_null();
+        code.putfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+    }
+
+    /**
+     * Calls {@code addListener(support)} or {@code removeListener(support)} of every member that is observed by the
+     * state: the properties and the containers, for a RW pair the modifiable container.
+     */
+    private static void callMemberListenerMethods(CodeBuilder code, ClassDesc thisClass, AnalyzerResult analyzerResult,
+            String methodName) {
+        for (var meta : analyzerResult.getProperties()) {
+            code.aload(0);
+            code.getfield(thisClass, meta.getName(), desc(meta.getFieldType()));
+            code.aload(0);
+            code.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+            code.invokeinterface(CD_OBSERVABLE, methodName, MTD_LISTENER);
+        }
+        for (var meta : collectContainers(analyzerResult)) {
+            var fieldName = meta.getModifiableGetter() == null
+                    ? meta.getName() : "modifiable" + meta.getCapitalizedName();
+            code.aload(0);
+            code.getfield(thisClass, fieldName, desc(meta.getType()));
+            code.aload(0);
+            code.getfield(thisClass, OBSERVABLE_SUPPORT_FIELD, CD_OBSERVABLE_SUPPORT);
+            code.invokeinterface(CD_OBSERVABLE, methodName, MTD_LISTENER);
+        }
+    }
+
+    /**
+     * Unbinds the property, a light property is disposed, so its listeners are dropped too.
+     */
+    private static void disposeProperty(CodeBuilder code, ClassDesc thisClass, PropertyMeta meta) {
+        code.aload(0);
+        code.getfield(thisClass, meta.getName(), desc(meta.getFieldType()));
+        if (Disposable.class.isAssignableFrom(meta.getImplType())) {
+            var implType = desc(meta.getImplType());
+            if (meta.getFieldType() != meta.getImplType()) {
+                code.checkcast(implType);
+            }
+            code.invokevirtual(implType, "dispose", MTD_void);
+        } else {
+            code.invokeinterface(CD_PROPERTY, "unbind", MTD_void);
+        }
+    }
+
+    /**
+     * Clears the container, for a RW pair the modifiable one, the read-only wrapper and the views reflect the change.
+     */
+    private static void clearContainer(CodeBuilder code, ClassDesc thisClass, ContainerMeta<?> meta) {
+        var fieldType = desc(meta.getType());
+        var fieldName = meta.getModifiableGetter() == null ? meta.getName() : "modifiable" + meta.getCapitalizedName();
+        code.aload(0);
+        code.getfield(thisClass, fieldName, fieldType);
+        code.invokeinterface(fieldType, "clear", MTD_void);
+    }
+
+    private static List<ContainerMeta<?>> collectContainers(AnalyzerResult analyzerResult) {
+        List<ContainerMeta<?>> containers = new ArrayList<>();
+        containers.addAll(analyzerResult.getLists());
+        containers.addAll(analyzerResult.getSets());
+        containers.addAll(analyzerResult.getMaps());
+        containers.addAll(analyzerResult.getArrays());
+        return containers;
+    }
+
+    private static void generateFactoryCall(CodeBuilder code, ContainerMeta<?> meta) {
+        for (var argument : meta.getFactoryArguments()) {
+            code.loadConstant(argument);
+        }
+        if (meta.getBackingType() != null) {
+            // new BackingType() or new BackingType(capacity)
+            var backingType = desc(meta.getBackingType());
+            code.new_(backingType);
+            code.dup();
+            if (meta.getBackingCapacity() >= 0) {
+                code.loadConstant(meta.getBackingCapacity());
+                code.invokespecial(backingType, INIT_NAME, MethodTypeDesc.of(CD_void, CD_int));
+            } else {
+                code.invokespecial(backingType, INIT_NAME, MTD_void);
+            }
+        } else if (meta.getType() == ObservableSet.class) {
+            // empty varargs array
+            code.iconst_0();
+            code.anewarray(CD_Object);
+        }
+        code.invokestatic(ClassDesc.ofInternalName(meta.getFactoryOwner()), meta.getFactoryName(),
+                MethodTypeDesc.ofDescriptor(meta.getFactoryDescriptor()));
+        if (meta.getInitialCapacity() >= 0 && ObservableArray.class.isAssignableFrom(meta.getType())) {
+            // array.ensureCapacity(capacity)
+            code.dup();
+            code.loadConstant(meta.getInitialCapacity());
+            code.invokeinterface(CD_OBSERVABLE_ARRAY, "ensureCapacity", MethodTypeDesc.of(CD_void, CD_int));
+        }
+    }
+
+    private static void initializeView(CodeBuilder code, ClassDesc thisClass, ViewMeta meta) {
+        var fieldType = desc(meta.getType());
+        var viewType = desc(meta.getViewType());
+        var argumentImplType = desc(meta.getArgumentImplType());
+        // new SortedList(this.source, new Comparator()) or new FilteredList(this.source, new Predicate())
+        code.aload(0);
+        code.new_(viewType);
+        code.dup();
+        code.aload(0);
+        code.getfield(thisClass, meta.getSourceFieldName(), fieldType);
+        code.new_(argumentImplType);
+        code.dup();
+        code.invokespecial(argumentImplType, INIT_NAME, MTD_void);
+        code.invokespecial(viewType, INIT_NAME, MethodTypeDesc.of(CD_void, fieldType, desc(meta.getArgumentType())));
+        code.putfield(thisClass, meta.getName(), fieldType);
+    }
+
+    /**
+     * Adds bridge methods for the abstract methods of the interface that are implemented with other descriptors, for
+     * example, {@code ReadOnlyIntegerProperty fooProperty()} that is overridden by
+     * {@code IntegerProperty fooProperty()} or {@code Object getFoo()} of a generic interface.
+     */
+    private static void implementBridges(ClassBuilder cb, ClassDesc thisClass, Class<?> interfaceClass,
+            Map<String, List<MethodTypeDesc>> implemented) {
+        Map<String, List<MethodTypeDesc>> bridges = new HashMap<>();
+        for (var method : interfaceClass.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) {
+                continue;
+            }
+            var targets = implemented.get(method.getName());
+            if (targets == null) {
+                continue;
+            }
+            var descriptor = methodDesc(method);
+            var bridgeDescriptors = bridges.computeIfAbsent(method.getName(), k -> new ArrayList<>());
+            if (targets.contains(descriptor) || bridgeDescriptors.contains(descriptor)) {
+                continue;
+            }
+            for (var target : targets) {
+                if (target.parameterCount() == descriptor.parameterCount()) {
+                    bridgeDescriptors.add(descriptor);
+                    cb.withMethodBody(method.getName(), descriptor,
+                            ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC | ClassFile.ACC_BRIDGE,
+                            code -> generateBridge(code, thisClass, method.getName(), descriptor, target));
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void generateBridge(CodeBuilder code, ClassDesc thisClass, String name, MethodTypeDesc bridge,
+            MethodTypeDesc target) {
+        code.aload(0);
+        int slot = 1;
+        for (var i = 0; i < bridge.parameterCount(); i++) {
+            var kind = TypeKind.from(bridge.parameterType(i));
+            code.loadLocal(kind, slot);
+            slot += kind.slotSize();
+            var targetType = target.parameterType(i);
+            if (!targetType.isPrimitive() && !targetType.equals(bridge.parameterType(i))) {
+                code.checkcast(targetType);
+            }
+        }
+        code.invokevirtual(thisClass, name, target);
+        var returnType = bridge.returnType();
+        if (!returnType.isPrimitive() && !returnType.equals(target.returnType())) {
+            code.checkcast(returnType);
+        }
+        code.return_(TypeKind.from(returnType));
+    }
+
+    private static ClassDesc desc(Class<?> type) {
+        return ClassDesc.ofDescriptor(type.descriptorString());
+    }
+
+    private static MethodTypeDesc methodDesc(Method method) {
+        var parameterTypes = method.getParameterTypes();
+        var parameters = new ClassDesc[parameterTypes.length];
+        for (var i = 0; i < parameters.length; i++) {
+            parameters[i] = desc(parameterTypes[i]);
+        }
+        return MethodTypeDesc.of(desc(method.getReturnType()), parameters);
+    }
+
+    private ClassFileGenerator() {
+        // empty
+    }
+}
@@ -21,24 +21,97 @@
 
 package com.techsenger.statefx.it;
 
+import com.techsenger.statefx.core.ArrayState;
+import com.techsenger.statefx.core.BackingType;
+import com.techsenger.statefx.core.Batched;
+import com.techsenger.statefx.core.DefaultValue;
+import com.techsenger.statefx.core.Disposable;
+import com.techsenger.statefx.core.FilteredView;
+import com.techsenger.statefx.core.GenerationBackend;
+import com.techsenger.statefx.core.InitialCapacity;
+import com.techsenger.statefx.core.ObservableState;
+import com.techsenger.statefx.core.Paged;
+import com.techsenger.statefx.core.SnapshottableState;
+import com.techsenger.statefx.core.SortedView;
+import com.techsenger.statefx.core.StateBinder;
+import com.techsenger.statefx.core.StateCopier;
 import com.techsenger.statefx.core.StateFactory;
+import com.techsenger.statefx.core.StateMembers;
+import com.techsenger.statefx.core.StateShadow;
+import com.techsenger.statefx.core.StateSnapshot;
 import com.techsenger.statefx.core.Synchronized;
+import com.techsenger.statefx.core.UndoJournal;
+import com.techsenger.statefx.core.UndoableState;
+import com.techsenger.statefx.core.collections.ArrayDequeList;
+import com.techsenger.statefx.core.collections.BatchedObservable;
+import com.techsenger.statefx.core.collections.BatchedObservableList;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import com.techsenger.statefx.core.collections.PagedDataProvider;
+import com.techsenger.statefx.core.collections.PagedObservableList;
+import com.techsenger.statefx.core.collections.StateCollections;
+import com.techsenger.statefx.core.property.LightBooleanProperty;
+import com.techsenger.statefx.core.property.LightIntegerProperty;
+import com.techsenger.statefx.core.property.LightObjectProperty;
+import com.techsenger.statefx.core.property.SynchronizedBooleanProperty;
+import com.techsenger.statefx.core.property.SynchronizedFloatProperty;
+import com.techsenger.statefx.core.property.SynchronizedIntegerProperty;
+import com.techsenger.statefx.core.property.SynchronizedStringProperty;
+import com.techsenger.statefx.core.table.StateTable;
+import com.techsenger.statefx.core.table.TableStorage;
+import com.techsenger.statefx.replication.StateReplicator;
+import com.techsenger.statefx.states.BooleanHoverState;
 import com.techsenger.statefx.states.BooleanSelectedState;
+import com.techsenger.statefx.states.BooleanVisibleState;
+import com.techsenger.statefx.states.DoubleHeightState;
 import com.techsenger.statefx.states.DoubleWidthState;
+import com.techsenger.statefx.states.DoubleXState;
+import com.techsenger.statefx.states.FloatArrayPointsState;
+import com.techsenger.statefx.states.IntegerArrayFacesState;
 import com.techsenger.statefx.states.IntegerLengthState;
 import com.techsenger.statefx.states.ListItemsState;
 import com.techsenger.statefx.states.MapPropertiesState;
+import com.techsenger.statefx.states.ObjectFillState;
 import com.techsenger.statefx.states.ObjectSideState;
 import com.techsenger.statefx.states.ROBooleanSelectedState;
 import com.techsenger.statefx.states.RODoubleWidthState;
 import com.techsenger.statefx.states.ROIntegerLengthState;
 import com.techsenger.statefx.states.ROObjectSideState;
 import com.techsenger.statefx.states.ROStringTitleState;
+import com.techsenger.statefx.states.RWFloatArrayPointsState;
+import com.techsenger.statefx.states.RWIntegerArrayFacesState;
 import com.techsenger.statefx.states.RWListItemsState;
 import com.techsenger.statefx.states.RWMapPropertiesState;
 import com.techsenger.statefx.states.RWSetPseudoClassStatesState;
 import com.techsenger.statefx.states.SetPseudoClassStatesState;
 import com.techsenger.statefx.states.StringTitleState;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.FloatProperty;
@@ -61,14 +134,22 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.collections.ArrayChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
 import javafx.collections.SetChangeListener;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.geometry.Side;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
@@ -156,6 +237,26 @@ public class StateFactoryIT {
         assertThat(state2.isSelected()).isFalse();
     }
 
+    @Test
+    void create_withInitializer_returnsInitializedState() {
+        var state = StateFactory.create(WritableComplex.class, s -> {
+            s.setSelected(true);
+            s.setLength(5);
+            s.setTitle("title");
+            s.setSide(Side.LEFT);
+        });
+        assertThat(state.isSelected()).isTrue();
+        assertThat(state.getLength()).isEqualTo(5);
+        assertThat(state.getTitle()).isEqualTo("title");
+        assertThat(state.getSide()).isEqualTo(Side.LEFT);
+    }
+
+    @Test
+    void create_nullInitializer_throwsIllegalArgumentException() {
+        assertThatThrownBy(() -> StateFactory.create(BooleanSelectedState.class, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void create_writableComplex_createsValidStateWithAllMethods() throws Exception {
         var state = StateFactory.create(WritableComplex.class);
@@ -168,178 +269,2298 @@ public class StateFactoryIT {
         checkObject(state);
     }
 
+    protected interface ConcreteComplex extends WritableComplex {
+
+        @Override
+        @Synchronized
+        StringProperty titleProperty();
+    }
+
+    @Test
+    public void create_concreteTypes_createsFinalClassWithConcreteFields() throws Exception {
+        StateFactory.getSettings().setConcreteTypes(true);
+        try {
+            var state = StateFactory.create(ConcreteComplex.class);
+            assertThat(Modifier.isFinal(state.getClass().getModifiers())).isTrue();
+            assertThat(state.getClass().getDeclaredField("selected").getType()).isSameAs(LightBooleanProperty.class);
+            assertThat(state.getClass().getDeclaredField("title").getType())
+                    .isSameAs(SynchronizedStringProperty.class);
+            assertThat(state.getClass().getDeclaredField("side").getType()).isSameAs(LightObjectProperty.class);
+            checkBoolean(state);
+            checkInteger(state);
+            checkLong(state);
+            checkDouble(state);
+            checkFloat(state);
+            checkString(state);
+            checkObject(state);
+        } finally {
+            StateFactory.getSettings().setConcreteTypes(false);
+        }
+    }
+
+    @Test
+    public void create_integerState_lightPropertyNotifiesLikeSimpleProperty() throws Exception {
+        var property = StateFactory.create(IntegerLengthState.class).lengthProperty();
+        assertThat(property).isInstanceOf(LightIntegerProperty.class);
+        assertThat(recordEvents(property)).isEqualTo(recordEvents(new SimpleIntegerProperty()));
+    }
+
+    private List<String> recordEvents(IntegerProperty property) {
+        List<String> events = new ArrayList<>();
+        InvalidationListener invalidationListener = (o) -> events.add("invalidated");
+        ChangeListener<Number> changeListener = (o, oldVal, newVal) -> events.add(oldVal + "->" + newVal);
+        property.addListener(invalidationListener);
+        property.set(1);
+        property.set(1);
+        property.set(2);
+        events.add("value " + property.get());
+        property.addListener(changeListener);
+        property.set(3);
+        property.removeListener(invalidationListener);
+        property.set(4);
+        var source = new SimpleIntegerProperty(5);
+        property.bind(source);
+        events.add("bound " + property.isBound());
+        source.set(6);
+        assertThatThrownBy(() -> property.set(7)).isInstanceOf(RuntimeException.class);
+        property.unbind();
+        source.set(8);
+        events.add("value " + property.get());
+        property.removeListener(changeListener);
+        property.set(9);
+        return events;
+    }
+
+    @Test
+    public void create_booleanState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(BooleanSelectedState.class);
+        checkBoolean(state);
+    }
+
+    @Test
+    public void create_integerState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(IntegerLengthState.class);
+        checkInteger(state);
+    }
+
+    @Test
+    public void create_doubleState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(DoubleWidthState.class);
+        checkDouble(state);
+    }
+
+    @Test
+    public void create_floatState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(FloatXState.class);
+        checkFloat(state);
+    }
+
+    @Test
+    public void create_longState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(LongYState.class);
+        checkLong(state);
+    }
+
+    @Test
+    public void create_stringState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(StringTitleState.class);
+        checkString(state);
+    }
+
+    @Test
+    public void create_objectState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(ObjectSideState.class);
+        checkObject(state);
+    }
+
+    protected interface SyncBooleanSelectedState extends BooleanSelectedState {
+
+        @Override
+        @Synchronized
+        void setSelected(boolean value);
+    }
+
+    @Test
+    public void create_syncBooleanState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncBooleanSelectedState.class);
+        assertThat(state.selectedProperty()).isInstanceOf(SynchronizedBooleanProperty.class);
+        checkBoolean(state);
+    }
+
+    protected interface SyncROStringTitleState extends ROStringTitleState {
+
+        @Override
+        @Synchronized
+        ReadOnlyStringProperty titleProperty();
+    }
+
+    protected interface SyncStringTitleState extends SyncROStringTitleState, StringTitleState { }
+
+    @Test
+    public void create_syncStringStateAnnotatedInRoInterface_createsSynchronizedProperty() throws Exception {
+        var state = StateFactory.create(SyncStringTitleState.class);
+        assertThat(state.titleProperty()).isInstanceOf(SynchronizedStringProperty.class);
+        checkString(state);
+    }
+
+    protected interface SyncLongYState extends LongYState {
+
+        @Override
+        @Synchronized
+        long getY();
+    }
+
+    @Test
+    public void create_syncLongState_valuesVisibleAcrossThreads() throws Exception {
+        var state = StateFactory.create(SyncLongYState.class);
+        final int count = 10_000;
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= count; i++) {
+                state.setY(i);
+            }
+        });
+        writer.start();
+        long previous = 0;
+        while (previous < count) {
+            long current = state.getY();
+            assertThat(current).isGreaterThanOrEqualTo(previous);
+            previous = current;
+        }
+        writer.join();
+        assertThat(state.yProperty().get()).isEqualTo(count);
+    }
+
+    /* ******************************* list ******************************* */
+
+    @Test
+    public void create_listState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(ListItemsState.class);
+        checkList(state);
+    }
+
+    @Test
+    public void create_rwListState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(RWListItemsState.class);
+        checkRwList(state);
+    }
+
+    protected interface SyncListItemsState extends ListItemsState<String> {
+
+        @Override
+        @Synchronized
+        ObservableList<String> getItems();
+    }
+
+    @Test
+    public void create_syncListState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncListItemsState.class);
+        assertThat(state.getItems().getClass()).isSameAs(
+                FXCollections.synchronizedObservableList(FXCollections.observableArrayList()).getClass());
+        checkList(state);
+    }
+
+    protected interface SyncRWListItemsState extends RWListItemsState<String> {
+
+        @Override
+        @Synchronized
+        ObservableList<String> getModifiableItems();
+    }
+
+    @Test
+    public void create_syncRwListState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncRWListItemsState.class);
+        assertThat(state.getModifiableItems().getClass()).isSameAs(
+                FXCollections.synchronizedObservableList(FXCollections.observableArrayList()).getClass());
+        checkRwList(state);
+    }
+
+    /* ******************************* set ******************************* */
+
+    @Test
+    public void create_setState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SetPseudoClassStatesState.class);
+        checkSet(state);
+    }
+
+    @Test
+    public void create_rwSetState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(RWSetPseudoClassStatesState.class);
+        checkRwSet(state);
+    }
+
+    protected interface SyncSetPseudoClassStatesState extends SetPseudoClassStatesState<String> {
+
+        @Override
+        @Synchronized
+        ObservableSet<String> getPseudoClassStates();
+    }
+
+    @Test
+    public void create_syncSetState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncSetPseudoClassStatesState.class);
+        assertThat(state.getPseudoClassStates().getClass()).isSameAs(
+                FXCollections.synchronizedObservableSet(FXCollections.observableSet()).getClass());
+        checkSet(state);
+    }
+
+    protected interface SyncRWSetPseudoClassStatesState extends RWSetPseudoClassStatesState<String> {
+
+        @Override
+        @Synchronized
+        ObservableSet<String> getModifiablePseudoClassStates();
+    }
+
+    @Test
+    public void create_syncRwSetState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncRWSetPseudoClassStatesState.class);
+        assertThat(state.getModifiablePseudoClassStates().getClass()).isSameAs(
+                FXCollections.synchronizedObservableSet(FXCollections.observableSet()).getClass());
+        checkRwSet(state);
+    }
+
+    /* ******************************* map ******************************* */
+
+    @Test
+    public void create_mapState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(MapPropertiesState.class);
+        checkMap(state);
+    }
+
+    @Test
+    public void create_rwMapState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(RWMapPropertiesState.class);
+        checkRwMap(state);
+    }
+
+    protected interface SyncMapPropertiesState extends MapPropertiesState<String, String> {
+
+        @Override
+        @Synchronized
+        ObservableMap<String, String> getProperties();
+    }
+
+    @Test
+    public void create_syncMapState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncMapPropertiesState.class);
+        assertThat(state.getProperties().getClass()).isSameAs(
+                FXCollections.synchronizedObservableMap(FXCollections.observableHashMap()).getClass());
+        checkMap(state);
+    }
+
+    protected interface SyncRWMapPropertiesState extends RWMapPropertiesState<String, String> {
+
+        @Override
+        @Synchronized
+        ObservableMap<String, String> getModifiableProperties();
+    }
+
+    @Test
+    public void create_syncRwMapState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncRWMapPropertiesState.class);
+        assertThat(state.getModifiableProperties().getClass()).isSameAs(
+                FXCollections.synchronizedObservableMap(FXCollections.observableHashMap()).getClass());
+        checkRwMap(state);
+    }
+
+    /* ******************************* array ******************************* */
+
+    @Test
+    public void create_arrayState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(FloatArrayPointsState.class);
+        checkArray(state);
+    }
+
+    @Test
+    public void create_rwArrayState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(RWFloatArrayPointsState.class);
+        checkRwArray(state);
+    }
+
+    protected interface DoubleArrayValuesState extends ArrayState {
+
+        ObservableDoubleArray getValues();
+    }
+
+    @Test
+    public void create_doubleArrayState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(DoubleArrayValuesState.class);
+        var values = state.getValues();
+        assertThat(values).isNotNull();
+        assertThat(values).isSameAs(state.getValues());
+        boolean[] listenerCalled = {false};
+        values.addListener((array, sizeChanged, from, to) -> listenerCalled[0] = true);
+        values.addAll(1.0, 2.0);
+        assertThat(listenerCalled[0]).isTrue();
+        assertThat(values.toArray(null)).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    public void observableDoubleArray_modifications_reportChangedRanges() {
+        var values = StateCollections.observableDoubleArray(1.0, 2.0, 3.0);
+        List<String> changes = new ArrayList<>();
+        values.addListener((array, sizeChanged, from, to) -> changes.add(sizeChanged + ":" + from + ":" + to));
+        values.addAll(new double[] {9.0, 4.0, 5.0}, 1, 2);
+        values.set(0, 0.5);
+        values.set(1, StateCollections.observableDoubleArray(7.0, 8.0), 0, 2);
+        assertThat(values.toArray(null)).containsExactly(0.5, 7.0, 8.0, 4.0, 5.0);
+        values.resize(2);
+        values.resize(4);
+        // the grown values are zeroed, not the values of the previous larger size
+        assertThat(values.toArray(null)).containsExactly(0.5, 7.0, 0.0, 0.0);
+        values.setAll(values, 1, 2);
+        assertThat(values.toArray(null)).containsExactly(7.0, 0.0);
+        assertThat(values.toArray(1, new double[3], 1)).containsExactly(0.0, 0.0, 0.0);
+        assertThat(changes).isEqualTo(List.of("true:3:5", "false:0:1", "false:1:3", "true:2:2", "true:2:4",
+                "true:0:2"));
+        assertThat(values.toString()).isEqualTo("[7.0, 0.0]");
+        assertThatThrownBy(() -> values.get(2)).isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> values.addAll(new double[] {1.0}, 1, 1))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> values.resize(-1)).isInstanceOf(NegativeArraySizeException.class);
+        values.trimToSize();
+        values.clear();
+        assertThat(values.size()).isEqualTo(0);
+    }
+
+    protected interface SyncRWIntegerArrayFacesState extends RWIntegerArrayFacesState {
+
+        @Override
+        @Synchronized
+        ObservableIntegerArray getModifiableFaces();
+    }
+
+    @Test
+    public void create_syncRwArrayState_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(SyncRWIntegerArrayFacesState.class);
+        assertThat(state.getModifiableFaces().getClass()).isSameAs(
+                StateCollections.synchronizedObservableIntegerArray(FXCollections.observableIntegerArray())
+                        .getClass());
+        var faces = state.getFaces();
+        boolean[] listenerCalled = {false};
+        faces.addListener((array, sizeChanged, from, to) -> listenerCalled[0] = true);
+        assertThatThrownBy(() -> faces.addAll(1)).isInstanceOf(UnsupportedOperationException.class);
+        state.getModifiableFaces().addAll(1, 2, 3);
+        assertThat(listenerCalled[0]).isTrue();
+        assertThat(faces.size()).isEqualTo(3);
+    }
+
+    /* ******************************* capacity ******************************* */
+
+    protected interface CapacityState extends ListItemsState<String>, SetPseudoClassStatesState<String>,
+            MapPropertiesState<String, String>, FloatArrayPointsState {
+
+        @Override
+        @InitialCapacity(1_000)
+        ObservableList<String> getItems();
+
+        @Override
+        @InitialCapacity(100)
+        ObservableSet<String> getPseudoClassStates();
+
+        @Override
+        @InitialCapacity(100_000)
+        ObservableMap<String, String> getProperties();
+
+        @Override
+        @InitialCapacity(3)
+        ObservableFloatArray getPoints();
+    }
+
+    @Test
+    public void create_containersWithInitialCapacity_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(CapacityState.class);
+        checkList(state);
+        checkSet(state);
+        checkMap(state);
+        checkArray(state);
+    }
+
+    protected interface CapacityRWListItemsState extends RWListItemsState<String> {
+
+        @Override
+        @Synchronized
+        @InitialCapacity(10)
+        ObservableList<String> getModifiableItems();
+    }
+
+    @Test
+    public void create_syncRwListWithInitialCapacity_createsValidStateWithAllMethods() throws Exception {
+        var state = StateFactory.create(CapacityRWListItemsState.class);
+        assertThat(state.getModifiableItems().getClass()).isSameAs(
+                FXCollections.synchronizedObservableList(FXCollections.observableArrayList()).getClass());
+        checkRwList(state);
+    }
+
+    protected interface NegativeCapacityState extends ListItemsState<String> {
+
+        @Override
+        @InitialCapacity(-1)
+        ObservableList<String> getItems();
+    }
+
+    @Test
+    void getImplementation_negativeInitialCapacity_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(NegativeCapacityState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("getItems");
+    }
+
+    /* ******************************* backing type ******************************* */
+
+    protected interface BackingTypeState extends RWListItemsState<String>, SetPseudoClassStatesState<String>,
+            MapPropertiesState<String, String> {
+
+        @Override
+        @BackingType(ArrayDequeList.class)
+        @InitialCapacity(4)
+        ObservableList<String> getModifiableItems();
+
+        @Override
+        @BackingType(LinkedHashSet.class)
+        ObservableSet<String> getPseudoClassStates();
+
+        @Override
+        @BackingType(TreeMap.class)
+        ObservableMap<String, String> getProperties();
+    }
+
+    @Test
+    public void create_containersWithBackingType_usesBackingCollections() throws Exception {
+        var state = StateFactory.create(BackingTypeState.class);
+        checkRwList(state);
+
+        var items = state.getModifiableItems();
+        items.setAll("a", "b", "c", "d", "e");
+        items.remove(0);
+        items.add(0, "x");
+        items.add(3, "y");
+        items.remove(1);
+        items.add("z");
+        assertThat(List.copyOf(state.getItems())).isEqualTo(List.of("x", "c", "y", "d", "e", "z"));
+        var copy = new ArrayDequeList<>(state.getItems());
+        copy.add(0, "w");
+        copy.remove(copy.size() - 1);
+        assertThat(List.copyOf(copy)).isEqualTo(List.of("w", "x", "c", "y", "d", "e"));
+
+        var states = state.getPseudoClassStates();
+        states.addAll(List.of("c", "a", "b"));
+        assertThat(List.copyOf(states)).isEqualTo(List.of("c", "a", "b"));
+
+        var properties = state.getProperties();
+        properties.put("c", "3");
+        properties.put("a", "1");
+        properties.put("b", "2");
+        assertThat(List.copyOf(properties.keySet())).isEqualTo(List.of("a", "b", "c"));
+    }
+
+    protected interface IdentityMapState extends MapPropertiesState<String, String> {
+
+        @Override
+        @BackingType(IdentityHashMap.class)
+        @InitialCapacity(10)
+        ObservableMap<String, String> getProperties();
+    }
+
+    @Test
+    public void create_mapWithIdentityBackingType_comparesKeysByIdentity() throws Exception {
+        var state = StateFactory.create(IdentityMapState.class);
+        checkMap(state);
+        var properties = state.getProperties();
+        properties.put(new String("key"), "1");
+        properties.put(new String("key"), "2");
+        assertThat(properties.size()).isEqualTo(3);
+    }
+
+    protected interface WrongBackingTypeState extends MapPropertiesState<String, String> {
+
+        @Override
+        @BackingType(ArrayList.class)
+        ObservableMap<String, String> getProperties();
+    }
+
+    protected interface NoCapacityConstructorState extends MapPropertiesState<String, String> {
+
+        @Override
+        @BackingType(TreeMap.class)
+        @InitialCapacity(10)
+        ObservableMap<String, String> getProperties();
+    }
+
+    @Test
+    void getImplementation_invalidBackingType_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(WrongBackingTypeState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("is not a Map");
+        assertThatThrownBy(() -> StateFactory.getImplementation(NoCapacityConstructorState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("(int)");
+    }
+
+    /* ******************************* paged ******************************* */
+
+    protected interface PagedLogState extends ListItemsState<String>, BooleanSelectedState {
+
+        @Override
+        @Paged(pageSize = 10, maxPages = 2)
+        ObservableList<String> getItems();
+    }
+
+    protected interface TieredPagedLogState extends PagedLogState { }
+
+    protected interface PagedSetState extends SetPseudoClassStatesState<String> {
+
+        @Override
+        @Paged
+        ObservableSet<String> getPseudoClassStates();
+    }
+
+    protected interface PagedRWListState extends RWListItemsState<String> {
+
+        @Override
+        @Paged
+        ObservableList<String> getModifiableItems();
+    }
+
+    public static class LineProvider implements PagedDataProvider<String> {
+
+        private int size;
+
+        private int loadCount;
+
+        LineProvider(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<String> load(int from, int count) {
+            loadCount++;
+            List<String> lines = new ArrayList<>(count);
+            for (var i = from; i < from + count; i++) {
+                lines.add("line " + i);
+            }
+            return lines;
+        }
+    }
+
+    @Test
+    public void create_pagedList_loadsPagesOnDemand() {
+        checkPaged(StateFactory.create(PagedLogState.class));
+    }
+
+    @Test
+    public void create_pagedListInTieredMode_loadsPagesOnDemand() {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            checkPaged(StateFactory.create(TieredPagedLogState.class));
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
+    }
+
+    @Test
+    void getImplementation_invalidPagedContainer_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(PagedSetState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("only for lists");
+        assertThatThrownBy(() -> StateFactory.getImplementation(PagedRWListState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("modifiable getter");
+    }
+
+    static void checkPaged(PagedLogState state) {
+        assertThat(state.getItems()).isInstanceOf(PagedObservableList.class);
+        var items = (PagedObservableList<String>) state.getItems();
+        assertThat(items.size()).isEqualTo(0);
+        List<String> changes = new ArrayList<>();
+        items.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + ":" + c.getTo() + ":" + c.getRemovedSize());
+            }
+        });
+
+        var provider = new LineProvider(1000);
+        items.setProvider(provider);
+        assertThat(changes).isEqualTo(List.of("0:1000:0"));
+        assertThat(items.size()).isEqualTo(1000);
+        assertThat(items.get(0)).isEqualTo("line 0");
+        assertThat(items.get(9)).isEqualTo("line 9");
+        assertThat(provider.loadCount).isEqualTo(1);
+        assertThat(items.get(15)).isEqualTo("line 15");
+        assertThat(items.get(999)).isEqualTo("line 999");
+        assertThat(provider.loadCount).isEqualTo(3);
+        // the first page was evicted
+        assertThat(items.getLoadedPageCount()).isEqualTo(2);
+        assertThat(items.get(5)).isEqualTo("line 5");
+        assertThat(provider.loadCount).isEqualTo(4);
+        assertThatThrownBy(() -> items.get(1000)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> items.add("x")).isInstanceOf(UnsupportedOperationException.class);
+
+        // lines were appended, the partial last page is reloaded
+        changes.clear();
+        provider.size = 1005;
+        items.refreshSize();
+        assertThat(changes).isEqualTo(List.of("1000:1005:0"));
+        assertThat(items.get(1004)).isEqualTo("line 1004");
+        changes.clear();
+        provider.size = 20;
+        items.refreshSize();
+        assertThat(changes).isEqualTo(List.of("20:20:985"));
+        items.refresh();
+        assertThat(changes.get(1)).isEqualTo("0:20:20");
+
+        // the elements belong to the provider
+        var snapshot = StateSnapshot.of(state);
+        assertThat(snapshot.isSelected()).isFalse();
+        assertThat(List.copyOf(snapshot.getItems())).isEqualTo(List.of());
+        assertThatThrownBy(() -> snapshot.getItems().add("x")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(StateMembers.of(state.getClass()).indexOf("items")).isEqualTo(-1);
+
+        items.clear();
+        assertThat(items.size()).isEqualTo(0);
+        assertThat(items.getProvider()).isNull();
+    }
+
+    /* ******************************* batched ******************************* */
+
+    protected interface BatchedState extends RWListItemsState<String>, RWSetPseudoClassStatesState<String> {
+
+        @Override
+        @Batched
+        ObservableList<String> getModifiableItems();
+
+        @Override
+        @Batched
+        @BackingType(TreeSet.class)
+        ObservableSet<String> getModifiablePseudoClassStates();
+    }
+
+    protected interface TieredBatchedState extends BatchedState { }
+
+    protected interface SyncBatchedState extends RWListItemsState<String> {
+
+        @Override
+        @Batched
+        @Synchronized
+        ObservableList<String> getModifiableItems();
+    }
+
+    protected interface BatchedArrayState extends RWIntegerArrayFacesState {
+
+        @Override
+        @Batched
+        ObservableIntegerArray getModifiableFaces();
+    }
+
+    protected interface BatchedMapState extends RWMapPropertiesState<String, String> {
+
+        @Override
+        @Batched
+        ObservableMap<String, String> getModifiableProperties();
+    }
+
+    @Test
+    public void create_batchedContainers_reportBatchesAsOneChange() {
+        checkBatched(StateFactory.create(BatchedState.class));
+    }
+
+    @Test
+    public void create_batchedContainersInTieredMode_reportBatchesAsOneChange() {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            checkBatched(StateFactory.create(TieredBatchedState.class));
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
+    }
+
+    @Test
+    void getImplementation_invalidBatchedContainer_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(SyncBatchedState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("can't be synchronized");
+        assertThatThrownBy(() -> StateFactory.getImplementation(BatchedArrayState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("only for lists and sets");
+        assertThatThrownBy(() -> StateFactory.getImplementation(BatchedMapState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("only for lists and sets");
+    }
+
+    static void checkBatched(BatchedState state) {
+        assertThat(state.getModifiableItems()).isInstanceOf(BatchedObservableList.class);
+        var items = (BatchedObservableList<String>) state.getModifiableItems();
+        List<String> listChanges = new ArrayList<>();
+        var invalidations = new AtomicInteger();
+        // the read-only view reports the changes of the batched list
+        state.getItems().addListener((InvalidationListener) o -> invalidations.incrementAndGet());
+        state.getItems().addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                listChanges.add(c.getFrom() + ":" + c.getTo() + ":" + c.getRemovedSize());
+            }
+        });
+        items.batch(() -> {
+            for (var i = 0; i < 1000; i++) {
+                items.add("line " + i);
+            }
+            items.remove(0);
+            assertThat(items.isBatching()).isTrue();
+        });
+        assertThat(listChanges).isEqualTo(List.of("0:999:0"));
+        assertThat(invalidations.get()).isEqualTo(1);
+        assertThat(items.size()).isEqualTo(999);
+        assertThat(items.isBatching()).isFalse();
+        listChanges.clear();
+        items.add("x");
+        assertThat(listChanges).isEqualTo(List.of("999:1000:0"));
+        assertThatThrownBy(items::endBatch).isInstanceOf(IllegalStateException.class);
+
+        var states = (BatchedObservable) state.getModifiablePseudoClassStates();
+        state.getModifiablePseudoClassStates().add("a");
+        List<String> setChanges = new ArrayList<>();
+        state.getPseudoClassStates().addListener((SetChangeListener<String>) c ->
+                setChanges.add(c.wasAdded() ? "+" + c.getElementAdded() : "-" + c.getElementRemoved()));
+        states.batch(() -> {
+            var set = state.getModifiablePseudoClassStates();
+            set.add("b");
+            set.add("c");
+            set.remove("c");
+            set.remove("a");
+            set.add("a");
+            set.remove("b");
+            set.add("d");
+            states.batch(() -> set.add("e"));
+            assertThat(setChanges.size()).isEqualTo(0);
+        });
+        assertThat(setChanges).isEqualTo(List.of("+d", "+e"));
+        setChanges.clear();
+        state.getModifiablePseudoClassStates().clear();
+        assertThat(setChanges.size()).isEqualTo(3);
+        assertThat(state.getPseudoClassStates().size()).isEqualTo(0);
+    }
+
+    /* ******************************* views ******************************* */
+
+    public static class LengthComparator implements Comparator<String> {
+
+        @Override
+        public int compare(String s1, String s2) {
+            return Integer.compare(s1.length(), s2.length());
+        }
+    }
+
+    public static class ShortPredicate implements Predicate<String> {
+
+        @Override
+        public boolean test(String s) {
+            return s.length() < 4;
+        }
+    }
+
+    protected interface ViewState extends RWListItemsState<String> {
+
+        @SortedView(source = "items", comparator = LengthComparator.class)
+        ObservableList<String> getSortedItems();
+
+        @FilteredView(source = "sortedItems", predicate = ShortPredicate.class)
+        ObservableList<String> getShortItems();
+    }
+
+    @Test
+    public void create_viewState_createsIncrementallyMaintainedViews() throws Exception {
+        var state = StateFactory.create(ViewState.class);
+        checkRwList(state);
+        var sorted = state.getSortedItems();
+        var shortItems = state.getShortItems();
+        assertThat(sorted).isSameAs(state.getSortedItems());
+        assertThat(sorted).isInstanceOf(SortedList.class);
+        assertThat(shortItems).isInstanceOf(FilteredList.class);
+
+        state.getModifiableItems().setAll("aaaaa", "bb", "cccc", "d");
+        assertThat(List.copyOf(sorted)).isEqualTo(List.of("d", "bb", "cccc", "aaaaa"));
+        assertThat(List.copyOf(shortItems)).isEqualTo(List.of("d", "bb"));
+
+        boolean[] listenerCalled = {false};
+        shortItems.addListener((ListChangeListener<String>) (e) -> listenerCalled[0] = true);
+        state.getModifiableItems().add("eee");
+        assertThat(listenerCalled[0]).isTrue();
+        assertThat(List.copyOf(shortItems)).isEqualTo(List.of("d", "bb", "eee"));
+        assertThatThrownBy(() -> sorted.add("x")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    protected interface UnknownSourceViewState extends ListItemsState<String> {
+
+        @SortedView(source = "unknown", comparator = LengthComparator.class)
+        ObservableList<String> getSortedItems();
+    }
+
+    @Test
+    void getImplementation_unknownViewSource_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(UnknownSourceViewState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    /* ******************************* default value ******************************* */
+
+    protected interface DefaultValueState extends WritableComplex {
+
+        @Override
+        @DefaultValue("true")
+        BooleanProperty selectedProperty();
+
+        @Override
+        @DefaultValue("42")
+        int getLength();
+
+        @Override
+        @DefaultValue("-7")
+        void setY(long value);
+
+        @Override
+        @DefaultValue("1.5")
+        double getWidth();
+
+        @Override
+        @DefaultValue("2.5")
+        @Synchronized
+        float getX();
+
+        @Override
+        @DefaultValue("Untitled")
+        String getTitle();
+
+        @Override
+        @DefaultValue("BOTTOM")
+        Side getSide();
+    }
+
+    protected interface OverriddenDefaultValueState extends DefaultValueState {
+
+        @Override
+        @DefaultValue("24")
+        int getLength();
+
+        // the base interface annotates the property method
+        @Override
+        @DefaultValue("false")
+        boolean isSelected();
+
+        // the base interface annotates the setter
+        @Override
+        @DefaultValue("-8")
+        long getY();
+    }
+
+    @Test
+    public void create_defaultValues_initializesPropertiesWithoutNotifications() throws Exception {
+        var state = StateFactory.create(DefaultValueState.class);
+        assertThat(state.isSelected()).isTrue();
+        assertThat(state.getLength()).isEqualTo(42);
+        assertThat(state.getY()).isEqualTo(-7L);
+        assertThat(state.getWidth()).isEqualTo(1.5);
+        assertThat(state.getX()).isEqualTo(2.5f);
+        assertThat(state.xProperty()).isInstanceOf(SynchronizedFloatProperty.class);
+        assertThat(state.getTitle()).isEqualTo("Untitled");
+        assertThat(state.getSide()).isEqualTo(Side.BOTTOM);
+        // the value was passed to the constructor, so the property is valid and setting it again is not a change
+        var changes = new ArrayList<Integer>();
+        state.lengthProperty().addListener((ov, oldV, newV) -> changes.add(newV.intValue()));
+        state.setLength(42);
+        assertThat(changes.isEmpty()).isTrue();
+        state.setLength(43);
+        assertThat(List.copyOf(changes)).isEqualTo(List.of(43));
+
+        var other = StateFactory.create(DefaultValueState.class);
+        assertThat(other.getLength()).isEqualTo(42);
+        var overridden = StateFactory.create(OverriddenDefaultValueState.class);
+        assertThat(overridden.getLength()).isEqualTo(24);
+        assertThat(overridden.isSelected()).isFalse();
+        assertThat(overridden.getY()).isEqualTo(-8L);
+        assertThat(overridden.getTitle()).isEqualTo("Untitled");
+    }
+
+    /**
+     * A building block with annotations that is shared by several composites.
+     */
+    protected interface SharedLengthState extends IntegerLengthState {
+
+        @Override
+        @Synchronized
+        @DefaultValue("5")
+        IntegerProperty lengthProperty();
+    }
+
+    protected interface LeftSharedLengthState extends SharedLengthState, BooleanSelectedState { }
+
+    protected interface RightSharedLengthState extends SharedLengthState, RWListItemsState<String> { }
+
+    protected interface DiamondSharedLengthState extends LeftSharedLengthState, RightSharedLengthState { }
+
+    @Test
+    public void create_compositesOfSharedBlock_applyBlockAnnotationsToEachComposite() throws Exception {
+        var left = StateFactory.create(LeftSharedLengthState.class);
+        var right = StateFactory.create(RightSharedLengthState.class);
+        var diamond = StateFactory.create(DiamondSharedLengthState.class);
+        for (SharedLengthState state : List.of(left, right, diamond)) {
+            assertThat(state.getLength()).isEqualTo(5);
+            assertThat(state.lengthProperty()).isInstanceOf(SynchronizedIntegerProperty.class);
+        }
+        // the block is reached twice in the diamond, but its members are declared once
+        assertThat(StateMembers.of(DiamondSharedLengthState.class).getCount())
+                .isEqualTo(StateMembers.of(LeftSharedLengthState.class).getCount() + 1);
+        left.setSelected(true);
+        assertThat(left.isSelected()).isTrue();
+        checkRwList(right);
+        checkRwList(diamond);
+        diamond.setLength(6);
+        assertThat(left.getLength()).isEqualTo(5);
+        assertThat(diamond.getLength()).isEqualTo(6);
+    }
+
+    /**
+     * The base of a diamond, it is visited before {@link OverridingDiamondSideState} in a depth-first visit of
+     * {@link DiamondOverrideState}.
+     */
+    protected interface DiamondBaseState extends IntegerLengthState, SetPseudoClassStatesState<String> {
+
+        @Override
+        @DefaultValue("1")
+        int getLength();
+
+        @Override
+        @BackingType(LinkedHashSet.class)
+        ObservableSet<String> getPseudoClassStates();
+    }
+
+    protected interface PlainDiamondSideState extends DiamondBaseState, BooleanSelectedState { }
+
+    protected interface OverridingDiamondSideState extends DiamondBaseState {
+
+        @Override
+        @DefaultValue("2")
+        int getLength();
+
+        @Override
+        @BackingType(TreeSet.class)
+        ObservableSet<String> getPseudoClassStates();
+    }
+
+    protected interface DiamondOverrideState extends PlainDiamondSideState, OverridingDiamondSideState { }
+
+    @Test
+    public void create_diamondWithOverriddenAnnotations_appliesMostSpecificAnnotations() throws Exception {
+        var state = StateFactory.create(DiamondOverrideState.class);
+        assertThat(state.getLength()).isEqualTo(2);
+        var states = state.getPseudoClassStates();
+        states.addAll(List.of("c", "a", "b"));
+        assertThat(List.copyOf(states)).isEqualTo(List.of("a", "b", "c"));
+    }
+
+    protected interface OtherOverridingDiamondSideState extends DiamondBaseState {
+
+        @Override
+        @DefaultValue("3")
+        int getLength();
+    }
+
+    protected interface AmbiguousDiamondState extends OverridingDiamondSideState, OtherOverridingDiamondSideState { }
+
+    protected interface EqualDiamondSideState extends DiamondBaseState {
+
+        @Override
+        @BackingType(TreeSet.class)
+        ObservableSet<String> getPseudoClassStates();
+    }
+
+    protected interface EqualDiamondState extends OverridingDiamondSideState, EqualDiamondSideState { }
+
+    @Test
+    void getImplementation_ambiguousAnnotations_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(AmbiguousDiamondState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("getLength");
+        // the same value in unrelated interfaces is not ambiguous
+        var state = StateFactory.create(EqualDiamondState.class);
+        assertThat(state.getLength()).isEqualTo(2);
+        state.getPseudoClassStates().addAll(List.of("b", "a"));
+        assertThat(List.copyOf(state.getPseudoClassStates())).isEqualTo(List.of("a", "b"));
+    }
+
+    protected interface InvalidBooleanDefaultValueState extends BooleanSelectedState {
+
+        @Override
+        @DefaultValue("yes")
+        boolean isSelected();
+    }
+
+    protected interface InvalidIntegerDefaultValueState extends IntegerLengthState {
+
+        @Override
+        @DefaultValue("4.2")
+        void setLength(int value);
+    }
+
+    protected interface InvalidEnumDefaultValueState extends ObjectSideState<Side> {
+
+        @Override
+        @DefaultValue("MIDDLE")
+        ObjectProperty<Side> sideProperty();
+    }
+
+    protected interface UnsupportedDefaultValueState extends ObjectSideState<Integer> {
+
+        @Override
+        @DefaultValue("1")
+        Integer getSide();
+    }
+
+    @Test
+    void getImplementation_invalidDefaultValue_throwsRuntimeException() {
+        assertThatThrownBy(() -> StateFactory.getImplementation(InvalidBooleanDefaultValueState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("isSelected");
+        assertThatThrownBy(() -> StateFactory.getImplementation(InvalidIntegerDefaultValueState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("setLength");
+        assertThatThrownBy(() -> StateFactory.getImplementation(InvalidEnumDefaultValueState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("MIDDLE");
+        assertThatThrownBy(() -> StateFactory.getImplementation(UnsupportedDefaultValueState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("getSide");
+    }
+
+    /* ******************************* class file backend ******************************* */
+
+    protected interface ClassFileComplex extends WritableComplex { }
+
+    protected interface ClassFileConcreteComplex extends ConcreteComplex { }
+
+    protected interface ClassFileDefaultValueState extends DefaultValueState { }
+
+    protected interface ClassFileSyncRWListItemsState extends SyncRWListItemsState { }
+
+    protected interface ClassFileSyncRWSetState extends SyncRWSetPseudoClassStatesState { }
+
+    protected interface ClassFileRWMapState extends RWMapPropertiesState<String, String> { }
+
+    protected interface ClassFileSyncRWArrayState extends SyncRWIntegerArrayFacesState { }
+
+    protected interface ClassFileCapacityState extends CapacityState { }
+
+    protected interface ClassFileBackingTypeState extends BackingTypeState { }
+
+    protected interface ClassFileViewState extends ViewState { }
+
+    protected interface ClassFileDisposableState extends DisposableState { }
+
+    protected interface ClassFileConcreteDisposableState extends DisposableState { }
+
+    protected interface ClassFileAggregateState extends AggregateState { }
+
+    protected interface ClassFileUndoState extends UndoState { }
+
+    protected interface ClassFileSnapshotState extends SnapshotState { }
+
+    protected interface ClassFilePagedLogState extends PagedLogState { }
+
+    protected interface ClassFileBatchedState extends BatchedState { }
+
+    @Test
+    public void create_classFileBackend_createsEquivalentStates() throws Exception {
+        StateFactory.getSettings().setBackend(GenerationBackend.CLASS_FILE);
+        try {
+            // before Java 24 the classes are generated by Byte Buddy, they must behave the same way
+            var complex = StateFactory.create(ClassFileComplex.class);
+            if (Runtime.version().feature() >= 24) {
+                assertThat(complex.getClass().getName()).contains("$$ClassFile$$");
+            } else {
+                assertThat(complex.getClass().getName()).contains("$$ByteBuddy$$")
+                        .doesNotContain("$$ClassFile$$");
+            }
+            checkBoolean(complex);
+            checkInteger(complex);
+            checkLong(complex);
+            checkDouble(complex);
+            checkFloat(complex);
+            checkString(complex);
+            checkObject(complex);
+
+            var defaults = StateFactory.create(ClassFileDefaultValueState.class);
+            assertThat(defaults.getLength()).isEqualTo(42);
+            assertThat(defaults.getY()).isEqualTo(-7L);
+            assertThat(defaults.getX()).isEqualTo(2.5f);
+            assertThat(defaults.getTitle()).isEqualTo("Untitled");
+            assertThat(defaults.getSide()).isEqualTo(Side.BOTTOM);
+            assertThat(defaults.xProperty()).isInstanceOf(SynchronizedFloatProperty.class);
+
+            checkRwList(StateFactory.create(ClassFileSyncRWListItemsState.class));
+            checkRwSet(StateFactory.create(ClassFileSyncRWSetState.class));
+            checkRwMap(StateFactory.create(ClassFileRWMapState.class));
+            var array = StateFactory.create(ClassFileSyncRWArrayState.class);
+            array.getModifiableFaces().addAll(1, 2, 3);
+            assertThat(array.getFaces().size()).isEqualTo(3);
+            assertThatThrownBy(() -> array.getFaces().set(0, 5)).isInstanceOf(UnsupportedOperationException.class);
+            var capacity = StateFactory.create(ClassFileCapacityState.class);
+            checkList(capacity);
+            checkArray(capacity);
+
+            var backing = StateFactory.create(ClassFileBackingTypeState.class);
+            checkRwList(backing);
+            backing.getProperties().put("b", "2");
+            backing.getProperties().put("a", "1");
+            assertThat(List.copyOf(backing.getProperties().keySet())).isEqualTo(List.of("a", "b"));
+
+            var view = StateFactory.create(ClassFileViewState.class);
+            view.getModifiableItems().setAll("aaaaa", "bb", "cccc", "d");
+            assertThat(List.copyOf(view.getSortedItems())).isEqualTo(List.of("d", "bb", "cccc", "aaaaa"));
+            assertThat(List.copyOf(view.getShortItems())).isEqualTo(List.of("d", "bb"));
+            checkDispose(StateFactory.create(ClassFileDisposableState.class));
+            checkAggregateListener(StateFactory.create(ClassFileAggregateState.class));
+            checkUndo(StateFactory.create(ClassFileUndoState.class));
+            checkSnapshot(StateFactory.create(ClassFileSnapshotState.class));
+            checkPaged(StateFactory.create(ClassFilePagedLogState.class));
+            checkBatched(StateFactory.create(ClassFileBatchedState.class));
+
+            StateFactory.getSettings().setConcreteTypes(true);
+            var concrete = StateFactory.create(ClassFileConcreteComplex.class);
+            assertThat(Modifier.isFinal(concrete.getClass().getModifiers())).isTrue();
+            assertThat(concrete.getClass().getDeclaredField("title").getType())
+                    .isSameAs(SynchronizedStringProperty.class);
+            checkBoolean(concrete);
+            checkInteger(concrete);
+            checkString(concrete);
+            checkObject(concrete);
+            checkDispose(StateFactory.create(ClassFileConcreteDisposableState.class));
+        } finally {
+            StateFactory.getSettings().setBackend(GenerationBackend.BYTE_BUDDY);
+            StateFactory.getSettings().setConcreteTypes(false);
+        }
+    }
+
+    /* ******************************* tiered ******************************* */
+
+    protected interface TieredComplex extends WritableComplex { }
+
+    protected interface TieredDefaultValueState extends DefaultValueState { }
+
+    protected interface TieredContainerState extends ViewState, SyncRWSetPseudoClassStatesState,
+            RWMapPropertiesState<String, String>, SyncRWIntegerArrayFacesState { }
+
+    @Test
+    public void create_tieredMode_returnsProxyUntilClassIsGenerated() throws Exception {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            var complex = StateFactory.create(TieredComplex.class);
+            assertThat(Proxy.isProxyClass(complex.getClass())).isTrue();
+            checkBoolean(complex);
+            checkInteger(complex);
+            checkLong(complex);
+            checkDouble(complex);
+            checkFloat(complex);
+            checkString(complex);
+            checkObject(complex);
+            assertThat(complex.equals(complex)).isTrue();
+            assertThat(complex.equals(StateFactory.create(TieredComplex.class))).isFalse();
+
+            var defaults = StateFactory.create(TieredDefaultValueState.class);
+            assertThat(defaults.isSelected()).isTrue();
+            assertThat(defaults.getLength()).isEqualTo(42);
+            assertThat(defaults.getY()).isEqualTo(-7L);
+            assertThat(defaults.getX()).isEqualTo(2.5f);
+            assertThat(defaults.xProperty()).isInstanceOf(SynchronizedFloatProperty.class);
+            assertThat(defaults.getSide()).isEqualTo(Side.BOTTOM);
+
+            var containers = StateFactory.create(TieredContainerState.class, state -> {
+                state.getModifiableItems().setAll("aaaaa", "bb", "cccc", "d");
+                state.getModifiableFaces().addAll(1, 2, 3);
+            });
+            assertThat(List.copyOf(containers.getSortedItems())).isEqualTo(List.of("d", "bb", "cccc", "aaaaa"));
+            assertThat(List.copyOf(containers.getShortItems())).isEqualTo(List.of("d", "bb"));
+            assertThatThrownBy(() -> containers.getItems().add("x")).isInstanceOf(UnsupportedOperationException.class);
+            assertThat(containers.getFaces().size()).isEqualTo(3);
+            checkRwSet(containers);
+            checkRwMap(containers);
+
+            // waits for the background generation
+            var implClass = StateFactory.getImplementation(TieredComplex.class);
+            assertThat(Proxy.isProxyClass(implClass)).isFalse();
+            assertThat(StateFactory.create(TieredComplex.class).getClass()).isSameAs(implClass);
+            assertThat(complex.getClass()).isNotSameAs(implClass);
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
+    }
+
+    /* ******************************* async ******************************* */
+
+    protected interface AsyncComplex extends WritableComplex { }
+
+    protected interface SharedAsyncComplex extends WritableComplex { }
+
+    protected interface ClearedAsyncComplex extends WritableComplex { }
+
+    @Test
+    public void createAsync_newInterface_createsState() throws Exception {
+        var state = StateFactory.createAsync(AsyncComplex.class).get(10, TimeUnit.SECONDS);
+        assertThat(state.getClass()).isSameAs(StateFactory.getImplementation(AsyncComplex.class));
+        checkString(state);
+        checkObject(state);
+        // the class is cached, so the future is completed at once
+        assertThat(StateFactory.createAsync(AsyncComplex.class).isDone()).isTrue();
+    }
+
     @Test
-    public void create_booleanState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(BooleanSelectedState.class);
-        checkBoolean(state);
+    public void getImplementationAsync_concurrentRequests_shareOneGeneration() throws Exception {
+        var defaultExecutor = StateFactory.getSettings().getExecutor();
+        var executor = Executors.newSingleThreadExecutor();
+        var tasks = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        StateFactory.getSettings().setExecutor(r -> {
+            tasks.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                r.run();
+            });
+        });
+        try {
+            var first = StateFactory.getImplementationAsync(SharedAsyncComplex.class);
+            var second = StateFactory.getImplementationAsync(SharedAsyncComplex.class);
+            assertThat(first.isDone()).isFalse();
+            release.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS)).isSameAs(second.get(10, TimeUnit.SECONDS));
+            assertThat(tasks.get()).isEqualTo(1);
+            assertThat(StateFactory.getImplementation(SharedAsyncComplex.class)).isSameAs(first.get());
+        } finally {
+            StateFactory.getSettings().setExecutor(defaultExecutor);
+            executor.shutdown();
+        }
     }
 
     @Test
-    public void create_integerState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(IntegerLengthState.class);
-        checkInteger(state);
+    public void getImplementationAsync_cacheClearedDuringGeneration_doesNotCacheClass() throws Exception {
+        var defaultExecutor = StateFactory.getSettings().getExecutor();
+        var tasks = new ArrayList<Runnable>();
+        StateFactory.getSettings().setExecutor(tasks::add);
+        try {
+            var future = StateFactory.getImplementationAsync(ClearedAsyncComplex.class);
+            StateFactory.getCache().clear();
+            tasks.forEach(Runnable::run);
+            var oldClass = future.get(10, TimeUnit.SECONDS);
+            assertThat(ClearedAsyncComplex.class.isAssignableFrom(oldClass)).isTrue();
+            // the class was generated before the clear, so a new one is generated
+            var newClass = StateFactory.getImplementation(ClearedAsyncComplex.class);
+            assertThat(newClass).isNotSameAs(oldClass);
+            assertThat(StateFactory.getImplementation(ClearedAsyncComplex.class)).isSameAs(newClass);
+        } finally {
+            StateFactory.getSettings().setExecutor(defaultExecutor);
+        }
     }
 
     @Test
-    public void create_doubleState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(DoubleWidthState.class);
-        checkDouble(state);
+    public void getImplementationAsync_nullInterface_throwsIllegalArgumentException() {
+        assertThatThrownBy(() -> StateFactory.getImplementationAsync(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StateFactory.getSettings().setExecutor(null))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
+    /* ******************************* dispose ******************************* */
+
+    protected interface DisposableState extends WritableComplex, SyncBooleanSelectedState, ViewState,
+            SyncRWIntegerArrayFacesState, MapPropertiesState<String, String>, Disposable { }
+
+    protected interface ConcreteDisposableState extends DisposableState { }
+
+    protected interface TieredDisposableState extends DisposableState { }
+
     @Test
-    public void create_floatState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(FloatXState.class);
-        checkFloat(state);
+    public void dispose_generatedState_releasesBindingsListenersAndContents() throws Exception {
+        var state = StateFactory.create(DisposableState.class);
+        assertThat(Proxy.isProxyClass(state.getClass())).isFalse();
+        checkDispose(state);
+        // every generated state is disposable
+        assertThat(StateFactory.create(ShapeState.class)).isInstanceOf(Disposable.class);
+
+        StateFactory.getSettings().setConcreteTypes(true);
+        try {
+            checkDispose(StateFactory.create(ConcreteDisposableState.class));
+        } finally {
+            StateFactory.getSettings().setConcreteTypes(false);
+        }
     }
 
     @Test
-    public void create_longState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(LongYState.class);
-        checkLong(state);
+    public void dispose_tieredProxy_releasesBindingsListenersAndContents() throws Exception {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            var state = StateFactory.create(TieredDisposableState.class);
+            assertThat(Proxy.isProxyClass(state.getClass())).isTrue();
+            checkDispose(state);
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
+    }
+
+    private void checkDispose(DisposableState state) {
+        var width = new SimpleDoubleProperty(10);
+        state.widthProperty().bind(width);
+        var selected = new SimpleBooleanProperty(true);
+        state.selectedProperty().bind(selected);
+        int[] changes = {0};
+        state.lengthProperty().addListener((ov, oldV, newV) -> changes[0]++);
+        state.getModifiableItems().setAll("aaaaa", "bb", "cccc", "d");
+        state.getModifiableFaces().addAll(1, 2, 3);
+        state.getProperties().put("key", "value");
+
+        state.dispose();
+        // the values of the sources are kept, but the properties are not bound any more
+        assertThat(state.widthProperty().isBound()).isFalse();
+        assertThat(state.getWidth()).isEqualTo(10.0);
+        width.set(20);
+        assertThat(state.getWidth()).isEqualTo(10.0);
+        assertThat(state.selectedProperty().isBound()).isFalse();
+        state.setLength(5);
+        assertThat(changes[0]).isEqualTo(0);
+        assertThat(state.getItems().isEmpty()).isTrue();
+        assertThat(state.getSortedItems().isEmpty()).isTrue();
+        assertThat(state.getShortItems().isEmpty()).isTrue();
+        assertThat(state.getFaces().size()).isEqualTo(0);
+        assertThat(state.getProperties().isEmpty()).isTrue();
+        // the state remains usable
+        state.getModifiableItems().add("e");
+        assertThat(List.copyOf(state.getShortItems())).isEqualTo(List.of("e"));
     }
 
+    /* ******************************* observable state ******************************* */
+
+    protected interface AggregateState extends WritableComplex, SyncBooleanSelectedState, ViewState,
+            SyncRWIntegerArrayFacesState, MapPropertiesState<String, String>, ObservableState, Disposable { }
+
+    protected interface TieredAggregateState extends AggregateState { }
+
     @Test
-    public void create_stringState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(StringTitleState.class);
-        checkString(state);
+    public void addListener_generatedState_notifiesOnEveryChange() throws Exception {
+        var state = StateFactory.create(AggregateState.class);
+        assertThat(Proxy.isProxyClass(state.getClass())).isFalse();
+        checkAggregateListener(state);
+        assertThat(StateFactory.create(ShapeState.class)).isInstanceOf(ObservableState.class);
     }
 
     @Test
-    public void create_objectState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(ObjectSideState.class);
-        checkObject(state);
+    public void addListener_tieredProxy_notifiesOnEveryChange() throws Exception {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            var state = StateFactory.create(TieredAggregateState.class);
+            assertThat(Proxy.isProxyClass(state.getClass())).isTrue();
+            checkAggregateListener(state);
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
     }
 
-    /* ******************************* list ******************************* */
+    private void checkAggregateListener(AggregateState state) {
+        // no listener, nothing to do
+        state.removeListener(e -> { });
+        List<Object> sources = new ArrayList<>();
+        InvalidationListener listener = sources::add;
+        state.addListener(listener);
+        state.setLength(1);
+        // the property is validated by the state, so the next change is reported too
+        state.setLength(2);
+        state.setLength(2);
+        state.setSelected(true);
+        state.getModifiableItems().add("a");
+        state.getModifiableFaces().addAll(1, 2);
+        state.getProperties().put("key", "value");
+        assertThat(sources.size()).isEqualTo(6);
+        assertThat(sources.stream().allMatch(s -> s == state)).isTrue();
+
+        var width = new SimpleDoubleProperty();
+        state.widthProperty().bind(width);
+        width.set(1);
+        width.set(2);
+        assertThat(sources.size()).isEqualTo(9);
+
+        int[] secondCalls = {0};
+        InvalidationListener second = e -> secondCalls[0]++;
+        state.addListener(second);
+        state.setTitle("title");
+        assertThat(sources.size()).isEqualTo(10);
+        assertThat(secondCalls[0]).isEqualTo(1);
+
+        state.removeListener(listener);
+        state.removeListener(second);
+        state.setTitle("other");
+        state.getModifiableItems().add("b");
+        assertThat(sources.size()).isEqualTo(10);
+
+        // the internal listener is registered again
+        state.addListener(listener);
+        state.getModifiableItems().add("c");
+        assertThat(sources.size()).isEqualTo(11);
+
+        // dispose removes the listeners of the state
+        state.dispose();
+        state.setLength(5);
+        state.getModifiableItems().add("d");
+        assertThat(sources.size()).isEqualTo(11);
+    }
+
+    /* ******************************* undo journal ******************************* */
+
+    protected interface UndoState extends WritableComplex, ViewState, SetPseudoClassStatesState<String>,
+            MapPropertiesState<String, String>, SyncRWIntegerArrayFacesState, UndoableState, Disposable { }
+
+    protected interface ConcreteUndoState extends UndoState { }
+
+    protected interface TieredUndoState extends UndoState { }
 
     @Test
-    public void create_listState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(ListItemsState.class);
-        checkList(state);
+    public void undo_generatedState_revertsSetterAndContainerChanges() throws Exception {
+        var state = StateFactory.create(UndoState.class);
+        assertThat(Proxy.isProxyClass(state.getClass())).isFalse();
+        checkUndo(state);
+        // states that are not undoable don't have the journal
+        assertThat(StateFactory.create(ShapeState.class)).isNotInstanceOf(UndoableState.class);
+
+        StateFactory.getSettings().setConcreteTypes(true);
+        try {
+            checkUndo(StateFactory.create(ConcreteUndoState.class));
+        } finally {
+            StateFactory.getSettings().setConcreteTypes(false);
+        }
     }
 
     @Test
-    public void create_rwListState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(RWListItemsState.class);
-        checkRwList(state);
+    public void undo_tieredProxy_revertsSetterAndContainerChanges() throws Exception {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            var state = StateFactory.create(TieredUndoState.class);
+            assertThat(Proxy.isProxyClass(state.getClass())).isTrue();
+            checkUndo(state);
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
     }
 
-    protected interface SyncListItemsState extends ListItemsState<String> {
+    @Test
+    public void undo_fullJournal_dropsOldestChanges() {
+        var state = StateFactory.create(UndoState.class);
+        var journal = new UndoJournal(2);
+        state.setUndoJournal(journal);
+        state.setLength(1);
+        state.setLength(2);
+        state.setLength(3);
+        assertThat(journal.undo()).isTrue();
+        assertThat(journal.undo()).isTrue();
+        assertThat(journal.undo()).isFalse();
+        assertThat(state.getLength()).isEqualTo(1);
+        assertThat(journal.redo()).isTrue();
+        assertThat(state.getLength()).isEqualTo(2);
+    }
 
-        @Override
-        @Synchronized
-        ObservableList<String> getItems();
+    @Test
+    public void undo_sharedJournal_revertsTransactionOfSeveralStates() {
+        var first = StateFactory.create(UndoState.class);
+        var second = StateFactory.create(UndoState.class);
+        var journal = new UndoJournal(10);
+        first.setUndoJournal(journal);
+        second.setUndoJournal(journal);
+        journal.beginTransaction();
+        first.setTitle("first");
+        journal.beginTransaction();
+        second.setTitle("second");
+        second.getModifiableItems().add("a");
+        journal.endTransaction();
+        assertThatThrownBy(() -> journal.undo()).isInstanceOf(IllegalStateException.class);
+        journal.endTransaction();
+        assertThatThrownBy(() -> journal.endTransaction()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(journal.undo()).isTrue();
+        assertThat(first.getTitle()).isNull();
+        assertThat(second.getTitle()).isNull();
+        assertThat(second.getItems().isEmpty()).isTrue();
+        assertThat(journal.canUndo()).isFalse();
+        assertThat(journal.redo()).isTrue();
+        assertThat(first.getTitle()).isEqualTo("first");
+        assertThat(second.getTitle()).isEqualTo("second");
+        assertThat(List.copyOf(second.getItems())).isEqualTo(List.of("a"));
+    }
+
+    private void checkUndo(UndoState state) {
+        assertThat(state.getUndoJournal()).isNull();
+        var journal = new UndoJournal(20);
+        state.setUndoJournal(journal);
+        assertThat(state.getUndoJournal()).isSameAs(journal);
+
+        state.setLength(1);
+        // the same value is not recorded
+        state.setLength(1);
+        state.setWidth(2.5);
+        state.setTitle("a");
+        state.setSelected(true);
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.isSelected()).isFalse();
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.getTitle()).isNull();
+        assertThat(journal.redo()).isTrue();
+        assertThat(state.getTitle()).isEqualTo("a");
+
+        journal.beginTransaction();
+        state.setY(7L);
+        state.setX(1.5f);
+        state.setSide(Side.LEFT);
+        journal.endTransaction();
+        // a new change drops the changes that could be redone
+        assertThat(journal.canRedo()).isFalse();
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.getY()).isEqualTo(0L);
+        assertThat(state.getX()).isEqualTo(0f);
+        assertThat(state.getSide()).isNull();
+        assertThat(state.getWidth()).isEqualTo(2.5);
+        assertThat(journal.redo()).isTrue();
+        assertThat(state.getY()).isEqualTo(7L);
+        assertThat(state.getX()).isEqualTo(1.5f);
+        assertThat(state.getSide()).isEqualTo(Side.LEFT);
+
+        state.getModifiableItems().addAll("a", "b", "c");
+        state.getModifiableItems().remove("b");
+        state.getModifiableItems().sort(Comparator.reverseOrder());
+        state.getPseudoClassStates().add("hover");
+        state.getProperties().put("key", "first");
+        state.getProperties().put("key", "second");
+        // arrays are not tracked
+        state.getModifiableFaces().addAll(1, 2);
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.getProperties().get("key")).isEqualTo("first");
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.getProperties().isEmpty()).isTrue();
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.getPseudoClassStates().isEmpty()).isTrue();
+        assertThat(journal.undo()).isTrue();
+        assertThat(List.copyOf(state.getItems())).isEqualTo(List.of("a", "c"));
+        assertThat(journal.undo()).isTrue();
+        assertThat(List.copyOf(state.getItems())).isEqualTo(List.of("a", "b", "c"));
+        assertThat(journal.undo()).isTrue();
+        assertThat(state.getItems().isEmpty()).isTrue();
+        assertThat(state.getFaces().size()).isEqualTo(2);
+        assertThat(journal.redo()).isTrue();
+        assertThat(journal.redo()).isTrue();
+        assertThat(journal.redo()).isTrue();
+        assertThat(List.copyOf(state.getItems())).isEqualTo(List.of("c", "a"));
+
+        // dispose detaches the journal, so clearing is not recorded
+        state.dispose();
+        assertThat(state.getUndoJournal()).isNull();
+        state.setLength(10);
+        assertThat(journal.canRedo()).isTrue();
+        assertThat(journal.redo()).isTrue();
+        assertThat(Set.copyOf(state.getPseudoClassStates())).isEqualTo(Set.of("hover"));
     }
 
+    /* ******************************* snapshot ******************************* */
+
+    protected interface SnapshotState extends WritableComplex, ViewState, SetPseudoClassStatesState<String>,
+            MapPropertiesState<String, String>, SyncRWIntegerArrayFacesState, SnapshottableState<SnapshotState> { }
+
+    protected interface ConcreteSnapshotState extends SnapshotState { }
+
+    protected interface TieredSnapshotState extends SnapshotState { }
+
     @Test
-    public void create_syncListState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SyncListItemsState.class);
-        assertThat(state.getItems().getClass()).isSameAs(
-                FXCollections.synchronizedObservableList(FXCollections.observableArrayList()).getClass());
-        checkList(state);
+    public void snapshot_generatedState_capturesValuesAndCopiesOfContainers() throws Exception {
+        var state = StateFactory.create(SnapshotState.class);
+        assertThat(Proxy.isProxyClass(state.getClass())).isFalse();
+        checkSnapshot(state);
+
+        StateFactory.getSettings().setConcreteTypes(true);
+        try {
+            checkSnapshot(StateFactory.create(ConcreteSnapshotState.class));
+        } finally {
+            StateFactory.getSettings().setConcreteTypes(false);
+        }
     }
 
-    protected interface SyncRWListItemsState extends RWListItemsState<String> {
+    @Test
+    public void snapshot_tieredProxy_capturesValuesAndCopiesOfContainers() throws Exception {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            var state = StateFactory.create(TieredSnapshotState.class);
+            assertThat(Proxy.isProxyClass(state.getClass())).isTrue();
+            checkSnapshot(state);
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
+    }
 
-        @Override
-        @Synchronized
-        ObservableList<String> getModifiableItems();
+    @Test
+    public void of_notSnapshottableState_takesSnapshot() {
+        var state = StateFactory.create(ShapeState.class, s -> s.setWidth(5));
+        assertThat(state).isNotInstanceOf(SnapshottableState.class);
+        var snapshot = StateSnapshot.of(state);
+        state.setWidth(6);
+        assertThat(snapshot.getWidth()).isEqualTo(5);
+        assertThat(StateSnapshot.of(snapshot)).isSameAs(snapshot);
+        assertThatThrownBy(() -> StateSnapshot.of(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void checkSnapshot(SnapshotState state) throws Exception {
+        state.setLength(1);
+        state.setY(2L);
+        state.setWidth(2.5);
+        state.setX(1.5f);
+        state.setTitle("title");
+        state.setSelected(true);
+        state.setSide(Side.LEFT);
+        state.getModifiableItems().addAll("cccc", "a", "bb");
+        state.getPseudoClassStates().addAll(Set.of("hover", "focused"));
+        state.getProperties().put("key", "value");
+        state.getModifiableFaces().addAll(1, 2);
+
+        var snapshot = state.snapshot();
+        assertThat(snapshot).isInstanceOf(StateSnapshot.class);
+        assertThat(snapshot.snapshot()).isSameAs(snapshot);
+        // the state is changed after the snapshot was taken
+        state.setLength(10);
+        state.setTitle("other");
+        state.setSide(Side.RIGHT);
+        state.getModifiableItems().clear();
+        state.getPseudoClassStates().clear();
+        state.getProperties().clear();
+        state.getModifiableFaces().clear();
+
+        assertThat(snapshot.getLength()).isEqualTo(1);
+        assertThat(snapshot.getY()).isEqualTo(2L);
+        assertThat(snapshot.getWidth()).isEqualTo(2.5);
+        assertThat(snapshot.getX()).isEqualTo(1.5f);
+        assertThat(snapshot.isSelected()).isTrue();
+        assertThat(snapshot.getSide()).isEqualTo(Side.LEFT);
+        assertThat(List.copyOf(snapshot.getItems())).isEqualTo(List.of("cccc", "a", "bb"));
+        assertThat(List.copyOf(snapshot.getSortedItems())).isEqualTo(List.of("a", "bb", "cccc"));
+        assertThat(List.copyOf(snapshot.getShortItems())).isEqualTo(List.of("a", "bb"));
+        assertThat(Set.copyOf(snapshot.getPseudoClassStates())).isEqualTo(Set.of("hover", "focused"));
+        assertThat(snapshot.getProperties().get("key")).isEqualTo("value");
+        assertThat(snapshot.getFaces().toArray(null)).isEqualTo(new int[] {1, 2});
+        assertThat(snapshot.toString()).contains("title=title");
+        // the values are read from another thread without any synchronization
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(executor.submit(snapshot::getTitle).get(5, TimeUnit.SECONDS)).isEqualTo("title");
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThatThrownBy(() -> snapshot.getItems().add("d")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getPseudoClassStates().remove("hover"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getProperties().put("key", "other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getFaces().set(0, 5)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.setLength(5)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.titleProperty()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getModifiableItems()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /* ******************************* shadow ******************************* */
+
+    protected interface ShadowState extends WritableComplex, ViewState, SetPseudoClassStatesState<String>,
+            MapPropertiesState<String, String>, SyncRWIntegerArrayFacesState { }
+
+    protected interface TieredShadowState extends ShadowState { }
+
+    @Test
+    public void commit_generatedState_copiesOnlyChangedValues() throws Exception {
+        checkShadow(StateFactory.create(ShadowState.class));
     }
 
     @Test
-    public void create_syncRwListState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SyncRWListItemsState.class);
-        assertThat(state.getModifiableItems().getClass()).isSameAs(
-                FXCollections.synchronizedObservableList(FXCollections.observableArrayList()).getClass());
-        checkRwList(state);
+    public void commit_tieredProxy_copiesOnlyChangedValues() throws Exception {
+        StateFactory.getSettings().setTiered(true);
+        try {
+            var state = StateFactory.create(TieredShadowState.class);
+            assertThat(Proxy.isProxyClass(state.getClass())).isTrue();
+            checkShadow(state);
+        } finally {
+            StateFactory.getSettings().setTiered(false);
+        }
     }
 
-    /* ******************************* set ******************************* */
+    private void checkShadow(ShadowState state) throws Exception {
+        state.setTitle("title");
+        state.setWidth(Double.NaN);
+        state.getModifiableItems().add("a");
+        var buffer = new StateShadow<>(state);
+        var shadow = buffer.getShadow();
+        assertThat(shadow).isNotSameAs(state);
+        assertThat(shadow.getTitle()).isEqualTo("title");
+        assertThat(List.copyOf(shadow.getItems())).isEqualTo(List.of("a"));
+        assertThat(buffer.commit()).isFalse();
+
+        AtomicInteger titleChanges = new AtomicInteger();
+        AtomicInteger widthChanges = new AtomicInteger();
+        AtomicInteger lengthChanges = new AtomicInteger();
+        AtomicInteger itemChanges = new AtomicInteger();
+        AtomicInteger otherChanges = new AtomicInteger();
+        state.titleProperty().addListener((ov, oldValue, newValue) -> titleChanges.incrementAndGet());
+        state.widthProperty().addListener((ov, oldValue, newValue) -> widthChanges.incrementAndGet());
+        state.lengthProperty().addListener((ov, oldValue, newValue) -> lengthChanges.incrementAndGet());
+        state.getItems().addListener((ListChangeListener<String>) c -> itemChanges.incrementAndGet());
+        state.getPseudoClassStates().addListener((SetChangeListener<String>) c -> otherChanges.incrementAndGet());
+        state.getProperties().addListener((MapChangeListener<String, String>) c -> otherChanges.incrementAndGet());
+        state.getFaces().addListener((array, sizeChanged, from, to) -> otherChanges.incrementAndGet());
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                // the same values
+                shadow.setTitle(new String("title"));
+                shadow.getModifiableItems().setAll("a");
+                shadow.setLength(5);
+                buffer.publish();
+                // the next cycle replaces the previous one
+                shadow.setLength(6);
+                shadow.getModifiableItems().add("b");
+                shadow.getPseudoClassStates().add("hover");
+                shadow.getProperties().put("key", "value");
+                shadow.getModifiableFaces().addAll(1, 2);
+                buffer.publish();
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(buffer.isPublished()).isTrue();
+        // nothing is changed until the commit
+        assertThat(state.getLength()).isEqualTo(0);
+
+        assertThat(buffer.commit()).isTrue();
+        assertThat(buffer.isPublished()).isFalse();
+        assertThat(state.getLength()).isEqualTo(6);
+        assertThat(lengthChanges.get()).isEqualTo(1);
+        assertThat(titleChanges.get()).isEqualTo(0);
+        assertThat(widthChanges.get()).isEqualTo(0);
+        assertThat(List.copyOf(state.getItems())).isEqualTo(List.of("a", "b"));
+        assertThat(itemChanges.get()).isEqualTo(1);
+        assertThat(Set.copyOf(state.getPseudoClassStates())).isEqualTo(Set.of("hover"));
+        assertThat(state.getProperties().get("key")).isEqualTo("value");
+        assertThat(state.getFaces().toArray(null)).isEqualTo(new int[] {1, 2});
+        assertThat(otherChanges.get()).isEqualTo(3);
+        assertThat(buffer.commit()).isFalse();
+
+        // unchanged values don't notify the listeners
+        buffer.publish();
+        assertThat(buffer.commit()).isTrue();
+        assertThat(lengthChanges.get() + titleChanges.get() + widthChanges.get() + itemChanges.get()
+                + otherChanges.get()).isEqualTo(5);
+
+        shadow.getModifiableItems().remove("a");
+        shadow.getPseudoClassStates().clear();
+        shadow.getProperties().clear();
+        buffer.publish();
+        assertThat(buffer.commit()).isTrue();
+        assertThat(List.copyOf(state.getItems())).isEqualTo(List.of("b"));
+        assertThat(state.getPseudoClassStates().isEmpty()).isTrue();
+        assertThat(state.getProperties().isEmpty()).isTrue();
+    }
+
+    /* ******************************* copier ******************************* */
+
+    protected interface CopySourceState extends WritableComplex, RWListItemsState<String>,
+            MapPropertiesState<String, String> { }
+
+    protected interface CopyTargetState extends DoubleXState, DoubleWidthState, DoubleHeightState, StringTitleState,
+            IntegerLengthState, ListItemsState<String>, MapPropertiesState<String, String> { }
 
     @Test
-    public void create_setState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SetPseudoClassStatesState.class);
-        checkSet(state);
+    public void copy_differentInterfaces_copiesSharedMembers() {
+        var source = StateFactory.create(CopySourceState.class, s -> {
+            s.setLength(5);
+            s.setWidth(2.5);
+            s.setX(1.5f);
+            s.setTitle("title");
+            s.getModifiableItems().addAll("a", "b");
+            s.getProperties().put("key", "value");
+        });
+        var target = StateFactory.create(CopyTargetState.class, t -> {
+            t.setX(3);
+            t.setHeight(4);
+            t.setTitle("old");
+        });
+        StateCopier.copy(source, target);
+        assertThat(target.getLength()).isEqualTo(5);
+        assertThat(target.getWidth()).isEqualTo(2.5);
+        assertThat(target.getTitle()).isEqualTo("title");
+        assertThat(List.copyOf(target.getItems())).isEqualTo(List.of("a", "b"));
+        assertThat(target.getProperties().get("key")).isEqualTo("value");
+        // the value types differ
+        assertThat(target.getX()).isEqualTo(3);
+        // the source doesn't have it
+        assertThat(target.getHeight()).isEqualTo(4);
+
+        AtomicInteger changes = new AtomicInteger();
+        target.titleProperty().addListener((ov, oldValue, newValue) -> changes.incrementAndGet());
+        target.lengthProperty().addListener((ov, oldValue, newValue) -> changes.incrementAndGet());
+        target.getItems().addListener((ListChangeListener<String>) c -> changes.incrementAndGet());
+        target.getProperties().addListener((MapChangeListener<String, String>) c -> changes.incrementAndGet());
+        source.setTitle(new String("title"));
+        StateCopier.copy(StateSnapshot.of(source), target);
+        assertThat(changes.get()).isEqualTo(0);
+
+        // the modifiable list of a RW pair is changed
+        target.getItems().setAll("c");
+        target.setLength(7);
+        StateCopier.copy(target, source);
+        assertThat(List.copyOf(source.getItems())).isEqualTo(List.of("c"));
+        assertThat(source.getLength()).isEqualTo(7);
+        assertThat(source.getX()).isEqualTo(1.5f);
+
+        assertThatThrownBy(() -> StateCopier.copy(null, target)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StateCopier.copy(source, null)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    /* ******************************* replication ******************************* */
+
+    protected interface ReplicaState extends BooleanSelectedState, IntegerLengthState, DoubleWidthState,
+            StringTitleState, ObjectSideState<Side>, RWListItemsState<String>, SetPseudoClassStatesState<String>,
+            MapPropertiesState<String, String>, IntegerArrayFacesState { }
+
     @Test
-    public void create_rwSetState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(RWSetPseudoClassStatesState.class);
-        checkRwSet(state);
+    public void members_replicaState_indexesPropertiesThenContainers() {
+        var members = StateMembers.of(ReplicaState.class);
+        assertThat(members.getCount()).isEqualTo(9);
+        assertThat(members.getName(0)).isEqualTo("length");
+        assertThat(members.getKind(0)).isEqualTo(StateMembers.Kind.INTEGER);
+        assertThat(members.getKind(2)).isEqualTo(StateMembers.Kind.OBJECT);
+        assertThat(members.getName(5)).isEqualTo("faces");
+        assertThat(members.getKind(5)).isEqualTo(StateMembers.Kind.INTEGER_ARRAY);
+        assertThat(members.indexOf("pseudoClassStates")).isEqualTo(8);
+        assertThat(members.indexOf("unknown")).isEqualTo(-1);
+
+        var state = StateFactory.create(ReplicaState.class);
+        assertThat(StateMembers.of(state.getClass())).isSameAs(members);
+        members.setValue(state, 0, 5);
+        members.setValue(state, members.indexOf("side"), Side.TOP);
+        assertThat(state.getLength()).isEqualTo(5);
+        assertThat(state.getSide()).isEqualTo(Side.TOP);
+        assertThat(members.get(state, 0)).isSameAs(state.lengthProperty());
+        // the modifiable list of a RW pair
+        assertThat(members.get(state, members.indexOf("items"))).isSameAs(state.getModifiableItems());
+        assertThatThrownBy(() -> members.setValue(state, 5, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> members.get(state, 9)).isInstanceOf(IndexOutOfBoundsException.class);
     }
 
-    protected interface SyncSetPseudoClassStatesState extends SetPseudoClassStatesState<String> {
+    @Test
+    public void replicator_changedStates_mirrorsChanges() throws Exception {
+        var path = Files.createTempDirectory("statefx").resolve("replicator.sock");
+        // every executor plays the FX thread of a process
+        var serverExecutor = Executors.newSingleThreadExecutor();
+        var clientExecutor = Executors.newSingleThreadExecutor();
+        var accepted = CompletableFuture.supplyAsync(() -> {
+            try {
+                return StateReplicator.accept(path, serverExecutor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        StateReplicator connected = null;
+        while (connected == null) {
+            try {
+                connected = StateReplicator.connect(path, clientExecutor);
+            } catch (IOException e) {
+                // the server is not listening yet
+                Thread.sleep(5);
+            }
+        }
+        try (var client = connected; var server = accepted.get()) {
+            var source = serverExecutor.submit(() -> {
+                var s = StateFactory.create(ReplicaState.class, state -> {
+                    state.setLength(5);
+                    state.setTitle("title");
+                    state.setSide(Side.LEFT);
+                    state.getModifiableItems().addAll("a", "b", "c");
+                    state.getPseudoClassStates().add("hover");
+                    state.getProperties().put("key", "value");
+                    state.getFaces().addAll(1, 2, 3);
+                });
+                server.register(1, s);
+                server.start();
+                return s;
+            }).get();
+            var target = clientExecutor.submit(() -> {
+                var t = StateFactory.create(ReplicaState.class);
+                client.register(1, t);
+                // the server doesn't have it
+                client.register(2, StateFactory.create(ReplicaState.class));
+                client.start();
+                return t;
+            }).get();
+
+            serverExecutor.submit(() -> {
+                server.sync(1);
+                server.flush();
+            }).get();
+            awaitReplicated(clientExecutor, () -> List.of(1, 2, 3).equals(toList(target.getFaces())));
+            clientExecutor.submit(() -> {
+                assertThat(target.getLength()).isEqualTo(5);
+                assertThat(target.getTitle()).isEqualTo("title");
+                assertThat(target.getSide()).isEqualTo(Side.LEFT);
+                assertThat(List.copyOf(target.getItems())).isEqualTo(List.of("a", "b", "c"));
+                assertThat(Set.copyOf(target.getPseudoClassStates())).isEqualTo(Set.of("hover"));
+                assertThat(target.getProperties().get("key")).isEqualTo("value");
+                // the applied changes are not sent back
+                assertThat(client.flush()).isFalse();
+            }).get();
+
+            AtomicInteger lengthChanges = new AtomicInteger();
+            clientExecutor.submit(() -> target.lengthProperty()
+                    .addListener((ov, oldValue, newValue) -> lengthChanges.incrementAndGet())).get();
+            serverExecutor.submit(() -> {
+                // one value is sent for several changes
+                source.setLength(6);
+                source.setLength(7);
+                source.setSelected(true);
+                source.getModifiableItems().remove(0);
+                source.getModifiableItems().add(1, "d");
+                source.getPseudoClassStates().remove("hover");
+                source.getPseudoClassStates().add("focused");
+                source.getProperties().remove("key");
+                source.getProperties().put("other", null);
+                source.getFaces().set(1, -2);
+                source.getFaces().resize(2);
+                assertThat(server.flush()).isTrue();
+                assertThat(server.flush()).isFalse();
+            }).get();
+            awaitReplicated(clientExecutor, () -> List.of(1, -2).equals(toList(target.getFaces())));
+            clientExecutor.submit(() -> {
+                assertThat(target.getLength()).isEqualTo(7);
+                assertThat(lengthChanges.get()).isEqualTo(1);
+                assertThat(target.isSelected()).isTrue();
+                assertThat(List.copyOf(target.getItems())).isEqualTo(List.of("b", "d", "c"));
+                assertThat(Set.copyOf(target.getPseudoClassStates())).isEqualTo(Set.of("focused"));
+                assertThat(target.getProperties().containsKey("key")).isFalse();
+                assertThat(target.getProperties().containsKey("other")).isTrue();
+            }).get();
+
+            // the other direction, the records of the unknown state are skipped
+            clientExecutor.submit(() -> {
+                target.setWidth(2.5);
+                target.getModifiableItems().setAll("e");
+                assertThat(client.flush()).isTrue();
+            }).get();
+            awaitReplicated(serverExecutor, () -> source.getWidth() == 2.5);
+            serverExecutor.submit(() -> {
+                assertThat(List.copyOf(source.getItems())).isEqualTo(List.of("e"));
+                assertThat(server.flush()).isFalse();
+            }).get();
+        } finally {
+            serverExecutor.shutdown();
+            clientExecutor.shutdown();
+        }
+    }
 
-        @Override
-        @Synchronized
-        ObservableSet<String> getPseudoClassStates();
+    protected interface AnyValueReplicaState extends ObjectSideState<Object> { }
+
+    @Test
+    public void replicator_valueOutsideClosedFormat_throwsIllegalArgumentException() throws Exception {
+        var path = Files.createTempDirectory("statefx").resolve("replicator.sock");
+        var accepted = CompletableFuture.supplyAsync(() -> {
+            try {
+                return StateReplicator.accept(path, Runnable::run);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        // the socket file is owner-only while the server waits
+        var ownerOnly = PosixFilePermissions.fromString("rw-------");
+        for (var i = 0; i < 500 && !(Files.exists(path) && Files.getPosixFilePermissions(path).equals(ownerOnly));
+                i++) {
+            Thread.sleep(10);
+        }
+        assertThat(Files.getPosixFilePermissions(path)).isEqualTo(ownerOnly);
+        try (var client = StateReplicator.connect(path, Runnable::run); var server = accepted.get()) {
+            var state = StateFactory.create(AnyValueReplicaState.class);
+            server.register(1, state);
+            var target = StateFactory.create(AnyValueReplicaState.class);
+            client.register(1, target);
+            client.start();
+            state.setSide(new StringBuilder("serializable"));
+            assertThatThrownBy(server::flush).isInstanceOf(IllegalArgumentException.class);
+            // the rejected value left nothing in the records, the next changes are sent as usual
+            state.setSide("text");
+            assertThat(server.flush()).isTrue();
+            for (var i = 0; i < 500 && target.getSide() == null; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(target.getSide()).isEqualTo("text");
+        }
     }
 
     @Test
-    public void create_syncSetState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SyncSetPseudoClassStatesState.class);
-        assertThat(state.getPseudoClassStates().getClass()).isSameAs(
-                FXCollections.synchronizedObservableSet(FXCollections.observableSet()).getClass());
-        checkSet(state);
+    public void replicator_malformedFrame_appliesNothing() throws Exception {
+        var path = Files.createTempDirectory("statefx").resolve("replicator.sock");
+        List<RuntimeException> errors = new CopyOnWriteArrayList<>();
+        var failed = new CountDownLatch(2);
+        Executor executor = r -> {
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                errors.add(e);
+                failed.countDown();
+            }
+        };
+        var accepted = CompletableFuture.supplyAsync(() -> {
+            try {
+                return StateReplicator.accept(path, executor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        SocketChannel peer = null;
+        while (peer == null) {
+            try {
+                peer = SocketChannel.open(UnixDomainSocketAddress.of(path));
+            } catch (IOException e) {
+                // the server is not listening yet
+                Thread.sleep(5);
+            }
+        }
+        try (var channel = peer; var server = accepted.get()) {
+            var state = StateFactory.create(ReplicaState.class);
+            server.register(1, state);
+            server.start();
+            var length = StateMembers.of(ReplicaState.class).indexOf("length");
+            // a valid record that sets the length to 5 followed by a block with an unknown member
+            var unknownMember = new byte[] {1, 3, (byte) length, 0, 10, 1, 2, 99, 0};
+            // the block is one byte shorter than its record
+            var shortBlock = new byte[] {1, 2, (byte) length, 0, 10};
+            for (var frame : List.of(unknownMember, shortBlock)) {
+                var buffer = ByteBuffer.allocate(Integer.BYTES + frame.length).putInt(frame.length).put(frame).flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(errors.size()).isEqualTo(2);
+            for (var error : errors) {
+                assertThat(error).isInstanceOf(IllegalStateException.class);
+            }
+            assertThat(state.getLength()).isEqualTo(0);
+        }
     }
 
-    protected interface SyncRWSetPseudoClassStatesState extends RWSetPseudoClassStatesState<String> {
+    private static List<Integer> toList(ObservableIntegerArray array) {
+        List<Integer> list = new ArrayList<>();
+        for (var i = 0; i < array.size(); i++) {
+            list.add(array.get(i));
+        }
+        return list;
+    }
 
-        @Override
-        @Synchronized
-        ObservableSet<String> getModifiablePseudoClassStates();
+    private static void awaitReplicated(ExecutorService executor, BooleanSupplier condition) throws Exception {
+        for (var i = 0; i < 500; i++) {
+            if (executor.submit(condition::getAsBoolean).get()) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("State is not replicated");
     }
 
+    /* ******************************* binder ******************************* */
+
+    public interface ShapeState extends DoubleWidthState, BooleanVisibleState, BooleanHoverState, ObjectFillState<Paint>,
+            StringTitleState { }
+
     @Test
-    public void create_syncRwSetState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SyncRWSetPseudoClassStatesState.class);
-        assertThat(state.getModifiablePseudoClassStates().getClass()).isSameAs(
-                FXCollections.synchronizedObservableSet(FXCollections.observableSet()).getClass());
-        checkRwSet(state);
+    public void bind_shapeState_bindsSameNamedProperties() throws Exception {
+        var state = StateFactory.create(ShapeState.class, s -> {
+            s.setWidth(10);
+            s.setFill(Color.RED);
+        });
+        var rectangle = new Rectangle();
+        StateBinder.bind(state, rectangle);
+        // the target takes the values of the state
+        assertThat(rectangle.getWidth()).isEqualTo(10.0);
+        assertThat(rectangle.getFill()).isEqualTo(Color.RED);
+        // writable properties are bound bidirectionally
+        rectangle.setWidth(20);
+        assertThat(state.getWidth()).isEqualTo(20.0);
+        state.setVisible(false);
+        assertThat(rectangle.isVisible()).isFalse();
+        // read-only properties of the target are bound one-way
+        assertThat(state.hoverProperty().isBound()).isTrue();
+        // the target has no title property
+        state.setTitle("title");
+
+        StateBinder.unbind(state, rectangle);
+        rectangle.setWidth(30);
+        assertThat(state.getWidth()).isEqualTo(20.0);
+        assertThat(state.hoverProperty().isBound()).isFalse();
     }
 
-    /* ******************************* map ******************************* */
+    @Test
+    public void bind_anonymousTargetClass_usesPublicSuperclass() throws Exception {
+        var state = StateFactory.create(ShapeState.class, s -> s.setWidth(5));
+        var rectangle = new Rectangle() { };
+        StateBinder.bind(state, rectangle);
+        assertThat(rectangle.getWidth()).isEqualTo(5.0);
+        StateBinder.unbind(state, rectangle);
+        assertThatThrownBy(() -> StateBinder.bind(state, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /* ******************************* table ******************************* */
 
     @Test
-    public void create_mapState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(MapPropertiesState.class);
-        checkMap(state);
+    public void stateTable_rows_storeValuesInColumns() throws Exception {
+        checkTableRows(TableStorage.HEAP);
     }
 
     @Test
-    public void create_rwMapState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(RWMapPropertiesState.class);
-        checkRwMap(state);
+    public void stateTable_offHeapRows_storeValuesInSegment() throws Exception {
+        checkTableRows(TableStorage.OFF_HEAP);
     }
 
-    protected interface SyncMapPropertiesState extends MapPropertiesState<String, String> {
+    @Test
+    public void stateTable_propertyRequested_inflatesRow() throws Exception {
+        checkTableInflation(TableStorage.HEAP);
+    }
 
-        @Override
-        @Synchronized
-        ObservableMap<String, String> getProperties();
+    @Test
+    public void stateTable_offHeapPropertyRequested_inflatesRow() throws Exception {
+        checkTableInflation(TableStorage.OFF_HEAP);
+    }
+
+    private void checkTableRows(TableStorage storage) {
+        var table = new StateTable<>(DefaultValueState.class, 2, storage);
+        for (var i = 0; i < 100; i++) {
+            var index = i;
+            table.add(row -> {
+                row.setLength(index);
+                row.setY(index * 10L);
+                row.setTitle("title" + index);
+                row.setSide(Side.TOP);
+            });
+        }
+        assertThat(table.size()).isEqualTo(100);
+        assertThat(table.getColumnCount()).isEqualTo(7);
+        var row = table.get(42);
+        assertThat(row.getLength()).isEqualTo(42);
+        assertThat(row.getY()).isEqualTo(420L);
+        assertThat(row.getTitle()).isEqualTo("title42");
+        assertThat(row.getSide()).isEqualTo(Side.TOP);
+        // default values
+        assertThat(row.isSelected()).isTrue();
+        assertThat(row.getWidth()).isEqualTo(1.5);
+        assertThat(row.getX()).isEqualTo(2.5f);
+        assertThat(table.getInt(table.getColumnIndex("length"), 42)).isEqualTo(42);
+        row.setSelected(false);
+        row.setWidth(-0.5);
+        row.setX(0.25f);
+        assertThat(row.isSelected()).isFalse();
+        assertThat(row.getWidth()).isEqualTo(-0.5);
+        assertThat(row.getX()).isEqualTo(0.25f);
+        assertThat(table.get(41).isSelected()).isTrue();
+        assertThat(table.get(43).getWidth()).isEqualTo(1.5);
+        assertThat(table.get(0).getY()).isEqualTo(0L);
+        assertThat(table.get(99).getY()).isEqualTo(990L);
+        assertThat(row).isEqualTo(table.get(42));
+        assertThat(row).isNotEqualTo(table.get(41));
+        assertThat(table.getInflatedCount()).isEqualTo(0);
+        assertThatThrownBy(() -> table.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        table.clear();
+        assertThat(table.size()).isEqualTo(0);
+        assertThat(table.get(table.add()).getLength()).isEqualTo(42);
+    }
+
+    private void checkTableInflation(TableStorage storage) {
+        var table = new StateTable<>(WritableComplex.class, 0, storage);
+        table.add();
+        var index = table.add(r -> r.setLength(5));
+        var row = table.get(index);
+        var changes = new ArrayList<Integer>();
+        var property = row.lengthProperty();
+        assertThat(table.isInflated(index)).isTrue();
+        assertThat(table.isInflated(0)).isFalse();
+        assertThat(property).isSameAs(table.get(index).lengthProperty());
+        assertThat(property.get()).isEqualTo(5);
+        property.addListener((ov, oldV, newV) -> changes.add(newV.intValue()));
+        row.setLength(6);
+        assertThat(List.copyOf(changes)).isEqualTo(List.of(6));
+
+        var source = new SimpleIntegerProperty(7);
+        property.bind(source);
+        assertThat(row.getLength()).isEqualTo(7);
+        source.set(8);
+        assertThat(row.getLength()).isEqualTo(8);
+        assertThat(List.copyOf(changes)).isEqualTo(List.of(6, 7, 8));
+        assertThatThrownBy(() -> row.setLength(9)).isInstanceOf(RuntimeException.class);
+        property.unbind();
+
+        table.release(index);
+        assertThat(table.isInflated(index)).isFalse();
+        row.setLength(10);
+        assertThat(row.getLength()).isEqualTo(10);
+        assertThat(property.get()).isEqualTo(8);
+        assertThat(List.copyOf(changes)).isEqualTo(List.of(6, 7, 8));
     }
 
     @Test
-    public void create_syncMapState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SyncMapPropertiesState.class);
-        assertThat(state.getProperties().getClass()).isSameAs(
-                FXCollections.synchronizedObservableMap(FXCollections.observableHashMap()).getClass());
-        checkMap(state);
+    void stateTable_stateWithContainers_throwsRuntimeException() {
+        assertThatThrownBy(() -> new StateTable<>(ListItemsState.class))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining(ListItemsState.class.getName());
     }
 
-    protected interface SyncRWMapPropertiesState extends RWMapPropertiesState<String, String> {
+    protected interface UndoableTableState extends WritableComplex, UndoableState { }
 
-        @Override
-        @Synchronized
-        ObservableMap<String, String> getModifiableProperties();
+    protected interface AggregateTableState extends WritableComplex, ObservableState { }
+
+    protected interface DisposableTableState extends WritableComplex, Disposable { }
+
+    @Test
+    void stateTable_stateWithUnsupportedInterface_throwsIllegalArgumentException() {
+        assertThatThrownBy(() -> new StateTable<>(UndoableTableState.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("UndoableState")
+                .hasMessageContaining(UndoableTableState.class.getName());
+        assertThatThrownBy(() -> new StateTable<>(AggregateTableState.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ObservableState");
+        assertThatThrownBy(() -> new StateTable<>(DisposableTableState.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Disposable");
     }
 
+    protected interface SnapshottableTableState extends WritableComplex,
+            SnapshottableState<SnapshottableTableState> { }
+
     @Test
-    public void create_syncRwMapState_createsValidStateWithAllMethods() throws Exception {
-        var state = StateFactory.create(SyncRWMapPropertiesState.class);
-        assertThat(state.getModifiableProperties().getClass()).isSameAs(
-                FXCollections.synchronizedObservableMap(FXCollections.observableHashMap()).getClass());
-        checkRwMap(state);
+    void stateTable_snapshottableState_takesSnapshotOfRow() {
+        var table = new StateTable<>(SnapshottableTableState.class);
+        table.add();
+        var index = table.add(r -> {
+            r.setLength(5);
+            r.setTitle("first");
+        });
+        var row = table.get(index);
+        var snapshot = row.snapshot();
+        assertThat(table.isInflated(index)).isFalse();
+        row.setLength(6);
+        assertThat(snapshot.getLength()).isEqualTo(5);
+        assertThat(snapshot.getTitle()).isEqualTo("first");
+        assertThat(snapshot.snapshot()).isSameAs(snapshot);
+        assertThatThrownBy(() -> snapshot.setLength(7)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(table.get(0).snapshot().getLength()).isEqualTo(0);
     }
 
     /* ******************************* checks ******************************* */
@@ -520,6 +2741,58 @@ public class StateFactoryIT {
         assertThat(modifProperties).isInstanceOf(ObservableMap.class);
     }
 
+    private void checkArray(FloatArrayPointsState state) {
+        assertThat(state).isNotNull();
+        var points = state.getPoints();
+        assertThat(points).isNotNull();
+        assertThat(points).isSameAs(state.getPoints());
+        boolean[] listenerCalled = {false};
+        var listener = (ArrayChangeListener<ObservableFloatArray>) (array, sizeChanged, from, to) -> {
+            listenerCalled[0] = true;
+        };
+        points.addListener(listener);
+        points.addAll(1.0f, 2.0f, 3.0f);
+        assertThat(listenerCalled[0]).isTrue();
+        assertThat(points.size()).isEqualTo(3);
+    }
+
+    private void checkRwArray(RWFloatArrayPointsState state) {
+        assertThat(state).isNotNull();
+        var points = state.getPoints();
+        var modifPoints = state.getModifiablePoints();
+        assertThat(points).isNotNull();
+        assertThat(modifPoints).isNotNull();
+
+        assertThat(points).isSameAs(state.getPoints());
+        assertThat(modifPoints).isSameAs(state.getModifiablePoints());
+        assertThat(points).isNotSameAs(modifPoints);
+
+        boolean[] listenerCalled = {false};
+        var listener = (ArrayChangeListener<ObservableFloatArray>) (array, sizeChanged, from, to) -> {
+            listenerCalled[0] = true;
+            assertThat(array).isSameAs(points);
+        };
+        boolean[] modifListenerCalled = {false};
+        var modifListener = (ArrayChangeListener<ObservableFloatArray>) (array, sizeChanged, from, to) -> {
+            modifListenerCalled[0] = true;
+        };
+        points.addListener(listener);
+        modifPoints.addListener(modifListener);
+
+        assertThatThrownBy(() -> points.addAll(1.0f)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> points.set(0, 1.0f)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(listenerCalled[0]).isFalse();
+        assertThat(modifListenerCalled[0]).isFalse();
+        assertThat(points.size()).isEqualTo(0);
+
+        modifPoints.addAll(1.0f, 2.0f);
+        assertThat(listenerCalled[0]).isTrue();
+        assertThat(modifListenerCalled[0]).isTrue();
+        assertThat(points.size()).isEqualTo(2);
+        assertThat(points.get(1)).isEqualTo(2.0f);
+        assertThat(modifPoints.size()).isEqualTo(2);
+    }
+
     private void checkRoBoolean(ROBooleanSelectedState state) {
         // Test initial value (should be false)
         assertThat(state.isSelected()).isFalse();
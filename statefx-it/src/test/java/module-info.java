@@ -25,6 +25,7 @@ open module com.techsenger.statefx.it {
     requires javafx.controls;
     requires com.techsenger.statefx.core;
     requires com.techsenger.statefx.states;
+    requires com.techsenger.statefx.replication;
     requires net.bytebuddy;
 
     requires org.junit.jupiter.api;
@@ -41,6 +41,9 @@ import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
@@ -187,6 +190,7 @@ import javafx.scene.shape.SVGPath;
 import javafx.scene.shape.Shape;
 import javafx.scene.shape.Shape3D;
 import javafx.scene.shape.Sphere;
+import javafx.scene.shape.TriangleMesh;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 import javafx.scene.web.HTMLEditor;
@@ -201,7 +205,8 @@ final class ClassScanner {
     /**
      * From
      * https://download.java.net/java/GA/javafx25/docs/api/javafx.graphics/javafx/css/Styleable.html ,
-     * https://download.java.net/java/GA/javafx25/docs/api/javafx.controls/javafx/scene/control/SelectionModel.html .
+     * https://download.java.net/java/GA/javafx25/docs/api/javafx.controls/javafx/scene/control/SelectionModel.html ,
+     * https://download.java.net/java/GA/javafx25/docs/api/javafx.graphics/javafx/scene/shape/TriangleMesh.html .
      */
     private static final List<Class<?>>  classes = List.of(
             Accordion.class, AmbientLight.class, AnchorPane.class, Arc.class,
@@ -243,7 +248,9 @@ final class ClassScanner {
             TreeTableColumn.class, TreeTableRow.class, TreeTableView.class, TreeView.class,
             ValueAxis.class, VBox.class, VirtualFlow.class, WebView.class, XYChart.class,
 
-            SingleSelectionModel.class, MultipleSelectionModel.class);
+            SingleSelectionModel.class, MultipleSelectionModel.class,
+
+            TriangleMesh.class);
 
     /**
      * Recursively builds class hierarchy (from base to given class, excluding Object).
@@ -320,6 +327,8 @@ final class ClassScanner {
 
     private final Set<ContainerMeta> maps = new HashSet<>();
 
+    private final Set<ContainerMeta> arrays = new HashSet<>();
+
     ClassScanner() {
 
     }
@@ -345,6 +354,10 @@ final class ClassScanner {
         return maps;
     }
 
+    public Set<ContainerMeta> getArrays() {
+        return arrays;
+    }
+
     private void scan(Class<?> clazz) {
         for (var method : clazz.getMethods()) {
             if (Modifier.isPublic(method.getModifiers())) {
@@ -366,11 +379,20 @@ final class ClassScanner {
                     type = ObservableSet.class;
                 } else if (ObservableMap.class.isAssignableFrom(method.getReturnType())) {
                     type = ObservableMap.class;
+                } else if (ObservableIntegerArray.class.isAssignableFrom(method.getReturnType())) {
+                    // ObservableFaceArray is exposed as its primitive base
+                    type = ObservableIntegerArray.class;
+                } else if (ObservableFloatArray.class.isAssignableFrom(method.getReturnType())) {
+                    type = ObservableFloatArray.class;
                 }
 
                 if (type != null) {
                     var capitalizedName = method.getName().substring(3);
-                    if (type == ObservableMap.class) {
+                    if (ObservableArray.class.isAssignableFrom(type)) {
+                        var array = new ContainerMeta(clazz, type, capitalizedName);
+                        array.setType(type);
+                        this.arrays.add(array);
+                    } else if (type == ObservableMap.class) {
                         var map = new ContainerMeta(clazz, method.getReturnType(), capitalizedName);
                         map.setType(type);
                         this.maps.add(map);
@@ -57,6 +57,7 @@ public class GenerateInterfacesMojo extends AbstractMojo {
                 var properties = scanner.getProperties();
                 var collections = scanner.getCollections();
                 var maps = scanner.getMaps();
+                var arrays = scanner.getArrays();
                 for (var property : properties) {
                     meta = property;
                     StateGenerator.generateProperty(preparedPath, property);
@@ -69,8 +70,13 @@ public class GenerateInterfacesMojo extends AbstractMojo {
                     meta = map;
                     StateGenerator.generateMap(preparedPath, map);
                 }
+                for (var array : arrays) {
+                    meta = array;
+                    StateGenerator.generateArray(preparedPath, array);
+                }
                 getLog().info("Generated "
-                        + ((properties.size() + maps.size() + collections.size()) * 2) + " interfaces");
+                        + ((properties.size() + maps.size() + collections.size() + arrays.size()) * 2)
+                        + " interfaces");
             } catch (Exception ex) {
                 throw new Exception("Couldn't generate interfaces for " + meta.getOwnerType().getName()
                 + "#" + meta.getName(), ex);
@@ -63,6 +63,14 @@ final class StateGenerator {
         generateCollectionState(packagePath, collection, rwClassName, className, true);
     }
 
+    static void generateArray(Path packagePath, ContainerMeta array) throws IOException {
+        var className = array.getType().getSimpleName().substring("Observable".length())
+                + array.getCapitalizedName() + "State";
+        var rwClassName = "RW" + className;
+        generateArrayState(packagePath, array, className, null, false);
+        generateArrayState(packagePath, array, rwClassName, className, true);
+    }
+
     static void generateProperty(Path packagePath, PropertyMeta property) throws IOException {
         var className = property.getWrapperType() + property.getCapitalizedName() + "State";
         var roClassName = "RO" + className;
@@ -164,6 +172,51 @@ final class StateGenerator {
         Files.writeString(packagePath.resolve(className + ".java"), builder.toString());
     }
 
+    private static void generateArrayState(Path packagePath, ContainerMeta array,
+            String className, String rwParentClassName, boolean rw) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        builder.append(HEADER);
+
+        if (!rw) {
+            builder.append("import ");
+            builder.append(CORE_PACKAGE);
+            builder.append(".ArrayState;");
+            builder.append(System.lineSeparator());
+        }
+        builder.append("import ");
+        builder.append(array.getType().getName());
+        builder.append(";");
+        builder.append(System.lineSeparator());
+        builder.append(System.lineSeparator());
+
+        builder.append("public interface ");
+        builder.append(className);
+        builder.append(" extends ");
+        if (rw) {
+            builder.append(rwParentClassName);
+        } else {
+            builder.append("ArrayState");
+        }
+        builder.append(" {");
+        builder.append(System.lineSeparator());
+        builder.append(System.lineSeparator());
+
+        builder.append(INSET);
+        builder.append(array.getType().getSimpleName());
+        builder.append(" get");
+        if (rw) {
+            builder.append("Modifiable");
+        }
+        builder.append(array.getCapitalizedName());
+        builder.append("();");
+        builder.append(System.lineSeparator());
+
+        builder.append("}");
+        builder.append(System.lineSeparator());
+
+        Files.writeString(packagePath.resolve(className + ".java"), builder.toString());
+    }
+
     private static void generateRoPropertyState(Path packagePath, PropertyMeta property,
             String className) throws IOException {
         StringBuilder builder = new StringBuilder();
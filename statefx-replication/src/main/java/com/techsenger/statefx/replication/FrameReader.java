@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.replication;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Reads the records of a frame written by {@link FrameWriter}. The frame comes from the peer, so every length and
+ * count is checked against the remaining bytes and a corrupt frame fails with {@link IllegalStateException} instead of
+ * reading out of the frame or allocating memory for data that isn't there.
+ *
+ * @author Pavel Castornii
+ */
+final class FrameReader {
+
+    private final byte[] bytes;
+
+    private int position;
+
+    FrameReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    boolean hasRemaining() {
+        return position < bytes.length;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    void skip(int count) {
+        checkRemaining(count);
+        position += count;
+    }
+
+    int readByte() {
+        checkRemaining(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    int readVarInt() {
+        var value = 0;
+        for (var shift = 0; shift < Integer.SIZE; shift += 7) {
+            var b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at " + position);
+    }
+
+    /**
+     * Reads a count of items that take at least the given number of bytes each.
+     *
+     * @throws IllegalStateException if the remaining bytes of the frame can't hold the items
+     */
+    int readCount(int minItemSize) {
+        var count = readVarInt();
+        if (count < 0 || count > (bytes.length - position) / minItemSize) {
+            throw new IllegalStateException("Invalid count " + count + " at " + position);
+        }
+        return count;
+    }
+
+    int readInt() {
+        var zigzag = readVarInt();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    long readLong() {
+        var zigzag = 0L;
+        for (var shift = 0;; shift += 7) {
+            if (shift >= Long.SIZE) {
+                throw new IllegalStateException("Malformed varint at " + position);
+            }
+            var b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    float readFloat() {
+        return Float.intBitsToFloat((int) readFixed(Float.BYTES));
+    }
+
+    double readDouble() {
+        return Double.longBitsToDouble(readFixed(Double.BYTES));
+    }
+
+    String readString() {
+        var length = readCount(1);
+        var value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Reads a value written by {@link FrameWriter#writeValue(Object)}.
+     *
+     * @param enumTypes the enum types declared by the state interface by their names, an enum is resolved only among
+     *        them
+     */
+    Object readValue(Map<String, Class<?>> enumTypes) {
+        var tag = readByte();
+        switch (tag) {
+            case ValueTag.NULL:
+                return null;
+            case ValueTag.FALSE:
+                return Boolean.FALSE;
+            case ValueTag.TRUE:
+                return Boolean.TRUE;
+            case ValueTag.INTEGER:
+                return readInt();
+            case ValueTag.LONG:
+                return readLong();
+            case ValueTag.FLOAT:
+                return readFloat();
+            case ValueTag.DOUBLE:
+                return readDouble();
+            case ValueTag.STRING:
+                return readString();
+            case ValueTag.ENUM:
+                return readEnum(enumTypes);
+            default:
+                throw new IllegalStateException("Unknown value tag: " + tag);
+        }
+    }
+
+    private Object readEnum(Map<String, Class<?>> enumTypes) {
+        var className = readString();
+        var constantName = readString();
+        var enumClass = enumTypes.get(className);
+        if (enumClass == null) {
+            throw new IllegalStateException("Enum is not declared by the state: " + className);
+        }
+        for (var constant : enumClass.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(constantName)) {
+                return constant;
+            }
+        }
+        throw new IllegalStateException("Unknown constant " + constantName + " of enum " + className);
+    }
+
+    private long readFixed(int size) {
+        checkRemaining(size);
+        var value = 0L;
+        for (var i = 0; i < size; i++) {
+            value = (value << Byte.SIZE) | (bytes[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void checkRemaining(int count) {
+        if (count < 0 || count > bytes.length - position) {
+            throw new IllegalStateException("Frame is truncated at " + position);
+        }
+    }
+}
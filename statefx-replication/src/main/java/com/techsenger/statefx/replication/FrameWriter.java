@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.replication;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable buffer of binary data. A frame is a sequence of blocks, one per changed state: the id of the state, the
+ * length of the block and the records of the changed members, every record is the index of the member, the
+ * operation and its data. Integers are written as zigzag varints, floats and doubles as their bits, the values of
+ * object properties and the elements of containers are written with a tag of their type. The format is closed: only
+ * primitive wrappers, strings and enum constants can be written, so reading a frame never creates objects of other
+ * classes.
+ *
+ * @author Pavel Castornii
+ */
+final class FrameWriter {
+
+    private byte[] bytes = new byte[256];
+
+    private int position;
+
+    /**
+     * Returns true if nothing was written since the last reset.
+     */
+    boolean isEmpty() {
+        return position == 0;
+    }
+
+    int size() {
+        return position;
+    }
+
+    /**
+     * Returns the written bytes, the buffer is valid until the next write.
+     */
+    ByteBuffer toBuffer() {
+        return ByteBuffer.wrap(bytes, 0, position);
+    }
+
+    void reset() {
+        position = 0;
+    }
+
+    /**
+     * Discards the bytes written after the size, so a record that failed to be written can be rolled back.
+     */
+    void truncate(int size) {
+        position = size;
+    }
+
+    /**
+     * Writes the block of the records of a state.
+     */
+    void writeBlock(int stateId, FrameWriter records) {
+        writeVarInt(stateId);
+        writeVarInt(records.position);
+        ensureCapacity(records.position);
+        System.arraycopy(records.bytes, 0, bytes, position, records.position);
+        position += records.position;
+    }
+
+    void writeRecord(int member, int operation) {
+        writeVarInt(member);
+        writeByte(operation);
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[position++] = (byte) value;
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes an unsigned varint, it is used for ids, indices and sizes.
+     */
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(10);
+        var zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            bytes[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        bytes[position++] = (byte) zigzag;
+    }
+
+    void writeFloat(float value) {
+        writeFixed(Float.floatToRawIntBits(value), Float.BYTES);
+    }
+
+    void writeDouble(double value) {
+        writeFixed(Double.doubleToRawLongBits(value), Double.BYTES);
+    }
+
+    void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a value of an object property or an element of a container with the tag of its type.
+     *
+     * @throws IllegalArgumentException if the value is neither a primitive wrapper, a string nor an enum constant
+     */
+    void writeValue(Object value) {
+        if (value == null) {
+            writeByte(ValueTag.NULL);
+        } else if (value instanceof String string) {
+            writeByte(ValueTag.STRING);
+            writeString(string);
+        } else if (value instanceof Boolean bool) {
+            writeByte(bool ? ValueTag.TRUE : ValueTag.FALSE);
+        } else if (value instanceof Integer integer) {
+            writeByte(ValueTag.INTEGER);
+            writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            writeByte(ValueTag.LONG);
+            writeLong(longValue);
+        } else if (value instanceof Float floatValue) {
+            writeByte(ValueTag.FLOAT);
+            writeFloat(floatValue);
+        } else if (value instanceof Double doubleValue) {
+            writeByte(ValueTag.DOUBLE);
+            writeDouble(doubleValue);
+        } else if (value instanceof Enum<?> enumValue) {
+            writeByte(ValueTag.ENUM);
+            writeString(enumValue.getDeclaringClass().getName());
+            writeString(enumValue.name());
+        } else {
+            throw new IllegalArgumentException("Value can't be replicated: " + value.getClass().getName());
+        }
+    }
+
+    private void writeBytes(byte[] value) {
+        writeVarInt(value.length);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, bytes, position, value.length);
+        position += value.length;
+    }
+
+    private void writeFixed(long value, int size) {
+        ensureCapacity(size);
+        for (var shift = (size - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            bytes[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (position + count > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + count));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.replication;
+
+/**
+ * The operations of the records of a frame. Every record is the index of the member, the operation and its data.
+ *
+ * @author Pavel Castornii
+ */
+final class Operation {
+
+    /**
+     * The new value of a property.
+     */
+    static final int VALUE = 0;
+
+    /**
+     * The index of the first changed element of a list, the number of the removed elements, the number of the added
+     * elements and the added elements.
+     */
+    static final int LIST_REPLACE = 1;
+
+    /**
+     * The number of the elements of a list and the elements.
+     */
+    static final int LIST_SET_ALL = 2;
+
+    static final int SET_ADD = 3;
+
+    static final int SET_REMOVE = 4;
+
+    /**
+     * The number of the elements of a set and the elements.
+     */
+    static final int SET_SET_ALL = 5;
+
+    /**
+     * The key and the new value.
+     */
+    static final int MAP_PUT = 6;
+
+    static final int MAP_REMOVE = 7;
+
+    /**
+     * The number of the entries of a map and the keys and the values.
+     */
+    static final int MAP_SET_ALL = 8;
+
+    /**
+     * The new size of an array, the index of the first changed element, the number of the changed elements and the
+     * elements.
+     */
+    static final int ARRAY = 9;
+
+    private Operation() {
+        // empty
+    }
+}
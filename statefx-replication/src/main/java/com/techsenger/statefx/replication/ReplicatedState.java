@@ -0,0 +1,660 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.replication;
+
+import com.techsenger.statefx.core.State;
+import com.techsenger.statefx.core.StateMembers;
+import com.techsenger.statefx.core.collections.ObservableDoubleArray;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * A registered state: it listens to the members of the state and writes their changes into its records, and applies
+ * the records received from the peer. The changed properties are only marked, their values are written when the
+ * records are flushed, so several changes of a property in one pulse are sent once. The changes of the containers are
+ * written as deltas when they happen.
+ *
+ * @author Pavel Castornii
+ */
+final class ReplicatedState {
+
+    /**
+     * The enum types that appear in the declaration of the state interface by their names. The enums received from
+     * the peer are resolved only among them, so a name in a frame never loads or initializes a class.
+     */
+    private static final ClassValue<Map<String, Class<?>>> enumTypes = new ClassValue<>() {
+
+        @Override
+        protected Map<String, Class<?>> computeValue(Class<?> stateClass) {
+            var types = new HashMap<String, Class<?>>();
+            collectEnumTypes(stateClass, types, new HashSet<>());
+            return Map.copyOf(types);
+        }
+    };
+
+    private final StateReplicator replicator;
+
+    private final int id;
+
+    private final State state;
+
+    private final StateMembers members;
+
+    private final Map<String, Class<?>> enums;
+
+    /**
+     * The properties and the containers by member indices.
+     */
+    private final Object[] values;
+
+    private final Object[] listeners;
+
+    private final BitSet changedProperties = new BitSet();
+
+    private final FrameWriter records = new FrameWriter();
+
+    private boolean queued;
+
+    ReplicatedState(StateReplicator replicator, int id, State state) {
+        this.replicator = replicator;
+        this.id = id;
+        this.state = state;
+        this.members = StateMembers.of(state.getClass());
+        this.enums = enumTypes.get(state.getClass());
+        this.values = new Object[members.getCount()];
+        this.listeners = new Object[members.getCount()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = members.get(state, i);
+            listeners[i] = createListener(i);
+        }
+    }
+
+    int getId() {
+        return id;
+    }
+
+    State getState() {
+        return state;
+    }
+
+    boolean isQueued() {
+        return queued;
+    }
+
+    void setQueued(boolean queued) {
+        this.queued = queued;
+    }
+
+    FrameWriter getRecords() {
+        return records;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void addListeners() {
+        for (var i = 0; i < values.length; i++) {
+            switch (members.getKind(i)) {
+                case LIST:
+                    ((ObservableList) values[i]).addListener((ListChangeListener) listeners[i]);
+                    break;
+                case SET:
+                    ((ObservableSet) values[i]).addListener((SetChangeListener) listeners[i]);
+                    break;
+                case MAP:
+                    ((ObservableMap) values[i]).addListener((MapChangeListener) listeners[i]);
+                    break;
+                case INTEGER_ARRAY:
+                case FLOAT_ARRAY:
+                case DOUBLE_ARRAY:
+                    ((ObservableArray) values[i]).addListener((ArrayChangeListener) listeners[i]);
+                    break;
+                default:
+                    ((ObservableValue<?>) values[i]).addListener((InvalidationListener) listeners[i]);
+                    break;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void removeListeners() {
+        for (var i = 0; i < values.length; i++) {
+            switch (members.getKind(i)) {
+                case LIST:
+                    ((ObservableList) values[i]).removeListener((ListChangeListener) listeners[i]);
+                    break;
+                case SET:
+                    ((ObservableSet) values[i]).removeListener((SetChangeListener) listeners[i]);
+                    break;
+                case MAP:
+                    ((ObservableMap) values[i]).removeListener((MapChangeListener) listeners[i]);
+                    break;
+                case INTEGER_ARRAY:
+                case FLOAT_ARRAY:
+                case DOUBLE_ARRAY:
+                    ((ObservableArray) values[i])
+                            .removeListener((ArrayChangeListener) listeners[i]);
+                    break;
+                default:
+                    ((ObservableValue<?>) values[i]).removeListener((InvalidationListener) listeners[i]);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Marks all properties as changed and writes the full contents of all containers.
+     */
+    void writeAll() {
+        replicator.queue(this);
+        for (var i = 0; i < values.length; i++) {
+            var kind = members.getKind(i);
+            if (kind.isProperty()) {
+                changedProperties.set(i);
+                continue;
+            }
+            switch (kind) {
+                case LIST:
+                    var list = (ObservableList<?>) values[i];
+                    writeRecord(i, Operation.LIST_SET_ALL, () -> writeElements(list, 0, list.size()));
+                    break;
+                case SET:
+                    var set = (ObservableSet<?>) values[i];
+                    writeRecord(i, Operation.SET_SET_ALL, () -> {
+                        records.writeVarInt(set.size());
+                        for (var element : set) {
+                            records.writeValue(element);
+                        }
+                    });
+                    break;
+                case MAP:
+                    var map = (ObservableMap<?, ?>) values[i];
+                    writeRecord(i, Operation.MAP_SET_ALL, () -> {
+                        records.writeVarInt(map.size());
+                        for (var entry : map.entrySet()) {
+                            records.writeValue(entry.getKey());
+                            records.writeValue(entry.getValue());
+                        }
+                    });
+                    break;
+                default:
+                    var array = (ObservableArray<?>) values[i];
+                    writeArray(i, array, true, 0, array.size());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Writes the current values of the changed properties.
+     *
+     * @throws IllegalArgumentException if a value can't be replicated, the values of the other properties are written
+     */
+    void writeProperties() {
+        IllegalArgumentException failure = null;
+        for (var i = changedProperties.nextSetBit(0); i >= 0; i = changedProperties.nextSetBit(i + 1)) {
+            var size = records.size();
+            try {
+                writeProperty(i);
+            } catch (IllegalArgumentException e) {
+                records.truncate(size);
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        changedProperties.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeProperty(int member) {
+        records.writeRecord(member, Operation.VALUE);
+        // reading the value validates the property, so its next change is reported again
+        switch (members.getKind(member)) {
+            case BOOLEAN:
+                records.writeBoolean(((ObservableBooleanValue) values[member]).get());
+                break;
+            case INTEGER:
+                records.writeInt(((ObservableIntegerValue) values[member]).get());
+                break;
+            case LONG:
+                records.writeLong(((ObservableLongValue) values[member]).get());
+                break;
+            case FLOAT:
+                records.writeFloat(((ObservableFloatValue) values[member]).get());
+                break;
+            case DOUBLE:
+                records.writeDouble(((ObservableDoubleValue) values[member]).get());
+                break;
+            default:
+                records.writeValue(((ObservableValue<?>) values[member]).getValue());
+                break;
+        }
+    }
+
+    /**
+     * Reads the records of the block that ends at the position into the operations that apply them. The operations
+     * are applied only when the whole frame has been read, so a malformed frame changes nothing.
+     */
+    void read(FrameReader reader, int end, List<Runnable> operations) {
+        while (reader.getPosition() < end) {
+            var member = reader.readVarInt();
+            var operation = reader.readByte();
+            if (member < 0 || member >= values.length) {
+                throw new IllegalStateException("Unknown member " + member + " of state " + id);
+            }
+            switch (operation) {
+                case Operation.VALUE:
+                    operations.add(readValue(reader, member));
+                    break;
+                case Operation.LIST_REPLACE:
+                case Operation.LIST_SET_ALL:
+                    operations.add(readList(reader, member, operation));
+                    break;
+                case Operation.SET_ADD:
+                case Operation.SET_REMOVE:
+                case Operation.SET_SET_ALL:
+                    operations.add(readSet(reader, member, operation));
+                    break;
+                case Operation.MAP_PUT:
+                case Operation.MAP_REMOVE:
+                case Operation.MAP_SET_ALL:
+                    operations.add(readMap(reader, member, operation));
+                    break;
+                case Operation.ARRAY:
+                    operations.add(readArray(reader, member));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation: " + operation);
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Object createListener(int member) {
+        switch (members.getKind(member)) {
+            case LIST:
+                return (ListChangeListener<Object>) change -> {
+                    if (replicator.isApplying()) {
+                        return;
+                    }
+                    replicator.queue(this);
+                    while (change.next()) {
+                        var from = change.getFrom();
+                        var permutated = change.wasPermutated() || change.wasUpdated();
+                        var removed = permutated ? change.getTo() - from : change.getRemovedSize();
+                        var to = permutated ? change.getTo() : from + change.getAddedSize();
+                        var list = change.getList();
+                        writeRecord(member, Operation.LIST_REPLACE, () -> {
+                            records.writeVarInt(from);
+                            records.writeVarInt(removed);
+                            writeElements(list, from, to);
+                        });
+                    }
+                };
+            case SET:
+                return (SetChangeListener<Object>) change -> {
+                    if (replicator.isApplying()) {
+                        return;
+                    }
+                    replicator.queue(this);
+                    if (change.wasAdded()) {
+                        writeRecord(member, Operation.SET_ADD, () -> records.writeValue(change.getElementAdded()));
+                    } else {
+                        writeRecord(member, Operation.SET_REMOVE, () -> records.writeValue(change.getElementRemoved()));
+                    }
+                };
+            case MAP:
+                return (MapChangeListener<Object, Object>) change -> {
+                    if (replicator.isApplying()) {
+                        return;
+                    }
+                    replicator.queue(this);
+                    if (change.wasAdded()) {
+                        writeRecord(member, Operation.MAP_PUT, () -> {
+                            records.writeValue(change.getKey());
+                            records.writeValue(change.getValueAdded());
+                        });
+                    } else {
+                        writeRecord(member, Operation.MAP_REMOVE, () -> records.writeValue(change.getKey()));
+                    }
+                };
+            case INTEGER_ARRAY:
+            case FLOAT_ARRAY:
+            case DOUBLE_ARRAY:
+                ArrayChangeListener arrayListener = (array, sizeChanged, from, to) -> {
+                    if (replicator.isApplying()) {
+                        return;
+                    }
+                    writeArray(member, array, sizeChanged, from, to);
+                    replicator.queue(this);
+                };
+                return arrayListener;
+            default:
+                return (InvalidationListener) observable -> {
+                    if (replicator.isApplying()) {
+                        return;
+                    }
+                    changedProperties.set(member);
+                    replicator.queue(this);
+                };
+        }
+    }
+
+    /**
+     * Writes a record with the data written by the writer. If a value can't be replicated, the partial record is
+     * discarded, so the following records stay readable, and the exception is rethrown.
+     */
+    private void writeRecord(int member, int operation, Runnable writer) {
+        var size = records.size();
+        records.writeRecord(member, operation);
+        try {
+            writer.run();
+        } catch (IllegalArgumentException e) {
+            records.truncate(size);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the number of the elements and the elements.
+     */
+    private void writeElements(List<?> list, int from, int to) {
+        records.writeVarInt(to - from);
+        for (var i = from; i < to; i++) {
+            records.writeValue(list.get(i));
+        }
+    }
+
+    /**
+     * Writes the size of the array plus one if it changed or zero otherwise, and the changed range.
+     */
+    private void writeArray(int member, ObservableArray<?> array, boolean sizeChanged, int from,
+            int to) {
+        // the range of a shrunk array can exceed its size
+        var end = Math.min(to, array.size());
+        var start = Math.min(from, end);
+        records.writeRecord(member, Operation.ARRAY);
+        records.writeVarInt(sizeChanged ? array.size() + 1 : 0);
+        records.writeVarInt(start);
+        records.writeVarInt(end - start);
+        switch (members.getKind(member)) {
+            case INTEGER_ARRAY:
+                var integers = (ObservableIntegerArray) array;
+                for (var i = start; i < end; i++) {
+                    records.writeInt(integers.get(i));
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = (ObservableFloatArray) array;
+                for (var i = start; i < end; i++) {
+                    records.writeFloat(floats.get(i));
+                }
+                break;
+            default:
+                var doubles = (ObservableDoubleArray) array;
+                for (var i = start; i < end; i++) {
+                    records.writeDouble(doubles.get(i));
+                }
+                break;
+        }
+    }
+
+    private Runnable readValue(FrameReader reader, int member) {
+        Object value;
+        switch (members.getKind(member)) {
+            case BOOLEAN:
+                value = reader.readBoolean();
+                break;
+            case INTEGER:
+                value = reader.readInt();
+                break;
+            case LONG:
+                value = reader.readLong();
+                break;
+            case FLOAT:
+                value = reader.readFloat();
+                break;
+            case DOUBLE:
+                value = reader.readDouble();
+                break;
+            case OBJECT:
+                value = reader.readValue(enums);
+                break;
+            default:
+                throw new IllegalStateException("Member " + member + " of state " + id + " is not a property");
+        }
+        return () -> {
+            members.setValue(state, member, value);
+            // the local change, if any, is overwritten, the property is validated, so its next change is reported
+            changedProperties.clear(member);
+            ((ObservableValue<?>) values[member]).getValue();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Runnable readList(FrameReader reader, int member, int operation) {
+        checkKind(member, StateMembers.Kind.LIST);
+        var list = (ObservableList<Object>) values[member];
+        if (operation == Operation.LIST_SET_ALL) {
+            var elements = readElements(reader);
+            return () -> list.setAll(elements);
+        }
+        var from = reader.readVarInt();
+        var removed = reader.readVarInt();
+        if (from < 0 || removed < 0) {
+            throw new IllegalStateException("Invalid range of member " + member + " of state " + id);
+        }
+        var added = readElements(reader);
+        return () -> {
+            if (removed == added.size()) {
+                for (var i = 0; i < removed; i++) {
+                    list.set(from + i, added.get(i));
+                }
+            } else {
+                if (removed > 0) {
+                    list.remove(from, from + removed);
+                }
+                if (!added.isEmpty()) {
+                    list.addAll(from, added);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Runnable readSet(FrameReader reader, int member, int operation) {
+        checkKind(member, StateMembers.Kind.SET);
+        var set = (ObservableSet<Object>) values[member];
+        switch (operation) {
+            case Operation.SET_ADD:
+                var added = reader.readValue(enums);
+                return () -> set.add(added);
+            case Operation.SET_REMOVE:
+                var removed = reader.readValue(enums);
+                return () -> set.remove(removed);
+            default:
+                var elements = readElements(reader);
+                return () -> {
+                    // a hash set makes retaining linear in the size of the set
+                    set.retainAll(new HashSet<>(elements));
+                    set.addAll(elements);
+                };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Runnable readMap(FrameReader reader, int member, int operation) {
+        checkKind(member, StateMembers.Kind.MAP);
+        var map = (ObservableMap<Object, Object>) values[member];
+        switch (operation) {
+            case Operation.MAP_PUT:
+                var key = reader.readValue(enums);
+                var value = reader.readValue(enums);
+                return () -> map.put(key, value);
+            case Operation.MAP_REMOVE:
+                var removed = reader.readValue(enums);
+                return () -> map.remove(removed);
+            default:
+                var size = reader.readCount(2);
+                Map<Object, Object> entries = LinkedHashMap.newLinkedHashMap(size);
+                for (var i = 0; i < size; i++) {
+                    entries.put(reader.readValue(enums), reader.readValue(enums));
+                }
+                return () -> {
+                    map.putAll(entries);
+                    map.keySet().retainAll(entries.keySet());
+                };
+        }
+    }
+
+    private Runnable readArray(FrameReader reader, int member) {
+        var kind = members.getKind(member);
+        if (kind != StateMembers.Kind.INTEGER_ARRAY && kind != StateMembers.Kind.FLOAT_ARRAY
+                && kind != StateMembers.Kind.DOUBLE_ARRAY) {
+            throw new IllegalStateException("Member " + member + " of state " + id + " is not an array");
+        }
+        var size = reader.readVarInt() - 1;
+        var from = reader.readVarInt();
+        if (size < -1 || from < 0) {
+            throw new IllegalStateException("Invalid range of member " + member + " of state " + id);
+        }
+        // the count is checked against the remaining bytes, so a corrupt frame can't allocate a huge array
+        var count = reader.readCount(kind == StateMembers.Kind.INTEGER_ARRAY ? 1
+                : kind == StateMembers.Kind.FLOAT_ARRAY ? Float.BYTES : Double.BYTES);
+        var array = (ObservableArray<?>) values[member];
+        Runnable resize = () -> {
+            if (size >= 0 && array.size() != size) {
+                array.resize(size);
+            }
+        };
+        switch (kind) {
+            case INTEGER_ARRAY:
+                var integers = new int[count];
+                for (var i = 0; i < count; i++) {
+                    integers[i] = reader.readInt();
+                }
+                return () -> {
+                    resize.run();
+                    ((ObservableIntegerArray) array).set(from, integers, 0, count);
+                };
+            case FLOAT_ARRAY:
+                var floats = new float[count];
+                for (var i = 0; i < count; i++) {
+                    floats[i] = reader.readFloat();
+                }
+                return () -> {
+                    resize.run();
+                    ((ObservableFloatArray) array).set(from, floats, 0, count);
+                };
+            default:
+                var doubles = new double[count];
+                for (var i = 0; i < count; i++) {
+                    doubles[i] = reader.readDouble();
+                }
+                return () -> {
+                    resize.run();
+                    ((ObservableDoubleArray) array).set(from, doubles, 0, count);
+                };
+        }
+    }
+
+    private void checkKind(int member, StateMembers.Kind kind) {
+        if (members.getKind(member) != kind) {
+            throw new IllegalStateException("Member " + member + " of state " + id + " is not a "
+                    + kind.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private List<Object> readElements(FrameReader reader) {
+        var size = reader.readCount(1);
+        List<Object> elements = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            elements.add(reader.readValue(enums));
+        }
+        return elements;
+    }
+
+    private static void collectEnumTypes(Type type, Map<String, Class<?>> types, Set<Type> visited) {
+        if (!visited.add(type)) {
+            return;
+        }
+        if (type instanceof Class<?> cls) {
+            if (cls.isEnum()) {
+                types.put(cls.getName(), cls);
+            } else if (cls.isArray()) {
+                collectEnumTypes(cls.getComponentType(), types, visited);
+            } else if (cls.isInterface() || State.class.isAssignableFrom(cls)) {
+                for (var superType : cls.getGenericInterfaces()) {
+                    collectEnumTypes(superType, types, visited);
+                }
+                if (cls.isInterface()) {
+                    for (var method : cls.getDeclaredMethods()) {
+                        collectEnumTypes(method.getGenericReturnType(), types, visited);
+                        for (var parameterType : method.getGenericParameterTypes()) {
+                            collectEnumTypes(parameterType, types, visited);
+                        }
+                    }
+                }
+            }
+        } else if (type instanceof ParameterizedType parameterized) {
+            collectEnumTypes(parameterized.getRawType(), types, visited);
+            for (var argument : parameterized.getActualTypeArguments()) {
+                collectEnumTypes(argument, types, visited);
+            }
+        } else if (type instanceof WildcardType wildcard) {
+            for (var bound : wildcard.getUpperBounds()) {
+                collectEnumTypes(bound, types, visited);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            collectEnumTypes(array.getGenericComponentType(), types, visited);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.replication;
+
+import com.techsenger.statefx.core.State;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import jdk.net.ExtendedSocketOptions;
+
+/**
+ * Mirrors registered states between two processes over a Unix domain socket. Both processes register the states of
+ * the same interfaces with the same ids, after that the changes of the states in one process are applied to the
+ * states in the other process and vice versa.
+ *
+ * <p>Only changes are sent: a changed property is marked and its current value is sent on the next {@link #flush()},
+ * so several changes of a property between two flushes are sent once, the changes of lists, sets, maps and arrays are
+ * sent as deltas. The members are referred to by their indices in {@link com.techsenger.statefx.core.StateMembers},
+ * so names are not sent. All changes made between two flushes are sent in one frame, so the application calls
+ * {@code flush()} once per pulse, for example, from a post layout pulse listener of the scene.
+ *
+ * <p>The received frames are applied with the executor, as a rule {@code Platform::runLater}. All methods except
+ * {@link #close()} must be called on the thread of the executor. The changes that are applied are not sent back.
+ * Conflicting changes of the same member made by both processes between two flushes are not resolved.
+ *
+ * <p>The values of object properties and the elements of containers can only be primitive wrappers, strings and
+ * constants of the enums declared by the state interface, the received values are read in this closed format without
+ * Java serialization, and an enum is resolved by its name only among the declared enums. A frame can't be larger than
+ * {@link #MAX_FRAME_SIZE} bytes, the connection is closed when the peer sends a larger one. The socket file created by
+ * {@link #accept(Path, Executor)} is readable and writable only by its owner, and on systems that report the
+ * credentials of the peer the connection of another user is refused.
+ *
+ * @author Pavel Castornii
+ */
+public final class StateReplicator implements AutoCloseable {
+
+    /**
+     * The maximum size of a frame in bytes.
+     */
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Binds a server socket to the path, waits for the peer to connect and deletes the socket file. The permissions of
+     * the socket file are set to owner-only, and if the system reports the credentials of the peer, the peer must be
+     * run by the owner of the socket file.
+     *
+     * @param path the path of the socket file
+     * @param executor the executor that applies the received changes, as a rule {@code Platform::runLater}
+     * @return the replicator connected to the peer
+     * @throws IOException if an I/O error occurs or the peer is run by another user
+     */
+    public static StateReplicator accept(Path path, Executor executor) throws IOException {
+        try (var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(path));
+            try {
+                try {
+                    Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+                } catch (UnsupportedOperationException e) {
+                    // the file system has no POSIX permissions
+                }
+                var owner = Files.getOwner(path);
+                var channel = server.accept();
+                if (channel.supportedOptions().contains(ExtendedSocketOptions.SO_PEERCRED)
+                        && !channel.getOption(ExtendedSocketOptions.SO_PEERCRED).user().equals(owner)) {
+                    channel.close();
+                    throw new IOException("Peer is run by another user");
+                }
+                return new StateReplicator(channel, executor);
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Connects to the peer that waits on the path.
+     *
+     * @param path the path of the socket file
+     * @param executor the executor that applies the received changes, as a rule {@code Platform::runLater}
+     * @return the replicator connected to the peer
+     * @throws IOException if an I/O error occurs
+     */
+    public static StateReplicator connect(Path path, Executor executor) throws IOException {
+        return new StateReplicator(SocketChannel.open(UnixDomainSocketAddress.of(path)), executor);
+    }
+
+    private final SocketChannel channel;
+
+    private final Executor executor;
+
+    private final Map<Integer, ReplicatedState> states = new HashMap<>();
+
+    /**
+     * The states that have changes to flush.
+     */
+    private final List<ReplicatedState> queue = new ArrayList<>();
+
+    private final FrameWriter frame = new FrameWriter();
+
+    private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+
+    private boolean applying;
+
+    private Thread reader;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a replicator for the connected channel.
+     *
+     * @param channel the connected channel in blocking mode
+     * @param executor the executor that applies the received changes, as a rule {@code Platform::runLater}
+     */
+    public StateReplicator(SocketChannel channel, Executor executor) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel can't be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor can't be null");
+        }
+        this.channel = channel;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts listening to the changes of the state. The peer must register a state of the same interface with the
+     * same id, the changes of the states that are not registered by the peer are ignored by it.
+     *
+     * @param id the id of the state, unique for this replicator
+     * @param state the state created by the factory
+     */
+    public void register(int id, State state) {
+        if (state == null) {
+            throw new IllegalArgumentException("State can't be null");
+        }
+        if (states.containsKey(id)) {
+            throw new IllegalArgumentException("State " + id + " is already registered");
+        }
+        var replicatedState = new ReplicatedState(this, id, state);
+        replicatedState.addListeners();
+        states.put(id, replicatedState);
+    }
+
+    /**
+     * Stops listening to the changes of the state, the changes that were not flushed are discarded.
+     *
+     * @param id the id of the state
+     */
+    public void unregister(int id) {
+        var replicatedState = states.remove(id);
+        if (replicatedState != null) {
+            replicatedState.removeListeners();
+            queue.remove(replicatedState);
+        }
+    }
+
+    /**
+     * Sends all values of the state on the next flush, as a rule it is called by the process that owns the state,
+     * once the peer has registered it.
+     *
+     * @param id the id of the state
+     */
+    public void sync(int id) {
+        var replicatedState = states.get(id);
+        if (replicatedState == null) {
+            throw new IllegalArgumentException("State " + id + " is not registered");
+        }
+        replicatedState.writeAll();
+    }
+
+    /**
+     * Sends the changes made since the last flush in one frame.
+     *
+     * @return true if there were changes to send
+     * @throws IllegalArgumentException if a value of a property can't be replicated, the other changes are sent
+     * @throws IllegalStateException if the frame is larger than {@link #MAX_FRAME_SIZE}, the changes are discarded
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public boolean flush() {
+        IllegalArgumentException failure = null;
+        try {
+            for (var replicatedState : queue) {
+                try {
+                    replicatedState.writeProperties();
+                } catch (IllegalArgumentException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+                var records = replicatedState.getRecords();
+                if (!records.isEmpty()) {
+                    frame.writeBlock(replicatedState.getId(), records);
+                    records.reset();
+                }
+                replicatedState.setQueued(false);
+            }
+        } finally {
+            // after an unexpected exception the changes that were not written are discarded
+            for (var replicatedState : queue) {
+                replicatedState.getRecords().reset();
+                replicatedState.setQueued(false);
+            }
+            queue.clear();
+        }
+        var sent = send();
+        if (failure != null) {
+            throw failure;
+        }
+        return sent;
+    }
+
+    private boolean send() {
+        if (frame.isEmpty()) {
+            return false;
+        }
+        if (frame.size() > MAX_FRAME_SIZE) {
+            frame.reset();
+            throw new IllegalStateException("Frame is larger than " + MAX_FRAME_SIZE + " bytes");
+        }
+        header.clear();
+        header.putInt(frame.size()).flip();
+        var buffers = new ByteBuffer[] {header, frame.toBuffer()};
+        try {
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            frame.reset();
+        }
+        return true;
+    }
+
+    /**
+     * Starts the daemon thread that reads the frames of the peer and passes them to the executor.
+     */
+    public void start() {
+        if (reader != null) {
+            throw new IllegalStateException("Replicator is already started");
+        }
+        reader = new Thread(this::read, "StateFX Replicator");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Closes the channel, the reader thread stops.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    boolean isApplying() {
+        return applying;
+    }
+
+    /**
+     * Adds the state to the states that have changes to flush.
+     */
+    void queue(ReplicatedState replicatedState) {
+        if (!replicatedState.isQueued()) {
+            replicatedState.setQueued(true);
+            queue.add(replicatedState);
+        }
+    }
+
+    private void read() {
+        var length = ByteBuffer.allocate(Integer.BYTES);
+        try {
+            while (readFully(length.clear())) {
+                var size = length.flip().getInt();
+                if (size < 0 || size > MAX_FRAME_SIZE) {
+                    channel.close();
+                    throw new IOException("Invalid frame size: " + size);
+                }
+                var body = ByteBuffer.allocate(size);
+                if (!readFully(body)) {
+                    return;
+                }
+                var bytes = body.array();
+                executor.execute(() -> apply(bytes));
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads until the buffer is full, returns false if the peer closed the connection.
+     */
+    private boolean readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the whole frame and then applies it, so a malformed frame fails before changing any state.
+     */
+    private void apply(byte[] bytes) {
+        var frameReader = new FrameReader(bytes);
+        List<Runnable> operations = new ArrayList<>();
+        while (frameReader.hasRemaining()) {
+            var id = frameReader.readVarInt();
+            var length = frameReader.readCount(1);
+            var end = frameReader.getPosition() + length;
+            var replicatedState = states.get(id);
+            if (replicatedState == null) {
+                frameReader.skip(length);
+            } else {
+                replicatedState.read(frameReader, end, operations);
+            }
+            if (frameReader.getPosition() != end) {
+                throw new IllegalStateException("Block of state " + id + " ends at " + frameReader.getPosition()
+                        + " instead of " + end);
+            }
+        }
+        applying = true;
+        try {
+            for (var operation : operations) {
+                operation.run();
+            }
+        } finally {
+            applying = false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.statefx.replication;
+
+/**
+ * The tags of the types of the values of object properties and of the elements of containers.
+ *
+ * @author Pavel Castornii
+ */
+final class ValueTag {
+
+    static final int NULL = 0;
+
+    static final int FALSE = 1;
+
+    static final int TRUE = 2;
+
+    static final int INTEGER = 3;
+
+    static final int LONG = 4;
+
+    static final int FLOAT = 5;
+
+    static final int DOUBLE = 6;
+
+    static final int STRING = 7;
+
+    /**
+     * The name of the enum class and the name of the constant.
+     */
+    static final int ENUM = 8;
+
+    private ValueTag() {
+        // empty
+    }
+}